@@ -0,0 +1,70 @@
+package io.github.blueprintplatform.codegen.benchmark;
+
+import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsPort;
+import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsSelector;
+import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeLevel;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs the whole artifacts pipeline, {@code ArtifactPipelineExecutor.execute} over every artifact
+ * of the profile, for each layout, guardrails mode and sample level. Streaming pipelines render
+ * while the result is consumed, so the result is always drained.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArtifactPipelineBenchmark {
+
+  @Param({"STANDARD", "HEXAGONAL"})
+  public ProjectLayout layout;
+
+  @Param({"NONE", "BASIC", "STRICT"})
+  public GuardrailsMode guardrails;
+
+  @Param({"NONE", "BASIC"})
+  public SampleCodeLevel sample;
+
+  private ConfigurableApplicationContext context;
+  private ProjectArtifactsPort artifacts;
+  private ProjectBlueprint blueprint;
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkSupport.startContext();
+    artifacts = context.getBean(ProjectArtifactsSelector.class).select(BenchmarkSupport.TECH_STACK);
+    blueprint = BenchmarkSupport.blueprint(layout, guardrails, sample);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void generate(Blackhole blackhole) {
+    for (GeneratedResource resource : artifacts.generate(blueprint)) {
+      blackhole.consume(resource);
+    }
+  }
+}
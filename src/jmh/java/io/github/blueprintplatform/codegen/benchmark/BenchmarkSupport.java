@@ -0,0 +1,151 @@
+package io.github.blueprintplatform.codegen.benchmark;
+
+import io.github.blueprintplatform.codegen.CodegenBlueprintApplication;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.DependencyInput;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget;
+import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.ArchitectureGovernance;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.ArchitectureSpec;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.dependency.Dependencies;
+import io.github.blueprintplatform.codegen.domain.model.value.dependency.Dependency;
+import io.github.blueprintplatform.codegen.domain.model.value.dependency.DependencyCoordinates;
+import io.github.blueprintplatform.codegen.domain.model.value.identity.ArtifactId;
+import io.github.blueprintplatform.codegen.domain.model.value.identity.GroupId;
+import io.github.blueprintplatform.codegen.domain.model.value.identity.ProjectIdentity;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.metadata.ProjectMetadata;
+import io.github.blueprintplatform.codegen.domain.model.value.naming.ProjectDescription;
+import io.github.blueprintplatform.codegen.domain.model.value.naming.ProjectName;
+import io.github.blueprintplatform.codegen.domain.model.value.pkg.PackageName;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeLevel;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeOptions;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.PlatformSpec;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.JavaVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.PlatformTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootJvmTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.BuildTool;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Framework;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Language;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Shared fixtures for the benchmarks: the application context they run against and the blueprint,
+ * command and scratch directories they feed it.
+ */
+final class BenchmarkSupport {
+
+  static final String GROUP_ID = "com.example";
+  static final String ARTIFACT_ID = "demo-app";
+  static final String PACKAGE_NAME = "com.example.demo";
+  static final TechStack TECH_STACK =
+      new TechStack(Framework.SPRING_BOOT, BuildTool.MAVEN, Language.JAVA);
+
+  private static final PlatformTarget PLATFORM_TARGET =
+      new SpringBootJvmTarget(JavaVersion.JAVA_21, SpringBootVersion.V3_5);
+
+  private BenchmarkSupport() {}
+
+  /**
+   * Starts the application the way the CLI does, without running a command. Generation and
+   * templating settings come from {@code application.yml} and can be overridden with {@code -D}
+   * options passed to the forked JVM, for example {@code -jvmArgsAppend
+   * -Dgeneration.mode=PARALLEL}.
+   */
+  @SafeVarargs
+  static ConfigurableApplicationContext startContext(
+      ApplicationContextInitializer<ConfigurableApplicationContext>... initializers) {
+    return new SpringApplicationBuilder(CodegenBlueprintApplication.class)
+        .web(WebApplicationType.NONE)
+        .bannerMode(Banner.Mode.OFF)
+        .logStartupInfo(false)
+        .initializers(initializers)
+        .properties("logging.level.root=WARN")
+        .run();
+  }
+
+  static ProjectBlueprint blueprint(
+      ProjectLayout layout, GuardrailsMode guardrails, SampleCodeLevel sample) {
+    ProjectMetadata metadata =
+        new ProjectMetadata(
+            new ProjectIdentity(new GroupId(GROUP_ID), new ArtifactId(ARTIFACT_ID)),
+            new ProjectName(ARTIFACT_ID),
+            new ProjectDescription("Benchmark blueprint"),
+            new PackageName(PACKAGE_NAME));
+
+    ArchitectureSpec architecture =
+        new ArchitectureSpec(
+            layout, new ArchitectureGovernance(guardrails), new SampleCodeOptions(sample));
+
+    Dependency web =
+        new Dependency(
+            new DependencyCoordinates(
+                new GroupId("org.springframework.boot"), new ArtifactId("spring-boot-starter-web")),
+            null,
+            null);
+
+    return ProjectBlueprint.of(
+        metadata,
+        new PlatformSpec(TECH_STACK, PLATFORM_TARGET),
+        architecture,
+        Dependencies.of(List.of(web)));
+  }
+
+  static CreateProjectCommand command(
+      ProjectLayout layout,
+      GuardrailsMode guardrails,
+      SampleCodeLevel sample,
+      Path targetDirectory,
+      ProjectOutputTarget outputTarget) {
+    return new CreateProjectCommand(
+        GROUP_ID,
+        ARTIFACT_ID,
+        ARTIFACT_ID,
+        "Benchmark project",
+        PACKAGE_NAME,
+        TECH_STACK,
+        layout,
+        guardrails,
+        PLATFORM_TARGET,
+        List.of(
+            new DependencyInput("org.springframework.boot", "spring-boot-starter-web", null, null)),
+        new SampleCodeOptions(sample),
+        targetDirectory,
+        outputTarget);
+  }
+
+  static Path createScratchDirectory() {
+    try {
+      return Files.createTempDirectory("codegen-benchmark-");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static void deleteRecursively(Path root) {
+    if (root == null || !Files.exists(root)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(root)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
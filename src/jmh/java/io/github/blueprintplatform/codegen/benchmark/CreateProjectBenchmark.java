@@ -0,0 +1,91 @@
+package io.github.blueprintplatform.codegen.benchmark;
+
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeLevel;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end {@code CreateProjectHandler.handle}: blueprint mapping, generation, writing and, when
+ * an archive format is set, archiving, each time into a fresh target directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateProjectBenchmark {
+
+  @Param({"STANDARD", "HEXAGONAL"})
+  public ProjectLayout layout;
+
+  @Param({"NONE", "STRICT"})
+  public GuardrailsMode guardrails;
+
+  @Param({"NONE", "BASIC"})
+  public SampleCodeLevel sample;
+
+  @Param({"NONE", "ZIP"})
+  public ArchiveFormat archiveFormat;
+
+  private ConfigurableApplicationContext context;
+  private CreateProjectPort createProject;
+  private Path scratch;
+  private Path iterationRoot;
+  private int runs;
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkSupport.startContext();
+    createProject = context.getBean(CreateProjectPort.class);
+    scratch = BenchmarkSupport.createScratchDirectory();
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() {
+    iterationRoot = scratch.resolve("iteration");
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() {
+    BenchmarkSupport.deleteRecursively(iterationRoot);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+    BenchmarkSupport.deleteRecursively(scratch);
+  }
+
+  @Benchmark
+  public CreateProjectResult handle() {
+    Path targetDirectory = iterationRoot.resolve(Integer.toString(runs++));
+    return createProject.handle(
+        BenchmarkSupport.command(
+            layout,
+            guardrails,
+            sample,
+            targetDirectory,
+            ProjectOutputTarget.directory(archiveFormat)));
+  }
+}
@@ -0,0 +1,98 @@
+package io.github.blueprintplatform.codegen.benchmark;
+
+import io.github.blueprintplatform.codegen.adapter.out.filesystem.FileSystemProjectArchiverAdapter;
+import io.github.blueprintplatform.codegen.adapter.out.filesystem.FileSystemProjectWriterAdapter;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsSelector;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeLevel;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Writes and archives an already generated hexagonal, strict, sample-code project, so the file
+ * system adapters are measured without the cost of rendering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectOutputBenchmark {
+
+  @Param({"ZIP", "ZIP_STORED", "TAR_GZ"})
+  public ArchiveFormat archiveFormat;
+
+  private final FileSystemProjectWriterAdapter writer = new FileSystemProjectWriterAdapter();
+  private final FileSystemProjectArchiverAdapter archiver = new FileSystemProjectArchiverAdapter();
+
+  private List<GeneratedResource> resources;
+  private Path scratch;
+  private Path projectRoot;
+  private Path writeRoot;
+  private int writes;
+
+  @Setup
+  public void setUp() {
+    try (ConfigurableApplicationContext context = BenchmarkSupport.startContext()) {
+      resources = new ArrayList<>();
+      context
+          .getBean(ProjectArtifactsSelector.class)
+          .select(BenchmarkSupport.TECH_STACK)
+          .generate(
+              BenchmarkSupport.blueprint(
+                  ProjectLayout.HEXAGONAL, GuardrailsMode.STRICT, SampleCodeLevel.BASIC))
+          .forEach(resources::add);
+    }
+    scratch = BenchmarkSupport.createScratchDirectory();
+    projectRoot = scratch.resolve(BenchmarkSupport.ARTIFACT_ID);
+    writer.write(projectRoot, resources);
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() {
+    writeRoot = scratch.resolve("writes");
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() {
+    BenchmarkSupport.deleteRecursively(writeRoot);
+  }
+
+  @TearDown
+  public void tearDown() {
+    BenchmarkSupport.deleteRecursively(scratch);
+  }
+
+  /** Writes into a fresh directory each time; the archive format does not apply. */
+  @Benchmark
+  public Path write() {
+    Path root = writeRoot.resolve(Integer.toString(writes++));
+    writer.write(root, resources);
+    return root;
+  }
+
+  @Benchmark
+  public Path archive() {
+    return archiver.archive(projectRoot, BenchmarkSupport.ARTIFACT_ID, archiveFormat);
+  }
+}
@@ -0,0 +1,121 @@
+package io.github.blueprintplatform.codegen.benchmark;
+
+import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateRenderer;
+import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsSelector;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeLevel;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Renders single templates through the configured {@link TemplateRenderer}. Each template is
+ * rendered with the model the generator itself built for a hexagonal, strict, sample-code project,
+ * captured once during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateRenderingBenchmark {
+
+  @Param({
+    "pom.xml.ftl",
+    "README.md.ftl",
+    "application.yml.ftl",
+    "MainClass.java.ftl",
+    "mvnw.ftl",
+    "HexagonalStrictAdapterDirectionRulesTest.java.ftl",
+    "GreetingController.java.ftl"
+  })
+  public String template;
+
+  private ConfigurableApplicationContext context;
+  private TemplateRenderer renderer;
+  private String templatePath;
+  private Map<String, Object> model;
+  private Path outPath;
+
+  @Setup
+  public void setUp() {
+    Map<String, Map<String, Object>> models = new ConcurrentHashMap<>();
+    context =
+        BenchmarkSupport.startContext(
+            ctx -> ctx.getBeanFactory().addBeanPostProcessor(new ModelRecorder(models)));
+
+    context
+        .getBean(ProjectArtifactsSelector.class)
+        .select(BenchmarkSupport.TECH_STACK)
+        .generate(
+            BenchmarkSupport.blueprint(
+                ProjectLayout.HEXAGONAL, GuardrailsMode.STRICT, SampleCodeLevel.BASIC))
+        .forEach(resource -> {});
+
+    templatePath =
+        models.keySet().stream()
+            .filter(path -> path.endsWith("/" + template))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Template not rendered: " + template));
+    model = models.get(templatePath);
+    outPath = Path.of(template.substring(0, template.length() - ".ftl".length()));
+    renderer = ((RecordingTemplateRenderer) context.getBean(TemplateRenderer.class)).delegate;
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public GeneratedResource renderUtf8() {
+    return renderer.renderUtf8(outPath, templatePath, model);
+  }
+
+  private record ModelRecorder(Map<String, Map<String, Object>> models)
+      implements BeanPostProcessor {
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      return bean instanceof TemplateRenderer renderer
+          ? new RecordingTemplateRenderer(renderer, models)
+          : bean;
+    }
+  }
+
+  private record RecordingTemplateRenderer(
+      TemplateRenderer delegate, Map<String, Map<String, Object>> models)
+      implements TemplateRenderer {
+    @Override
+    public GeneratedResource renderUtf8(
+        Path outPath, String templateResourcePath, Map<String, Object> model) {
+      models.putIfAbsent(templateResourcePath, model);
+      return delegate.renderUtf8(outPath, templateResourcePath, model);
+    }
+
+    @Override
+    public void renderUtf8(
+        String templateResourcePath, Map<String, Object> model, OutputStream out) {
+      models.putIfAbsent(templateResourcePath, model);
+      delegate.renderUtf8(templateResourcePath, model, out);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package io.github.blueprintplatform.codegen.benchmark;
+
+import io.github.blueprintplatform.codegen.adapter.out.shared.templating.FtlClasspathTemplateScanner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Lists the templates under a root, once against the build-time template index and once by scanning
+ * the classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateScanBenchmark {
+
+  @Param({
+    "springboot/java/governance/hexagonal/strict",
+    "springboot/java/sample/hexagonal/basic",
+    "springboot/java/sample/standard/basic"
+  })
+  public String templateRoot;
+
+  @Param({"true", "false"})
+  public boolean indexed;
+
+  private FtlClasspathTemplateScanner scanner;
+
+  @Setup
+  public void setUp() {
+    PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    scanner =
+        indexed
+            ? FtlClasspathTemplateScanner.indexed(resolver)
+            : new FtlClasspathTemplateScanner(resolver);
+    if (scanner.isIndexed() != indexed) {
+      throw new IllegalStateException("Template index not found on the classpath");
+    }
+    if (scanner.scan(templateRoot).isEmpty()) {
+      throw new IllegalStateException("No templates under " + templateRoot);
+    }
+  }
+
+  @Benchmark
+  public List<String> scan() {
+    return scanner.scan(templateRoot);
+  }
+}
@@ -0,0 +1,224 @@
+package io.github.blueprintplatform.codegen.benchmark.coldstart;
+
+import io.github.blueprintplatform.codegen.benchmark.coldstart.ColdStartReport.Scenario;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Launches the packaged generator as a subprocess, many times, for every launch mode and every
+ * layout, guardrails and sample-code combination, and records time to exit, CPU time and peak RSS
+ * per launch. Each launch generates a project (and its archive) into a fresh directory, so it pays
+ * for exactly what a user pays for: process start, context start, argument handling, generation,
+ * archiving and exit.
+ */
+@Command(
+    name = "cold-start",
+    mixinStandardHelpOptions = true,
+    description = "Measure end-to-end CLI launches of the packaged generator")
+public class ColdStartHarness implements Callable<Integer> {
+
+  private static final String GROUP_ID = "io.github.blueprintplatform.coldstart";
+
+  @Option(
+      names = {"--build-dir"},
+      required = true,
+      description = "Maven build directory holding the jar and target/fast-start")
+  Path buildDirectory;
+
+  @Option(
+      names = {"--jar"},
+      required = true,
+      description = "Repackaged application jar, for the 'jar' mode")
+  Path jar;
+
+  @Option(
+      names = {"--mode"},
+      split = ",",
+      defaultValue = "jar",
+      description = "Launch modes: jar, fast-start, lean (default: ${DEFAULT-VALUE})")
+  List<String> modes;
+
+  @Option(
+      names = {"--layout"},
+      split = ",",
+      defaultValue = "standard,hexagonal",
+      description = "Layouts (default: ${DEFAULT-VALUE})")
+  List<String> layouts;
+
+  @Option(
+      names = {"--guardrails"},
+      split = ",",
+      defaultValue = "none,basic,strict",
+      description = "Guardrails modes (default: ${DEFAULT-VALUE})")
+  List<String> guardrails;
+
+  @Option(
+      names = {"--sample-code"},
+      split = ",",
+      defaultValue = "none,basic",
+      description = "Sample code levels (default: ${DEFAULT-VALUE})")
+  List<String> sampleCodes;
+
+  @Option(
+      names = {"--archive-format"},
+      defaultValue = "zip",
+      description = "Archive format of every generated project (default: ${DEFAULT-VALUE})")
+  String archiveFormat;
+
+  @Option(
+      names = {"--runs"},
+      defaultValue = "10",
+      description = "Measured launches per scenario (default: ${DEFAULT-VALUE})")
+  int runs;
+
+  @Option(
+      names = {"--warmup-runs"},
+      defaultValue = "1",
+      description =
+          "Discarded launches per scenario, to warm the OS file cache (default: ${DEFAULT-VALUE})")
+  int warmupRuns;
+
+  @Option(
+      names = {"--label"},
+      defaultValue = "snapshot",
+      description =
+          "Label stored in the results, typically the release (default: ${DEFAULT-VALUE})")
+  String label;
+
+  @Option(
+      names = {"--results"},
+      description = "Results file (default: <build-dir>/cold-start/cold-start-<label>.json)")
+  Path results;
+
+  public static void main(String[] args) {
+    System.exit(new CommandLine(new ColdStartHarness()).execute(args));
+  }
+
+  @Override
+  public Integer call() throws IOException, InterruptedException {
+    if (runs < 1 || warmupRuns < 0) {
+      throw new IllegalArgumentException("--runs must be at least 1 and --warmup-runs at least 0");
+    }
+    Path javaHome = Path.of(System.getProperty("java.home"));
+    Path workDirectory = buildDirectory.resolve("cold-start");
+    Path resultsFile =
+        results != null ? results : workDirectory.resolve("cold-start-" + label + ".json");
+
+    List<Scenario> scenarios = new ArrayList<>();
+    for (String modeKey : modes) {
+      LaunchMode mode = LaunchMode.fromKey(modeKey);
+      List<String> launcher = mode.command(buildDirectory, jar, javaHome);
+      for (String layout : layouts) {
+        for (String guardrailsMode : guardrails) {
+          for (String sampleCode : sampleCodes) {
+            Scenario scenario =
+                measure(mode, launcher, layout, guardrailsMode, sampleCode, workDirectory);
+            scenarios.add(scenario);
+            System.out.println("measured " + scenario.name());
+          }
+        }
+      }
+    }
+
+    ColdStartReport report = new ColdStartReport(label, runs, warmupRuns, archiveFormat, scenarios);
+    report.write(resultsFile);
+    report.print(System.out);
+    System.out.println("Results written to " + resultsFile);
+    return 0;
+  }
+
+  private Scenario measure(
+      LaunchMode mode,
+      List<String> launcher,
+      String layout,
+      String guardrailsMode,
+      String sampleCode,
+      Path workDirectory)
+      throws IOException, InterruptedException {
+    String artifactId = layout + "-" + guardrailsMode + "-" + sampleCode;
+    Path runDirectory = workDirectory.resolve("runs");
+    Path log = workDirectory.resolve(mode.key() + "-" + artifactId + ".log");
+
+    List<ProcessMeasurement> measurements = new ArrayList<>(runs);
+    for (int run = 0; run < warmupRuns + runs; run++) {
+      deleteRecursively(runDirectory);
+      Files.createDirectories(runDirectory);
+
+      List<String> command = new ArrayList<>(launcher);
+      command.addAll(cliArguments(artifactId, layout, guardrailsMode, sampleCode, runDirectory));
+      ProcessBuilder builder =
+          new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile());
+      builder.environment().put("JAVA_HOME", System.getProperty("java.home"));
+
+      ProcessMeasurement measurement = ProcessMeasurement.run(builder);
+      if (measurement.exitCode() != 0) {
+        throw new IllegalStateException(
+            "Launch exited with "
+                + measurement.exitCode()
+                + ": "
+                + String.join(" ", command)
+                + System.lineSeparator()
+                + Files.readString(log, StandardCharsets.UTF_8));
+      }
+      if (run >= warmupRuns) {
+        measurements.add(measurement);
+      }
+    }
+    deleteRecursively(runDirectory);
+    Files.deleteIfExists(log);
+    return new Scenario(mode, layout, guardrailsMode, sampleCode, measurements);
+  }
+
+  private List<String> cliArguments(
+      String artifactId,
+      String layout,
+      String guardrailsMode,
+      String sampleCode,
+      Path targetDirectory) {
+    return List.of(
+        "springboot",
+        "--group-id",
+        GROUP_ID,
+        "--artifact-id",
+        artifactId,
+        "--name",
+        "Cold start",
+        "--description",
+        "Cold start benchmark project",
+        "--package-name",
+        GROUP_ID + "." + artifactId.replace("-", ""),
+        "--layout",
+        layout,
+        "--guardrails",
+        guardrailsMode,
+        "--sample-code",
+        sampleCode,
+        "--dependency",
+        "web",
+        "--archive-format",
+        archiveFormat,
+        "--target-dir",
+        targetDirectory.toString());
+  }
+
+  private static void deleteRecursively(Path root) throws IOException {
+    if (!Files.exists(root)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(root)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+}
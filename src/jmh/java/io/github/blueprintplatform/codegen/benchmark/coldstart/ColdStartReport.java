@@ -0,0 +1,199 @@
+package io.github.blueprintplatform.codegen.benchmark.coldstart;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+/**
+ * Aggregates the measured launches per scenario and writes them as JSON, together with what is
+ * needed to compare two result files: the label (release), JDK, OS and processor count.
+ */
+final class ColdStartReport {
+
+  private static final double NANOS_PER_MILLI = 1_000_000d;
+
+  private final String label;
+  private final int runs;
+  private final int warmupRuns;
+  private final String archiveFormat;
+  private final List<Scenario> scenarios;
+
+  ColdStartReport(
+      String label, int runs, int warmupRuns, String archiveFormat, List<Scenario> scenarios) {
+    this.label = label;
+    this.runs = runs;
+    this.warmupRuns = warmupRuns;
+    this.archiveFormat = archiveFormat;
+    this.scenarios = List.copyOf(scenarios);
+  }
+
+  record Scenario(
+      LaunchMode mode,
+      String layout,
+      String guardrails,
+      String sampleCode,
+      List<ProcessMeasurement> measurements) {
+
+    String name() {
+      return mode.key() + "/" + layout + "/" + guardrails + "/" + sampleCode;
+    }
+  }
+
+  /** Order statistics of one metric; {@code null} when the metric was not available. */
+  record Summary(long min, long p50, long p90, long p99, long max, long mean) {
+
+    static Summary of(
+        List<ProcessMeasurement> measurements, ToLongFunction<ProcessMeasurement> metric) {
+      long[] values =
+          measurements.stream().mapToLong(metric).filter(v -> v >= 0).sorted().toArray();
+      if (values.length == 0) {
+        return null;
+      }
+      return new Summary(
+          values[0],
+          percentile(values, 50),
+          percentile(values, 90),
+          percentile(values, 99),
+          values[values.length - 1],
+          Math.round(Arrays.stream(values).average().orElse(0)));
+    }
+
+    /** Nearest-rank percentile of sorted values. */
+    private static long percentile(long[] sorted, int percentile) {
+      int rank = (int) Math.ceil(percentile / 100d * sorted.length);
+      return sorted[Math.max(rank, 1) - 1];
+    }
+  }
+
+  void write(Path file) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+  }
+
+  void print(PrintStream out) {
+    out.printf(
+        Locale.ROOT,
+        "%-40s %10s %10s %10s %10s %12s%n",
+        "scenario",
+        "p50 ms",
+        "p90 ms",
+        "p99 ms",
+        "cpu p50 ms",
+        "rss max MiB");
+    for (Scenario scenario : scenarios) {
+      Summary wall = Summary.of(scenario.measurements(), ProcessMeasurement::wallNanos);
+      Summary cpu = Summary.of(scenario.measurements(), ProcessMeasurement::cpuNanos);
+      Summary rss = Summary.of(scenario.measurements(), ProcessMeasurement::peakRssKib);
+      out.printf(
+          Locale.ROOT,
+          "%-40s %10.0f %10.0f %10.0f %10s %12s%n",
+          scenario.name(),
+          wall.p50() / NANOS_PER_MILLI,
+          wall.p90() / NANOS_PER_MILLI,
+          wall.p99() / NANOS_PER_MILLI,
+          cpu == null ? "n/a" : String.format(Locale.ROOT, "%.0f", cpu.p50() / NANOS_PER_MILLI),
+          rss == null ? "n/a" : String.format(Locale.ROOT, "%.1f", rss.max() / 1024d));
+    }
+  }
+
+  String toJson() {
+    StringBuilder json = new StringBuilder();
+    json.append("{\n");
+    field(json, 1, "label", quote(label)).append(",\n");
+    field(json, 1, "timestamp", quote(Instant.now().toString())).append(",\n");
+    field(json, 1, "java", quote(System.getProperty("java.version"))).append(",\n");
+    field(
+            json,
+            1,
+            "os",
+            quote(
+                System.getProperty("os.name")
+                    + " "
+                    + System.getProperty("os.version")
+                    + " "
+                    + System.getProperty("os.arch")))
+        .append(",\n");
+    field(json, 1, "processors", Runtime.getRuntime().availableProcessors()).append(",\n");
+    field(json, 1, "runs", runs).append(",\n");
+    field(json, 1, "warmupRuns", warmupRuns).append(",\n");
+    field(json, 1, "archiveFormat", quote(archiveFormat)).append(",\n");
+    indent(json, 1).append("\"scenarios\": [\n");
+    for (int i = 0; i < scenarios.size(); i++) {
+      appendScenario(json, scenarios.get(i));
+      json.append(i < scenarios.size() - 1 ? ",\n" : "\n");
+    }
+    indent(json, 1).append("]\n");
+    return json.append("}\n").toString();
+  }
+
+  private static void appendScenario(StringBuilder json, Scenario scenario) {
+    List<ProcessMeasurement> measurements = scenario.measurements();
+    indent(json, 2).append("{\n");
+    field(json, 3, "mode", quote(scenario.mode().key())).append(",\n");
+    field(json, 3, "layout", quote(scenario.layout())).append(",\n");
+    field(json, 3, "guardrails", quote(scenario.guardrails())).append(",\n");
+    field(json, 3, "sampleCode", quote(scenario.sampleCode())).append(",\n");
+    summary(json, "wallNanos", Summary.of(measurements, ProcessMeasurement::wallNanos));
+    summary(json, "cpuNanos", Summary.of(measurements, ProcessMeasurement::cpuNanos));
+    summary(json, "peakRssKib", Summary.of(measurements, ProcessMeasurement::peakRssKib));
+    indent(json, 3).append("\"samples\": [\n");
+    for (int i = 0; i < measurements.size(); i++) {
+      ProcessMeasurement m = measurements.get(i);
+      indent(json, 4)
+          .append("{\"wallNanos\": ")
+          .append(m.wallNanos())
+          .append(", \"cpuNanos\": ")
+          .append(orNull(m.cpuNanos()))
+          .append(", \"peakRssKib\": ")
+          .append(orNull(m.peakRssKib()))
+          .append('}')
+          .append(i < measurements.size() - 1 ? ",\n" : "\n");
+    }
+    indent(json, 3).append("]\n");
+    indent(json, 2).append('}');
+  }
+
+  private static void summary(StringBuilder json, String name, Summary summary) {
+    if (summary == null) {
+      field(json, 3, name, "null").append(",\n");
+      return;
+    }
+    field(
+            json,
+            3,
+            name,
+            String.format(
+                Locale.ROOT,
+                "{\"min\": %d, \"p50\": %d, \"p90\": %d, \"p99\": %d, \"max\": %d, \"mean\": %d}",
+                summary.min(),
+                summary.p50(),
+                summary.p90(),
+                summary.p99(),
+                summary.max(),
+                summary.mean()))
+        .append(",\n");
+  }
+
+  private static StringBuilder field(StringBuilder json, int depth, String name, Object value) {
+    return indent(json, depth).append('"').append(name).append("\": ").append(value);
+  }
+
+  private static StringBuilder indent(StringBuilder json, int depth) {
+    return json.append("  ".repeat(depth));
+  }
+
+  private static String orNull(long value) {
+    return value < 0 ? "null" : Long.toString(value);
+  }
+
+  private static String quote(String value) {
+    return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+}
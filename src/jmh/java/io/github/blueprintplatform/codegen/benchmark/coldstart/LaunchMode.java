@@ -0,0 +1,66 @@
+package io.github.blueprintplatform.codegen.benchmark.coldstart;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** How the packaged generator is launched; each mode is measured as a separate scenario. */
+enum LaunchMode {
+  /** {@code java -jar} over the repackaged jar, through {@code CodegenCliRunner}. */
+  JAR("jar"),
+  /** {@code target/fast-start/codegen}: Spring with AOT and the CDS archive. */
+  FAST_START("fast-start"),
+  /** {@code target/fast-start/codegen-lean}: no Spring. */
+  LEAN("lean");
+
+  private final String key;
+
+  LaunchMode(String key) {
+    this.key = key;
+  }
+
+  static LaunchMode fromKey(String key) {
+    return Arrays.stream(values())
+        .filter(mode -> mode.key.equalsIgnoreCase(key))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "Unknown launch mode '"
+                        + key
+                        + "'; expected one of "
+                        + Arrays.stream(values()).map(LaunchMode::key).toList()));
+  }
+
+  String key() {
+    return key;
+  }
+
+  /** The command line up to, and excluding, the CLI arguments. */
+  List<String> command(Path buildDirectory, Path jar, Path javaHome) {
+    List<String> command = new ArrayList<>();
+    Path launcher =
+        switch (this) {
+          case JAR -> jar;
+          case FAST_START -> buildDirectory.resolve("fast-start/codegen");
+          case LEAN -> buildDirectory.resolve("fast-start/codegen-lean");
+        };
+    if (!Files.isRegularFile(launcher)) {
+      throw new IllegalStateException(
+          "Launcher for mode '"
+              + key
+              + "' not found: "
+              + launcher
+              + (this == JAR ? "; run mvn package" : "; run mvn -Pfast-start package"));
+    }
+    if (this == JAR) {
+      command.addAll(
+          List.of(javaHome.resolve("bin/java").toString(), "-jar", launcher.toString(), "--cli"));
+    } else {
+      command.add(launcher.toString());
+    }
+    return command;
+  }
+}
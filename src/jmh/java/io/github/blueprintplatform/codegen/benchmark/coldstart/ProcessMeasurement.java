@@ -0,0 +1,57 @@
+package io.github.blueprintplatform.codegen.benchmark.coldstart;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One launch of the generator: wall time from spawn to exit, CPU time and peak resident set size.
+ *
+ * <p>CPU time and peak RSS are read from the live process, every {@value #SAMPLE_INTERVAL_MILLIS}
+ * ms until it exits, so both are lower bounds that miss at most the last interval. Peak RSS is read
+ * from {@code /proc/<pid>/status} ({@code VmHWM}) and is {@code -1} where that file does not exist;
+ * CPU time is {@code -1} where the platform does not report it. Launchers must {@code exec} the
+ * JVM, as the fast-start scripts do, so that the measured process is the JVM itself.
+ */
+record ProcessMeasurement(int exitCode, long wallNanos, long cpuNanos, long peakRssKib) {
+
+  private static final long SAMPLE_INTERVAL_MILLIS = 5;
+  private static final String PEAK_RSS_FIELD = "VmHWM:";
+
+  static ProcessMeasurement run(ProcessBuilder builder) throws IOException, InterruptedException {
+    long start = System.nanoTime();
+    Process process = builder.start();
+    Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+
+    long cpuNanos = -1;
+    long peakRssKib = -1;
+    while (!process.waitFor(SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+      cpuNanos =
+          Math.max(
+              cpuNanos,
+              process.toHandle().info().totalCpuDuration().map(Duration::toNanos).orElse(-1L));
+      peakRssKib = Math.max(peakRssKib, peakRssKib(status));
+    }
+    long wallNanos = System.nanoTime() - start;
+    return new ProcessMeasurement(process.exitValue(), wallNanos, cpuNanos, peakRssKib);
+  }
+
+  private static long peakRssKib(Path status) {
+    try {
+      List<String> lines = Files.readAllLines(status, StandardCharsets.US_ASCII);
+      for (String line : lines) {
+        if (line.startsWith(PEAK_RSS_FIELD)) {
+          String value = line.substring(PEAK_RSS_FIELD.length()).trim();
+          return Long.parseLong(value.substring(0, value.indexOf(' ')));
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      // not Linux, or the process exited between two samples
+    }
+    return -1;
+  }
+}
@@ -1,5 +1,14 @@
 package io.github.blueprintplatform.codegen;
 
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.CliArguments;
+import io.github.blueprintplatform.codegen.adapter.in.daemon.CodegenDaemonClient;
+import io.github.blueprintplatform.codegen.adapter.in.daemon.DaemonProtocol;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalInt;
+import org.springframework.boot.Banner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
@@ -8,7 +17,62 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 @ConfigurationPropertiesScan(basePackages = "io.github.blueprintplatform.codegen")
 public class CodegenBlueprintApplication {
 
+  private static final String CLIENT_FLAG = "--client";
+  private static final String STOP_DAEMON_FLAG = "--stop-daemon";
+  private static final String CLI_FLAG = "--cli";
+  private static final int DAEMON_CONNECTION_LOST_EXIT_CODE = 3;
+
   public static void main(String[] args) {
-    SpringApplication.run(CodegenBlueprintApplication.class, args);
+    if (args.length > 0 && STOP_DAEMON_FLAG.equals(args[0])) {
+      System.exit(stopDaemon());
+    }
+    if (args.length > 0 && CLIENT_FLAG.equals(args[0])) {
+      String[] cliArgs = Arrays.copyOfRange(args, 1, args.length);
+      OptionalInt exitCode = forwardToDaemon(cliArgs);
+      if (exitCode.isPresent()) {
+        System.exit(exitCode.getAsInt());
+      }
+      // no daemon running: run the same invocation in this process instead
+      args = withCliFlag(cliArgs);
+    }
+    SpringApplication application = new SpringApplication(CodegenBlueprintApplication.class);
+    if (CliArguments.writesToStandardOutput(args)) {
+      // stdout carries the archive bytes, so nothing else may be printed there
+      application.setBannerMode(Banner.Mode.OFF);
+      application.setDefaultProperties(Map.of("logging.threshold.console", "OFF"));
+    }
+    application.run(args);
+  }
+
+  /** Runs the invocation on a resident daemon without booting Spring in this process. */
+  private static OptionalInt forwardToDaemon(String[] cliArgs) {
+    CodegenDaemonClient client = new CodegenDaemonClient(DaemonProtocol.defaultSocketPath());
+    try {
+      return client.run(cliArgs, Path.of(""), System.out, System.err);
+    } catch (IOException e) {
+      System.err.println("codegen: error: lost connection to the daemon: " + e.getMessage());
+      return OptionalInt.of(DAEMON_CONNECTION_LOST_EXIT_CODE);
+    }
+  }
+
+  private static int stopDaemon() {
+    CodegenDaemonClient client = new CodegenDaemonClient(DaemonProtocol.defaultSocketPath());
+    try {
+      boolean stopped = client.stop();
+      System.err.println(
+          (stopped ? "codegen: daemon stopped: " : "codegen: no daemon running on ")
+              + client.socketPath());
+      return 0;
+    } catch (IOException e) {
+      System.err.println("codegen: error: failed to stop the daemon: " + e.getMessage());
+      return DAEMON_CONNECTION_LOST_EXIT_CODE;
+    }
+  }
+
+  static String[] withCliFlag(String[] cliArgs) {
+    String[] args = new String[cliArgs.length + 1];
+    args[0] = CLI_FLAG;
+    System.arraycopy(cliArgs, 0, args, 1, cliArgs.length);
+    return args;
   }
 }
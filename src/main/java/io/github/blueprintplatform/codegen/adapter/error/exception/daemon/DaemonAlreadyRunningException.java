@@ -0,0 +1,13 @@
+package io.github.blueprintplatform.codegen.adapter.error.exception.daemon;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.base.AdapterException;
+import java.nio.file.Path;
+
+public final class DaemonAlreadyRunningException extends AdapterException {
+
+  private static final String KEY = "adapter.daemon.server.already-running";
+
+  public DaemonAlreadyRunningException(Path socketPath) {
+    super(KEY, socketPath);
+  }
+}
@@ -0,0 +1,13 @@
+package io.github.blueprintplatform.codegen.adapter.error.exception.daemon;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.base.AdapterException;
+import java.nio.file.Path;
+
+public final class DaemonSocketDirectoryUnsafeException extends AdapterException {
+
+  private static final String KEY = "adapter.daemon.server.socket-directory-unsafe";
+
+  public DaemonSocketDirectoryUnsafeException(Path directory) {
+    super(KEY, directory);
+  }
+}
@@ -0,0 +1,13 @@
+package io.github.blueprintplatform.codegen.adapter.error.exception.filesystem;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.base.AdapterException;
+import java.nio.file.Path;
+
+public final class ProjectArchiveAlreadyExistsException extends AdapterException {
+
+  private static final String KEY = "adapter.project.archive.already-exists";
+
+  public ProjectArchiveAlreadyExistsException(Path archiveFile) {
+    super(KEY, archiveFile);
+  }
+}
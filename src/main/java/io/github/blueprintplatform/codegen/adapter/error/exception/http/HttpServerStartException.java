@@ -0,0 +1,13 @@
+package io.github.blueprintplatform.codegen.adapter.error.exception.http;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.base.AdapterException;
+import java.net.InetSocketAddress;
+
+public final class HttpServerStartException extends AdapterException {
+
+  private static final String KEY = "adapter.http.server.start-failed";
+
+  public HttpServerStartException(InetSocketAddress address, Throwable cause) {
+    super(KEY, cause, address);
+  }
+}
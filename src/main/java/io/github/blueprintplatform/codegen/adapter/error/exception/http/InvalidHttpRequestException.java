@@ -0,0 +1,14 @@
+package io.github.blueprintplatform.codegen.adapter.error.exception.http;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.base.AdapterException;
+
+public final class InvalidHttpRequestException extends AdapterException {
+
+  public InvalidHttpRequestException(String messageKey, Object... args) {
+    super(messageKey, args);
+  }
+
+  public InvalidHttpRequestException(String messageKey, Throwable cause, Object... args) {
+    super(messageKey, cause, args);
+  }
+}
@@ -0,0 +1,13 @@
+package io.github.blueprintplatform.codegen.adapter.error.exception.http;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.base.AdapterException;
+import java.net.InetSocketAddress;
+
+public final class MetricsServerStartException extends AdapterException {
+
+  private static final String KEY = "adapter.http.metrics.start-failed";
+
+  public MetricsServerStartException(InetSocketAddress address, Throwable cause) {
+    super(KEY, cause, address);
+  }
+}
@@ -1,5 +1,6 @@
 package io.github.blueprintplatform.codegen.adapter.in.cli;
 
+import io.github.blueprintplatform.codegen.adapter.in.cli.batch.BatchGenerateCommand;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.SpringBootGenerateCommand;
 import picocli.CommandLine.Command;
 
@@ -8,5 +9,5 @@ import picocli.CommandLine.Command;
     mixinStandardHelpOptions = true,
     version = "1.0.0",
     description = "Project scaffold generator based on explicit architectural blueprints",
-    subcommands = {SpringBootGenerateCommand.class})
+    subcommands = {SpringBootGenerateCommand.class, BatchGenerateCommand.class})
 public class CodegenCommand {}
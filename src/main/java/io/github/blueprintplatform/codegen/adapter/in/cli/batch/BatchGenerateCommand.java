@@ -0,0 +1,139 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.batch;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidCliOptionException;
+import io.github.blueprintplatform.codegen.adapter.in.cli.mapper.CreateProjectCommandMapper;
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.CliInvocationContext;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDefaults;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectBatchPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult.Outcome;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+import picocli.CommandLine.Spec;
+
+@Command(
+    name = "batch",
+    mixinStandardHelpOptions = true,
+    description =
+        "Generate many Spring Boot projects from a YAML or JSON manifest in one run "
+            + "and print a result line per project")
+public class BatchGenerateCommand implements Callable<Integer> {
+
+  static final int EXIT_PROJECTS_FAILED = 4;
+
+  private static final String JOBS_INVALID_KEY = "adapter.cli.batch.jobs.invalid";
+
+  private final BatchManifestReader manifestReader;
+  private final CreateProjectCommandMapper mapper;
+  private final CreateProjectBatchPort createProjectBatchPort;
+  private final Function<Throwable, String> failureDescriber;
+
+  @Spec CommandSpec spec;
+
+  @Parameters(
+      index = "0",
+      paramLabel = "MANIFEST",
+      description = "Manifest file with a 'projects' list and optional 'defaults'")
+  Path manifest;
+
+  @Option(
+      names = {"--jobs"},
+      required = false,
+      description =
+          "Maximum number of projects generated at the same time; 0 uses one per processor",
+      defaultValue = "0")
+  int jobs;
+
+  @Option(
+      names = {"--target-dir"},
+      required = false,
+      description = "Target directory for projects that do not set target-dir",
+      defaultValue = SpringBootDefaults.TARGET_DIRECTORY)
+  Path targetDirectory;
+
+  public BatchGenerateCommand(
+      BatchManifestReader manifestReader,
+      CreateProjectCommandMapper mapper,
+      CreateProjectBatchPort createProjectBatchPort,
+      Function<Throwable, String> failureDescriber) {
+    this.manifestReader = manifestReader;
+    this.mapper = mapper;
+    this.createProjectBatchPort = createProjectBatchPort;
+    this.failureDescriber = failureDescriber;
+  }
+
+  @Override
+  public Integer call() {
+    if (jobs < 0) {
+      throw new InvalidCliOptionException(JOBS_INVALID_KEY, jobs);
+    }
+    int effectiveJobs = jobs == 0 ? Runtime.getRuntime().availableProcessors() : jobs;
+
+    List<BatchManifestEntry> entries =
+        manifestReader.read(CliInvocationContext.current().resolve(manifest), targetDirectory);
+    Outcome[] outcomes = new Outcome[entries.size()];
+
+    List<CreateProjectCommand> commands = new ArrayList<>(entries.size());
+    List<Integer> positions = new ArrayList<>(entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      BatchManifestEntry entry = entries.get(i);
+      try {
+        if (entry.failure() != null) {
+          throw entry.failure();
+        }
+        commands.add(mapper.from(entry.request()));
+        positions.add(i);
+      } catch (RuntimeException e) {
+        outcomes[i] = Outcome.failure(entry.artifactId(), e);
+      }
+    }
+
+    long started = System.nanoTime();
+    CreateProjectBatchResult result =
+        createProjectBatchPort.handle(new CreateProjectBatchCommand(commands, effectiveJobs));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+    for (int k = 0; k < positions.size(); k++) {
+      outcomes[positions.get(k)] = result.outcomes().get(k);
+    }
+
+    int failed = report(outcomes, effectiveJobs, elapsedMillis);
+    return failed == 0 ? 0 : EXIT_PROJECTS_FAILED;
+  }
+
+  private int report(Outcome[] outcomes, int effectiveJobs, long elapsedMillis) {
+    PrintWriter out = spec.commandLine().getOut();
+    int failed = 0;
+    for (int i = 0; i < outcomes.length; i++) {
+      Outcome outcome = outcomes[i];
+      String label = outcome.artifactId() != null ? outcome.artifactId() : "#" + (i + 1);
+      if (outcome.succeeded()) {
+        out.printf("OK    %s  %s%n", label, location(outcome.result()));
+      } else {
+        failed++;
+        out.printf("FAIL  %s  %s%n", label, failureDescriber.apply(outcome.failure()));
+      }
+    }
+    out.printf(
+        "%d projects: %d succeeded, %d failed (jobs: %d, %d ms)%n",
+        outcomes.length, outcomes.length - failed, failed, effectiveJobs, elapsedMillis);
+    out.flush();
+    return failed;
+  }
+
+  private static Path location(CreateProjectResult result) {
+    return result.projectRoot() != null ? result.projectRoot() : result.archivePath();
+  }
+}
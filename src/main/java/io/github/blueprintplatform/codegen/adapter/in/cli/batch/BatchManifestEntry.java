@@ -0,0 +1,16 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.batch;
+
+import io.github.blueprintplatform.codegen.adapter.in.cli.request.CliProjectRequest;
+
+/** One project of a batch manifest: either a parsed request or the reason it could not be read. */
+public record BatchManifestEntry(
+    String artifactId, CliProjectRequest request, RuntimeException failure) {
+
+  public static BatchManifestEntry of(String artifactId, CliProjectRequest request) {
+    return new BatchManifestEntry(artifactId, request, null);
+  }
+
+  public static BatchManifestEntry failed(String artifactId, RuntimeException failure) {
+    return new BatchManifestEntry(artifactId, null, failure);
+  }
+}
@@ -0,0 +1,111 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.batch;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidCliOptionException;
+import io.github.blueprintplatform.codegen.adapter.in.cli.request.CliProjectRequest;
+import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.SpringBootOptionMap;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+/**
+ * Reads a batch manifest. The file is YAML (and therefore also accepts JSON): either a list of
+ * projects, or a map with a {@code projects} list and optional {@code defaults} applied to every
+ * project. Entries are read with {@link SpringBootOptionMap}.
+ *
+ * <p>A malformed file fails as a whole; a malformed project only fails its own entry.
+ */
+public class BatchManifestReader {
+
+  static final String PROJECTS = "projects";
+  static final String DEFAULTS = "defaults";
+
+  private static final Set<String> SECTIONS = Set.of(PROJECTS, DEFAULTS);
+
+  private static final String READ_FAILED_KEY = "adapter.cli.batch.manifest.read-failed";
+  private static final String MALFORMED_KEY = "adapter.cli.batch.manifest.malformed";
+  private static final String PROJECTS_REQUIRED_KEY =
+      "adapter.cli.batch.manifest.projects-required";
+  private static final String ENTRY_INVALID_KEY = "adapter.cli.batch.manifest.entry.invalid";
+  private static final String SECTION_INVALID_KEY = "adapter.cli.batch.manifest.section.invalid";
+  private static final String STANDARD_OUTPUT_KEY = "adapter.cli.batch.output.standard-output";
+
+  public List<BatchManifestEntry> read(Path manifest, Path defaultTargetDirectory) {
+    Object document = load(manifest);
+
+    Map<?, ?> defaults = Map.of();
+    Object projects = document;
+    if (document instanceof Map<?, ?> root) {
+      SpringBootOptionMap.checkOptionNames(root, SECTIONS);
+      defaults = defaults(root.get(DEFAULTS));
+      projects = root.get(PROJECTS);
+    }
+    if (!(projects instanceof List<?> list) || list.isEmpty()) {
+      throw new InvalidCliOptionException(PROJECTS_REQUIRED_KEY, manifest);
+    }
+
+    List<BatchManifestEntry> entries = new ArrayList<>(list.size());
+    for (int i = 0; i < list.size(); i++) {
+      entries.add(toEntry(i + 1, list.get(i), defaults, defaultTargetDirectory));
+    }
+    return entries;
+  }
+
+  private static Object load(Path manifest) {
+    Yaml yaml = new Yaml(new SafeConstructor(new LoaderOptions()));
+    try (Reader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+      return yaml.load(reader);
+    } catch (IOException e) {
+      throw new InvalidCliOptionException(READ_FAILED_KEY, e, manifest);
+    } catch (YAMLException e) {
+      throw new InvalidCliOptionException(MALFORMED_KEY, e, manifest, e.getMessage());
+    }
+  }
+
+  private static Map<?, ?> defaults(Object raw) {
+    if (raw == null) {
+      return Map.of();
+    }
+    if (!(raw instanceof Map<?, ?> defaults)) {
+      throw new InvalidCliOptionException(SECTION_INVALID_KEY, DEFAULTS);
+    }
+    SpringBootOptionMap.checkOptionNames(defaults, SpringBootOptionMap.OPTIONS);
+    return defaults;
+  }
+
+  private static BatchManifestEntry toEntry(
+      int number, Object raw, Map<?, ?> defaults, Path defaultTargetDirectory) {
+    if (!(raw instanceof Map<?, ?> project)) {
+      return BatchManifestEntry.failed(
+          null, new InvalidCliOptionException(ENTRY_INVALID_KEY, number));
+    }
+
+    Map<Object, Object> values = new LinkedHashMap<>(defaults);
+    values.putAll(project);
+    String artifactId =
+        values.get(SpringBootOptionMap.ARTIFACT_ID) instanceof String id ? id : null;
+    try {
+      return BatchManifestEntry.of(artifactId, toRequest(values, defaultTargetDirectory));
+    } catch (RuntimeException e) {
+      return BatchManifestEntry.failed(artifactId, e);
+    }
+  }
+
+  private static CliProjectRequest toRequest(Map<?, ?> values, Path defaultTargetDirectory) {
+    String output = SpringBootOptionMap.scalar(values, SpringBootOptionMap.OUTPUT);
+    if (CliProjectRequest.STANDARD_OUTPUT.equals(output)) {
+      throw new InvalidCliOptionException(STANDARD_OUTPUT_KEY, output);
+    }
+    return SpringBootOptionMap.read(values, defaultTargetDirectory).toRequest();
+  }
+}
@@ -1,13 +1,19 @@
 package io.github.blueprintplatform.codegen.adapter.in.cli.mapper;
 
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidCliOptionException;
 import io.github.blueprintplatform.codegen.adapter.error.exception.cli.UnsupportedRuntimeTargetTypeException;
 import io.github.blueprintplatform.codegen.adapter.in.cli.request.CliProjectRequest;
 import io.github.blueprintplatform.codegen.adapter.in.cli.request.model.CliDependency;
 import io.github.blueprintplatform.codegen.adapter.in.cli.request.model.CliRuntimeTarget;
 import io.github.blueprintplatform.codegen.adapter.in.cli.request.model.CliRuntimeTargetKeys;
 import io.github.blueprintplatform.codegen.adapter.in.cli.request.model.CliTechStack;
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.CliInvocationContext;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.DependencyInput;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectWriteMode;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
 import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
 import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
 import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeLevel;
@@ -20,12 +26,50 @@ import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.BuildTo
 import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Framework;
 import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Language;
 import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 public class CreateProjectCommandMapper {
 
+  private static final String ARCHIVE_FORMAT_UNKNOWN_KEY =
+      "adapter.cli.springboot.archive-format.unknown";
+  private static final String ARCHIVE_REQUIRED_KEY = "adapter.cli.output.archive-required";
+  private static final String INCREMENTAL_DIRECTORY_KEY =
+      "adapter.cli.output.incremental-directory";
+
+  private final OutputStream standardOutput;
+
+  /** Writes {@code -} output to the standard output of the current {@link CliInvocationContext}. */
+  public CreateProjectCommandMapper() {
+    this.standardOutput = null;
+  }
+
+  public CreateProjectCommandMapper(OutputStream standardOutput) {
+    this.standardOutput = standardOutput;
+  }
+
   public CreateProjectCommand from(CliProjectRequest request) {
+    return from(request, GenerationListener.NONE);
+  }
+
+  /** Maps a request whose generation reports its timings to {@code listener}. */
+  public CreateProjectCommand from(CliProjectRequest request, GenerationListener listener) {
+    return from(
+        request,
+        standardOutput != null ? standardOutput : CliInvocationContext.current().standardOutput(),
+        listener);
+  }
+
+  /** Maps a request whose {@code -} output writes the archive to {@code archiveOutput}. */
+  public CreateProjectCommand from(CliProjectRequest request, OutputStream archiveOutput) {
+    return from(request, archiveOutput, GenerationListener.NONE);
+  }
+
+  private CreateProjectCommand from(
+      CliProjectRequest request, OutputStream archiveOutput, GenerationListener listener) {
     var metadata = request.metadata();
     var techStack = toTechStack(request.techStack());
     var platformTarget = toPlatformTarget(request.runtimeTarget());
@@ -51,7 +95,45 @@ public class CreateProjectCommandMapper {
         platformTarget,
         dependencies,
         sampleCodeOptions,
-        request.targetDirectory());
+        CliInvocationContext.current().resolve(request.targetDirectory()),
+        toOutputTarget(request, toArchiveFormat(request.archiveFormat()), archiveOutput),
+        listener);
+  }
+
+  private ProjectOutputTarget toOutputTarget(
+      CliProjectRequest request, ArchiveFormat archiveFormat, OutputStream archiveOutput) {
+    String output = request.output();
+    if (output == null || output.isBlank()) {
+      ProjectWriteMode writeMode =
+          request.incremental() ? ProjectWriteMode.INCREMENTAL : ProjectWriteMode.FULL;
+      return ProjectOutputTarget.directory(archiveFormat, writeMode);
+    }
+    if (archiveFormat == ArchiveFormat.NONE) {
+      throw new InvalidCliOptionException(ARCHIVE_REQUIRED_KEY, output);
+    }
+    if (request.incremental()) {
+      throw new InvalidCliOptionException(INCREMENTAL_DIRECTORY_KEY, output);
+    }
+    if (CliProjectRequest.STANDARD_OUTPUT.equals(output)) {
+      return ProjectOutputTarget.archiveStream(archiveOutput, archiveFormat);
+    }
+    return ProjectOutputTarget.archiveFile(
+        CliInvocationContext.current().resolve(Path.of(output)),
+        archiveFormat,
+        request.overwrite());
+  }
+
+  private ArchiveFormat toArchiveFormat(String key) {
+    if (key == null || key.isBlank()) {
+      return ArchiveFormat.ZIP;
+    }
+    return switch (key.trim().toLowerCase(Locale.ROOT)) {
+      case "zip" -> ArchiveFormat.ZIP;
+      case "zip-stored" -> ArchiveFormat.ZIP_STORED;
+      case "tar.gz" -> ArchiveFormat.TAR_GZ;
+      case "none" -> ArchiveFormat.NONE;
+      default -> throw new InvalidCliOptionException(ARCHIVE_FORMAT_UNKNOWN_KEY, key);
+    };
   }
 
   private TechStack toTechStack(CliTechStack cli) {
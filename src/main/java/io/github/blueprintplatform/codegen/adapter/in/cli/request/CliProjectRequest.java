@@ -14,4 +14,32 @@ public record CliProjectRequest(
     CliRuntimeTarget runtimeTarget,
     CliArchitectureSpec architecture,
     List<CliDependency> dependencies,
-    Path targetDirectory) {}
+    Path targetDirectory,
+    String output,
+    String archiveFormat,
+    boolean incremental,
+    boolean overwrite) {
+
+  public static final String STANDARD_OUTPUT = "-";
+
+  public CliProjectRequest(
+      CliProjectMetadata metadata,
+      CliTechStack techStack,
+      CliRuntimeTarget runtimeTarget,
+      CliArchitectureSpec architecture,
+      List<CliDependency> dependencies,
+      Path targetDirectory,
+      String output) {
+    this(
+        metadata,
+        techStack,
+        runtimeTarget,
+        architecture,
+        dependencies,
+        targetDirectory,
+        output,
+        null,
+        false,
+        false);
+  }
+}
@@ -0,0 +1,32 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.shared;
+
+import io.github.blueprintplatform.codegen.adapter.in.cli.request.CliProjectRequest;
+
+/**
+ * Looks at raw CLI arguments before picocli parses them, for launchers that must decide how to set
+ * up the process first.
+ */
+public final class CliArguments {
+
+  private static final String OUTPUT_OPTION = "--output";
+
+  private CliArguments() {}
+
+  /**
+   * Whether the invocation streams the archive to standard output, in which case nothing else may
+   * be printed there.
+   */
+  public static boolean writesToStandardOutput(String[] args) {
+    for (int i = 0; i < args.length; i++) {
+      if ((OUTPUT_OPTION + "=" + CliProjectRequest.STANDARD_OUTPUT).equals(args[i])) {
+        return true;
+      }
+      if (OUTPUT_OPTION.equals(args[i])
+          && i + 1 < args.length
+          && CliProjectRequest.STANDARD_OUTPUT.equals(args[i + 1])) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
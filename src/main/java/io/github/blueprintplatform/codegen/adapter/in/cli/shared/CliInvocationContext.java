@@ -0,0 +1,62 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.shared;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * Working directory and standard output of the CLI invocation running on the current thread.
+ *
+ * <p>A one-shot CLI run uses the process's own, so nothing has to be bound. A resident daemon
+ * serves many clients from one process and binds each client's working directory and stdout for the
+ * duration of its request.
+ */
+public final class CliInvocationContext {
+
+  private static final CliInvocationContext PROCESS = new CliInvocationContext(null, null);
+
+  private static final ThreadLocal<CliInvocationContext> CURRENT = new ThreadLocal<>();
+
+  private final Path workingDirectory;
+  private final OutputStream standardOutput;
+
+  private CliInvocationContext(Path workingDirectory, OutputStream standardOutput) {
+    this.workingDirectory = workingDirectory;
+    this.standardOutput = standardOutput;
+  }
+
+  public static CliInvocationContext current() {
+    CliInvocationContext bound = CURRENT.get();
+    return bound != null ? bound : PROCESS;
+  }
+
+  /** Binds a context to the current thread until the returned scope is closed. */
+  public static Scope bind(Path workingDirectory, OutputStream standardOutput) {
+    CliInvocationContext previous = CURRENT.get();
+    CURRENT.set(new CliInvocationContext(workingDirectory, standardOutput));
+    return () -> {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    };
+  }
+
+  /** Resolves a relative path against the invocation's working directory. */
+  public Path resolve(Path path) {
+    if (workingDirectory == null || path == null || path.isAbsolute()) {
+      return path;
+    }
+    return workingDirectory.resolve(path);
+  }
+
+  public OutputStream standardOutput() {
+    return standardOutput != null ? standardOutput : System.out;
+  }
+
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
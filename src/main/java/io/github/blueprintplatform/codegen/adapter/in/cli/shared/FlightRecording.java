@@ -0,0 +1,55 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.shared;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidCliOptionException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * A Java Flight Recorder recording of one CLI run, written to its file when closed. It uses the
+ * JDK's {@code profile} settings, so the generator's own events line up with method samples,
+ * allocations and I/O of the same run.
+ *
+ * <p>Recordings are process-wide: in a resident daemon, concurrent requests show up as well.
+ */
+public final class FlightRecording implements AutoCloseable {
+
+  private static final String SETTINGS = "profile";
+  private static final String RECORDING_NAME = "codegen";
+  private static final String FAILED_KEY = "adapter.cli.jfr.failed";
+
+  private final Recording recording;
+
+  private FlightRecording(Recording recording) {
+    this.recording = recording;
+  }
+
+  public static FlightRecording start(Path file) {
+    Recording recording = null;
+    try {
+      recording = new Recording(Configuration.getConfiguration(SETTINGS));
+      recording.setName(RECORDING_NAME);
+      recording.setToDisk(true);
+      recording.setDestination(file);
+      recording.start();
+      return new FlightRecording(recording);
+    } catch (IOException | ParseException | IllegalStateException e) {
+      if (recording != null) {
+        recording.close();
+      }
+      throw new InvalidCliOptionException(FAILED_KEY, e, file);
+    }
+  }
+
+  /** Stops the recording, which writes it to its file. */
+  @Override
+  public void close() {
+    try {
+      recording.stop();
+    } finally {
+      recording.close();
+    }
+  }
+}
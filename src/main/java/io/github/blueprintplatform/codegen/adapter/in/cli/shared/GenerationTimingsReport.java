@@ -0,0 +1,119 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.shared;
+
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationStage;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects the timings of one generation and renders them as JSON: the handler stages in order,
+ * then artifacts and templates in the order they completed. {@code totalMillis} is the sum of the
+ * stages.
+ */
+public final class GenerationTimingsReport implements GenerationListener {
+
+  private final Queue<StageTiming> stages = new ConcurrentLinkedQueue<>();
+  private final Queue<ArtifactTiming> artifacts = new ConcurrentLinkedQueue<>();
+  private final Queue<TemplateTiming> templates = new ConcurrentLinkedQueue<>();
+
+  @Override
+  public void stageCompleted(GenerationStage stage, Duration duration) {
+    stages.add(new StageTiming(stage, duration));
+  }
+
+  @Override
+  public void artifactCompleted(String artifactKey, Duration duration) {
+    artifacts.add(new ArtifactTiming(artifactKey, duration));
+  }
+
+  @Override
+  public void templateRendered(
+      String templatePath, Path outputPath, long bytes, Duration duration) {
+    templates.add(new TemplateTiming(templatePath, outputPath, bytes, duration));
+  }
+
+  public String toJson() {
+    Duration total = Duration.ZERO;
+    for (StageTiming stage : stages) {
+      total = total.plus(stage.duration());
+    }
+
+    StringBuilder json = new StringBuilder(256 + templates.size() * 160);
+    json.append("{\n  \"totalMillis\": ").append(millis(total)).append(",\n");
+
+    json.append("  \"stages\": [");
+    String separator = "\n";
+    for (StageTiming stage : stages) {
+      json.append(separator).append("    {\"stage\": ");
+      string(json, stage.stage().name().toLowerCase(Locale.ROOT).replace('_', '-'));
+      json.append(", \"millis\": ").append(millis(stage.duration())).append('}');
+      separator = ",\n";
+    }
+    close(json, stages.isEmpty());
+
+    json.append("  \"artifacts\": [");
+    separator = "\n";
+    for (ArtifactTiming artifact : artifacts) {
+      json.append(separator).append("    {\"artifact\": ");
+      string(json, artifact.artifactKey());
+      json.append(", \"millis\": ").append(millis(artifact.duration())).append('}');
+      separator = ",\n";
+    }
+    close(json, artifacts.isEmpty());
+
+    json.append("  \"templates\": [");
+    separator = "\n";
+    for (TemplateTiming template : templates) {
+      json.append(separator).append("    {\"template\": ");
+      string(json, template.templatePath());
+      json.append(", \"output\": ");
+      string(json, template.outputPath().toString().replace('\\', '/'));
+      json.append(", \"bytes\": ").append(template.bytes());
+      json.append(", \"millis\": ").append(millis(template.duration())).append('}');
+      separator = ",\n";
+    }
+    json.append(templates.isEmpty() ? "]\n" : "\n  ]\n");
+
+    return json.append("}\n").toString();
+  }
+
+  private static void close(StringBuilder json, boolean empty) {
+    json.append(empty ? "],\n" : "\n  ],\n");
+  }
+
+  private static String millis(Duration duration) {
+    return String.format(Locale.ROOT, "%.3f", duration.toNanos() / 1_000_000.0);
+  }
+
+  private static void string(StringBuilder json, String value) {
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> json.append("\\\"");
+        case '\\' -> json.append("\\\\");
+        case '\n' -> json.append("\\n");
+        case '\r' -> json.append("\\r");
+        case '\t' -> json.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+        }
+      }
+    }
+    json.append('"');
+  }
+
+  private record StageTiming(GenerationStage stage, Duration duration) {}
+
+  private record ArtifactTiming(String artifactKey, Duration duration) {}
+
+  private record TemplateTiming(
+      String templatePath, Path outputPath, long bytes, Duration duration) {}
+}
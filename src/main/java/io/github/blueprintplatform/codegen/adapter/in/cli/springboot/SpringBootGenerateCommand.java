@@ -1,19 +1,28 @@
 package io.github.blueprintplatform.codegen.adapter.in.cli.springboot;
 
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidCliOptionException;
 import io.github.blueprintplatform.codegen.adapter.in.cli.mapper.CreateProjectCommandMapper;
-import io.github.blueprintplatform.codegen.adapter.in.cli.request.CliProjectRequest;
-import io.github.blueprintplatform.codegen.adapter.in.cli.request.model.*;
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.CliInvocationContext;
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.FlightRecording;
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.GenerationTimingsReport;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.*;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDefaults;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDependencyOption;
 import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.Spec;
 
 @Command(
     name = "springboot",
@@ -22,11 +31,18 @@ import picocli.CommandLine.Option;
 public class SpringBootGenerateCommand implements Callable<Integer> {
 
   private static final Logger log = LoggerFactory.getLogger(SpringBootGenerateCommand.class);
-  private static final String SPRING_BOOT_FRAMEWORK_KEY = "spring-boot";
+
+  static final String TIMINGS_STANDARD_ERROR = "-";
+
+  private static final String JFR_EXTENSION = ".jfr";
+
+  private static final String TIMINGS_WRITE_FAILED_KEY = "adapter.cli.timings.write-failed";
 
   private final CreateProjectCommandMapper mapper;
   private final CreateProjectPort createProjectPort;
 
+  @Spec CommandSpec spec;
+
   @Option(
       names = {"--group-id"},
       required = true,
@@ -61,28 +77,28 @@ public class SpringBootGenerateCommand implements Callable<Integer> {
       names = {"--build-tool"},
       required = false,
       description = "Build tool. Valid values: ${COMPLETION-CANDIDATES}",
-      defaultValue = "maven")
+      defaultValue = SpringBootDefaults.BUILD_TOOL)
   SpringBootBuildToolOption buildTool;
 
   @Option(
       names = {"--language"},
       required = false,
       description = "Programming language. Valid values: ${COMPLETION-CANDIDATES}",
-      defaultValue = "java")
+      defaultValue = SpringBootDefaults.LANGUAGE)
   SpringBootLanguageOption language;
 
   @Option(
       names = {"--java"},
       required = false,
       description = "Java version. Valid values: ${COMPLETION-CANDIDATES}",
-      defaultValue = "21")
+      defaultValue = SpringBootDefaults.JAVA_VERSION)
   SpringBootJavaVersionOption javaVersion;
 
   @Option(
       names = {"--boot"},
       required = false,
       description = "Spring Boot version. Valid values: ${COMPLETION-CANDIDATES}",
-      defaultValue = "3.5")
+      defaultValue = SpringBootDefaults.BOOT_VERSION)
   SpringBootVersionOption bootVersion;
 
   @Option(
@@ -92,7 +108,7 @@ public class SpringBootGenerateCommand implements Callable<Integer> {
           "Project layout. Valid values: ${COMPLETION-CANDIDATES}. "
               + "standard = layered packages (controller/service/repository/domain/config), "
               + "hexagonal = ports & adapters structure.",
-      defaultValue = "standard")
+      defaultValue = SpringBootDefaults.LAYOUT)
   SpringBootLayoutOption layout;
 
   @Option(
@@ -101,7 +117,7 @@ public class SpringBootGenerateCommand implements Callable<Integer> {
       description =
           "Architecture guardrails level. Defines how architectural boundaries are checked "
               + "and surfaced during the build. Valid values: ${COMPLETION-CANDIDATES}",
-      defaultValue = "basic")
+      defaultValue = SpringBootDefaults.GUARDRAILS)
   SpringBootArchitectureGuardrailsOption guardrails;
 
   @Option(
@@ -114,16 +130,69 @@ public class SpringBootGenerateCommand implements Callable<Integer> {
       names = {"--sample-code"},
       required = false,
       description = "Sample code level. Valid values: ${COMPLETION-CANDIDATES}",
-      defaultValue = "none")
+      defaultValue = SpringBootDefaults.SAMPLE_CODE)
   SpringBootSampleCodeOption sampleCode;
 
   @Option(
       names = {"--target-dir"},
       required = false,
       description = "Target directory for the generated project",
-      defaultValue = ".")
+      defaultValue = SpringBootDefaults.TARGET_DIRECTORY)
   Path targetDirectory;
 
+  @Option(
+      names = {"--output"},
+      required = false,
+      description =
+          "Write only the archive, without a project directory: a file path, "
+              + "or '-' for standard output. --target-dir is ignored when set.")
+  String output;
+
+  @Option(
+      names = {"--archive-format"},
+      required = false,
+      description =
+          "Archive format. Valid values: ${COMPLETION-CANDIDATES}. "
+              + "zip-stored skips compression, tar.gz keeps wrapper scripts executable, "
+              + "none writes only the project directory.",
+      defaultValue = SpringBootDefaults.ARCHIVE_FORMAT)
+  SpringBootArchiveFormatOption archiveFormat;
+
+  @Option(
+      names = {"--incremental"},
+      required = false,
+      description =
+          "Regenerate into an existing project directory, rewriting only files whose content "
+              + "changed since the previous run (tracked in .codegen/manifest).")
+  boolean incremental;
+
+  @Option(
+      names = {"--overwrite"},
+      required = false,
+      description = "Replace the archive file named by --output if it already exists.")
+  boolean overwrite;
+
+  @Option(
+      names = {"--timings"},
+      required = false,
+      arity = "0..1",
+      fallbackValue = TIMINGS_STANDARD_ERROR,
+      paramLabel = "FILE",
+      description =
+          "Report stage, artifact and template timings as JSON: to standard error, "
+              + "or to FILE when given.")
+  String timings;
+
+  @Option(
+      names = {"--jfr"},
+      required = false,
+      arity = "0..1",
+      paramLabel = "FILE",
+      description =
+          "Record the run with Java Flight Recorder and write the recording to FILE "
+              + "(default: <artifact-id>.jfr in the working directory).")
+  String jfr;
+
   public SpringBootGenerateCommand(
       CreateProjectCommandMapper mapper, CreateProjectPort createProjectPort) {
     this.mapper = mapper;
@@ -132,40 +201,78 @@ public class SpringBootGenerateCommand implements Callable<Integer> {
 
   @Override
   public Integer call() {
+    if (jfr == null) {
+      return generate();
+    }
 
-    var metadata = new CliProjectMetadata(groupId, artifactId, name, description, packageName);
-
-    var techStack = new CliTechStack(SPRING_BOOT_FRAMEWORK_KEY, buildTool.key(), language.key());
-
-    var runtimeTargetParams =
-        Map.of(
-            CliRuntimeTargetKeys.PARAM_JAVA_VERSION, javaVersion.value(),
-            CliRuntimeTargetKeys.PARAM_SPRING_BOOT_VERSION, bootVersion.value());
-
-    var runtimeTarget =
-        new CliRuntimeTarget(CliRuntimeTargetKeys.TYPE_SPRING_BOOT_JVM, runtimeTargetParams);
-
-    var architecture = new CliArchitectureSpec(layout.key(), guardrails.key(), sampleCode.key());
-
-    List<CliDependency> cliDependencies = List.of();
-    if (dependencies != null) {
-      cliDependencies =
-          dependencies.stream()
-              .map(d -> new CliDependency(d.groupId(), d.artifactId(), null, null))
-              .toList();
+    Path recordingFile =
+        CliInvocationContext.current()
+            .resolve(Path.of(jfr.isBlank() ? artifactId + JFR_EXTENSION : jfr));
+    int exitCode;
+    try (FlightRecording ignored = FlightRecording.start(recordingFile)) {
+      exitCode = generate();
     }
+    log.info("Flight recording: {}", recordingFile);
+    return exitCode;
+  }
 
+  private int generate() {
     var request =
-        new CliProjectRequest(
-            metadata, techStack, runtimeTarget, architecture, cliDependencies, targetDirectory);
+        new SpringBootProjectOptions(
+                groupId,
+                artifactId,
+                name,
+                description,
+                packageName,
+                buildTool,
+                language,
+                javaVersion,
+                bootVersion,
+                layout,
+                guardrails,
+                sampleCode,
+                dependencies,
+                targetDirectory,
+                output,
+                archiveFormat,
+                incremental,
+                overwrite)
+            .toRequest();
 
-    var command = mapper.from(request);
+    GenerationTimingsReport timingsReport = timings != null ? new GenerationTimingsReport() : null;
+    var command =
+        timingsReport != null ? mapper.from(request, timingsReport) : mapper.from(request);
 
-    CreateProjectResult result = createProjectPort.handle(command);
+    CreateProjectResult result;
+    try {
+      result = createProjectPort.handle(command);
+    } finally {
+      // A failed run still reports the stages it completed, which is where it got stuck.
+      if (timingsReport != null) {
+        writeTimings(timingsReport.toJson());
+      }
+    }
 
     log.info("Spring Boot project generated successfully.");
-    log.info("Archive path: {}", result.archivePath());
+    if (result.archivePath() != null) {
+      log.info("Archive path: {}", result.archivePath());
+    }
 
     return 0;
   }
+
+  private void writeTimings(String json) {
+    if (TIMINGS_STANDARD_ERROR.equals(timings)) {
+      PrintWriter err = spec.commandLine().getErr();
+      err.print(json);
+      err.flush();
+      return;
+    }
+    Path file = CliInvocationContext.current().resolve(Path.of(timings));
+    try {
+      Files.writeString(file, json, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new InvalidCliOptionException(TIMINGS_WRITE_FAILED_KEY, e, file);
+    }
+  }
 }
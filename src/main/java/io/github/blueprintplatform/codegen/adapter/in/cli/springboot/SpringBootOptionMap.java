@@ -0,0 +1,147 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.springboot;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidCliOptionException;
+import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.*;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDefaults;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDependencyOption;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads {@code springboot} options from a map keyed by the option names without the leading dashes,
+ * such as a batch manifest entry. Omitted options take the same defaults as on the command line.
+ */
+public final class SpringBootOptionMap {
+
+  public static final String GROUP_ID = "group-id";
+  public static final String ARTIFACT_ID = "artifact-id";
+  public static final String NAME = "name";
+  public static final String DESCRIPTION = "description";
+  public static final String PACKAGE_NAME = "package-name";
+  public static final String BUILD_TOOL = "build-tool";
+  public static final String LANGUAGE = "language";
+  public static final String JAVA = "java";
+  public static final String BOOT = "boot";
+  public static final String LAYOUT = "layout";
+  public static final String GUARDRAILS = "guardrails";
+  public static final String SAMPLE_CODE = "sample-code";
+  public static final String DEPENDENCIES = "dependencies";
+  public static final String TARGET_DIR = "target-dir";
+  public static final String OUTPUT = "output";
+  public static final String ARCHIVE_FORMAT = "archive-format";
+  public static final String INCREMENTAL = "incremental";
+  public static final String OVERWRITE = "overwrite";
+
+  public static final Set<String> OPTIONS =
+      Set.of(
+          GROUP_ID,
+          ARTIFACT_ID,
+          NAME,
+          DESCRIPTION,
+          PACKAGE_NAME,
+          BUILD_TOOL,
+          LANGUAGE,
+          JAVA,
+          BOOT,
+          LAYOUT,
+          GUARDRAILS,
+          SAMPLE_CODE,
+          DEPENDENCIES,
+          TARGET_DIR,
+          OUTPUT,
+          ARCHIVE_FORMAT,
+          INCREMENTAL,
+          OVERWRITE);
+
+  private static final String OPTION_UNKNOWN_KEY = "adapter.cli.options.unknown";
+  private static final String OPTION_REQUIRED_KEY = "adapter.cli.options.required";
+  private static final String OPTION_INVALID_KEY = "adapter.cli.options.invalid";
+
+  private SpringBootOptionMap() {}
+
+  public static SpringBootProjectOptions read(Map<?, ?> values, Path defaultTargetDirectory) {
+    checkOptionNames(values, OPTIONS);
+    String targetDirectory = scalar(values, TARGET_DIR);
+
+    return new SpringBootProjectOptions(
+        required(values, GROUP_ID),
+        required(values, ARTIFACT_ID),
+        required(values, NAME),
+        required(values, DESCRIPTION),
+        required(values, PACKAGE_NAME),
+        SpringBootBuildToolOption.fromKey(
+            scalar(values, BUILD_TOOL, SpringBootDefaults.BUILD_TOOL)),
+        SpringBootLanguageOption.fromKey(scalar(values, LANGUAGE, SpringBootDefaults.LANGUAGE)),
+        SpringBootJavaVersionOption.fromKey(scalar(values, JAVA, SpringBootDefaults.JAVA_VERSION)),
+        SpringBootVersionOption.fromKey(scalar(values, BOOT, SpringBootDefaults.BOOT_VERSION)),
+        SpringBootLayoutOption.fromKey(scalar(values, LAYOUT, SpringBootDefaults.LAYOUT)),
+        SpringBootArchitectureGuardrailsOption.fromKey(
+            scalar(values, GUARDRAILS, SpringBootDefaults.GUARDRAILS)),
+        SpringBootSampleCodeOption.fromKey(
+            scalar(values, SAMPLE_CODE, SpringBootDefaults.SAMPLE_CODE)),
+        dependencies(values.get(DEPENDENCIES)),
+        targetDirectory == null ? defaultTargetDirectory : Path.of(targetDirectory),
+        scalar(values, OUTPUT),
+        SpringBootArchiveFormatOption.fromKey(
+            scalar(values, ARCHIVE_FORMAT, SpringBootDefaults.ARCHIVE_FORMAT)),
+        flag(values, INCREMENTAL),
+        flag(values, OVERWRITE));
+  }
+
+  public static void checkOptionNames(Map<?, ?> values, Set<String> allowed) {
+    for (Object key : values.keySet()) {
+      if (!allowed.contains(String.valueOf(key))) {
+        throw new InvalidCliOptionException(OPTION_UNKNOWN_KEY, key);
+      }
+    }
+  }
+
+  public static String scalar(Map<?, ?> values, String option) {
+    Object raw = values.get(option);
+    if (raw == null) {
+      return null;
+    }
+    if (raw instanceof Map<?, ?> || raw instanceof List<?>) {
+      throw new InvalidCliOptionException(OPTION_INVALID_KEY, option, raw);
+    }
+    return String.valueOf(raw);
+  }
+
+  private static String scalar(Map<?, ?> values, String option, String defaultValue) {
+    String value = scalar(values, option);
+    return value == null ? defaultValue : value;
+  }
+
+  private static String required(Map<?, ?> values, String option) {
+    String value = scalar(values, option);
+    if (value == null) {
+      throw new InvalidCliOptionException(OPTION_REQUIRED_KEY, option);
+    }
+    return value;
+  }
+
+  private static boolean flag(Map<?, ?> values, String option) {
+    String raw = scalar(values, option, Boolean.FALSE.toString());
+    if (!raw.equalsIgnoreCase("true") && !raw.equalsIgnoreCase("false")) {
+      throw new InvalidCliOptionException(OPTION_INVALID_KEY, option, raw);
+    }
+    return Boolean.parseBoolean(raw);
+  }
+
+  private static List<SpringBootDependencyOption> dependencies(Object raw) {
+    if (raw == null) {
+      return List.of();
+    }
+    if (raw instanceof List<?> aliases) {
+      return aliases.stream()
+          .map(alias -> SpringBootDependencyOption.fromKey(String.valueOf(alias)))
+          .toList();
+    }
+    if (raw instanceof Map<?, ?>) {
+      throw new InvalidCliOptionException(OPTION_INVALID_KEY, DEPENDENCIES, raw);
+    }
+    return List.of(SpringBootDependencyOption.fromKey(String.valueOf(raw)));
+  }
+}
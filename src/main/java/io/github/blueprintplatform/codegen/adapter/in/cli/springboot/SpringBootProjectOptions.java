@@ -0,0 +1,69 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.springboot;
+
+import io.github.blueprintplatform.codegen.adapter.in.cli.request.CliProjectRequest;
+import io.github.blueprintplatform.codegen.adapter.in.cli.request.model.*;
+import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.*;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDependencyOption;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/** Parsed Spring Boot options of one project, whether they came from the command line or not. */
+public record SpringBootProjectOptions(
+    String groupId,
+    String artifactId,
+    String name,
+    String description,
+    String packageName,
+    SpringBootBuildToolOption buildTool,
+    SpringBootLanguageOption language,
+    SpringBootJavaVersionOption javaVersion,
+    SpringBootVersionOption bootVersion,
+    SpringBootLayoutOption layout,
+    SpringBootArchitectureGuardrailsOption guardrails,
+    SpringBootSampleCodeOption sampleCode,
+    List<SpringBootDependencyOption> dependencies,
+    Path targetDirectory,
+    String output,
+    SpringBootArchiveFormatOption archiveFormat,
+    boolean incremental,
+    boolean overwrite) {
+
+  private static final String SPRING_BOOT_FRAMEWORK_KEY = "spring-boot";
+
+  public CliProjectRequest toRequest() {
+    var metadata = new CliProjectMetadata(groupId, artifactId, name, description, packageName);
+
+    var techStack = new CliTechStack(SPRING_BOOT_FRAMEWORK_KEY, buildTool.key(), language.key());
+
+    var runtimeTargetParams =
+        Map.of(
+            CliRuntimeTargetKeys.PARAM_JAVA_VERSION, javaVersion.value(),
+            CliRuntimeTargetKeys.PARAM_SPRING_BOOT_VERSION, bootVersion.value());
+
+    var runtimeTarget =
+        new CliRuntimeTarget(CliRuntimeTargetKeys.TYPE_SPRING_BOOT_JVM, runtimeTargetParams);
+
+    var architecture = new CliArchitectureSpec(layout.key(), guardrails.key(), sampleCode.key());
+
+    List<CliDependency> cliDependencies = List.of();
+    if (dependencies != null) {
+      cliDependencies =
+          dependencies.stream()
+              .map(d -> new CliDependency(d.groupId(), d.artifactId(), null, null))
+              .toList();
+    }
+
+    return new CliProjectRequest(
+        metadata,
+        techStack,
+        runtimeTarget,
+        architecture,
+        cliDependencies,
+        targetDirectory,
+        output,
+        archiveFormat.key(),
+        incremental,
+        overwrite);
+  }
+}
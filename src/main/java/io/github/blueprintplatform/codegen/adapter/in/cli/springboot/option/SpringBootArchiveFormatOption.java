@@ -0,0 +1,33 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option;
+
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.CliEnumParser;
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.CliKeyedEnum;
+
+public enum SpringBootArchiveFormatOption implements CliKeyedEnum {
+  ZIP("zip"),
+  ZIP_STORED("zip-stored"),
+  TAR_GZ("tar.gz"),
+  NONE("none");
+
+  private static final String UNKNOWN_KEY = "adapter.cli.springboot.archive-format.unknown";
+
+  private final String value;
+
+  SpringBootArchiveFormatOption(String value) {
+    this.value = value;
+  }
+
+  public static SpringBootArchiveFormatOption fromKey(String raw) {
+    return CliEnumParser.parse(SpringBootArchiveFormatOption.class, raw, UNKNOWN_KEY);
+  }
+
+  @Override
+  public String key() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return value;
+  }
+}
@@ -0,0 +1,114 @@
+package io.github.blueprintplatform.codegen.adapter.in.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
+/**
+ * Thin client forwarding one CLI invocation to a {@link CodegenDaemonServer}. It uses nothing but
+ * the JDK, so launching it costs a bare JVM start rather than a Spring context.
+ */
+public final class CodegenDaemonClient {
+
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private final Path socketPath;
+
+  public CodegenDaemonClient(Path socketPath) {
+    this.socketPath = socketPath;
+  }
+
+  /**
+   * Runs {@code args} on the daemon, copying its stdout and stderr to {@code out} and {@code err}.
+   *
+   * @return the daemon's exit code, or empty when no daemon listens on the socket
+   * @throws IOException when the connection breaks before the daemon reports an exit code
+   */
+  public OptionalInt run(String[] args, Path workingDirectory, OutputStream out, OutputStream err)
+      throws IOException {
+    SocketChannel channel = connect();
+    if (channel == null) {
+      return OptionalInt.empty();
+    }
+    try (channel;
+        DataInputStream in = input(channel);
+        DataOutputStream request = output(channel)) {
+      DaemonProtocol.writeRun(request, workingDirectory.toAbsolutePath(), args);
+      return OptionalInt.of(readResponse(in, out, err));
+    }
+  }
+
+  /** Asks the daemon to shut down; returns {@code false} when none was running. */
+  public boolean stop() throws IOException {
+    SocketChannel channel = connect();
+    if (channel == null) {
+      return false;
+    }
+    try (channel;
+        DataInputStream in = input(channel);
+        DataOutputStream request = output(channel)) {
+      DaemonProtocol.writeStop(request);
+      readResponse(in, OutputStream.nullOutputStream(), OutputStream.nullOutputStream());
+      return true;
+    }
+  }
+
+  public Path socketPath() {
+    return socketPath;
+  }
+
+  private SocketChannel connect() {
+    try {
+      return SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static DataInputStream input(SocketChannel channel) {
+    return new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+  }
+
+  private static DataOutputStream output(SocketChannel channel) {
+    return new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+  }
+
+  private static int readResponse(DataInputStream in, OutputStream out, OutputStream err)
+      throws IOException {
+    byte[] buffer = new byte[COPY_BUFFER_SIZE];
+    while (true) {
+      int kind = in.read();
+      switch (kind) {
+        case DaemonProtocol.STDOUT -> copyFrame(in, out, buffer);
+        case DaemonProtocol.STDERR -> copyFrame(in, err, buffer);
+        case DaemonProtocol.EXIT -> {
+          out.flush();
+          err.flush();
+          return in.readInt();
+        }
+        case -1 -> throw new EOFException("The daemon closed the connection before exiting");
+        default -> throw new IOException("Unexpected daemon frame type " + kind);
+      }
+    }
+  }
+
+  private static void copyFrame(DataInputStream in, OutputStream target, byte[] buffer)
+      throws IOException {
+    int remaining = in.readInt();
+    while (remaining > 0) {
+      int chunk = Math.min(remaining, buffer.length);
+      in.readFully(buffer, 0, chunk);
+      target.write(buffer, 0, chunk);
+      remaining -= chunk;
+    }
+  }
+}
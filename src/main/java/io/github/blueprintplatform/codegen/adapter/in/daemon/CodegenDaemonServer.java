@@ -0,0 +1,370 @@
+package io.github.blueprintplatform.codegen.adapter.in.daemon;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.daemon.DaemonAlreadyRunningException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.daemon.DaemonServerStartException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.daemon.DaemonSocketDirectoryUnsafeException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.net.ExtendedSocketOptions;
+import jdk.net.UnixDomainPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resident generator listening on a Unix domain socket. Each connection carries one forwarded CLI
+ * invocation, handled on a fixed pool of {@code threads} workers against the already warm context.
+ *
+ * <p>The socket is bound inside a directory that only its owner can enter: a missing directory is
+ * created with mode {@code 0700}, and an existing one that belongs to another user or is open to
+ * group or others is refused. Where the platform reports peer credentials, connections from any
+ * other user are closed unanswered. When no request arrives for {@code idleTimeout} (or a client
+ * sends a stop request) the {@code shutdown} callback runs, which is expected to close the
+ * application.
+ */
+public class CodegenDaemonServer {
+
+  private static final Logger log = LoggerFactory.getLogger(CodegenDaemonServer.class);
+
+  private static final String WORKER_NAME_PREFIX = "codegen-daemon-";
+  private static final String ACCEPTOR_NAME = WORKER_NAME_PREFIX + "accept";
+  private static final String SHUTDOWN_NAME = WORKER_NAME_PREFIX + "shutdown";
+
+  private static final int UNEXPECTED_FAILURE_EXIT_CODE = 99;
+  private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+  private static final long DRAIN_TIMEOUT_SECONDS = 30;
+  private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY =
+      PosixFilePermissions.fromString("rwx------");
+
+  private final Path socketPath;
+  private final int threads;
+  private final Duration idleTimeout;
+  private final DaemonCommandHandler handler;
+  private final Runnable shutdown;
+
+  private ServerSocketChannel channel;
+  private UserPrincipal owner;
+  private ExecutorService workers;
+  private ScheduledExecutorService idleTimer;
+  private ScheduledFuture<?> idleShutdown;
+  private int activeRequests;
+
+  public CodegenDaemonServer(
+      Path socketPath,
+      int threads,
+      Duration idleTimeout,
+      DaemonCommandHandler handler,
+      Runnable shutdown) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be >= 1 but was " + threads);
+    }
+    this.socketPath = socketPath.toAbsolutePath();
+    this.threads = threads;
+    this.idleTimeout = idleTimeout;
+    this.handler = handler;
+    this.shutdown = shutdown;
+  }
+
+  public synchronized void start() {
+    if (channel != null) {
+      return;
+    }
+    prepareSocketPath();
+    try {
+      channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+      channel.bind(UnixDomainSocketAddress.of(socketPath));
+      restrictToOwner();
+      owner = Files.getOwner(socketPath);
+    } catch (IOException e) {
+      closeChannel();
+      throw new DaemonServerStartException(socketPath, e);
+    }
+    workers = Executors.newFixedThreadPool(threads, workerThreads());
+    idleTimer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, WORKER_NAME_PREFIX + "idle");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduleIdleShutdown();
+
+    ServerSocketChannel listening = channel;
+    new Thread(() -> accept(listening), ACCEPTOR_NAME).start();
+    log.info("Codegen daemon listening on {}", socketPath);
+  }
+
+  public void stop() {
+    ExecutorService draining;
+    synchronized (this) {
+      if (channel == null) {
+        return;
+      }
+      closeChannel();
+      idleTimer.shutdownNow();
+      draining = workers;
+      workers = null;
+      idleTimer = null;
+    }
+    draining.shutdown();
+    try {
+      if (!draining.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        draining.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      draining.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    try {
+      Files.deleteIfExists(socketPath);
+    } catch (IOException e) {
+      log.warn("Could not delete daemon socket {}: {}", socketPath, e.getMessage());
+    }
+  }
+
+  public Path socketPath() {
+    return socketPath;
+  }
+
+  private void accept(ServerSocketChannel listening) {
+    while (true) {
+      SocketChannel client;
+      try {
+        client = listening.accept();
+      } catch (ClosedChannelException e) {
+        return;
+      } catch (IOException e) {
+        if (!listening.isOpen()) {
+          return;
+        }
+        log.warn("Daemon failed to accept a connection: {}", e.getMessage());
+        continue;
+      }
+      if (!dispatch(client)) {
+        closeQuietly(client);
+        return;
+      }
+    }
+  }
+
+  private synchronized boolean dispatch(SocketChannel client) {
+    if (workers == null) {
+      return false;
+    }
+    try {
+      workers.execute(() -> serve(client));
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  private void serve(SocketChannel client) {
+    requestStarted();
+    try (client) {
+      if (!isOwner(client)) {
+        log.warn("Rejecting a daemon connection from another user");
+        return;
+      }
+      serveRequest(client);
+    } catch (IOException e) {
+      log.debug("Daemon client went away: {}", e.getMessage());
+    } finally {
+      requestFinished();
+    }
+  }
+
+  private void serveRequest(SocketChannel client) throws IOException {
+    try (DataInputStream in =
+            new DataInputStream(new BufferedInputStream(Channels.newInputStream(client)));
+        DataOutputStream out =
+            new DataOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(client), OUTPUT_BUFFER_SIZE))) {
+      if (in.readInt() != DaemonProtocol.MAGIC) {
+        log.warn("Ignoring a daemon connection that does not speak the codegen protocol");
+        return;
+      }
+      byte type = in.readByte();
+      if (type == DaemonProtocol.STOP) {
+        writeExit(out, 0);
+        log.info("Codegen daemon stop requested");
+        shutDownAsync();
+        return;
+      }
+      if (type != DaemonProtocol.RUN) {
+        log.warn("Ignoring unknown daemon request type {}", type);
+        return;
+      }
+      Path workingDirectory = Path.of(in.readUTF());
+      String[] args = DaemonProtocol.readArgs(in);
+      writeExit(out, run(args, workingDirectory, out));
+    }
+  }
+
+  private boolean isOwner(SocketChannel client) throws IOException {
+    if (!client.supportedOptions().contains(ExtendedSocketOptions.SO_PEERCRED)) {
+      return true;
+    }
+    UnixDomainPrincipal peer = client.getOption(ExtendedSocketOptions.SO_PEERCRED);
+    return peer.user().equals(owner);
+  }
+
+  private int run(String[] args, Path workingDirectory, DataOutputStream connection) {
+    PrintStream out =
+        new PrintStream(
+            new DaemonProtocol.FrameOutputStream(connection, DaemonProtocol.STDOUT), false);
+    PrintStream err =
+        new PrintStream(
+            new DaemonProtocol.FrameOutputStream(connection, DaemonProtocol.STDERR), false);
+    try {
+      return handler.execute(args, workingDirectory, out, err);
+    } catch (RuntimeException e) {
+      log.error("Daemon request failed", e);
+      err.println("codegen: error: " + e.getMessage());
+      return UNEXPECTED_FAILURE_EXIT_CODE;
+    } finally {
+      out.flush();
+      err.flush();
+    }
+  }
+
+  private static void writeExit(DataOutputStream out, int exitCode) throws IOException {
+    synchronized (out) {
+      out.writeByte(DaemonProtocol.EXIT);
+      out.writeInt(exitCode);
+      out.flush();
+    }
+  }
+
+  private synchronized void requestStarted() {
+    activeRequests++;
+    if (idleShutdown != null) {
+      idleShutdown.cancel(false);
+      idleShutdown = null;
+    }
+  }
+
+  private synchronized void requestFinished() {
+    activeRequests--;
+    if (activeRequests == 0) {
+      scheduleIdleShutdown();
+    }
+  }
+
+  private synchronized void scheduleIdleShutdown() {
+    if (idleTimer == null || idleTimeout.isZero() || idleTimeout.isNegative()) {
+      return;
+    }
+    idleShutdown =
+        idleTimer.schedule(this::idleExpired, idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private synchronized void idleExpired() {
+    if (activeRequests > 0 || channel == null) {
+      return;
+    }
+    log.info("Codegen daemon idle for {}; shutting down", idleTimeout);
+    shutDownAsync();
+  }
+
+  /** The callback closes the application, which stops this server; never run it on a worker. */
+  private void shutDownAsync() {
+    new Thread(shutdown, SHUTDOWN_NAME).start();
+  }
+
+  private void prepareSocketPath() {
+    try {
+      prepareSocketDirectory(socketPath.getParent());
+      if (Files.exists(socketPath)) {
+        if (isListening(socketPath)) {
+          throw new DaemonAlreadyRunningException(socketPath);
+        }
+        Files.delete(socketPath);
+      }
+    } catch (IOException e) {
+      throw new DaemonServerStartException(socketPath, e);
+    }
+  }
+
+  /** Nobody but the owner may reach the socket, even before its own mode has been set. */
+  private static void prepareSocketDirectory(Path directory) throws IOException {
+    if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+      Files.createDirectories(directory);
+      return;
+    }
+    if (Files.notExists(directory)) {
+      Files.createDirectories(directory.getParent());
+      Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+      return;
+    }
+    UserPrincipal currentUser =
+        FileSystems.getDefault()
+            .getUserPrincipalLookupService()
+            .lookupPrincipalByName(System.getProperty("user.name"));
+    Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(directory);
+    if (!Files.getOwner(directory).equals(currentUser)
+        || !OWNER_ONLY_DIRECTORY.containsAll(permissions)) {
+      throw new DaemonSocketDirectoryUnsafeException(directory);
+    }
+  }
+
+  private static boolean isListening(Path socketPath) {
+    try (SocketChannel probe = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+      return probe.isConnected();
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private void restrictToOwner() throws IOException {
+    if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+      Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rw-------"));
+    }
+  }
+
+  private void closeChannel() {
+    if (channel != null) {
+      closeQuietly(channel);
+      channel = null;
+    }
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      log.debug("Failed to close daemon channel: {}", e.getMessage());
+    }
+  }
+
+  private static ThreadFactory workerThreads() {
+    AtomicInteger workerIndex = new AtomicInteger();
+    return runnable -> new Thread(runnable, WORKER_NAME_PREFIX + workerIndex.incrementAndGet());
+  }
+}
@@ -0,0 +1,11 @@
+package io.github.blueprintplatform.codegen.adapter.in.daemon;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+/** Runs one forwarded CLI invocation and returns its exit code. */
+@FunctionalInterface
+public interface DaemonCommandHandler {
+
+  int execute(String[] args, Path workingDirectory, PrintStream out, PrintStream err);
+}
@@ -0,0 +1,125 @@
+package io.github.blueprintplatform.codegen.adapter.in.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * Wire format between {@link CodegenDaemonClient} and {@link CodegenDaemonServer}.
+ *
+ * <p>The client opens a connection per invocation and sends the magic number, a request type and,
+ * for {@link #RUN}, its working directory and argv. The daemon answers with {@link #STDOUT} and
+ * {@link #STDERR} frames ({@code int} length followed by the bytes) and finishes with a single
+ * {@link #EXIT} frame carrying the exit code.
+ */
+public final class DaemonProtocol {
+
+  /** {@code "CGD1"}; guards against a stray program listening on the socket path. */
+  static final int MAGIC = 0x43474431;
+
+  static final byte RUN = 1;
+  static final byte STOP = 2;
+
+  static final byte STDOUT = 1;
+  static final byte STDERR = 2;
+  static final byte EXIT = 3;
+
+  /** System property (and Spring property) naming the socket; both sides honour it. */
+  public static final String SOCKET_PATH_PROPERTY = "daemon.socket-path";
+
+  /** Upper bound on the argv a client may forward; larger counts are treated as a bad frame. */
+  static final int MAX_ARGS = 1024;
+
+  private static final String RUNTIME_DIR_ENV = "XDG_RUNTIME_DIR";
+  private static final String SOCKET_FILE_NAME = "codegen-daemon.sock";
+
+  private DaemonProtocol() {}
+
+  /**
+   * The socket path used when {@value #SOCKET_PATH_PROPERTY} is not set: in {@code
+   * $XDG_RUNTIME_DIR} when the session has one, otherwise in a per-user directory under {@code
+   * java.io.tmpdir} that the daemon creates for its owner only.
+   */
+  public static Path defaultSocketPath() {
+    String configured = System.getProperty(SOCKET_PATH_PROPERTY);
+    if (configured != null && !configured.isBlank()) {
+      return Path.of(configured);
+    }
+    String runtimeDir = System.getenv(RUNTIME_DIR_ENV);
+    if (runtimeDir != null && !runtimeDir.isBlank()) {
+      return Path.of(runtimeDir, SOCKET_FILE_NAME);
+    }
+    return Path.of(
+        System.getProperty("java.io.tmpdir"),
+        "codegen-daemon-" + System.getProperty("user.name"),
+        SOCKET_FILE_NAME);
+  }
+
+  static void writeRun(DataOutputStream out, Path workingDirectory, String[] args)
+      throws IOException {
+    out.writeInt(MAGIC);
+    out.writeByte(RUN);
+    out.writeUTF(workingDirectory.toString());
+    out.writeInt(args.length);
+    for (String arg : args) {
+      out.writeUTF(arg);
+    }
+    out.flush();
+  }
+
+  static void writeStop(DataOutputStream out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeByte(STOP);
+    out.flush();
+  }
+
+  static String[] readArgs(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    if (count < 0 || count > MAX_ARGS) {
+      throw new IOException("Argument count out of range: " + count);
+    }
+    String[] args = new String[count];
+    for (int i = 0; i < count; i++) {
+      args[i] = in.readUTF();
+    }
+    return args;
+  }
+
+  /** Stream that wraps every write into a frame of the given kind on a shared connection. */
+  static final class FrameOutputStream extends OutputStream {
+
+    private final DataOutputStream connection;
+    private final byte kind;
+
+    FrameOutputStream(DataOutputStream connection, byte kind) {
+      this.connection = connection;
+      this.kind = kind;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return;
+      }
+      synchronized (connection) {
+        connection.writeByte(kind);
+        connection.writeInt(len);
+        connection.write(b, off, len);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      synchronized (connection) {
+        connection.flush();
+      }
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package io.github.blueprintplatform.codegen.adapter.in.http;
+
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.github.blueprintplatform.codegen.adapter.error.exception.http.HttpServerStartException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local HTTP API on the JDK's built-in server. Requests are handled on a fixed pool of {@code
+ * threads} workers, so at most that many projects are generated at the same time.
+ */
+public class CodegenHttpServer {
+
+  private static final Logger log = LoggerFactory.getLogger(CodegenHttpServer.class);
+
+  private static final String WORKER_NAME_PREFIX = "codegen-http-";
+
+  private final InetSocketAddress address;
+  private final int threads;
+  private final HttpHandler springBootHandler;
+
+  private HttpServer server;
+  private ExecutorService executor;
+
+  public CodegenHttpServer(
+      InetSocketAddress address, int threads, SpringBootProjectHttpHandler springBootHandler) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be >= 1 but was " + threads);
+    }
+    this.address = address;
+    this.threads = threads;
+    this.springBootHandler = springBootHandler;
+  }
+
+  public synchronized void start() {
+    if (server != null) {
+      return;
+    }
+    try {
+      server = HttpServer.create(address, 0);
+    } catch (IOException e) {
+      throw new HttpServerStartException(address, e);
+    }
+    executor = Executors.newFixedThreadPool(threads, workerThreads());
+    server.createContext(SpringBootProjectHttpHandler.PATH, springBootHandler);
+    server.setExecutor(executor);
+    server.start();
+    log.info("Codegen HTTP API listening on {}", server.getAddress());
+  }
+
+  public synchronized void stop() {
+    if (server == null) {
+      return;
+    }
+    server.stop(0);
+    executor.shutdownNow();
+    server = null;
+    executor = null;
+  }
+
+  /** The bound address; differs from the configured one when port {@code 0} was requested. */
+  public synchronized InetSocketAddress address() {
+    return server != null ? server.getAddress() : address;
+  }
+
+  private static ThreadFactory workerThreads() {
+    AtomicInteger workerIndex = new AtomicInteger();
+    return runnable -> new Thread(runnable, WORKER_NAME_PREFIX + workerIndex.incrementAndGet());
+  }
+}
@@ -0,0 +1,9 @@
+package io.github.blueprintplatform.codegen.adapter.in.http;
+
+/** Status and body of a failed request; {@code code} is the message key of the failure. */
+public record HttpError(int status, String code, String message) {
+
+  public HttpError withStatus(int status) {
+    return new HttpError(status, code, message);
+  }
+}
@@ -0,0 +1,85 @@
+package io.github.blueprintplatform.codegen.adapter.in.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.blueprintplatform.codegen.adapter.error.exception.http.MetricsServerStartException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local scrape endpoint on the JDK's built-in server. {@code GET} {@value #PATH} answers with the
+ * text produced by {@code scrape}, in the Prometheus text exposition format. Scrapes are handled on
+ * the server's dispatcher thread and never compete with generation workers.
+ */
+public class MetricsHttpServer {
+
+  public static final String PATH = "/metrics";
+
+  private static final Logger log = LoggerFactory.getLogger(MetricsHttpServer.class);
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final InetSocketAddress address;
+  private final Supplier<String> scrape;
+
+  private HttpServer server;
+
+  public MetricsHttpServer(InetSocketAddress address, Supplier<String> scrape) {
+    this.address = address;
+    this.scrape = scrape;
+  }
+
+  public synchronized void start() {
+    if (server != null) {
+      return;
+    }
+    try {
+      server = HttpServer.create(address, 0);
+    } catch (IOException e) {
+      throw new MetricsServerStartException(address, e);
+    }
+    server.createContext(PATH, this::handle);
+    server.start();
+    log.info("Codegen metrics endpoint listening on {}", server.getAddress());
+  }
+
+  public synchronized void stop() {
+    if (server == null) {
+      return;
+    }
+    server.stop(0);
+    server = null;
+  }
+
+  /** The bound address; differs from the configured one when port {@code 0} was requested. */
+  public synchronized InetSocketAddress address() {
+    return server != null ? server.getAddress() : address;
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    if (!PATH.equals(exchange.getRequestURI().getPath())) {
+      exchange.sendResponseHeaders(404, -1);
+      exchange.close();
+      return;
+    }
+    if (!"GET".equals(exchange.getRequestMethod())) {
+      exchange.getResponseHeaders().set("Allow", "GET");
+      exchange.sendResponseHeaders(405, -1);
+      exchange.close();
+      return;
+    }
+
+    byte[] body = scrape.get().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+    exchange.close();
+  }
+}
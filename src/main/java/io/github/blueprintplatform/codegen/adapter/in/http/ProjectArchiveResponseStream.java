@@ -0,0 +1,69 @@
+package io.github.blueprintplatform.codegen.adapter.in.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Response body for a generated archive. The {@code 200} status and headers are sent with the first
+ * archive byte, so a request that fails validation or rendering before that can still be answered
+ * with an error status.
+ */
+final class ProjectArchiveResponseStream extends OutputStream {
+
+  private final HttpExchange exchange;
+  private final String contentType;
+  private final String fileName;
+
+  private OutputStream body;
+
+  ProjectArchiveResponseStream(HttpExchange exchange, String contentType, String fileName) {
+    this.exchange = exchange;
+    this.contentType = contentType;
+    this.fileName = fileName;
+  }
+
+  boolean committed() {
+    return body != null;
+  }
+
+  void commit() throws IOException {
+    if (body != null) {
+      return;
+    }
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange
+        .getResponseHeaders()
+        .set("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+    exchange.sendResponseHeaders(200, 0);
+    body = exchange.getResponseBody();
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    commit();
+    body.write(b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return;
+    }
+    commit();
+    body.write(b, off, len);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (body != null) {
+      body.flush();
+    }
+  }
+
+  /** The exchange owns the underlying stream. */
+  @Override
+  public void close() {
+    // closed with the exchange
+  }
+}
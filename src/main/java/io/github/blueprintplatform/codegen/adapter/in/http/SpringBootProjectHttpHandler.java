@@ -0,0 +1,159 @@
+package io.github.blueprintplatform.codegen.adapter.in.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import io.github.blueprintplatform.codegen.adapter.error.exception.http.InvalidHttpRequestException;
+import io.github.blueprintplatform.codegen.adapter.in.http.mapper.SpringBootProjectHttpRequestMapper;
+import io.github.blueprintplatform.codegen.adapter.in.http.request.SpringBootProjectHttpRequest;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+/**
+ * {@code POST /api/v1/projects/springboot}: generates one Spring Boot project and streams its
+ * archive as the response body. The request is a JSON object keyed by the {@code springboot} option
+ * names, read into a {@link SpringBootProjectHttpRequest}; options that point at the server's file
+ * system ({@code target-dir}, {@code output}, {@code incremental}, {@code overwrite}) are rejected.
+ */
+public class SpringBootProjectHttpHandler implements HttpHandler {
+
+  public static final String PATH = "/api/v1/projects/springboot";
+
+  private static final Logger log = LoggerFactory.getLogger(SpringBootProjectHttpHandler.class);
+
+  private static final String MALFORMED_KEY = "adapter.http.request.malformed";
+  private static final String TOO_LARGE_KEY = "adapter.http.request.too-large";
+
+  private final SpringBootProjectHttpRequestMapper mapper;
+  private final CreateProjectPort createProjectPort;
+  private final Function<Throwable, HttpError> errorTranslator;
+  private final int maxRequestBytes;
+
+  public SpringBootProjectHttpHandler(
+      SpringBootProjectHttpRequestMapper mapper,
+      CreateProjectPort createProjectPort,
+      Function<Throwable, HttpError> errorTranslator,
+      int maxRequestBytes) {
+    this.mapper = mapper;
+    this.createProjectPort = createProjectPort;
+    this.errorTranslator = errorTranslator;
+    this.maxRequestBytes = maxRequestBytes;
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    if (!PATH.equals(exchange.getRequestURI().getPath())) {
+      sendEmpty(exchange, 404);
+      return;
+    }
+    if (!"POST".equals(exchange.getRequestMethod())) {
+      exchange.getResponseHeaders().set("Allow", "POST");
+      sendEmpty(exchange, 405);
+      return;
+    }
+
+    ProjectArchiveResponseStream archive = null;
+    try {
+      SpringBootProjectHttpRequest request = readRequest(exchange);
+      archive = new ProjectArchiveResponseStream(exchange, contentType(request), fileName(request));
+      createProjectPort.handle(mapper.from(request, archive));
+      archive.commit();
+      exchange.close();
+    } catch (RuntimeException e) {
+      if (archive != null && archive.committed()) {
+        // Fail the exchange without the closing chunk so the client sees a truncated response
+        // instead of a well-formed but incomplete archive.
+        log.error("Project generation failed after the archive response was committed", e);
+        throw new IOException("Project generation failed while streaming the archive", e);
+      }
+      HttpError error = errorTranslator.apply(e);
+      if (e instanceof InvalidHttpRequestException invalid
+          && TOO_LARGE_KEY.equals(invalid.getMessageKey())) {
+        error = error.withStatus(413);
+      }
+      sendError(exchange, error);
+    }
+  }
+
+  private SpringBootProjectHttpRequest readRequest(HttpExchange exchange) throws IOException {
+    byte[] raw = exchange.getRequestBody().readNBytes(maxRequestBytes + 1);
+    if (raw.length > maxRequestBytes) {
+      throw new InvalidHttpRequestException(TOO_LARGE_KEY, maxRequestBytes);
+    }
+
+    Object document;
+    try {
+      document =
+          new Yaml(new SafeConstructor(new LoaderOptions()))
+              .load(new String(raw, StandardCharsets.UTF_8));
+    } catch (YAMLException e) {
+      throw new InvalidHttpRequestException(MALFORMED_KEY, e, e.getMessage());
+    }
+    if (!(document instanceof Map<?, ?> values)) {
+      throw new InvalidHttpRequestException(MALFORMED_KEY, "expected a JSON object");
+    }
+    return SpringBootProjectHttpRequest.from(values);
+  }
+
+  private static String contentType(SpringBootProjectHttpRequest request) {
+    return switch (request.archiveFormat()) {
+      case TAR_GZ -> "application/gzip";
+      case ZIP, ZIP_STORED, NONE -> "application/zip";
+    };
+  }
+
+  private static String fileName(SpringBootProjectHttpRequest request) {
+    String baseName = request.artifactId().trim().replaceAll("[^A-Za-z0-9._-]", "-");
+    return switch (request.archiveFormat()) {
+      case TAR_GZ -> baseName + ".tar.gz";
+      case ZIP, ZIP_STORED, NONE -> baseName + ".zip";
+    };
+  }
+
+  private static void sendError(HttpExchange exchange, HttpError error) throws IOException {
+    byte[] body =
+        ("{\"code\":" + json(error.code()) + ",\"message\":" + json(error.message()) + "}")
+            .getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+    exchange.sendResponseHeaders(error.status(), body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+    exchange.close();
+  }
+
+  private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+    exchange.sendResponseHeaders(status, -1);
+    exchange.close();
+  }
+
+  private static String json(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"' -> sb.append("\\\"");
+        case '\\' -> sb.append("\\\\");
+        case '\n' -> sb.append("\\n");
+        case '\r' -> sb.append("\\r");
+        case '\t' -> sb.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            sb.append(String.format("\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+        }
+      }
+    }
+    return sb.append('"').toString();
+  }
+}
@@ -0,0 +1,64 @@
+package io.github.blueprintplatform.codegen.adapter.in.http.mapper;
+
+import io.github.blueprintplatform.codegen.adapter.in.http.request.SpringBootProjectHttpRequest;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDependencyOption;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.DependencyInput;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeLevel;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeOptions;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.JavaVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootJvmTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.BuildTool;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Framework;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Language;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Maps an HTTP generation request to a command whose archive is streamed to the response. Nothing
+ * is written to the server's disk, so the command carries no target directory.
+ */
+public class SpringBootProjectHttpRequestMapper {
+
+  private static final String SPRING_BOOT_FRAMEWORK_KEY = "spring-boot";
+
+  public CreateProjectCommand from(
+      SpringBootProjectHttpRequest request, OutputStream archiveOutput) {
+    var techStack =
+        new TechStack(
+            Framework.fromKey(SPRING_BOOT_FRAMEWORK_KEY),
+            BuildTool.fromKey(request.buildTool()),
+            Language.fromKey(request.language()));
+    var platformTarget =
+        new SpringBootJvmTarget(
+            JavaVersion.fromKey(request.javaVersion()),
+            SpringBootVersion.fromKey(request.bootVersion()));
+
+    return new CreateProjectCommand(
+        request.groupId(),
+        request.artifactId(),
+        request.name(),
+        request.description(),
+        request.packageName(),
+        techStack,
+        ProjectLayout.fromKey(request.layout()),
+        GuardrailsMode.fromKey(request.guardrails()),
+        platformTarget,
+        toDependencyInputs(request.dependencies()),
+        new SampleCodeOptions(SampleCodeLevel.fromKey(request.sampleCode())),
+        null,
+        ProjectOutputTarget.archiveStream(archiveOutput, request.archiveFormat()));
+  }
+
+  private List<DependencyInput> toDependencyInputs(List<String> aliases) {
+    return aliases.stream()
+        .map(SpringBootDependencyOption::fromKey)
+        .map(d -> new DependencyInput(d.groupId(), d.artifactId(), null, null))
+        .toList();
+  }
+}
@@ -0,0 +1,144 @@
+package io.github.blueprintplatform.codegen.adapter.in.http.request;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.http.InvalidHttpRequestException;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDefaults;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Body of a Spring Boot generation request. The JSON keys are the {@code springboot} option names,
+ * and omitted options take the same defaults as on the command line. Options that point at the
+ * server's file system are not part of the API, and the archive format cannot be {@code none}.
+ */
+public record SpringBootProjectHttpRequest(
+    String groupId,
+    String artifactId,
+    String name,
+    String description,
+    String packageName,
+    String buildTool,
+    String language,
+    String javaVersion,
+    String bootVersion,
+    String layout,
+    String guardrails,
+    String sampleCode,
+    List<String> dependencies,
+    ArchiveFormat archiveFormat) {
+
+  public static final String GROUP_ID = "group-id";
+  public static final String ARTIFACT_ID = "artifact-id";
+  public static final String NAME = "name";
+  public static final String DESCRIPTION = "description";
+  public static final String PACKAGE_NAME = "package-name";
+  public static final String BUILD_TOOL = "build-tool";
+  public static final String LANGUAGE = "language";
+  public static final String JAVA = "java";
+  public static final String BOOT = "boot";
+  public static final String LAYOUT = "layout";
+  public static final String GUARDRAILS = "guardrails";
+  public static final String SAMPLE_CODE = "sample-code";
+  public static final String DEPENDENCIES = "dependencies";
+  public static final String ARCHIVE_FORMAT = "archive-format";
+
+  public static final Set<String> OPTIONS =
+      Set.of(
+          GROUP_ID,
+          ARTIFACT_ID,
+          NAME,
+          DESCRIPTION,
+          PACKAGE_NAME,
+          BUILD_TOOL,
+          LANGUAGE,
+          JAVA,
+          BOOT,
+          LAYOUT,
+          GUARDRAILS,
+          SAMPLE_CODE,
+          DEPENDENCIES,
+          ARCHIVE_FORMAT);
+
+  private static final String OPTION_UNKNOWN_KEY = "adapter.http.request.option-unknown";
+  private static final String OPTION_REQUIRED_KEY = "adapter.http.request.option-required";
+  private static final String OPTION_INVALID_KEY = "adapter.http.request.option-invalid";
+  private static final String ARCHIVE_REQUIRED_KEY = "adapter.http.request.archive-required";
+
+  public SpringBootProjectHttpRequest {
+    dependencies = dependencies == null ? List.of() : List.copyOf(dependencies);
+  }
+
+  /** Reads a request from a parsed JSON object; values are checked by the domain when mapped. */
+  public static SpringBootProjectHttpRequest from(Map<?, ?> body) {
+    for (Object key : body.keySet()) {
+      if (!OPTIONS.contains(String.valueOf(key))) {
+        throw new InvalidHttpRequestException(OPTION_UNKNOWN_KEY, key);
+      }
+    }
+
+    return new SpringBootProjectHttpRequest(
+        required(body, GROUP_ID),
+        required(body, ARTIFACT_ID),
+        required(body, NAME),
+        required(body, DESCRIPTION),
+        required(body, PACKAGE_NAME),
+        scalar(body, BUILD_TOOL, SpringBootDefaults.BUILD_TOOL),
+        scalar(body, LANGUAGE, SpringBootDefaults.LANGUAGE),
+        scalar(body, JAVA, SpringBootDefaults.JAVA_VERSION),
+        scalar(body, BOOT, SpringBootDefaults.BOOT_VERSION),
+        scalar(body, LAYOUT, SpringBootDefaults.LAYOUT),
+        scalar(body, GUARDRAILS, SpringBootDefaults.GUARDRAILS),
+        scalar(body, SAMPLE_CODE, SpringBootDefaults.SAMPLE_CODE),
+        dependencies(body.get(DEPENDENCIES)),
+        archiveFormat(scalar(body, ARCHIVE_FORMAT, SpringBootDefaults.ARCHIVE_FORMAT)));
+  }
+
+  private static String scalar(Map<?, ?> body, String option) {
+    Object raw = body.get(option);
+    if (raw == null) {
+      return null;
+    }
+    if (raw instanceof Map<?, ?> || raw instanceof List<?>) {
+      throw new InvalidHttpRequestException(OPTION_INVALID_KEY, option, raw);
+    }
+    return String.valueOf(raw);
+  }
+
+  private static String scalar(Map<?, ?> body, String option, String defaultValue) {
+    String value = scalar(body, option);
+    return value == null ? defaultValue : value;
+  }
+
+  private static String required(Map<?, ?> body, String option) {
+    String value = scalar(body, option);
+    if (value == null) {
+      throw new InvalidHttpRequestException(OPTION_REQUIRED_KEY, option);
+    }
+    return value;
+  }
+
+  private static List<String> dependencies(Object raw) {
+    if (raw == null) {
+      return List.of();
+    }
+    if (raw instanceof List<?> aliases) {
+      return aliases.stream().map(String::valueOf).toList();
+    }
+    if (raw instanceof Map<?, ?>) {
+      throw new InvalidHttpRequestException(OPTION_INVALID_KEY, DEPENDENCIES, raw);
+    }
+    return List.of(String.valueOf(raw));
+  }
+
+  private static ArchiveFormat archiveFormat(String key) {
+    return switch (key.trim().toLowerCase(Locale.ROOT)) {
+      case "zip" -> ArchiveFormat.ZIP;
+      case "zip-stored" -> ArchiveFormat.ZIP_STORED;
+      case "tar.gz" -> ArchiveFormat.TAR_GZ;
+      case "none" -> throw new InvalidHttpRequestException(ARCHIVE_REQUIRED_KEY);
+      default -> throw new InvalidHttpRequestException(OPTION_INVALID_KEY, ARCHIVE_FORMAT, key);
+    };
+  }
+}
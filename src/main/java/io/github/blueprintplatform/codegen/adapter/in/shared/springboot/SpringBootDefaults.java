@@ -0,0 +1,20 @@
+package io.github.blueprintplatform.codegen.adapter.in.shared.springboot;
+
+/**
+ * Option defaults shared by the {@code springboot} command, batch manifest entries and HTTP API
+ * requests.
+ */
+public final class SpringBootDefaults {
+
+  public static final String BUILD_TOOL = "maven";
+  public static final String LANGUAGE = "java";
+  public static final String JAVA_VERSION = "21";
+  public static final String BOOT_VERSION = "3.5";
+  public static final String LAYOUT = "standard";
+  public static final String GUARDRAILS = "basic";
+  public static final String SAMPLE_CODE = "none";
+  public static final String TARGET_DIRECTORY = ".";
+  public static final String ARCHIVE_FORMAT = "zip";
+
+  private SpringBootDefaults() {}
+}
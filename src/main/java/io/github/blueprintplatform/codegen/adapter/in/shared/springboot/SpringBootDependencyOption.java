@@ -1,4 +1,4 @@
-package io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option;
+package io.github.blueprintplatform.codegen.adapter.in.shared.springboot;
 
 import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidDependencyAliasException;
 
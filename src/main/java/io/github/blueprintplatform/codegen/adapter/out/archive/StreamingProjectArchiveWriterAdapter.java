@@ -0,0 +1,141 @@
+package io.github.blueprintplatform.codegen.adapter.out.archive;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveAlreadyExistsException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveIOException;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.HashingOutputStream;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.PendingFile;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ProjectArchiveStream;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ProjectOutputClassifier;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ResourceContents;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiveWriterPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Streams generated resources into an archive as they arrive. Entries use the same layout as {@link
+ * io.github.blueprintplatform.codegen.adapter.out.filesystem.FileSystemProjectArchiverAdapter}: a
+ * single root folder, with an explicit entry for every directory. Compressed formats use the
+ * configured deflate level.
+ */
+public class StreamingProjectArchiveWriterAdapter implements ProjectArchiveWriterPort {
+
+  private final int compressionLevel;
+
+  public StreamingProjectArchiveWriterAdapter() {
+    this(Deflater.DEFAULT_COMPRESSION);
+  }
+
+  public StreamingProjectArchiveWriterAdapter(int compressionLevel) {
+    this.compressionLevel = compressionLevel;
+  }
+
+  /**
+   * Streams the archive into a temporary file next to {@code archiveFile} and renames it into place
+   * once it is complete, so readers never see a partial archive and a failed run leaves the
+   * previous file untouched.
+   */
+  @Override
+  public List<ProjectOutputItem> write(
+      String rootName,
+      ArchiveFormat format,
+      Iterable<? extends GeneratedResource> resources,
+      Path archiveFile,
+      boolean overwrite) {
+    if (!overwrite && Files.exists(archiveFile, LinkOption.NOFOLLOW_LINKS)) {
+      throw new ProjectArchiveAlreadyExistsException(archiveFile);
+    }
+    try (PendingFile pending = PendingFile.beside(archiveFile)) {
+      List<ProjectOutputItem> items = writeArchive(rootName, format, resources, pending.open());
+      pending.publish(overwrite);
+      return items;
+    } catch (FileAlreadyExistsException e) {
+      throw new ProjectArchiveAlreadyExistsException(archiveFile);
+    } catch (IOException e) {
+      throw new ProjectArchiveIOException(archiveFile, e);
+    }
+  }
+
+  /**
+   * Streams the archive into {@code out}, which is left open. A failed run is not finished: the
+   * consumer receives a visibly truncated archive instead of a valid one missing entries.
+   */
+  @Override
+  public List<ProjectOutputItem> write(
+      String rootName,
+      ArchiveFormat format,
+      Iterable<? extends GeneratedResource> resources,
+      OutputStream out) {
+    try {
+      return writeArchive(rootName, format, resources, new NonClosingOutputStream(out));
+    } catch (IOException e) {
+      throw new ProjectArchiveIOException(Path.of(rootName), e);
+    }
+  }
+
+  private List<ProjectOutputItem> writeArchive(
+      String rootName,
+      ArchiveFormat format,
+      Iterable<? extends GeneratedResource> resources,
+      OutputStream target)
+      throws IOException {
+    List<ProjectOutputItem> items = new ArrayList<>();
+
+    ProjectArchiveStream archive =
+        ProjectArchiveStream.open(format, rootName, target, compressionLevel);
+    boolean finished = false;
+    try {
+      for (GeneratedResource resource : resources) {
+        Path relativePath = resource.relativePath();
+        if (resource instanceof GeneratedDirectory) {
+          archive.directory(relativePath);
+          continue;
+        }
+        try (OutputStream entry = archive.openEntry(relativePath);
+            HashingOutputStream content = new HashingOutputStream(entry)) {
+          ResourceContents.copy(resource, content);
+          items.add(
+              ProjectOutputClassifier.classify(relativePath, content.size(), content.sha256()));
+        }
+      }
+      archive.close();
+      finished = true;
+    } finally {
+      if (!finished) {
+        archive.abort();
+      }
+    }
+    return items;
+  }
+
+  /**
+   * Lets the archive stream release its compressor on close while leaving the caller's stream open.
+   */
+  private static final class NonClosingOutputStream extends FilterOutputStream {
+
+    private NonClosingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      out.flush();
+    }
+  }
+}
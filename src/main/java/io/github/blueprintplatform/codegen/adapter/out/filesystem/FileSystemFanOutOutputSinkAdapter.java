@@ -0,0 +1,213 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveIOException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveInvalidRootException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectWriteException;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.FileWriteEvent;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.HashingOutputStream;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.PendingFile;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ProjectArchiveStream;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ProjectOutputClassifier;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ResourceContents;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectWriteMode;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutput;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputSinkPort;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * Writes each resource once: its bytes go to the project file, the archive entry and the SHA-256
+ * digest in the same pass. The archive and the file listing therefore need neither a directory walk
+ * nor a second read of the written files. With {@link ArchiveFormat#NONE} only the files and
+ * digests are produced. Compressed formats use the configured deflate level.
+ *
+ * <p>The archive is streamed into a temporary file beside its target and renamed into place once
+ * every resource has been written; a failed run leaves no archive behind.
+ */
+public class FileSystemFanOutOutputSinkAdapter implements ProjectOutputSinkPort {
+
+  private static final OpenOption[] WRITE_OPTIONS = {
+    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE
+  };
+
+  private final int compressionLevel;
+
+  public FileSystemFanOutOutputSinkAdapter() {
+    this(Deflater.DEFAULT_COMPRESSION);
+  }
+
+  public FileSystemFanOutOutputSinkAdapter(int compressionLevel) {
+    this.compressionLevel = compressionLevel;
+  }
+
+  @Override
+  public ProjectOutput write(
+      Path projectRoot,
+      String artifactId,
+      ArchiveFormat format,
+      ProjectWriteMode writeMode,
+      Iterable<? extends GeneratedResource> resources) {
+    Path parent = projectRoot.getParent();
+    if (parent == null) {
+      throw new ProjectArchiveInvalidRootException(projectRoot);
+    }
+    Path archivePath =
+        format == ArchiveFormat.NONE
+            ? null
+            : parent.resolve(ProjectArchiveStream.fileName(artifactId, format));
+
+    ProjectManifest previous =
+        writeMode == ProjectWriteMode.INCREMENTAL ? ProjectManifest.read(projectRoot) : null;
+
+    List<ProjectOutputItem> items = new ArrayList<>();
+    Set<Path> createdDirectories = new HashSet<>();
+    createdDirectories.add(projectRoot);
+
+    try (PendingFile pendingArchive =
+        archivePath == null ? null : PendingFile.beside(archivePath)) {
+      ProjectArchiveStream archive =
+          pendingArchive == null
+              ? null
+              : ProjectArchiveStream.open(
+                  format, artifactId, pendingArchive.open(), compressionLevel);
+      boolean finished = false;
+      try {
+        writeAll(projectRoot, resources, archive, previous, items, createdDirectories);
+        if (archive != null) {
+          archive.close();
+          pendingArchive.publish(true);
+        }
+        finished = true;
+      } finally {
+        if (!finished && archive != null) {
+          archive.abort();
+        }
+      }
+    } catch (IOException e) {
+      throw new ProjectArchiveIOException(projectRoot, e);
+    }
+
+    return new ProjectOutput(items, archivePath);
+  }
+
+  private void writeAll(
+      Path projectRoot,
+      Iterable<? extends GeneratedResource> resources,
+      ProjectArchiveStream archive,
+      ProjectManifest previous,
+      List<ProjectOutputItem> items,
+      Set<Path> createdDirectories)
+      throws IOException {
+    for (GeneratedResource resource : resources) {
+      Path relativePath = resource.relativePath();
+      Path target = projectRoot.resolve(relativePath);
+      if (resource instanceof GeneratedDirectory) {
+        createDirectories(target, createdDirectories);
+        if (archive != null) {
+          archive.directory(relativePath);
+        }
+      } else {
+        items.add(writeFile(resource, target, archive, previous, createdDirectories));
+      }
+    }
+    if (previous != null) {
+      // Bookkeeping for the next run: written to disk, kept out of the archive and the listing.
+      GeneratedResource manifest = ProjectManifest.resource(items);
+      Path target = projectRoot.resolve(manifest.relativePath());
+      writeFile(manifest, target, null, null, createdDirectories);
+    }
+  }
+
+  private ProjectOutputItem writeFile(
+      GeneratedResource resource,
+      Path target,
+      ProjectArchiveStream archive,
+      ProjectManifest previous,
+      Set<Path> createdDirectories) {
+    Path relativePath = resource.relativePath();
+    FileWriteEvent event = new FileWriteEvent();
+    event.begin();
+    try {
+      if (previous != null) {
+        return writeFileIfChanged(resource, target, archive, previous, createdDirectories, event);
+      }
+      createDirectories(target.getParent(), createdDirectories);
+      ProjectOutputItem item;
+      try (OutputStream file = Files.newOutputStream(target, WRITE_OPTIONS);
+          OutputStream entry = openEntry(archive, relativePath);
+          HashingOutputStream content = new HashingOutputStream(file, entry)) {
+        ResourceContents.copy(resource, content);
+        item = ProjectOutputClassifier.classify(relativePath, content.size(), content.sha256());
+      }
+      commit(event, item, false);
+      return item;
+    } catch (IOException e) {
+      throw new ProjectWriteException(target, e);
+    }
+  }
+
+  /**
+   * Buffers the content so that its hash is known before touching the file; a file whose content
+   * matches the previous manifest is left alone, keeping its modification time.
+   */
+  private ProjectOutputItem writeFileIfChanged(
+      GeneratedResource resource,
+      Path target,
+      ProjectArchiveStream archive,
+      ProjectManifest previous,
+      Set<Path> createdDirectories,
+      FileWriteEvent event)
+      throws IOException {
+    Path relativePath = resource.relativePath();
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    ProjectOutputItem item;
+    try (OutputStream entry = openEntry(archive, relativePath);
+        HashingOutputStream content = new HashingOutputStream(buffer, entry)) {
+      ResourceContents.copy(resource, content);
+      item = ProjectOutputClassifier.classify(relativePath, content.size(), content.sha256());
+    }
+    boolean unchanged = previous.isUnchanged(relativePath, target, item.sha256());
+    if (!unchanged) {
+      createDirectories(target.getParent(), createdDirectories);
+      try (OutputStream file = Files.newOutputStream(target, WRITE_OPTIONS)) {
+        buffer.writeTo(file);
+      }
+    }
+    commit(event, item, unchanged);
+    return item;
+  }
+
+  private static void commit(FileWriteEvent event, ProjectOutputItem item, boolean unchanged) {
+    if (event.shouldCommit()) {
+      event.path = item.relativePath().toString();
+      event.bytes = item.size();
+      event.unchanged = unchanged;
+      event.commit();
+    }
+  }
+
+  private static OutputStream openEntry(ProjectArchiveStream archive, Path relativePath)
+      throws IOException {
+    return archive == null ? OutputStream.nullOutputStream() : archive.openEntry(relativePath);
+  }
+
+  private static void createDirectories(Path dir, Set<Path> createdDirectories) throws IOException {
+    if (dir != null && createdDirectories.add(dir)) {
+      Files.createDirectories(dir);
+    }
+  }
+}
@@ -2,22 +2,31 @@ package io.github.blueprintplatform.codegen.adapter.out.filesystem;
 
 import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveIOException;
 import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveInvalidRootException;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ProjectArchiveStream;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
 import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiverPort;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.zip.Deflater;
 
 public class FileSystemProjectArchiverAdapter implements ProjectArchiverPort {
 
-  private static final String ZIP_EXTENSION = ".zip";
-  private static final char ZIP_SEPARATOR = '/';
+  private final int compressionLevel;
+
+  public FileSystemProjectArchiverAdapter() {
+    this(Deflater.DEFAULT_COMPRESSION);
+  }
+
+  public FileSystemProjectArchiverAdapter(int compressionLevel) {
+    this.compressionLevel = compressionLevel;
+  }
 
   @Override
-  public Path archive(Path projectRoot, String artifactId) {
+  public Path archive(Path projectRoot, String artifactId, ArchiveFormat format) {
     if (projectRoot == null) {
       throw new ProjectArchiveInvalidRootException(null);
     }
@@ -31,30 +40,35 @@ public class FileSystemProjectArchiverAdapter implements ProjectArchiverPort {
       throw new ProjectArchiveInvalidRootException(projectRoot);
     }
 
+    if (format == ArchiveFormat.NONE) {
+      return null;
+    }
+
     String baseName =
         (artifactId == null || artifactId.isBlank())
             ? projectRoot.getFileName().toString()
             : artifactId;
 
-    Path archivePath = parent.resolve(baseName + ZIP_EXTENSION);
+    Path archivePath = parent.resolve(ProjectArchiveStream.fileName(baseName, format));
 
-    try (ZipOutputStream zipOut = new ZipOutputStream(Files.newOutputStream(archivePath))) {
-      writeDirectoryToZip(projectRoot, baseName, zipOut);
+    try (ProjectArchiveStream archive =
+        ProjectArchiveStream.open(
+            format, baseName, Files.newOutputStream(archivePath), compressionLevel)) {
+      writeDirectory(projectRoot, archive);
       return archivePath;
     } catch (IOException e) {
       throw new ProjectArchiveIOException(projectRoot, e);
     }
   }
 
-  private void writeDirectoryToZip(Path root, String rootName, ZipOutputStream zos)
-      throws IOException {
+  private void writeDirectory(Path root, ProjectArchiveStream archive) throws IOException {
     Path normalizedRoot = root.toAbsolutePath().normalize();
 
     try (Stream<Path> paths = Files.walk(normalizedRoot)) {
       paths.forEachOrdered(
           path -> {
             try {
-              writeEntry(normalizedRoot, rootName, path, zos);
+              writeEntry(normalizedRoot, path, archive);
             } catch (IOException e) {
               throw new UncheckedIOException(e);
             }
@@ -64,34 +78,20 @@ public class FileSystemProjectArchiverAdapter implements ProjectArchiverPort {
     }
   }
 
-  private void writeEntry(Path root, String rootName, Path current, ZipOutputStream zos)
+  private void writeEntry(Path root, Path current, ProjectArchiveStream archive)
       throws IOException {
-
     Path relative = root.relativize(current);
-    StringBuilder entryName = new StringBuilder();
-    entryName.append(rootName).append(ZIP_SEPARATOR);
-
-    String rel = relative.toString();
-    if (!rel.isEmpty()) {
-      String fsSep = root.getFileSystem().getSeparator();
-      if (!fsSep.equals(String.valueOf(ZIP_SEPARATOR))) {
-        rel = rel.replace(fsSep, String.valueOf(ZIP_SEPARATOR));
-      }
-      entryName.append(rel);
+    if (relative.toString().isEmpty()) {
+      return;
     }
 
-    boolean directory = Files.isDirectory(current);
-    if (directory && entryName.charAt(entryName.length() - 1) != ZIP_SEPARATOR) {
-      entryName.append(ZIP_SEPARATOR);
+    if (Files.isDirectory(current)) {
+      archive.directory(relative);
+      return;
     }
 
-    ZipEntry entry = new ZipEntry(entryName.toString());
-    zos.putNextEntry(entry);
-
-    if (!directory) {
-      Files.copy(current, zos);
+    try (OutputStream entry = archive.openEntry(relative)) {
+      Files.copy(current, entry);
     }
-
-    zos.closeEntry();
   }
 }
@@ -1,29 +1,48 @@
 package io.github.blueprintplatform.codegen.adapter.out.filesystem;
 
 import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectWriteException;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.FileWriteEvent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.ContentSource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.EncodedTextContent;
 import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectWriterPort;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Optional;
 
 public class FileSystemProjectWriterAdapter implements ProjectWriterPort {
 
+  private static final OpenOption[] WRITE_OPTIONS = {
+    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE
+  };
+
+  private final DirectoryCreator directories;
+
+  public FileSystemProjectWriterAdapter() {
+    this(Files::createDirectories);
+  }
+
+  FileSystemProjectWriterAdapter(DirectoryCreator directories) {
+    this.directories = directories;
+  }
+
   @Override
   public void writeBytes(Path projectRoot, Path relativePath, byte[] content) {
     Path target = projectRoot.resolve(relativePath);
+    FileWriteEvent event = new FileWriteEvent();
+    event.begin();
     try {
-      Path parent = target.getParent();
-      if (parent != null) {
-        Files.createDirectories(parent);
-      }
-      Files.write(
-          target,
-          content,
-          StandardOpenOption.CREATE,
-          StandardOpenOption.TRUNCATE_EXISTING,
-          StandardOpenOption.WRITE);
+      createParentDirectories(target);
+      Files.write(target, content, WRITE_OPTIONS);
+      commit(event, relativePath, content.length);
     } catch (IOException e) {
       throw new ProjectWriteException(target, e);
     }
@@ -35,13 +54,103 @@ public class FileSystemProjectWriterAdapter implements ProjectWriterPort {
     writeBytes(projectRoot, relativePath, bytes);
   }
 
+  @Override
+  public void writeBinary(Path projectRoot, Path relativePath, BinaryContent content) {
+    Path target = projectRoot.resolve(relativePath);
+    FileWriteEvent event = new FileWriteEvent();
+    event.begin();
+    try {
+      createParentDirectories(target);
+      try (FileChannel out = FileChannel.open(target, WRITE_OPTIONS)) {
+        ByteBuffer buffer = content.asByteBuffer();
+        while (buffer.hasRemaining()) {
+          out.write(buffer);
+        }
+      }
+      commit(event, relativePath, content.size());
+    } catch (IOException e) {
+      throw new ProjectWriteException(target, e);
+    }
+  }
+
+  @Override
+  public void writeStreamed(Path projectRoot, Path relativePath, ContentSource source) {
+    Path target = projectRoot.resolve(relativePath);
+    FileWriteEvent event = new FileWriteEvent();
+    event.begin();
+    try {
+      createParentDirectories(target);
+      Optional<Path> file = source.file();
+      long bytes;
+      if (file.isPresent()) {
+        bytes = transferFile(file.get(), target);
+      } else {
+        try (InputStream in = source.open();
+            OutputStream out = Files.newOutputStream(target, WRITE_OPTIONS)) {
+          bytes = in.transferTo(out);
+        }
+      }
+      commit(event, relativePath, bytes);
+    } catch (IOException e) {
+      throw new ProjectWriteException(target, e);
+    }
+  }
+
+  @Override
+  public void writeEncodedText(Path projectRoot, Path relativePath, EncodedTextContent content) {
+    Path target = projectRoot.resolve(relativePath);
+    FileWriteEvent event = new FileWriteEvent();
+    event.begin();
+    try {
+      createParentDirectories(target);
+      try (OutputStream out = Files.newOutputStream(target, WRITE_OPTIONS)) {
+        content.writeTo(out);
+      }
+      commit(event, relativePath, content.size());
+    } catch (IOException e) {
+      throw new ProjectWriteException(target, e);
+    }
+  }
+
   @Override
   public void createDirectories(Path projectRoot, Path relativeDir) {
     Path target = projectRoot.resolve(relativeDir);
     try {
-      Files.createDirectories(target);
+      directories.create(target);
     } catch (IOException e) {
       throw new ProjectWriteException(target, e);
     }
   }
+
+  private long transferFile(Path sourceFile, Path target) throws IOException {
+    try (FileChannel in = FileChannel.open(sourceFile, StandardOpenOption.READ);
+        FileChannel out = FileChannel.open(target, WRITE_OPTIONS)) {
+      long size = in.size();
+      long position = 0;
+      while (position < size) {
+        position += in.transferTo(position, size - position, out);
+      }
+      return size;
+    }
+  }
+
+  private static void commit(FileWriteEvent event, Path relativePath, long bytes) {
+    if (event.shouldCommit()) {
+      event.path = relativePath.toString();
+      event.bytes = bytes;
+      event.commit();
+    }
+  }
+
+  private void createParentDirectories(Path target) throws IOException {
+    Path parent = target.getParent();
+    if (parent != null) {
+      directories.create(parent);
+    }
+  }
+
+  @FunctionalInterface
+  interface DirectoryCreator {
+    void create(Path dir) throws IOException;
+  }
 }
@@ -0,0 +1,68 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiverPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Times every archive the delegate builds with a {@value #ARCHIVE_TIMER} timer and records its size
+ * in a {@value #ARCHIVE_SIZE} distribution summary, both tagged by archive format.
+ */
+public final class MeteredProjectArchiverAdapter implements ProjectArchiverPort, AutoCloseable {
+
+  public static final String ARCHIVE_TIMER = "codegen.archiver.archive";
+  public static final String ARCHIVE_SIZE = "codegen.archiver.archive.size";
+
+  private static final String FORMAT_TAG = "format";
+
+  private final ProjectArchiverPort delegate;
+  private final MeterRegistry registry;
+
+  public MeteredProjectArchiverAdapter(ProjectArchiverPort delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.registry = registry;
+  }
+
+  @Override
+  public Path archive(Path projectRoot, String artifactId, ArchiveFormat format) {
+    Timer.Sample sample = Timer.start(registry);
+    Path archive = delegate.archive(projectRoot, artifactId, format);
+    sample.stop(
+        Timer.builder(ARCHIVE_TIMER)
+            .description("Time to archive a project directory")
+            .tag(FORMAT_TAG, tag(format))
+            .register(registry));
+
+    if (archive != null) {
+      try {
+        DistributionSummary.builder(ARCHIVE_SIZE)
+            .description("Size of each project archive")
+            .baseUnit(BaseUnits.BYTES)
+            .tag(FORMAT_TAG, tag(format))
+            .register(registry)
+            .record(Files.size(archive));
+      } catch (IOException e) {
+        // The archive was written; one that can no longer be measured is left out of the summary.
+      }
+    }
+    return archive;
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (delegate instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private static String tag(ArchiveFormat format) {
+    return format.name().toLowerCase(Locale.ROOT).replace('_', '-');
+  }
+}
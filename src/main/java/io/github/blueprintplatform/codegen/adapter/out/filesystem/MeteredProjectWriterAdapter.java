@@ -0,0 +1,137 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.ContentSource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.EncodedTextContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectWriterPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Records the size of every file written by the delegate in a {@value #FILE_SIZE} distribution
+ * summary, so its count is the number of files and its total the bytes written. Batch writes are
+ * handed to the delegate unchanged, keeping parallel writers parallel, and measured once they have
+ * finished.
+ */
+public final class MeteredProjectWriterAdapter implements ProjectWriterPort, AutoCloseable {
+
+  public static final String FILE_SIZE = "codegen.writer.file.size";
+
+  private final ProjectWriterPort delegate;
+  private final DistributionSummary fileSize;
+
+  public MeteredProjectWriterAdapter(ProjectWriterPort delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.fileSize =
+        DistributionSummary.builder(FILE_SIZE)
+            .description("Size of each file written to a project directory")
+            .baseUnit(BaseUnits.BYTES)
+            .register(registry);
+  }
+
+  @Override
+  public void writeBytes(Path projectRoot, Path relativePath, byte[] content) {
+    delegate.writeBytes(projectRoot, relativePath, content);
+    fileSize.record(content.length);
+  }
+
+  @Override
+  public void writeText(Path projectRoot, Path relativePath, String content, Charset charset) {
+    delegate.writeText(projectRoot, relativePath, content, charset);
+    recordWritten(projectRoot, relativePath);
+  }
+
+  @Override
+  public void writeBinary(Path projectRoot, Path relativePath, BinaryContent content) {
+    delegate.writeBinary(projectRoot, relativePath, content);
+    fileSize.record(content.size());
+  }
+
+  @Override
+  public void writeStreamed(Path projectRoot, Path relativePath, ContentSource source) {
+    delegate.writeStreamed(projectRoot, relativePath, source);
+    recordWritten(projectRoot, relativePath);
+  }
+
+  @Override
+  public void writeEncodedText(Path projectRoot, Path relativePath, EncodedTextContent content) {
+    delegate.writeEncodedText(projectRoot, relativePath, content);
+    fileSize.record(content.size());
+  }
+
+  @Override
+  public void createDirectories(Path projectRoot, Path relativeDir) {
+    delegate.createDirectories(projectRoot, relativeDir);
+  }
+
+  @Override
+  public void write(Path projectRoot, GeneratedResource resource) {
+    delegate.write(projectRoot, resource);
+    if (!(resource instanceof GeneratedDirectory)) {
+      recordWritten(projectRoot, resource.relativePath());
+    }
+  }
+
+  @Override
+  public void write(Path projectRoot, Iterable<? extends GeneratedResource> resources) {
+    List<Path> files = new ArrayList<>();
+    delegate.write(projectRoot, () -> remembering(resources.iterator(), files));
+    files.forEach(file -> recordWritten(projectRoot, file));
+  }
+
+  @Override
+  public void write(Path projectRoot, Stream<? extends GeneratedResource> resources) {
+    List<Path> files = new ArrayList<>();
+    delegate.write(projectRoot, resources.peek(resource -> remember(resource, files)));
+    files.forEach(file -> recordWritten(projectRoot, file));
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (delegate instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private void recordWritten(Path projectRoot, Path relativePath) {
+    try {
+      fileSize.record(Files.size(projectRoot.resolve(relativePath)));
+    } catch (IOException e) {
+      // The file was written; one that can no longer be measured is left out of the summary.
+    }
+  }
+
+  private static Iterator<GeneratedResource> remembering(
+      Iterator<? extends GeneratedResource> resources, List<Path> files) {
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return resources.hasNext();
+      }
+
+      @Override
+      public GeneratedResource next() {
+        GeneratedResource resource = resources.next();
+        remember(resource, files);
+        return resource;
+      }
+    };
+  }
+
+  private static void remember(GeneratedResource resource, List<Path> files) {
+    if (!(resource instanceof GeneratedDirectory)) {
+      files.add(resource.relativePath());
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectWriteException;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.ContentSource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.EncodedTextContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectWriterPort;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the files of a project concurrently on a fixed pool of writer threads.
+ *
+ * <p>Within one {@link #write(Path, Iterable)} call, every directory that has been created is
+ * remembered, so a directory is created at most once no matter how many files land in it. {@link
+ * GeneratedDirectory} entries are applied last and only when no file write already created them.
+ *
+ * <p>At most {@value #IN_FLIGHT_PER_THREAD} writes per thread are queued or running at a time; the
+ * caller blocks on the next resource until one finishes, so a streamed project is never drained
+ * into the pool's queue. Once a write fails no further resources are consumed, and the failure of
+ * the first failing resource in input order is reported after the writes in flight have finished.
+ */
+public class ParallelFileSystemProjectWriterAdapter implements ProjectWriterPort, AutoCloseable {
+
+  private static final String WORKER_NAME_PREFIX = "codegen-write-";
+  private static final int IN_FLIGHT_PER_THREAD = 2;
+
+  private final ProjectWriterPort singleFileWriter = new FileSystemProjectWriterAdapter();
+  private final ExecutorService workers;
+  private final int maxInFlight;
+
+  public ParallelFileSystemProjectWriterAdapter(int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be >= 1 but was " + threads);
+    }
+    this.workers = Executors.newFixedThreadPool(threads, workerThreads());
+    this.maxInFlight = threads * IN_FLIGHT_PER_THREAD;
+  }
+
+  @Override
+  public void write(Path projectRoot, Iterable<? extends GeneratedResource> resources) {
+    DirectoryCache created = new DirectoryCache();
+    ProjectWriterPort batchWriter = new FileSystemProjectWriterAdapter(created::ensure);
+
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    AtomicBoolean failed = new AtomicBoolean();
+    List<Future<?>> pending = new ArrayList<>();
+    List<Path> declaredDirectories = new ArrayList<>();
+
+    Iterator<? extends GeneratedResource> iterator = resources.iterator();
+    while (!failed.get() && iterator.hasNext()) {
+      GeneratedResource resource = iterator.next();
+      if (resource instanceof GeneratedDirectory(Path relativePath)) {
+        declaredDirectories.add(relativePath);
+        continue;
+      }
+      try {
+        inFlight.acquire();
+      } catch (InterruptedException e) {
+        pending.forEach(f -> f.cancel(true));
+        Thread.currentThread().interrupt();
+        throw new ProjectWriteException(projectRoot, e);
+      }
+      pending.add(
+          workers.submit(
+              () -> {
+                try {
+                  batchWriter.write(projectRoot, resource);
+                } catch (RuntimeException | Error e) {
+                  failed.set(true);
+                  throw e;
+                } finally {
+                  inFlight.release();
+                }
+              }));
+    }
+
+    awaitAll(projectRoot, pending);
+
+    for (Path relativeDir : declaredDirectories) {
+      batchWriter.createDirectories(projectRoot, relativeDir);
+    }
+  }
+
+  @Override
+  public void writeBytes(Path projectRoot, Path relativePath, byte[] content) {
+    singleFileWriter.writeBytes(projectRoot, relativePath, content);
+  }
+
+  @Override
+  public void writeText(Path projectRoot, Path relativePath, String content, Charset charset) {
+    singleFileWriter.writeText(projectRoot, relativePath, content, charset);
+  }
+
+  @Override
+  public void writeBinary(Path projectRoot, Path relativePath, BinaryContent content) {
+    singleFileWriter.writeBinary(projectRoot, relativePath, content);
+  }
+
+  @Override
+  public void writeStreamed(Path projectRoot, Path relativePath, ContentSource source) {
+    singleFileWriter.writeStreamed(projectRoot, relativePath, source);
+  }
+
+  @Override
+  public void writeEncodedText(Path projectRoot, Path relativePath, EncodedTextContent content) {
+    singleFileWriter.writeEncodedText(projectRoot, relativePath, content);
+  }
+
+  @Override
+  public void createDirectories(Path projectRoot, Path relativeDir) {
+    singleFileWriter.createDirectories(projectRoot, relativeDir);
+  }
+
+  @Override
+  public void close() {
+    workers.shutdown();
+  }
+
+  private static void awaitAll(Path projectRoot, List<Future<?>> pending) {
+    RuntimeException firstFailure = null;
+    boolean interrupted = false;
+
+    for (Future<?> future : pending) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        if (firstFailure == null) {
+          firstFailure = asRuntimeException(projectRoot, e.getCause());
+        }
+      } catch (InterruptedException e) {
+        interrupted = true;
+        pending.forEach(f -> f.cancel(true));
+        if (firstFailure == null) {
+          firstFailure = new ProjectWriteException(projectRoot, e);
+        }
+        break;
+      }
+    }
+
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    if (firstFailure != null) {
+      throw firstFailure;
+    }
+  }
+
+  private static RuntimeException asRuntimeException(Path projectRoot, Throwable cause) {
+    if (cause instanceof RuntimeException runtime) {
+      return runtime;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return new ProjectWriteException(projectRoot, cause);
+  }
+
+  private static ThreadFactory workerThreads() {
+    AtomicInteger index = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, WORKER_NAME_PREFIX + index.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static final class DirectoryCache {
+
+    private final Set<Path> created = ConcurrentHashMap.newKeySet();
+
+    void ensure(Path dir) throws IOException {
+      if (created.contains(dir)) {
+        return;
+      }
+      Files.createDirectories(dir);
+      Path current = dir;
+      while (current != null && created.add(current)) {
+        current = current.getParent();
+      }
+    }
+  }
+}
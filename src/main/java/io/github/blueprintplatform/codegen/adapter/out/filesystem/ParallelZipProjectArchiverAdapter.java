@@ -0,0 +1,178 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveIOException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveInvalidRootException;
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.ArchiveEntryEvent;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiverPort;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
+/**
+ * Archives a project directory with scatter/gather compression: files are read and deflated
+ * independently on a worker pool, a window of {@value #ENTRIES_PER_THREAD} entries per thread at a
+ * time, and each window is written as raw entries in directory-walk order before the next one is
+ * compressed. At most one window of compressed entries is held in memory. The result has the same
+ * entries, in the same order, as {@link FileSystemProjectArchiverAdapter}. Formats other than
+ * {@link ArchiveFormat#ZIP} are delegated to that adapter.
+ */
+public class ParallelZipProjectArchiverAdapter implements ProjectArchiverPort, AutoCloseable {
+
+  private static final String ZIP_EXTENSION = ".zip";
+  private static final char ZIP_SEPARATOR = '/';
+  private static final int ENTRIES_PER_THREAD = 4;
+
+  private final OrderedTaskExecutor executor;
+  private final int compressionLevel;
+  private final FileSystemProjectArchiverAdapter sequential;
+
+  public ParallelZipProjectArchiverAdapter(int threads, int compressionLevel) {
+    if (compressionLevel < Deflater.DEFAULT_COMPRESSION
+        || compressionLevel > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException(
+          "compressionLevel must be between -1 and 9 but was " + compressionLevel);
+    }
+    this.executor = OrderedTaskExecutor.forkJoin(threads);
+    this.compressionLevel = compressionLevel;
+    this.sequential = new FileSystemProjectArchiverAdapter(compressionLevel);
+  }
+
+  @Override
+  public Path archive(Path projectRoot, String artifactId, ArchiveFormat format) {
+    if (format != ArchiveFormat.ZIP) {
+      return sequential.archive(projectRoot, artifactId, format);
+    }
+    if (projectRoot == null) {
+      throw new ProjectArchiveInvalidRootException(null);
+    }
+    Path parent = projectRoot.getParent();
+    if (parent == null || !Files.isDirectory(projectRoot)) {
+      throw new ProjectArchiveInvalidRootException(projectRoot);
+    }
+
+    String baseName =
+        (artifactId == null || artifactId.isBlank())
+            ? projectRoot.getFileName().toString()
+            : artifactId;
+    Path archivePath = parent.resolve(baseName + ZIP_EXTENSION);
+    Path normalizedRoot = projectRoot.toAbsolutePath().normalize();
+
+    try {
+      List<Path> paths;
+      try (Stream<Path> walk = Files.walk(normalizedRoot)) {
+        paths = walk.toList();
+      }
+
+      int window = executor.parallelism() * ENTRIES_PER_THREAD;
+      try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(archivePath)) {
+        for (int from = 0; from < paths.size(); from += window) {
+          List<Path> batch = paths.subList(from, Math.min(from + window, paths.size()));
+          for (CompressedEntry entry :
+              executor.map(batch, path -> compress(normalizedRoot, baseName, path))) {
+            entry.writeTo(zip);
+          }
+        }
+      }
+      return archivePath;
+    } catch (IOException e) {
+      throw new ProjectArchiveIOException(projectRoot, e);
+    } catch (UncheckedIOException e) {
+      throw new ProjectArchiveIOException(projectRoot, e.getCause());
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.close();
+  }
+
+  private CompressedEntry compress(Path root, String rootName, Path current) {
+    String name = entryName(root, rootName, current);
+    if (Files.isDirectory(current)) {
+      return CompressedEntry.directory(name);
+    }
+    try {
+      byte[] content = Files.readAllBytes(current);
+      return CompressedEntry.deflated(name, content, compressionLevel);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String entryName(Path root, String rootName, Path current) {
+    StringBuilder entryName = new StringBuilder(rootName).append(ZIP_SEPARATOR);
+
+    String rel = root.relativize(current).toString();
+    if (!rel.isEmpty()) {
+      String fsSep = root.getFileSystem().getSeparator();
+      if (!fsSep.equals(String.valueOf(ZIP_SEPARATOR))) {
+        rel = rel.replace(fsSep, String.valueOf(ZIP_SEPARATOR));
+      }
+      entryName.append(rel);
+    }
+
+    if (Files.isDirectory(current) && entryName.charAt(entryName.length() - 1) != ZIP_SEPARATOR) {
+      entryName.append(ZIP_SEPARATOR);
+    }
+    return entryName.toString();
+  }
+
+  private record CompressedEntry(
+      String name, long size, long crc, byte[] compressed, boolean directory) {
+
+    static CompressedEntry directory(String name) {
+      return new CompressedEntry(name, 0, 0, null, true);
+    }
+
+    static CompressedEntry deflated(String name, byte[] content, int level) throws IOException {
+      CRC32 crc = new CRC32();
+      crc.update(content);
+
+      Deflater deflater = new Deflater(level, true);
+      try {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 2 + 64);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+          out.write(content);
+        }
+        return new CompressedEntry(
+            name, content.length, crc.getValue(), buffer.toByteArray(), false);
+      } finally {
+        deflater.end();
+      }
+    }
+
+    void writeTo(ZipArchiveOutputStream zip) throws IOException {
+      ZipArchiveEntry entry = new ZipArchiveEntry(name);
+      if (directory) {
+        zip.putArchiveEntry(entry);
+        zip.closeArchiveEntry();
+        return;
+      }
+      ArchiveEntryEvent event = new ArchiveEntryEvent();
+      event.begin();
+      entry.setMethod(ZipEntry.DEFLATED);
+      entry.setSize(size);
+      entry.setCompressedSize(compressed.length);
+      entry.setCrc(crc);
+      zip.addRawArchiveEntry(entry, new ByteArrayInputStream(compressed));
+      if (event.shouldCommit()) {
+        event.entry = name;
+        event.bytes = size;
+        event.commit();
+      }
+    }
+  }
+}
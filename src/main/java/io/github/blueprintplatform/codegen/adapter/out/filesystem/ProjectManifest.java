@@ -0,0 +1,92 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectWriteException;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.HashingOutputStream;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedBinaryResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The hashes of the files written by the last incremental run, kept under {@code .codegen/manifest}
+ * in the project. One {@code <sha256> <path>} line per file, the same layout as {@code sha256sum},
+ * so {@code sha256sum -c .codegen/manifest} checks a project against it. The manifest does not list
+ * itself.
+ */
+final class ProjectManifest {
+
+  static final Path RELATIVE_PATH = Path.of(".codegen", "manifest");
+
+  private static final String SEPARATOR = "  ";
+  private static final char PATH_SEPARATOR = '/';
+
+  private final Map<String, String> hashes;
+
+  private ProjectManifest(Map<String, String> hashes) {
+    this.hashes = hashes;
+  }
+
+  /** Reads the manifest of {@code projectRoot}; an absent manifest records no files. */
+  static ProjectManifest read(Path projectRoot) {
+    Path file = projectRoot.resolve(RELATIVE_PATH);
+    Map<String, String> hashes = new HashMap<>();
+    if (!Files.isRegularFile(file)) {
+      return new ProjectManifest(hashes);
+    }
+    try {
+      for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        int separator = line.indexOf(SEPARATOR);
+        if (separator > 0) {
+          hashes.put(line.substring(separator + SEPARATOR.length()), line.substring(0, separator));
+        }
+      }
+    } catch (IOException e) {
+      throw new ProjectWriteException(file, e);
+    }
+    return new ProjectManifest(hashes);
+  }
+
+  /**
+   * Whether {@code target} already holds the content hashed as {@code sha256}. The rule is the hash
+   * of the file on disk: a file is left alone only when its bytes hash to {@code sha256}, so a hand
+   * edit is overwritten whatever its length. The manifest only spares the read when the generated
+   * content itself changed since the last run; such a file is rewritten without being hashed.
+   */
+  boolean isUnchanged(Path relativePath, Path target, String sha256) {
+    if (!sha256.equals(hashes.get(key(relativePath))) || !Files.isRegularFile(target)) {
+      return false;
+    }
+    try (HashingOutputStream onDisk = new HashingOutputStream()) {
+      Files.copy(target, onDisk);
+      return sha256.equals(onDisk.sha256());
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /** The manifest for {@code items}, as a resource to be written with the rest of the project. */
+  static GeneratedResource resource(List<ProjectOutputItem> items) {
+    StringBuilder content = new StringBuilder(items.size() * 96);
+    for (ProjectOutputItem item : items) {
+      content.append(item.sha256()).append(SEPARATOR).append(key(item.relativePath())).append('\n');
+    }
+    return new GeneratedBinaryResource(
+        RELATIVE_PATH, new BinaryContent(content.toString().getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static String key(Path relativePath) {
+    String rel = relativePath.normalize().toString();
+    String fsSep = relativePath.getFileSystem().getSeparator();
+    if (!fsSep.equals(String.valueOf(PATH_SEPARATOR))) {
+      rel = rel.replace(fsSep, String.valueOf(PATH_SEPARATOR));
+    }
+    return rel;
+  }
+}
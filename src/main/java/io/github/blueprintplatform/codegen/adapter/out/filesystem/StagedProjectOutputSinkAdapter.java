@@ -0,0 +1,116 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveInvalidRootException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectWriteException;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.HashingOutputStream;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ProjectArchiveStream;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ProjectOutputClassifier;
+import io.github.blueprintplatform.codegen.adapter.out.shared.output.ResourceContents;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectWriteMode;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiveWriterPort;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiverPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutput;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputSinkPort;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectWriterPort;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Produces the output in separate steps: write the project tree, archive it from disk, then list
+ * it. Each step is its own port, so writer and archiver implementations can be swapped freely.
+ *
+ * <p>In {@link ProjectWriteMode#INCREMENTAL} mode only changed files, plus the manifest, reach the
+ * writer. The directory may then also hold files the generator does not own, such as build output
+ * or IDE settings, so the archive and the listing are built from the generated resources rather
+ * than from disk, and the manifest stays out of both.
+ */
+public class StagedProjectOutputSinkAdapter implements ProjectOutputSinkPort {
+
+  private final ProjectWriterPort writerPort;
+  private final ProjectArchiverPort archiverPort;
+  private final ProjectArchiveWriterPort archiveWriterPort;
+  private final ProjectOutputPort outputPort;
+
+  public StagedProjectOutputSinkAdapter(
+      ProjectWriterPort writerPort,
+      ProjectArchiverPort archiverPort,
+      ProjectArchiveWriterPort archiveWriterPort,
+      ProjectOutputPort outputPort) {
+    this.writerPort = writerPort;
+    this.archiverPort = archiverPort;
+    this.archiveWriterPort = archiveWriterPort;
+    this.outputPort = outputPort;
+  }
+
+  @Override
+  public ProjectOutput write(
+      Path projectRoot,
+      String artifactId,
+      ArchiveFormat format,
+      ProjectWriteMode writeMode,
+      Iterable<? extends GeneratedResource> resources) {
+    if (writeMode == ProjectWriteMode.INCREMENTAL) {
+      return writeIncremental(projectRoot, artifactId, format, resources);
+    }
+    writerPort.write(projectRoot, resources);
+    Path archive = archiverPort.archive(projectRoot, artifactId, format);
+    return new ProjectOutput(outputPort.list(projectRoot), archive);
+  }
+
+  /**
+   * Hashes every resource up front and hands only those whose content differs from the previous
+   * {@link ProjectManifest}, followed by the new manifest, to the writer. The archive is then
+   * streamed from the generated resources.
+   */
+  private ProjectOutput writeIncremental(
+      Path projectRoot,
+      String artifactId,
+      ArchiveFormat format,
+      Iterable<? extends GeneratedResource> resources) {
+    Path parent = projectRoot.getParent();
+    if (parent == null) {
+      throw new ProjectArchiveInvalidRootException(projectRoot);
+    }
+    ProjectManifest previous = ProjectManifest.read(projectRoot);
+    List<GeneratedResource> generated = new ArrayList<>();
+    List<ProjectOutputItem> items = new ArrayList<>();
+    List<GeneratedResource> changed = new ArrayList<>();
+
+    for (GeneratedResource resource : resources) {
+      generated.add(resource);
+      if (resource instanceof GeneratedDirectory) {
+        changed.add(resource);
+        continue;
+      }
+      Path relativePath = resource.relativePath();
+      Path target = projectRoot.resolve(relativePath);
+      ProjectOutputItem item;
+      try (HashingOutputStream content = new HashingOutputStream()) {
+        ResourceContents.copy(resource, content);
+        item = ProjectOutputClassifier.classify(relativePath, content.size(), content.sha256());
+      } catch (IOException e) {
+        throw new ProjectWriteException(target, e);
+      }
+      items.add(item);
+      if (!previous.isUnchanged(relativePath, target, item.sha256())) {
+        changed.add(resource);
+      }
+    }
+    changed.add(ProjectManifest.resource(items));
+    writerPort.write(projectRoot, changed);
+
+    if (format == ArchiveFormat.NONE) {
+      return new ProjectOutput(items, null);
+    }
+    Path archive = parent.resolve(ProjectArchiveStream.fileName(artifactId, format));
+    archiveWriterPort.write(artifactId, format, generated, archive, true);
+    return new ProjectOutput(items, archive);
+  }
+}
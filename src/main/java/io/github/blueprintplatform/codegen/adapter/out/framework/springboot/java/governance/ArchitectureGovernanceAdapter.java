@@ -4,6 +4,7 @@ import io.github.blueprintplatform.codegen.adapter.error.exception.templating.Ar
 import io.github.blueprintplatform.codegen.adapter.error.exception.templating.ArchitectureGovernanceTemplatesScanException;
 import io.github.blueprintplatform.codegen.adapter.error.exception.templating.TemplateScanException;
 import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ArtifactSpec;
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
 import io.github.blueprintplatform.codegen.adapter.out.shared.dependency.DependencyFeature;
 import io.github.blueprintplatform.codegen.adapter.out.shared.templating.FtlClasspathTemplateScanner;
 import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateRenderer;
@@ -16,10 +17,11 @@ import io.github.blueprintplatform.codegen.domain.model.value.pkg.PackageName;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class ArchitectureGovernanceAdapter implements ArchitectureGovernancePort {
 
@@ -46,14 +48,24 @@ public class ArchitectureGovernanceAdapter implements ArchitectureGovernancePort
   private final TemplateRenderer renderer;
   private final ArtifactSpec artifactSpec;
   private final FtlClasspathTemplateScanner templateScanner;
+  private final OrderedTaskExecutor taskExecutor;
 
   public ArchitectureGovernanceAdapter(
       TemplateRenderer renderer,
       ArtifactSpec artifactSpec,
       FtlClasspathTemplateScanner templateScanner) {
+    this(renderer, artifactSpec, templateScanner, OrderedTaskExecutor.sequential());
+  }
+
+  public ArchitectureGovernanceAdapter(
+      TemplateRenderer renderer,
+      ArtifactSpec artifactSpec,
+      FtlClasspathTemplateScanner templateScanner,
+      OrderedTaskExecutor taskExecutor) {
     this.renderer = renderer;
     this.artifactSpec = artifactSpec;
     this.templateScanner = templateScanner;
+    this.taskExecutor = taskExecutor;
   }
 
   @Override
@@ -63,6 +75,18 @@ public class ArchitectureGovernanceAdapter implements ArchitectureGovernancePort
 
   @Override
   public Iterable<? extends GeneratedResource> generate(ProjectBlueprint blueprint) {
+    List<GeneratedResource> generated = taskExecutor.map(renderTasks(blueprint), Supplier::get);
+    return List.copyOf(generated);
+  }
+
+  @Override
+  public void generate(ProjectBlueprint blueprint, Consumer<? super GeneratedResource> sink) {
+    for (Supplier<GeneratedResource> task : renderTasks(blueprint)) {
+      sink.accept(task.get());
+    }
+  }
+
+  private List<Supplier<GeneratedResource>> renderTasks(ProjectBlueprint blueprint) {
     GuardrailsMode mode = blueprint.getArchitecture().governance().mode();
     if (!mode.isEnabled()) {
       return List.of();
@@ -96,17 +120,19 @@ public class ArchitectureGovernanceAdapter implements ArchitectureGovernancePort
             .filter(p -> !shouldSkipTemplateBecauseWebNotSelected(p, webSelected))
             .toList();
 
-    List<GeneratedResource> generated = new ArrayList<>(renderableTemplates.size());
-
-    for (String fullTemplatePath : renderableTemplates) {
-      String relativeUnderRoot = fullTemplatePath.substring(templateRoot.length() + 1);
-      String javaRelative = stripSuffix(relativeUnderRoot);
+    return renderableTemplates.stream()
+        .<Supplier<GeneratedResource>>map(
+            fullTemplatePath -> () -> render(templateRoot, fullTemplatePath, outBase, model))
+        .toList();
+  }
 
-      Path outPath = outBase.resolve(javaRelative);
-      generated.add(renderer.renderUtf8(outPath, fullTemplatePath, model));
-    }
+  private GeneratedResource render(
+      String templateRoot, String fullTemplatePath, Path outBase, Map<String, Object> model) {
+    String relativeUnderRoot = fullTemplatePath.substring(templateRoot.length() + 1);
+    String javaRelative = stripSuffix(relativeUnderRoot);
 
-    return List.copyOf(generated);
+    Path outPath = outBase.resolve(javaRelative);
+    return renderer.renderUtf8(outPath, fullTemplatePath, model);
   }
 
   private boolean shouldSkipTemplateBecauseWebNotSelected(
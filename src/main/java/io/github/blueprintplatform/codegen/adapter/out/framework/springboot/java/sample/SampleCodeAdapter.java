@@ -4,6 +4,7 @@ import io.github.blueprintplatform.codegen.adapter.error.exception.sample.Sample
 import io.github.blueprintplatform.codegen.adapter.error.exception.templating.SampleCodeTemplatesScanException;
 import io.github.blueprintplatform.codegen.adapter.error.exception.templating.TemplateScanException;
 import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ArtifactSpec;
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
 import io.github.blueprintplatform.codegen.adapter.out.shared.templating.FtlClasspathTemplateScanner;
 import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateRenderer;
 import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactKey;
@@ -15,9 +16,10 @@ import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeL
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class SampleCodeAdapter implements SampleCodePort {
 
@@ -38,14 +40,24 @@ public class SampleCodeAdapter implements SampleCodePort {
   private final TemplateRenderer renderer;
   private final ArtifactSpec artifactSpec;
   private final FtlClasspathTemplateScanner templateScanner;
+  private final OrderedTaskExecutor taskExecutor;
 
   public SampleCodeAdapter(
       TemplateRenderer renderer,
       ArtifactSpec artifactSpec,
       FtlClasspathTemplateScanner templateScanner) {
+    this(renderer, artifactSpec, templateScanner, OrderedTaskExecutor.sequential());
+  }
+
+  public SampleCodeAdapter(
+      TemplateRenderer renderer,
+      ArtifactSpec artifactSpec,
+      FtlClasspathTemplateScanner templateScanner,
+      OrderedTaskExecutor taskExecutor) {
     this.renderer = renderer;
     this.artifactSpec = artifactSpec;
     this.templateScanner = templateScanner;
+    this.taskExecutor = taskExecutor;
   }
 
   @Override
@@ -55,6 +67,18 @@ public class SampleCodeAdapter implements SampleCodePort {
 
   @Override
   public Iterable<? extends GeneratedResource> generate(ProjectBlueprint blueprint) {
+    List<GeneratedResource> generated = taskExecutor.map(renderTasks(blueprint), Supplier::get);
+    return List.copyOf(generated);
+  }
+
+  @Override
+  public void generate(ProjectBlueprint blueprint, Consumer<? super GeneratedResource> sink) {
+    for (Supplier<GeneratedResource> task : renderTasks(blueprint)) {
+      sink.accept(task.get());
+    }
+  }
+
+  private List<Supplier<GeneratedResource>> renderTasks(ProjectBlueprint blueprint) {
     SampleCodeLevel level = blueprint.getArchitecture().sampleCodeOptions().level();
     ProjectLayout layout = blueprint.getArchitecture().layout();
 
@@ -73,25 +97,27 @@ public class SampleCodeAdapter implements SampleCodePort {
     String packagePath = pkg.value().replace('.', '/');
 
     Map<String, Object> model = Map.of(MODEL_KEY_PROJECT_PACKAGE_NAME, pkg.value());
-    List<GeneratedResource> generated = new ArrayList<>();
 
-    for (String fullTemplatePath : templatePaths) {
-      if (!fullTemplatePath.endsWith(JAVA_FTL_SUFFIX)) {
-        continue;
-      }
+    List<String> renderableTemplates =
+        templatePaths.stream().filter(p -> p.endsWith(JAVA_FTL_SUFFIX)).toList();
 
-      String relativeUnderRoot = fullTemplatePath.substring(templateRoot.length() + 1);
+    return renderableTemplates.stream()
+        .<Supplier<GeneratedResource>>map(
+            fullTemplatePath -> () -> render(templateRoot, fullTemplatePath, packagePath, model))
+        .toList();
+  }
 
-      String srcRoot = resolveSourceRoot(relativeUnderRoot);
-      String relativeForJava = stripChannelPrefix(relativeUnderRoot);
+  private GeneratedResource render(
+      String templateRoot, String fullTemplatePath, String packagePath, Map<String, Object> model) {
+    String relativeUnderRoot = fullTemplatePath.substring(templateRoot.length() + 1);
 
-      String javaRelative = stripSuffix(relativeForJava);
+    String srcRoot = resolveSourceRoot(relativeUnderRoot);
+    String relativeForJava = stripChannelPrefix(relativeUnderRoot);
 
-      Path outPath = Paths.get(srcRoot).resolve(packagePath).resolve(javaRelative);
-      generated.add(renderer.renderUtf8(outPath, fullTemplatePath, model));
-    }
+    String javaRelative = stripSuffix(relativeForJava);
 
-    return List.copyOf(generated);
+    Path outPath = Paths.get(srcRoot).resolve(packagePath).resolve(javaRelative);
+    return renderer.renderUtf8(outPath, fullTemplatePath, model);
   }
 
   private String resolveSourceRoot(String relativeUnderRoot) {
@@ -5,12 +5,20 @@ import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifacts
 import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsSelector;
 import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+/**
+ * Selects the artifacts pipeline of a profile by its tech stack key. Each pipeline is built by its
+ * supplier on first selection and reused afterwards, so only the profiles actually requested are
+ * ever built.
+ */
 public class ProfileBasedArtifactsSelector implements ProjectArtifactsSelector {
 
-  private final Map<String, ProjectArtifactsPort> registry;
+  private final Map<String, Supplier<ProjectArtifactsPort>> registry;
+  private final Map<String, ProjectArtifactsPort> built = new ConcurrentHashMap<>();
 
-  public ProfileBasedArtifactsSelector(Map<String, ProjectArtifactsPort> registry) {
+  public ProfileBasedArtifactsSelector(Map<String, Supplier<ProjectArtifactsPort>> registry) {
     this.registry = registry;
   }
 
@@ -18,10 +26,14 @@ public class ProfileBasedArtifactsSelector implements ProjectArtifactsSelector {
   public ProjectArtifactsPort select(TechStack options) {
     String key = TechStackProfileKey.from(options);
 
-    ProjectArtifactsPort port = registry.get(key);
-    if (port == null) {
+    ProjectArtifactsPort port = built.get(key);
+    if (port != null) {
+      return port;
+    }
+    Supplier<ProjectArtifactsPort> factory = registry.get(key);
+    if (factory == null) {
       throw new ArtifactsPortNotFoundException(key);
     }
-    return port;
+    return built.computeIfAbsent(key, k -> factory.get());
   }
 }
@@ -3,6 +3,7 @@ package io.github.blueprintplatform.codegen.adapter.out.profile.springboot.maven
 import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ArtifactPipelineExecutor;
 import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsPort;
 import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactPort;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
 import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
 import java.util.List;
@@ -22,4 +23,10 @@ public class SpringBootMavenJavaArtifactsAdapter implements ProjectArtifactsPort
   public Iterable<? extends GeneratedResource> generate(ProjectBlueprint blueprint) {
     return artifactPipelineExecutor.execute(artifacts, blueprint);
   }
+
+  @Override
+  public Iterable<? extends GeneratedResource> generate(
+      ProjectBlueprint blueprint, GenerationListener listener) {
+    return artifactPipelineExecutor.execute(artifacts, blueprint, listener);
+  }
 }
@@ -2,6 +2,7 @@ package io.github.blueprintplatform.codegen.adapter.out.profile.springboot.maven
 
 import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.AbstractMultiTemplateArtifactAdapter;
 import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ArtifactSpec;
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
 import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateRenderer;
 import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactKey;
 import io.github.blueprintplatform.codegen.application.port.out.artifact.BuildToolFilesPort;
@@ -13,6 +14,11 @@ public class MavenWrapperBuildToolFilesAdapter extends AbstractMultiTemplateArti
     super(renderer, artifactSpec);
   }
 
+  public MavenWrapperBuildToolFilesAdapter(
+      TemplateRenderer renderer, ArtifactSpec artifactSpec, OrderedTaskExecutor taskExecutor) {
+    super(renderer, artifactSpec, taskExecutor);
+  }
+
   @Override
   public ArtifactKey artifactKey() {
     return ArtifactKey.BUILD_TOOL_FILES;
@@ -1,24 +1,32 @@
 package io.github.blueprintplatform.codegen.adapter.out.shared.artifact;
 
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
 import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateRenderer;
 import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactPort;
 import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 public abstract class AbstractMultiTemplateArtifactAdapter implements ArtifactPort {
 
   private final TemplateRenderer renderer;
   private final ArtifactSpec artifactSpec;
+  private final OrderedTaskExecutor taskExecutor;
 
   protected AbstractMultiTemplateArtifactAdapter(
       TemplateRenderer renderer, ArtifactSpec artifactSpec) {
+    this(renderer, artifactSpec, OrderedTaskExecutor.sequential());
+  }
+
+  protected AbstractMultiTemplateArtifactAdapter(
+      TemplateRenderer renderer, ArtifactSpec artifactSpec, OrderedTaskExecutor taskExecutor) {
     this.renderer = renderer;
     this.artifactSpec = artifactSpec;
+    this.taskExecutor = taskExecutor;
   }
 
   @Override
@@ -27,16 +35,27 @@ public abstract class AbstractMultiTemplateArtifactAdapter implements ArtifactPo
 
     Map<String, Object> model = buildModel(blueprint);
 
-    List<GeneratedResource> files = new ArrayList<>(templates.size());
-    for (TemplateSpec templateSpec : templates) {
-      Path outPath = Path.of(templateSpec.outputPath());
-      String templateResourcePath = artifactSpec.basePath() + templateSpec.template();
-      files.add(renderer.renderUtf8(outPath, templateResourcePath, model));
-    }
+    List<GeneratedResource> files =
+        taskExecutor.map(templates, templateSpec -> render(templateSpec, model));
 
     return List.copyOf(files);
   }
 
+  @Override
+  public final void generate(ProjectBlueprint blueprint, Consumer<? super GeneratedResource> sink) {
+    Map<String, Object> model = buildModel(blueprint);
+
+    for (TemplateSpec templateSpec : artifactSpec.templates()) {
+      sink.accept(render(templateSpec, model));
+    }
+  }
+
+  private GeneratedResource render(TemplateSpec templateSpec, Map<String, Object> model) {
+    Path outPath = Path.of(templateSpec.outputPath());
+    String templateResourcePath = artifactSpec.basePath() + templateSpec.template();
+    return renderer.renderUtf8(outPath, templateResourcePath, model);
+  }
+
   protected Map<String, Object> buildModel(ProjectBlueprint blueprint) {
     Objects.requireNonNull(blueprint, "blueprint");
     return Map.of();
@@ -1,18 +1,103 @@
 package io.github.blueprintplatform.codegen.adapter.out.shared.artifact;
 
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.ArtifactGenerationEvent;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.GenerationObservation;
 import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactPort;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
 import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.StreamSupport;
 
 public final class ArtifactPipelineExecutor {
 
+  private static final int MATERIALIZED = 0;
+
+  private final OrderedTaskExecutor taskExecutor;
+  private final int streamBufferSize;
+
+  public ArtifactPipelineExecutor() {
+    this(OrderedTaskExecutor.sequential());
+  }
+
+  public ArtifactPipelineExecutor(OrderedTaskExecutor taskExecutor) {
+    this(taskExecutor, MATERIALIZED);
+  }
+
+  private ArtifactPipelineExecutor(OrderedTaskExecutor taskExecutor, int streamBufferSize) {
+    this.taskExecutor = taskExecutor;
+    this.streamBufferSize = streamBufferSize;
+  }
+
+  /**
+   * Creates an executor that renders on a background thread and hands resources to the consumer
+   * through a queue holding at most {@code bufferSize} resources.
+   */
+  public static ArtifactPipelineExecutor streaming(int bufferSize) {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("bufferSize must be >= 1 but was " + bufferSize);
+    }
+    return new ArtifactPipelineExecutor(OrderedTaskExecutor.sequential(), bufferSize);
+  }
+
+  public boolean isStreaming() {
+    return streamBufferSize != MATERIALIZED;
+  }
+
   public Iterable<? extends GeneratedResource> execute(
       List<ArtifactPort> artifacts, ProjectBlueprint blueprint) {
+    return execute(artifacts, blueprint, GenerationListener.NONE);
+  }
+
+  /**
+   * Executes the pipeline with {@code listener} bound as the current {@link GenerationObservation},
+   * reporting each artifact once it has been generated.
+   */
+  public Iterable<? extends GeneratedResource> execute(
+      List<ArtifactPort> artifacts, ProjectBlueprint blueprint, GenerationListener listener) {
+
+    if (isStreaming()) {
+      return new BoundedResourceStream(artifacts, blueprint, streamBufferSize, listener);
+    }
+
+    try (GenerationObservation.Scope ignored = GenerationObservation.bind(listener)) {
+      return taskExecutor.map(artifacts, p -> generate(p, blueprint, listener)).stream()
+          .flatMap(generated -> StreamSupport.stream(generated.spliterator(), false))
+          .toList();
+    }
+  }
+
+  private static Iterable<? extends GeneratedResource> generate(
+      ArtifactPort artifact, ProjectBlueprint blueprint, GenerationListener listener) {
+    ArtifactGenerationEvent event = new ArtifactGenerationEvent();
+    if (listener == GenerationListener.NONE && !event.isEnabled()) {
+      return artifact.generate(blueprint);
+    }
+    long start = System.nanoTime();
+    event.begin();
+    Iterable<? extends GeneratedResource> generated = artifact.generate(blueprint);
+    event.end();
+    listener.artifactCompleted(
+        artifact.artifactKey().key(), Duration.ofNanos(System.nanoTime() - start));
+    if (event.shouldCommit()) {
+      event.artifactKey = artifact.artifactKey().key();
+      event.resources = count(generated);
+      event.commit();
+    }
+    return generated;
+  }
 
-    return artifacts.stream()
-        .flatMap(p -> StreamSupport.stream(p.generate(blueprint).spliterator(), false))
-        .toList();
+  private static int count(Iterable<? extends GeneratedResource> generated) {
+    if (generated instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    int count = 0;
+    for (GeneratedResource ignored : generated) {
+      count++;
+    }
+    return count;
   }
 }
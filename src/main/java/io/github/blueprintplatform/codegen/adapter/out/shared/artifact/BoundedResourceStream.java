@@ -0,0 +1,184 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.artifact;
+
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.ArtifactGenerationEvent;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.GenerationObservation;
+import io.github.blueprintplatform.codegen.application.port.out.StreamedResources;
+import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactPort;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Renders artifacts on a producer thread and hands resources to the consumer through a bounded
+ * queue. At most {@code capacity} rendered resources are held in memory at any time; the producer
+ * blocks while the consumer (typically the project writer) catches up.
+ *
+ * <p>The producer reports each artifact to the {@link GenerationListener} and as an {@link
+ * ArtifactGenerationEvent}; its duration includes the time spent waiting for queue space.
+ */
+final class BoundedResourceStream implements StreamedResources {
+
+  static final String PRODUCER_THREAD_NAME = "codegen-stream-producer";
+
+  private static final Object END = new Object();
+
+  private final List<ArtifactPort> artifacts;
+  private final ProjectBlueprint blueprint;
+  private final GenerationListener listener;
+  private final BlockingQueue<Object> queue;
+  private final AtomicBoolean started = new AtomicBoolean();
+
+  private volatile boolean closed;
+  private volatile Thread producer;
+
+  private int emitted;
+
+  BoundedResourceStream(List<ArtifactPort> artifacts, ProjectBlueprint blueprint, int capacity) {
+    this(artifacts, blueprint, capacity, GenerationListener.NONE);
+  }
+
+  BoundedResourceStream(
+      List<ArtifactPort> artifacts,
+      ProjectBlueprint blueprint,
+      int capacity,
+      GenerationListener listener) {
+    this.artifacts = List.copyOf(artifacts);
+    this.blueprint = blueprint;
+    this.listener = listener;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  @Override
+  public Iterator<GeneratedResource> iterator() {
+    if (!started.compareAndSet(false, true)) {
+      throw new IllegalStateException("Streamed resources can only be iterated once");
+    }
+    producer = Thread.ofPlatform().name(PRODUCER_THREAD_NAME).daemon().start(this::produce);
+    return new QueueIterator();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    Thread t = producer;
+    if (t != null) {
+      t.interrupt();
+    }
+    queue.clear();
+  }
+
+  private void produce() {
+    try (GenerationObservation.Scope ignored = GenerationObservation.bind(listener)) {
+      for (ArtifactPort artifact : artifacts) {
+        ArtifactGenerationEvent event = new ArtifactGenerationEvent();
+        long start = System.nanoTime();
+        event.begin();
+        emitted = 0;
+        artifact.generate(blueprint, this::emit);
+        event.end();
+        listener.artifactCompleted(
+            artifact.artifactKey().key(), Duration.ofNanos(System.nanoTime() - start));
+        if (event.shouldCommit()) {
+          event.artifactKey = artifact.artifactKey().key();
+          event.resources = emitted;
+          event.commit();
+        }
+      }
+      put(END);
+    } catch (CancellationException e) {
+      // consumer closed the stream
+    } catch (RuntimeException | Error e) {
+      if (!closed) {
+        putQuietly(new Failure(e));
+      }
+    }
+  }
+
+  private void emit(GeneratedResource resource) {
+    emitted++;
+    put(resource);
+  }
+
+  private void put(Object element) {
+    if (closed) {
+      throw new CancellationException();
+    }
+    try {
+      queue.put(element);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException();
+    }
+  }
+
+  private void putQuietly(Object element) {
+    try {
+      put(element);
+    } catch (CancellationException ignored) {
+      // consumer closed the stream
+    }
+  }
+
+  private record Failure(Throwable cause) {
+
+    RuntimeException rethrow() {
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      return (RuntimeException) cause;
+    }
+  }
+
+  private final class QueueIterator implements Iterator<GeneratedResource> {
+
+    private GeneratedResource next;
+    private boolean done;
+
+    @Override
+    public boolean hasNext() {
+      if (next == null && !done) {
+        Object element = take();
+        if (element == END) {
+          done = true;
+        } else if (element instanceof Failure failure) {
+          done = true;
+          throw failure.rethrow();
+        } else {
+          next = (GeneratedResource) element;
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public GeneratedResource next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      GeneratedResource resource = next;
+      next = null;
+      return resource;
+    }
+
+    private Object take() {
+      if (closed) {
+        throw new IllegalStateException("Streamed resources are closed");
+      }
+      try {
+        return queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        close();
+        throw new IllegalStateException("Interrupted while waiting for generated resources", e);
+      }
+    }
+  }
+}
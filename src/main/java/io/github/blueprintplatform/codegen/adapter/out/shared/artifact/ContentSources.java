@@ -0,0 +1,61 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.artifact;
+
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.ContentSource;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link ContentSource} implementations for assets that are copied rather than rendered, such as
+ * files on disk or classpath resources.
+ */
+public final class ContentSources {
+
+  private ContentSources() {}
+
+  /** A file on disk; writers may copy it channel to channel. */
+  public static ContentSource ofFile(Path file) {
+    Objects.requireNonNull(file, "file");
+    return new ContentSource() {
+      @Override
+      public InputStream open() throws IOException {
+        return Files.newInputStream(file);
+      }
+
+      @Override
+      public Optional<Path> file() {
+        return Optional.of(file);
+      }
+
+      @Override
+      public String toString() {
+        return "file:" + file;
+      }
+    };
+  }
+
+  /** A classpath resource; opening fails with {@link FileNotFoundException} when it is missing. */
+  public static ContentSource ofClasspath(ClassLoader classLoader, String resourcePath) {
+    Objects.requireNonNull(classLoader, "classLoader");
+    Objects.requireNonNull(resourcePath, "resourcePath");
+    return new ContentSource() {
+      @Override
+      public InputStream open() throws IOException {
+        InputStream in = classLoader.getResourceAsStream(resourcePath);
+        if (in == null) {
+          throw new FileNotFoundException("classpath:" + resourcePath);
+        }
+        return in;
+      }
+
+      @Override
+      public String toString() {
+        return "classpath:" + resourcePath;
+      }
+    };
+  }
+}
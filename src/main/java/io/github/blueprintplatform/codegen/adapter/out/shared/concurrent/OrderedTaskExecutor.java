@@ -0,0 +1,125 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.concurrent;
+
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.GenerationObservation;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Maps a list of inputs to results, either inline on the caller thread or on a bounded {@link
+ * ForkJoinPool}. Results are always returned in input order, so callers keep a deterministic output
+ * regardless of the execution mode.
+ *
+ * <p>Nested calls (for example an artifact rendering its templates while the pipeline renders
+ * artifacts) join on the same pool, which work-steals instead of blocking a worker. Tasks run with
+ * the caller's {@link GenerationObservation} bound.
+ */
+public final class OrderedTaskExecutor implements AutoCloseable {
+
+  private static final String WORKER_NAME_PREFIX = "codegen-render-";
+
+  private static final OrderedTaskExecutor SEQUENTIAL = new OrderedTaskExecutor(null);
+
+  private final ForkJoinPool pool;
+
+  private OrderedTaskExecutor(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  public static OrderedTaskExecutor sequential() {
+    return SEQUENTIAL;
+  }
+
+  public static OrderedTaskExecutor forkJoin(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be >= 1 but was " + parallelism);
+    }
+    AtomicInteger workerIndex = new AtomicInteger();
+    ForkJoinPool.ForkJoinWorkerThreadFactory workers =
+        p -> {
+          ForkJoinWorkerThread thread =
+              ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+          thread.setName(WORKER_NAME_PREFIX + workerIndex.incrementAndGet());
+          return thread;
+        };
+    return new OrderedTaskExecutor(new ForkJoinPool(parallelism, workers, null, false));
+  }
+
+  public boolean isParallel() {
+    return pool != null;
+  }
+
+  public int parallelism() {
+    return pool == null ? 1 : pool.getParallelism();
+  }
+
+  public <T, R> List<R> map(List<? extends T> items, Function<? super T, ? extends R> task) {
+    if (pool == null || items.size() < 2) {
+      List<R> results = new ArrayList<>(items.size());
+      for (T item : items) {
+        results.add(task.apply(item));
+      }
+      return results;
+    }
+
+    GenerationListener listener = GenerationObservation.current();
+    List<OrderedTask<T, R>> tasks = new ArrayList<>(items.size());
+    for (T item : items) {
+      tasks.add(new OrderedTask<>(item, task, listener));
+    }
+
+    if (ForkJoinTask.getPool() == pool) {
+      ForkJoinTask.invokeAll(tasks);
+    } else {
+      pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    List<R> results = new ArrayList<>(tasks.size());
+    for (OrderedTask<T, R> t : tasks) {
+      if (t.failure != null) {
+        throw t.failure;
+      }
+      results.add(t.result);
+    }
+    return results;
+  }
+
+  @Override
+  public void close() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  private static final class OrderedTask<T, R> extends RecursiveAction {
+
+    private final transient T item;
+    private final transient Function<? super T, ? extends R> task;
+    private final transient GenerationListener listener;
+
+    private transient R result;
+    private transient RuntimeException failure;
+
+    private OrderedTask(
+        T item, Function<? super T, ? extends R> task, GenerationListener listener) {
+      this.item = item;
+      this.task = task;
+      this.listener = listener;
+    }
+
+    @Override
+    protected void compute() {
+      try (GenerationObservation.Scope ignored = GenerationObservation.bind(listener)) {
+        result = task.apply(item);
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.observation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ArchiveEntryEvent.NAME)
+@Label("Archive Entry")
+@Category({"Codegen Blueprint", "Output"})
+@Description("Writing of one file entry into the project archive")
+@StackTrace(false)
+public final class ArchiveEntryEvent extends Event {
+
+  public static final String NAME = "io.github.blueprintplatform.codegen.ArchiveEntry";
+
+  @Label("Entry")
+  public String entry;
+
+  @Label("Size")
+  @Description("Uncompressed size of the entry")
+  @DataAmount
+  public long bytes;
+}
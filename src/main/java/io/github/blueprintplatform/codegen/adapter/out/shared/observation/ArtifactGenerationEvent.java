@@ -0,0 +1,25 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.observation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ArtifactGenerationEvent.NAME)
+@Label("Artifact Generation")
+@Category({"Codegen Blueprint", "Generation"})
+@Description("Generation of one artifact of the profile pipeline")
+@StackTrace(false)
+public final class ArtifactGenerationEvent extends Event {
+
+  public static final String NAME = "io.github.blueprintplatform.codegen.ArtifactGeneration";
+
+  @Label("Artifact Key")
+  public String artifactKey;
+
+  @Label("Resources")
+  @Description("Number of resources the artifact generated")
+  public int resources;
+}
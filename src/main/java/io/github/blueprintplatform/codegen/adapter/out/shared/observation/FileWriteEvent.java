@@ -0,0 +1,31 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.observation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(FileWriteEvent.NAME)
+@Label("Project File Write")
+@Category({"Codegen Blueprint", "Output"})
+@Description("Writing of one generated file into the project directory")
+@StackTrace(false)
+public final class FileWriteEvent extends Event {
+
+  public static final String NAME = "io.github.blueprintplatform.codegen.FileWrite";
+
+  @Label("Path")
+  @Description("Path relative to the project root")
+  public String path;
+
+  @Label("Size")
+  @DataAmount
+  public long bytes;
+
+  @Label("Unchanged")
+  @Description("Incremental run found the content unchanged and left the file alone")
+  public boolean unchanged;
+}
@@ -0,0 +1,41 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.observation;
+
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+
+/**
+ * The {@link GenerationListener} of the generation running on the current thread.
+ *
+ * <p>The artifact pipeline binds the listener for the duration of a generation, so adapters deep in
+ * the pipeline (such as the template renderer) can report to it without threading it through every
+ * call. Worker threads rendering on behalf of a generation bind the same listener.
+ */
+public final class GenerationObservation {
+
+  private static final ThreadLocal<GenerationListener> CURRENT = new ThreadLocal<>();
+
+  private GenerationObservation() {}
+
+  public static GenerationListener current() {
+    GenerationListener bound = CURRENT.get();
+    return bound != null ? bound : GenerationListener.NONE;
+  }
+
+  /** Binds a listener to the current thread until the returned scope is closed. */
+  public static Scope bind(GenerationListener listener) {
+    GenerationListener previous = CURRENT.get();
+    CURRENT.set(listener);
+    return () -> {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    };
+  }
+
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
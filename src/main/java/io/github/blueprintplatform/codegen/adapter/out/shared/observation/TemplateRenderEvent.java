@@ -0,0 +1,30 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.observation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(TemplateRenderEvent.NAME)
+@Label("Template Render")
+@Category({"Codegen Blueprint", "Generation"})
+@Description("Rendering of one FreeMarker template")
+@StackTrace(false)
+public final class TemplateRenderEvent extends Event {
+
+  public static final String NAME = "io.github.blueprintplatform.codegen.TemplateRender";
+
+  @Label("Template Path")
+  public String templatePath;
+
+  @Label("Output Path")
+  public String outputPath;
+
+  @Label("Size")
+  @Description("Rendered size in bytes, or -1 when not known up front")
+  @DataAmount
+  public long bytes;
+}
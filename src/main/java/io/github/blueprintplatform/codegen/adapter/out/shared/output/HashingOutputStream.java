@@ -0,0 +1,61 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Forwards every byte to one or more targets while counting it and feeding a SHA-256 digest, so a
+ * single pass over the content can write several copies and describe them. Closing it does not
+ * close the targets.
+ */
+public final class HashingOutputStream extends OutputStream {
+
+  private static final String SHA_256 = "SHA-256";
+
+  private final OutputStream[] targets;
+  private final MessageDigest digest;
+  private long size;
+
+  public HashingOutputStream(OutputStream... targets) {
+    this.targets = targets.clone();
+    this.digest = newSha256();
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    for (OutputStream target : targets) {
+      target.write(b);
+    }
+    digest.update((byte) b);
+    size++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    for (OutputStream target : targets) {
+      target.write(b, off, len);
+    }
+    digest.update(b, off, len);
+    size += len;
+  }
+
+  public long size() {
+    return size;
+  }
+
+  /** Completes the digest; call once, after the content has been written. */
+  public String sha256() {
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance(SHA_256);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(SHA_256 + " is required by every Java platform", e);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.output;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A file written under a temporary name next to its target and renamed into place only once it is
+ * complete, so readers never see a partial file and a failed write leaves the previous one alone.
+ * Closing it without {@link #publish(boolean)} closes the stream and deletes the temporary file.
+ */
+public final class PendingFile implements Closeable {
+
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final Path target;
+  private final Path temp;
+  private OutputStream out;
+  private boolean published;
+
+  private PendingFile(Path target, Path temp) {
+    this.target = target;
+    this.temp = temp;
+  }
+
+  /** Creates the parent directories of {@code target} and an empty temporary file beside it. */
+  public static PendingFile beside(Path target) throws IOException {
+    Path parent = target.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    return new PendingFile(
+        target, Files.createTempFile(parent, "." + target.getFileName(), TEMP_SUFFIX));
+  }
+
+  /** The stream to write the content to; it is closed with this file if the caller does not. */
+  public OutputStream open() throws IOException {
+    out = Files.newOutputStream(temp);
+    return out;
+  }
+
+  /**
+   * Renames the temporary file over the target. Both are in the same directory, so the rename is
+   * atomic. Without {@code overwrite} an existing target is kept and a {@link
+   * java.nio.file.FileAlreadyExistsException} is thrown.
+   */
+  public void publish(boolean overwrite) throws IOException {
+    if (out != null) {
+      out.close();
+    }
+    if (overwrite) {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    } else {
+      Files.move(temp, target);
+    }
+    published = true;
+  }
+
+  @Override
+  public void close() {
+    if (published) {
+      return;
+    }
+    try {
+      if (out != null) {
+        out.close();
+      }
+    } catch (IOException e) {
+      // Best effort: the write already failed, and that failure is the one to report.
+    }
+    try {
+      Files.deleteIfExists(temp);
+    } catch (IOException e) {
+      // Same as above.
+    }
+  }
+}
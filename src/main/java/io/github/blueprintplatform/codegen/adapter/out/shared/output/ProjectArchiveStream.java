@@ -0,0 +1,188 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.output;
+
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.ArchiveEntryEvent;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * Builds a project archive entry by entry. Every entry lives under a single root folder, and each
+ * directory gets its own entry the first time it is seen, matching the layout of an archived
+ * project directory. Closing the stream finishes the archive and closes the underlying target;
+ * {@link #abort()} closes the target without finishing it.
+ */
+public abstract sealed class ProjectArchiveStream implements Closeable
+    permits ProjectZipWriter, ProjectTarGzWriter {
+
+  private static final String ZIP_EXTENSION = ".zip";
+  private static final String TAR_GZ_EXTENSION = ".tar.gz";
+
+  protected static final char SEPARATOR = '/';
+  protected static final int BUFFER_SIZE = 64 * 1024;
+
+  private final String rootPrefix;
+  private final OutputStream target;
+  private final Set<String> directories = new HashSet<>();
+
+  protected ProjectArchiveStream(String rootName, OutputStream target) {
+    this.rootPrefix = rootName + SEPARATOR;
+    this.target = target;
+  }
+
+  public static ProjectArchiveStream open(
+      ArchiveFormat format, String rootName, OutputStream target) throws IOException {
+    return open(format, rootName, target, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  public static ProjectArchiveStream open(
+      ArchiveFormat format, String rootName, OutputStream target, int compressionLevel)
+      throws IOException {
+    return switch (format) {
+      case ZIP -> ProjectZipWriter.deflated(rootName, target, compressionLevel);
+      case ZIP_STORED -> ProjectZipWriter.stored(rootName, target);
+      case TAR_GZ -> new ProjectTarGzWriter(rootName, target, compressionLevel);
+      case NONE -> throw new IllegalArgumentException("No archive stream for format " + format);
+    };
+  }
+
+  /** File name of an archive of {@code baseName} in {@code format}, e.g. {@code demo.tar.gz}. */
+  public static String fileName(String baseName, ArchiveFormat format) {
+    return switch (format) {
+      case ZIP, ZIP_STORED -> baseName + ZIP_EXTENSION;
+      case TAR_GZ -> baseName + TAR_GZ_EXTENSION;
+      case NONE -> throw new IllegalArgumentException("No archive file for format " + format);
+    };
+  }
+
+  public void directory(Path relativePath) throws IOException {
+    directoryWithParents(toEntryPath(relativePath));
+  }
+
+  /**
+   * Starts a file entry; closing the returned stream ends the entry. While a flight recording is
+   * running, each entry is recorded as an {@link ArchiveEntryEvent}.
+   */
+  public OutputStream openEntry(Path relativePath) throws IOException {
+    String relative = toEntryPath(relativePath);
+    int lastSeparator = relative.lastIndexOf(SEPARATOR);
+    if (lastSeparator > 0) {
+      directoryWithParents(relative.substring(0, lastSeparator));
+    }
+    String entryName = rootPrefix + relative;
+    ArchiveEntryEvent event = new ArchiveEntryEvent();
+    if (!event.isEnabled()) {
+      return putFile(entryName, relativePath);
+    }
+    event.begin();
+    event.entry = entryName;
+    return new RecordedEntry(putFile(entryName, relativePath), event);
+  }
+
+  /**
+   * Gives up on a failed archive: the target is closed as it is, without the zip central directory
+   * or the tar and gzip trailers, so a consumer sees a truncated archive rather than a valid one
+   * that silently lacks entries. Compressed bytes still buffered are dropped.
+   */
+  public void abort() {
+    try {
+      target.close();
+    } catch (IOException e) {
+      // The archive already failed; that failure is the one to report.
+    }
+  }
+
+  /** Writes the entry for the root folder; subclasses call it once their target is ready. */
+  protected final void rootDirectory() throws IOException {
+    directoryEntry("");
+  }
+
+  protected abstract void putDirectory(String entryName) throws IOException;
+
+  protected abstract OutputStream putFile(String entryName, Path relativePath) throws IOException;
+
+  private void directoryWithParents(String relative) throws IOException {
+    if (relative.isEmpty() || directories.contains(relative)) {
+      return;
+    }
+    int lastSeparator = relative.lastIndexOf(SEPARATOR);
+    if (lastSeparator > 0) {
+      directoryWithParents(relative.substring(0, lastSeparator));
+    }
+    directoryEntry(relative);
+  }
+
+  private void directoryEntry(String relative) throws IOException {
+    if (!directories.add(relative)) {
+      return;
+    }
+    putDirectory(relative.isEmpty() ? rootPrefix : rootPrefix + relative + SEPARATOR);
+  }
+
+  private static String toEntryPath(Path relativePath) {
+    String rel = relativePath.normalize().toString();
+    String fsSep = relativePath.getFileSystem().getSeparator();
+    if (!fsSep.equals(String.valueOf(SEPARATOR))) {
+      rel = rel.replace(fsSep, String.valueOf(SEPARATOR));
+    }
+    return rel;
+  }
+
+  /** Counts the bytes of an entry and commits its event when the entry is closed. */
+  private static final class RecordedEntry extends FilterOutputStream {
+
+    private final ArchiveEntryEvent event;
+    private long bytes;
+    private boolean closed;
+
+    private RecordedEntry(OutputStream entry, ArchiveEntryEvent event) {
+      super(entry);
+      this.event = event;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      bytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      bytes += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      out.close();
+      event.bytes = bytes;
+      event.commit();
+    }
+  }
+
+  /** Collects an entry in memory, for formats that need its size or checksum before the content. */
+  protected abstract static class BufferedEntry extends ByteArrayOutputStream {
+
+    private boolean closed;
+
+    @Override
+    public void close() throws IOException {
+      if (!closed) {
+        closed = true;
+        complete(buf, count);
+      }
+    }
+
+    protected abstract void complete(byte[] content, int length) throws IOException;
+  }
+}
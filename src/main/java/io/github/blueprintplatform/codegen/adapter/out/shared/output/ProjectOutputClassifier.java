@@ -0,0 +1,41 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.output;
+
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+
+/** Flags generated files as binary or executable from their file name alone. */
+public final class ProjectOutputClassifier {
+
+  private static final Set<String> EXECUTABLE_FILE_NAMES = Set.of("mvnw", "gradlew");
+  private static final Set<String> EXECUTABLE_EXTENSIONS = Set.of("sh", "cmd", "bat");
+  private static final Set<String> BINARY_EXTENSIONS =
+      Set.of("jar", "zip", "png", "jpg", "jpeg", "gif", "pdf", "ico");
+
+  private ProjectOutputClassifier() {}
+
+  public static ProjectOutputItem classify(Path relativePath) {
+    return classify(relativePath, ProjectOutputItem.UNKNOWN_SIZE, null);
+  }
+
+  public static ProjectOutputItem classify(Path relativePath, long size, String sha256) {
+    String name = fileNameLower(relativePath);
+    String extension = extension(name);
+    boolean binary = BINARY_EXTENSIONS.contains(extension);
+    boolean executable =
+        EXECUTABLE_FILE_NAMES.contains(name) || EXECUTABLE_EXTENSIONS.contains(extension);
+    return new ProjectOutputItem(relativePath, binary, executable, size, sha256);
+  }
+
+  private static String extension(String name) {
+    int dot = name.lastIndexOf('.');
+    return dot < 0 ? "" : name.substring(dot + 1);
+  }
+
+  private static String fileNameLower(Path relativePath) {
+    Path fileName = relativePath.getFileName();
+    String raw = fileName != null ? fileName.toString() : relativePath.toString();
+    return raw.toLowerCase(Locale.ROOT);
+  }
+}
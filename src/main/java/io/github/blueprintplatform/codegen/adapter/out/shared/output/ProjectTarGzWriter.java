@@ -0,0 +1,68 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.output;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipParameters;
+
+/**
+ * Gzip-compressed tar flavour of {@link ProjectArchiveStream}. Entries carry POSIX modes so that
+ * wrapper scripts such as {@code mvnw} stay executable after extraction; file entries are buffered
+ * because the tar header needs their size up front.
+ */
+public final class ProjectTarGzWriter extends ProjectArchiveStream {
+
+  private static final int DIRECTORY_MODE = 040755;
+  private static final int FILE_MODE = 0100644;
+  private static final int EXECUTABLE_MODE = 0100755;
+
+  private final TarArchiveOutputStream tar;
+
+  /** Closing this writer closes {@code target}. */
+  public ProjectTarGzWriter(String rootName, OutputStream target, int compressionLevel)
+      throws IOException {
+    super(rootName, target);
+    GzipParameters gzip = new GzipParameters();
+    gzip.setCompressionLevel(compressionLevel);
+    this.tar =
+        new TarArchiveOutputStream(
+            new GzipCompressorOutputStream(new BufferedOutputStream(target, BUFFER_SIZE), gzip));
+    this.tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+    this.tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+    rootDirectory();
+  }
+
+  @Override
+  public void close() throws IOException {
+    tar.close();
+  }
+
+  @Override
+  protected void putDirectory(String entryName) throws IOException {
+    TarArchiveEntry entry = new TarArchiveEntry(entryName);
+    entry.setMode(DIRECTORY_MODE);
+    tar.putArchiveEntry(entry);
+    tar.closeArchiveEntry();
+  }
+
+  @Override
+  protected OutputStream putFile(String entryName, Path relativePath) {
+    int mode =
+        ProjectOutputClassifier.classify(relativePath).executable() ? EXECUTABLE_MODE : FILE_MODE;
+    return new BufferedEntry() {
+      @Override
+      protected void complete(byte[] content, int length) throws IOException {
+        TarArchiveEntry entry = new TarArchiveEntry(entryName);
+        entry.setMode(mode);
+        entry.setSize(length);
+        tar.putArchiveEntry(entry);
+        tar.write(content, 0, length);
+        tar.closeArchiveEntry();
+      }
+    };
+  }
+}
@@ -0,0 +1,93 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.output;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Zip flavour of {@link ProjectArchiveStream}. Deflated entries stream straight through; stored
+ * entries are buffered because the zip header needs their size and CRC up front.
+ */
+public final class ProjectZipWriter extends ProjectArchiveStream {
+
+  private final ZipOutputStream zip;
+  private final boolean stored;
+
+  private ProjectZipWriter(
+      String rootName, OutputStream target, int compressionLevel, boolean stored)
+      throws IOException {
+    super(rootName, target);
+    this.zip = new ZipOutputStream(new BufferedOutputStream(target, BUFFER_SIZE));
+    this.zip.setLevel(compressionLevel);
+    this.stored = stored;
+    rootDirectory();
+  }
+
+  /** Closing the writer closes {@code target}. */
+  public static ProjectZipWriter deflated(
+      String rootName, OutputStream target, int compressionLevel) throws IOException {
+    return new ProjectZipWriter(rootName, target, compressionLevel, false);
+  }
+
+  public static ProjectZipWriter stored(String rootName, OutputStream target) throws IOException {
+    return new ProjectZipWriter(rootName, target, Deflater.DEFAULT_COMPRESSION, true);
+  }
+
+  @Override
+  public void close() throws IOException {
+    zip.close();
+  }
+
+  @Override
+  protected void putDirectory(String entryName) throws IOException {
+    ZipEntry entry = new ZipEntry(entryName);
+    if (stored) {
+      storedEntry(entry, 0, 0L);
+    }
+    zip.putNextEntry(entry);
+    zip.closeEntry();
+  }
+
+  @Override
+  protected OutputStream putFile(String entryName, Path relativePath) throws IOException {
+    if (stored) {
+      return new BufferedEntry() {
+        @Override
+        protected void complete(byte[] content, int length) throws IOException {
+          CRC32 crc = new CRC32();
+          crc.update(content, 0, length);
+          ZipEntry entry = new ZipEntry(entryName);
+          storedEntry(entry, length, crc.getValue());
+          zip.putNextEntry(entry);
+          zip.write(content, 0, length);
+          zip.closeEntry();
+        }
+      };
+    }
+    zip.putNextEntry(new ZipEntry(entryName));
+    return new FilterOutputStream(zip) {
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void close() throws IOException {
+        zip.closeEntry();
+      }
+    };
+  }
+
+  private static void storedEntry(ZipEntry entry, long size, long crc) {
+    entry.setMethod(ZipEntry.STORED);
+    entry.setSize(size);
+    entry.setCompressedSize(size);
+    entry.setCrc(crc);
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.output;
+
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.ContentSource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.EncodedTextContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedBinaryResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedEncodedTextResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedStreamedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+/** Copies the content of a generated resource into an {@link OutputStream}. */
+public final class ResourceContents {
+
+  private ResourceContents() {}
+
+  public static void copy(GeneratedResource resource, OutputStream out) throws IOException {
+    switch (resource) {
+      case GeneratedTextResource(Path path, String content, Charset charset) ->
+          out.write(content.getBytes(charset));
+      case GeneratedEncodedTextResource(Path path, EncodedTextContent content) ->
+          content.writeTo(out);
+      case GeneratedBinaryResource(Path path, BinaryContent content) -> {
+        ByteBuffer buffer = content.asByteBuffer();
+        WritableByteChannel channel = Channels.newChannel(out);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+      case GeneratedStreamedResource(Path path, ContentSource source) -> {
+        try (InputStream in = source.open()) {
+          in.transferTo(out);
+        }
+      }
+      case GeneratedDirectory directory -> {
+        // directories carry no content
+      }
+    }
+  }
+}
@@ -2,6 +2,8 @@ package io.github.blueprintplatform.codegen.adapter.out.shared.templating;
 
 import io.github.blueprintplatform.codegen.adapter.error.exception.templating.TemplateScanException;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -10,16 +12,48 @@ import java.util.List;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
 
+/**
+ * Lists {@code .ftl} templates under a root below {@code /templates}. When a build-time {@link
+ * TemplateIndex} is available, lookups are answered from it; otherwise the classpath is scanned on
+ * every call, which picks up template changes during development.
+ */
 public class FtlClasspathTemplateScanner {
 
   private static final String TEMPLATES_ROOT_DIR = "templates";
   private static final String PATH_SEPARATOR = "/";
   private static final String FTL_SUFFIX = ".ftl";
+  private static final String CLASSPATH_PREFIX = "classpath:";
 
   private final ResourcePatternResolver resolver;
+  private final TemplateIndex index;
 
   public FtlClasspathTemplateScanner(ResourcePatternResolver resolver) {
+    this(resolver, null);
+  }
+
+  public FtlClasspathTemplateScanner(ResourcePatternResolver resolver, TemplateIndex index) {
     this.resolver = resolver;
+    this.index = index;
+  }
+
+  /**
+   * Creates a scanner backed by {@link TemplateIndex#RESOURCE_PATH} when that resource exists on
+   * the classpath, or a scanning one otherwise.
+   */
+  public static FtlClasspathTemplateScanner indexed(ResourcePatternResolver resolver) {
+    Resource resource = resolver.getResource(CLASSPATH_PREFIX + TemplateIndex.RESOURCE_PATH);
+    if (!resource.exists()) {
+      return new FtlClasspathTemplateScanner(resolver);
+    }
+    try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+      return new FtlClasspathTemplateScanner(resolver, TemplateIndex.read(reader));
+    } catch (IOException e) {
+      throw new TemplateScanException(TemplateIndex.RESOURCE_PATH, e);
+    }
+  }
+
+  public boolean isIndexed() {
+    return index != null;
   }
 
   public List<String> scan(String templateRoot) {
@@ -27,14 +61,27 @@ public class FtlClasspathTemplateScanner {
     if (normalizedRoot.isBlank()) {
       return List.of();
     }
+    if (index != null) {
+      return index.templatesUnder(normalizedRoot);
+    }
+    return scanUnder(normalizedRoot + PATH_SEPARATOR, templateRoot);
+  }
 
+  /** Lists every template on the classpath, relative to the templates root directory. */
+  public List<String> scanAll() {
+    if (index != null) {
+      return index.all();
+    }
+    return scanUnder("", TEMPLATES_ROOT_DIR);
+  }
+
+  private List<String> scanUnder(String rootPrefix, String templateRoot) {
     String pattern =
         "classpath*:"
             + PATH_SEPARATOR
             + TEMPLATES_ROOT_DIR
             + PATH_SEPARATOR
-            + normalizedRoot
-            + PATH_SEPARATOR
+            + rootPrefix
             + "**"
             + PATH_SEPARATOR
             + "*"
@@ -46,8 +93,7 @@ public class FtlClasspathTemplateScanner {
         return List.of();
       }
 
-      String marker =
-          PATH_SEPARATOR + TEMPLATES_ROOT_DIR + PATH_SEPARATOR + normalizedRoot + PATH_SEPARATOR;
+      String marker = PATH_SEPARATOR + TEMPLATES_ROOT_DIR + PATH_SEPARATOR + rootPrefix;
 
       List<String> result = new ArrayList<>(resources.length);
 
@@ -63,7 +109,7 @@ public class FtlClasspathTemplateScanner {
         boolean isFtl = normalizedRelative.endsWith(FTL_SUFFIX);
 
         if (isFtl) {
-          result.add(normalizedRoot + PATH_SEPARATOR + normalizedRelative);
+          result.add(rootPrefix + normalizedRelative);
         }
       }
 
@@ -0,0 +1,110 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.templating;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * In-memory view of the build-time template index ({@value #RESOURCE_PATH}). Template paths are
+ * relative to the templates root directory; every directory prefix is pre-computed so lookups by
+ * template root are a single map access.
+ *
+ * <p>File format: comment lines start with {@code #}, a {@code [dir]} line opens a group, and each
+ * following line is a template file name inside that directory.
+ */
+public final class TemplateIndex {
+
+  public static final String RESOURCE_PATH = "META-INF/codegen/templates.idx";
+
+  private static final String HEADER =
+      "# Generated at build time by TemplateIndexGenerator. Do not edit.";
+  private static final String PATH_SEPARATOR = "/";
+  private static final char COMMENT = '#';
+  private static final char GROUP_START = '[';
+  private static final char GROUP_END = ']';
+
+  private final List<String> all;
+  private final Map<String, List<String>> byRoot;
+
+  private TemplateIndex(Collection<String> templatePaths) {
+    this.all = List.copyOf(new TreeSet<>(templatePaths));
+
+    Map<String, List<String>> roots = new HashMap<>();
+    for (String path : all) {
+      int idx = path.indexOf(PATH_SEPARATOR);
+      while (idx > 0) {
+        roots.computeIfAbsent(path.substring(0, idx), k -> new ArrayList<>()).add(path);
+        idx = path.indexOf(PATH_SEPARATOR, idx + 1);
+      }
+    }
+    Map<String, List<String>> frozen = new HashMap<>(roots.size());
+    roots.forEach((root, paths) -> frozen.put(root, List.copyOf(paths)));
+    this.byRoot = Map.copyOf(frozen);
+  }
+
+  public static TemplateIndex of(Collection<String> templatePaths) {
+    return new TemplateIndex(templatePaths);
+  }
+
+  public static TemplateIndex read(Reader source) throws IOException {
+    List<String> paths = new ArrayList<>();
+    String group = null;
+
+    BufferedReader reader = new BufferedReader(source);
+    String line;
+    while ((line = reader.readLine()) != null) {
+      String v = line.strip();
+      if (v.isEmpty() || v.charAt(0) == COMMENT) {
+        continue;
+      }
+      if (v.charAt(0) == GROUP_START && v.charAt(v.length() - 1) == GROUP_END) {
+        group = v.substring(1, v.length() - 1);
+        continue;
+      }
+      paths.add(group == null || group.isEmpty() ? v : group + PATH_SEPARATOR + v);
+    }
+    return new TemplateIndex(paths);
+  }
+
+  public void write(Writer target) {
+    Map<String, List<String>> groups = new TreeMap<>();
+    for (String path : all) {
+      int idx = path.lastIndexOf(PATH_SEPARATOR);
+      String dir = idx < 0 ? "" : path.substring(0, idx);
+      groups.computeIfAbsent(dir, k -> new ArrayList<>()).add(path.substring(idx + 1));
+    }
+
+    try {
+      target.write(HEADER);
+      target.write('\n');
+      for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+        target.write(GROUP_START + group.getKey() + GROUP_END);
+        target.write('\n');
+        for (String file : group.getValue()) {
+          target.write(file);
+          target.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Returns the sorted template paths under {@code templateRoot}, or an empty list. */
+  public List<String> templatesUnder(String templateRoot) {
+    return byRoot.getOrDefault(templateRoot, List.of());
+  }
+
+  public List<String> all() {
+    return all;
+  }
+}
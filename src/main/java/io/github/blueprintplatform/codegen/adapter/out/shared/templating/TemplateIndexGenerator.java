@@ -0,0 +1,51 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.templating;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Build-time entry point that writes {@link TemplateIndex#RESOURCE_PATH}. Invoked by the {@code
+ * generate-template-index} execution in {@code pom.xml} with the compiled templates directory and
+ * the index file as arguments.
+ */
+public final class TemplateIndexGenerator {
+
+  private static final String FTL_SUFFIX = ".ftl";
+
+  private TemplateIndexGenerator() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException(
+          "Usage: TemplateIndexGenerator <templates-dir> <index-file>");
+    }
+    generate(Path.of(args[0]), Path.of(args[1]));
+  }
+
+  public static TemplateIndex generate(Path templatesDir, Path indexFile) throws IOException {
+    TemplateIndex index = TemplateIndex.of(listTemplates(templatesDir));
+
+    Files.createDirectories(indexFile.toAbsolutePath().getParent());
+    try (Writer writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+      index.write(writer);
+    }
+    return index;
+  }
+
+  private static List<String> listTemplates(Path templatesDir) throws IOException {
+    if (!Files.isDirectory(templatesDir)) {
+      return List.of();
+    }
+    try (Stream<Path> walk = Files.walk(templatesDir)) {
+      return walk.filter(Files::isRegularFile)
+          .map(p -> templatesDir.relativize(p).toString().replace('\\', '/'))
+          .filter(p -> p.endsWith(FTL_SUFFIX))
+          .toList();
+    }
+  }
+}
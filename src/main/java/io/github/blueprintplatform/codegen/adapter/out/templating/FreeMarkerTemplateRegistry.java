@@ -0,0 +1,44 @@
+package io.github.blueprintplatform.codegen.adapter.out.templating;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import io.github.blueprintplatform.codegen.adapter.error.exception.templating.TemplateRenderingException;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Parses every template exactly once and serves the same {@link Template} instance afterwards,
+ * without any last-modified checks. FreeMarker templates are safe to process concurrently once
+ * parsed.
+ */
+public final class FreeMarkerTemplateRegistry {
+
+  private final Configuration cfg;
+  private final ConcurrentMap<String, Template> templates = new ConcurrentHashMap<>();
+
+  public FreeMarkerTemplateRegistry(Configuration cfg) {
+    this.cfg = cfg;
+  }
+
+  public Template get(String templateResourcePath) {
+    return templates.computeIfAbsent(templateResourcePath, this::parse);
+  }
+
+  public void warmUp(Collection<String> templateResourcePaths) {
+    templateResourcePaths.forEach(this::get);
+  }
+
+  public int size() {
+    return templates.size();
+  }
+
+  private Template parse(String templateResourcePath) {
+    try {
+      return cfg.getTemplate(templateResourcePath);
+    } catch (IOException e) {
+      throw new TemplateRenderingException(templateResourcePath, e);
+    }
+  }
+}
@@ -2,31 +2,107 @@ package io.github.blueprintplatform.codegen.adapter.out.templating;
 
 import freemarker.template.Configuration;
 import freemarker.template.Template;
+import freemarker.template.TemplateException;
 import io.github.blueprintplatform.codegen.adapter.error.exception.templating.TemplateRenderingException;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.EncodedTextContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedEncodedTextResource;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Map;
 
 public class FreeMarkerTemplateRenderer implements TemplateRenderer {
 
-  private final Configuration cfg;
+  private final TemplateLookup templates;
+  private final TemplateOutput output;
+  private final ThreadLocal<Utf8RenderBuffer> buffers;
 
   public FreeMarkerTemplateRenderer(Configuration cfg) {
-    this.cfg = cfg;
+    this(cfg, TemplateOutput.string());
+  }
+
+  public FreeMarkerTemplateRenderer(FreeMarkerTemplateRegistry registry) {
+    this(registry, TemplateOutput.string());
+  }
+
+  public FreeMarkerTemplateRenderer(Configuration cfg, TemplateOutput output) {
+    this(cfg::getTemplate, output);
+  }
+
+  public FreeMarkerTemplateRenderer(FreeMarkerTemplateRegistry registry, TemplateOutput output) {
+    this(registry::get, output);
+  }
+
+  private FreeMarkerTemplateRenderer(TemplateLookup templates, TemplateOutput output) {
+    this.templates = templates;
+    this.output = output;
+    this.buffers = ThreadLocal.withInitial(() -> new Utf8RenderBuffer(output.initialBufferSize()));
   }
 
   @Override
   public GeneratedResource renderUtf8(
       Path outPath, String templateResourcePath, Map<String, Object> model) {
+    return switch (output.form()) {
+      case STRING -> renderToString(outPath, templateResourcePath, model);
+      case UTF8_BYTES -> renderToBytes(outPath, templateResourcePath, model);
+    };
+  }
+
+  @Override
+  public void renderUtf8(String templateResourcePath, Map<String, Object> model, OutputStream out) {
+    try {
+      Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+      process(templateResourcePath, model, writer);
+      writer.flush();
+    } catch (TemplateRenderingException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new TemplateRenderingException(templateResourcePath, e);
+    }
+  }
+
+  private GeneratedResource renderToString(
+      Path outPath, String templateResourcePath, Map<String, Object> model) {
     try (StringWriter sw = new StringWriter()) {
-      Template tpl = cfg.getTemplate(templateResourcePath);
-      tpl.process(model, sw);
+      process(templateResourcePath, model, sw);
       return new GeneratedTextResource(outPath, sw.toString(), StandardCharsets.UTF_8);
+    } catch (TemplateRenderingException e) {
+      throw e;
     } catch (Exception e) {
       throw new TemplateRenderingException(templateResourcePath, e);
     }
   }
+
+  private GeneratedResource renderToBytes(
+      Path outPath, String templateResourcePath, Map<String, Object> model) {
+    Utf8RenderBuffer buffer = buffers.get();
+    try {
+      process(templateResourcePath, model, buffer.writer());
+      EncodedTextContent content = EncodedTextContent.adopt(buffer.drain(), StandardCharsets.UTF_8);
+      return new GeneratedEncodedTextResource(outPath, content);
+    } catch (TemplateRenderingException e) {
+      buffers.remove();
+      throw e;
+    } catch (Exception e) {
+      buffers.remove();
+      throw new TemplateRenderingException(templateResourcePath, e);
+    }
+  }
+
+  private void process(String templateResourcePath, Map<String, Object> model, Writer out)
+      throws IOException, TemplateException {
+    Template tpl = templates.get(templateResourcePath);
+    tpl.process(model, out);
+  }
+
+  @FunctionalInterface
+  private interface TemplateLookup {
+    Template get(String templateResourcePath) throws IOException;
+  }
 }
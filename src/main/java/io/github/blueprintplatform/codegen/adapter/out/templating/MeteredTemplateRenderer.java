@@ -0,0 +1,60 @@
+package io.github.blueprintplatform.codegen.adapter.out.templating;
+
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every rendered template with a {@value #RENDER_TIMER} timer tagged by template path. Timers
+ * are looked up once per template, so a render costs one map lookup on top of the timing.
+ */
+public final class MeteredTemplateRenderer implements TemplateRenderer {
+
+  public static final String RENDER_TIMER = "codegen.template.render";
+
+  private static final String TEMPLATE_TAG = "template";
+
+  private final TemplateRenderer delegate;
+  private final MeterRegistry registry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  public MeteredTemplateRenderer(TemplateRenderer delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.registry = registry;
+  }
+
+  @Override
+  public GeneratedResource renderUtf8(
+      Path outPath, String templateResourcePath, Map<String, Object> model) {
+    Timer.Sample sample = Timer.start(registry);
+    try {
+      return delegate.renderUtf8(outPath, templateResourcePath, model);
+    } finally {
+      sample.stop(timer(templateResourcePath));
+    }
+  }
+
+  @Override
+  public void renderUtf8(String templateResourcePath, Map<String, Object> model, OutputStream out) {
+    Timer.Sample sample = Timer.start(registry);
+    try {
+      delegate.renderUtf8(templateResourcePath, model, out);
+    } finally {
+      sample.stop(timer(templateResourcePath));
+    }
+  }
+
+  private Timer timer(String templateResourcePath) {
+    return timers.computeIfAbsent(
+        templateResourcePath,
+        template ->
+            Timer.builder(RENDER_TIMER)
+                .description("Time to render one template")
+                .tag(TEMPLATE_TAG, template)
+                .register(registry));
+  }
+}
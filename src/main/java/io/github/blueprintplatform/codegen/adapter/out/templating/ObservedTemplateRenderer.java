@@ -0,0 +1,98 @@
+package io.github.blueprintplatform.codegen.adapter.out.templating;
+
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.GenerationObservation;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.TemplateRenderEvent;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedBinaryResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedEncodedTextResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Reports every rendered template to the {@link GenerationObservation} of the current thread and as
+ * a {@link TemplateRenderEvent}. When no listener is bound and no flight recording is running,
+ * rendering goes straight to the delegate.
+ */
+public final class ObservedTemplateRenderer implements TemplateRenderer {
+
+  private static final long UNKNOWN_SIZE = -1L;
+
+  private final TemplateRenderer delegate;
+
+  public ObservedTemplateRenderer(TemplateRenderer delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public GeneratedResource renderUtf8(
+      Path outPath, String templateResourcePath, Map<String, Object> model) {
+    GenerationListener listener = GenerationObservation.current();
+    TemplateRenderEvent event = new TemplateRenderEvent();
+    if (listener == GenerationListener.NONE && !event.isEnabled()) {
+      return delegate.renderUtf8(outPath, templateResourcePath, model);
+    }
+
+    long start = System.nanoTime();
+    event.begin();
+    GeneratedResource resource = delegate.renderUtf8(outPath, templateResourcePath, model);
+    event.end();
+    Duration duration = Duration.ofNanos(System.nanoTime() - start);
+    long bytes = sizeOf(resource);
+
+    listener.templateRendered(templateResourcePath, outPath, bytes, duration);
+    if (event.shouldCommit()) {
+      event.templatePath = templateResourcePath;
+      event.outputPath = outPath.toString();
+      event.bytes = bytes;
+      event.commit();
+    }
+    return resource;
+  }
+
+  @Override
+  public void renderUtf8(String templateResourcePath, Map<String, Object> model, OutputStream out) {
+    delegate.renderUtf8(templateResourcePath, model, out);
+  }
+
+  private static long sizeOf(GeneratedResource resource) {
+    return switch (resource) {
+      case GeneratedEncodedTextResource encoded -> encoded.content().size();
+      case GeneratedTextResource text ->
+          StandardCharsets.UTF_8.equals(text.charset()) ? utf8Length(text.content()) : UNKNOWN_SIZE;
+      case GeneratedBinaryResource binary -> binary.content().size();
+      default -> UNKNOWN_SIZE;
+    };
+  }
+
+  /**
+   * The length {@code text} would have encoded as UTF-8, counted without encoding it. An unpaired
+   * surrogate counts as the single replacement byte the encoder would write.
+   */
+  static long utf8Length(String text) {
+    long bytes = 0;
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (c < 0x80) {
+        bytes++;
+      } else if (c < 0x800) {
+        bytes += 2;
+      } else if (!Character.isSurrogate(c)) {
+        bytes += 3;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        bytes += 4;
+        i++;
+      } else {
+        bytes++;
+      }
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,30 @@
+package io.github.blueprintplatform.codegen.adapter.out.templating;
+
+/**
+ * How {@link FreeMarkerTemplateRenderer#renderUtf8} materializes template output: as a {@code
+ * String}, or encoded straight to UTF-8 bytes in a reusable per-thread buffer.
+ */
+public record TemplateOutput(Form form, int initialBufferSize) {
+
+  private static final TemplateOutput STRING = new TemplateOutput(Form.STRING, 0);
+
+  public enum Form {
+    STRING,
+    UTF8_BYTES
+  }
+
+  public TemplateOutput {
+    if (form == Form.UTF8_BYTES && initialBufferSize < 1) {
+      throw new IllegalArgumentException(
+          "initialBufferSize must be >= 1 but was " + initialBufferSize);
+    }
+  }
+
+  public static TemplateOutput string() {
+    return STRING;
+  }
+
+  public static TemplateOutput utf8Bytes(int initialBufferSize) {
+    return new TemplateOutput(Form.UTF8_BYTES, initialBufferSize);
+  }
+}
@@ -1,10 +1,53 @@
 package io.github.blueprintplatform.codegen.adapter.out.templating;
 
+import io.github.blueprintplatform.codegen.adapter.error.exception.templating.TemplateRenderingException;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedBinaryResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedEncodedTextResource;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedStreamedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.Map;
 
 public interface TemplateRenderer {
   GeneratedResource renderUtf8(
       Path outPath, String templateResourcePath, Map<String, Object> model);
+
+  /**
+   * Renders the template as UTF-8 straight into {@code out}. The stream is flushed but not closed.
+   */
+  default void renderUtf8(
+      String templateResourcePath, Map<String, Object> model, OutputStream out) {
+    GeneratedResource resource =
+        renderUtf8(Path.of(templateResourcePath), templateResourcePath, model);
+    try {
+      switch (resource) {
+        case GeneratedTextResource text -> out.write(text.content().getBytes(text.charset()));
+        case GeneratedEncodedTextResource encoded -> encoded.content().writeTo(out);
+        case GeneratedBinaryResource binary -> out.write(binary.bytes());
+        case GeneratedStreamedResource streamed -> {
+          try (InputStream in = streamed.source().open()) {
+            in.transferTo(out);
+          }
+        }
+        case GeneratedDirectory ignored -> {
+          // nothing to write
+        }
+      }
+      out.flush();
+    } catch (IOException e) {
+      throw new TemplateRenderingException(templateResourcePath, e);
+    }
+  }
+
+  default void renderUtf8(
+      String templateResourcePath, Map<String, Object> model, WritableByteChannel channel) {
+    renderUtf8(templateResourcePath, model, Channels.newOutputStream(channel));
+  }
 }
@@ -0,0 +1,63 @@
+package io.github.blueprintplatform.codegen.adapter.out.templating;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Per-thread, reusable target for template output. Characters are encoded to UTF-8 as they are
+ * written, so a render costs one encoding pass plus one copy into an exactly sized array.
+ */
+final class Utf8RenderBuffer extends OutputStream {
+
+  private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+  private final int initialCapacity;
+  private final Writer writer;
+
+  private byte[] buf;
+  private int count;
+
+  Utf8RenderBuffer(int initialCapacity) {
+    this.initialCapacity = initialCapacity;
+    this.buf = new byte[initialCapacity];
+    this.writer = new OutputStreamWriter(this, StandardCharsets.UTF_8);
+  }
+
+  Writer writer() {
+    return writer;
+  }
+
+  /** Flushes pending characters and returns the encoded output; the buffer is then reset. */
+  byte[] drain() throws IOException {
+    writer.flush();
+    byte[] out = Arrays.copyOf(buf, count);
+    count = 0;
+    if (buf.length > MAX_RETAINED_CAPACITY) {
+      buf = new byte[initialCapacity];
+    }
+    return out;
+  }
+
+  @Override
+  public void write(int b) {
+    ensureCapacity(count + 1);
+    buf[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    ensureCapacity(count + len);
+    System.arraycopy(b, off, buf, count, len);
+    count += len;
+  }
+
+  private void ensureCapacity(int required) {
+    if (required > buf.length) {
+      buf = Arrays.copyOf(buf, Math.max(required, buf.length << 1));
+    }
+  }
+}
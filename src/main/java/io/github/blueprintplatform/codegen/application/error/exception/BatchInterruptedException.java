@@ -0,0 +1,10 @@
+package io.github.blueprintplatform.codegen.application.error.exception;
+
+public final class BatchInterruptedException extends ApplicationException {
+
+  private static final String KEY = "application.batch.interrupted";
+
+  public BatchInterruptedException(InterruptedException cause) {
+    super(KEY, cause);
+  }
+}
@@ -0,0 +1,10 @@
+package io.github.blueprintplatform.codegen.application.error.exception;
+
+public final class BatchTargetConflictException extends ApplicationException {
+
+  private static final String KEY = "application.batch.target.conflict";
+
+  public BatchTargetConflictException(Object target, int otherProjectNumber) {
+    super(KEY, target, otherProjectNumber);
+  }
+}
@@ -0,0 +1,8 @@
+package io.github.blueprintplatform.codegen.application.port.in.project;
+
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult;
+
+public interface CreateProjectBatchPort {
+  CreateProjectBatchResult handle(CreateProjectBatchCommand createProjectBatchCommand);
+}
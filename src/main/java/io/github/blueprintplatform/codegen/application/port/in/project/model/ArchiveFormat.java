@@ -0,0 +1,12 @@
+package io.github.blueprintplatform.codegen.application.port.in.project.model;
+
+public enum ArchiveFormat {
+  /** Deflated zip. */
+  ZIP,
+  /** Zip without compression. */
+  ZIP_STORED,
+  /** Gzip-compressed tar with POSIX file modes. */
+  TAR_GZ,
+  /** No archive; only valid when the project is written to a directory. */
+  NONE
+}
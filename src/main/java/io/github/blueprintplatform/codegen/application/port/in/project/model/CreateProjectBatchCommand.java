@@ -0,0 +1,16 @@
+package io.github.blueprintplatform.codegen.application.port.in.project.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/** Many projects generated in one run, at most {@code jobs} of them at a time. */
+public record CreateProjectBatchCommand(List<CreateProjectCommand> projects, int jobs) {
+
+  public CreateProjectBatchCommand {
+    Objects.requireNonNull(projects, "projects");
+    if (jobs < 1) {
+      throw new IllegalArgumentException("jobs must be >= 1 but was " + jobs);
+    }
+    projects = List.copyOf(projects);
+  }
+}
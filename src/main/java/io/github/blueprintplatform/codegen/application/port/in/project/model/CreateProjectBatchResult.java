@@ -0,0 +1,31 @@
+package io.github.blueprintplatform.codegen.application.port.in.project.model;
+
+import java.util.List;
+
+/** One outcome per requested project, in request order. */
+public record CreateProjectBatchResult(List<Outcome> outcomes) {
+
+  public CreateProjectBatchResult {
+    outcomes = List.copyOf(outcomes);
+  }
+
+  public long failureCount() {
+    return outcomes.stream().filter(o -> !o.succeeded()).count();
+  }
+
+  /** Exactly one of {@code result} and {@code failure} is set. */
+  public record Outcome(String artifactId, CreateProjectResult result, RuntimeException failure) {
+
+    public static Outcome success(String artifactId, CreateProjectResult result) {
+      return new Outcome(artifactId, result, null);
+    }
+
+    public static Outcome failure(String artifactId, RuntimeException failure) {
+      return new Outcome(artifactId, null, failure);
+    }
+
+    public boolean succeeded() {
+      return failure == null;
+    }
+  }
+}
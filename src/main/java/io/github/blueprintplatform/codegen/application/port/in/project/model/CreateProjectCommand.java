@@ -1,5 +1,6 @@
 package io.github.blueprintplatform.codegen.application.port.in.project.model;
 
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
 import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
 import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
 import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeOptions;
@@ -20,4 +21,76 @@ public record CreateProjectCommand(
     PlatformTarget platformTarget,
     List<DependencyInput> dependencies,
     SampleCodeOptions sampleCodeOptions,
-    Path targetDirectory) {}
+    Path targetDirectory,
+    ProjectOutputTarget outputTarget,
+    GenerationListener listener) {
+
+  public CreateProjectCommand {
+    if (outputTarget == null) {
+      outputTarget = ProjectOutputTarget.directory();
+    }
+    if (listener == null) {
+      listener = GenerationListener.NONE;
+    }
+  }
+
+  public CreateProjectCommand(
+      String groupId,
+      String artifactId,
+      String projectName,
+      String projectDescription,
+      String packageName,
+      TechStack techStack,
+      ProjectLayout layout,
+      GuardrailsMode guardrailsMode,
+      PlatformTarget platformTarget,
+      List<DependencyInput> dependencies,
+      SampleCodeOptions sampleCodeOptions,
+      Path targetDirectory,
+      ProjectOutputTarget outputTarget) {
+    this(
+        groupId,
+        artifactId,
+        projectName,
+        projectDescription,
+        packageName,
+        techStack,
+        layout,
+        guardrailsMode,
+        platformTarget,
+        dependencies,
+        sampleCodeOptions,
+        targetDirectory,
+        outputTarget,
+        GenerationListener.NONE);
+  }
+
+  public CreateProjectCommand(
+      String groupId,
+      String artifactId,
+      String projectName,
+      String projectDescription,
+      String packageName,
+      TechStack techStack,
+      ProjectLayout layout,
+      GuardrailsMode guardrailsMode,
+      PlatformTarget platformTarget,
+      List<DependencyInput> dependencies,
+      SampleCodeOptions sampleCodeOptions,
+      Path targetDirectory) {
+    this(
+        groupId,
+        artifactId,
+        projectName,
+        projectDescription,
+        packageName,
+        techStack,
+        layout,
+        guardrailsMode,
+        platformTarget,
+        dependencies,
+        sampleCodeOptions,
+        targetDirectory,
+        ProjectOutputTarget.directory());
+  }
+}
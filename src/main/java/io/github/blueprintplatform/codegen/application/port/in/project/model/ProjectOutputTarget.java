@@ -0,0 +1,84 @@
+package io.github.blueprintplatform.codegen.application.port.in.project.model;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Where a generated project goes. {@link Directory} writes the project tree under the command's
+ * target directory and archives it next to it; the archive targets stream resources straight into
+ * an archive without a staging directory.
+ */
+public sealed interface ProjectOutputTarget {
+
+  ArchiveFormat archiveFormat();
+
+  static ProjectOutputTarget directory() {
+    return directory(ArchiveFormat.ZIP);
+  }
+
+  static ProjectOutputTarget directory(ArchiveFormat archiveFormat) {
+    return directory(archiveFormat, ProjectWriteMode.FULL);
+  }
+
+  static ProjectOutputTarget directory(ArchiveFormat archiveFormat, ProjectWriteMode writeMode) {
+    return new Directory(archiveFormat, writeMode);
+  }
+
+  static ProjectOutputTarget archiveFile(Path file) {
+    return archiveFile(file, ArchiveFormat.ZIP);
+  }
+
+  /** Fails if {@code file} already exists. */
+  static ProjectOutputTarget archiveFile(Path file, ArchiveFormat archiveFormat) {
+    return archiveFile(file, archiveFormat, false);
+  }
+
+  /**
+   * With {@code overwrite}, an existing {@code file} is replaced once the new archive is complete.
+   */
+  static ProjectOutputTarget archiveFile(
+      Path file, ArchiveFormat archiveFormat, boolean overwrite) {
+    return new ArchiveFile(file, archiveFormat, overwrite);
+  }
+
+  /** The stream is flushed but left open; the caller owns it. */
+  static ProjectOutputTarget archiveStream(OutputStream out) {
+    return archiveStream(out, ArchiveFormat.ZIP);
+  }
+
+  static ProjectOutputTarget archiveStream(OutputStream out, ArchiveFormat archiveFormat) {
+    return new ArchiveStream(out, archiveFormat);
+  }
+
+  record Directory(ArchiveFormat archiveFormat, ProjectWriteMode writeMode)
+      implements ProjectOutputTarget {
+    public Directory {
+      Objects.requireNonNull(archiveFormat, "archiveFormat");
+      Objects.requireNonNull(writeMode, "writeMode");
+    }
+  }
+
+  record ArchiveFile(Path file, ArchiveFormat archiveFormat, boolean overwrite)
+      implements ProjectOutputTarget {
+    public ArchiveFile {
+      Objects.requireNonNull(file, "file");
+      requireArchive(archiveFormat);
+    }
+  }
+
+  record ArchiveStream(OutputStream out, ArchiveFormat archiveFormat)
+      implements ProjectOutputTarget {
+    public ArchiveStream {
+      Objects.requireNonNull(out, "out");
+      requireArchive(archiveFormat);
+    }
+  }
+
+  private static void requireArchive(ArchiveFormat archiveFormat) {
+    Objects.requireNonNull(archiveFormat, "archiveFormat");
+    if (archiveFormat == ArchiveFormat.NONE) {
+      throw new IllegalArgumentException("Archive-only output requires an archive format");
+    }
+  }
+}
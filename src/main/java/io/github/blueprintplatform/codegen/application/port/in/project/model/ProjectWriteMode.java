@@ -0,0 +1,11 @@
+package io.github.blueprintplatform.codegen.application.port.in.project.model;
+
+public enum ProjectWriteMode {
+  /** Writes every file into a new project directory; an existing directory is an error. */
+  FULL,
+  /**
+   * Regenerates into an existing project directory, rewriting only the files whose content differs
+   * from the hashes recorded by the previous run.
+   */
+  INCREMENTAL
+}
@@ -2,4 +2,12 @@ package io.github.blueprintplatform.codegen.application.port.in.project.model.su
 
 import java.nio.file.Path;
 
-public record ProjectFileSummary(Path relativePath, boolean binary, boolean executable) {}
+public record ProjectFileSummary(
+    Path relativePath, boolean binary, boolean executable, long size, String sha256) {
+
+  public static final long UNKNOWN_SIZE = -1L;
+
+  public ProjectFileSummary(Path relativePath, boolean binary, boolean executable) {
+    this(relativePath, binary, executable, UNKNOWN_SIZE, null);
+  }
+}
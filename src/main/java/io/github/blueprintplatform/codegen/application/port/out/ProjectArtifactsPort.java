@@ -1,9 +1,16 @@
 package io.github.blueprintplatform.codegen.application.port.out;
 
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
 import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
 
 public interface ProjectArtifactsPort {
 
   Iterable<? extends GeneratedResource> generate(ProjectBlueprint blueprint);
+
+  /** Generates the resources, reporting each artifact and rendered template to {@code listener}. */
+  default Iterable<? extends GeneratedResource> generate(
+      ProjectBlueprint blueprint, GenerationListener listener) {
+    return generate(blueprint);
+  }
 }
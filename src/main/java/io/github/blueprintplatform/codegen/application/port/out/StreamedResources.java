@@ -0,0 +1,13 @@
+package io.github.blueprintplatform.codegen.application.port.out;
+
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+
+/**
+ * A resource sequence that is produced while it is being consumed. It can be iterated once and must
+ * be closed by the consumer, which releases the producer if iteration stopped early.
+ */
+public interface StreamedResources extends Iterable<GeneratedResource>, AutoCloseable {
+
+  @Override
+  void close();
+}
@@ -0,0 +1,33 @@
+package io.github.blueprintplatform.codegen.application.port.out.archive;
+
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes generated resources directly into an archive under a single root folder, without staging
+ * them on disk first. Returns the files that were written, in archive order.
+ */
+public interface ProjectArchiveWriterPort {
+
+  /**
+   * Publishes {@code archiveFile} only once the archive is complete, so a failed run leaves no
+   * partial file behind. Fails if the file exists, unless {@code overwrite} is set.
+   */
+  List<ProjectOutputItem> write(
+      String rootName,
+      ArchiveFormat format,
+      Iterable<? extends GeneratedResource> resources,
+      Path archiveFile,
+      boolean overwrite);
+
+  /** Finishes the archive and flushes {@code out}, but does not close it. */
+  List<ProjectOutputItem> write(
+      String rootName,
+      ArchiveFormat format,
+      Iterable<? extends GeneratedResource> resources,
+      OutputStream out);
+}
@@ -1,7 +1,16 @@
 package io.github.blueprintplatform.codegen.application.port.out.archive;
 
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
 import java.nio.file.Path;
 
 public interface ProjectArchiverPort {
-  Path archive(Path projectRoot, String artifactId);
+
+  /**
+   * Archives {@code projectRoot} next to it; returns {@code null} for {@link ArchiveFormat#NONE}.
+   */
+  Path archive(Path projectRoot, String artifactId, ArchiveFormat format);
+
+  default Path archive(Path projectRoot, String artifactId) {
+    return archive(projectRoot, artifactId, ArchiveFormat.ZIP);
+  }
 }
@@ -2,9 +2,21 @@ package io.github.blueprintplatform.codegen.application.port.out.artifact;
 
 import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.util.function.Consumer;
 
 public interface ArtifactPort {
   ArtifactKey artifactKey();
 
   Iterable<? extends GeneratedResource> generate(ProjectBlueprint blueprint);
+
+  /**
+   * Emits generated resources to {@code sink} one by one, in the same order as {@link
+   * #generate(ProjectBlueprint)}. Adapters that render several templates override this to hand each
+   * resource over as soon as it is rendered instead of collecting them first.
+   */
+  default void generate(ProjectBlueprint blueprint, Consumer<? super GeneratedResource> sink) {
+    for (GeneratedResource resource : generate(blueprint)) {
+      sink.accept(resource);
+    }
+  }
 }
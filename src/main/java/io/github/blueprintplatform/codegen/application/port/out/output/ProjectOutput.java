@@ -0,0 +1,11 @@
+package io.github.blueprintplatform.codegen.application.port.out.output;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public record ProjectOutput(List<ProjectOutputItem> items, Path archivePath) {
+
+  public ProjectOutput {
+    items = List.copyOf(items);
+  }
+}
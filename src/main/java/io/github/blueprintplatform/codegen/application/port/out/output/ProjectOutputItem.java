@@ -2,4 +2,16 @@ package io.github.blueprintplatform.codegen.application.port.out.output;
 
 import java.nio.file.Path;
 
-public record ProjectOutputItem(Path relativePath, boolean binary, boolean executable) {}
+/**
+ * A generated file. {@code size} and {@code sha256} are recorded when the file content passed
+ * through the output step; they are {@link #UNKNOWN_SIZE} and {@code null} otherwise.
+ */
+public record ProjectOutputItem(
+    Path relativePath, boolean binary, boolean executable, long size, String sha256) {
+
+  public static final long UNKNOWN_SIZE = -1L;
+
+  public ProjectOutputItem(Path relativePath, boolean binary, boolean executable) {
+    this(relativePath, binary, executable, UNKNOWN_SIZE, null);
+  }
+}
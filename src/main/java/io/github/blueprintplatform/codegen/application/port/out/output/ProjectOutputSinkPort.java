@@ -0,0 +1,21 @@
+package io.github.blueprintplatform.codegen.application.port.out.output;
+
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectWriteMode;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import java.nio.file.Path;
+
+/**
+ * Takes the generated resources of one project and produces everything the caller reports back: the
+ * files under {@code projectRoot}, the archive next to it, and the file listing. No archive is
+ * written for {@link ArchiveFormat#NONE}.
+ */
+public interface ProjectOutputSinkPort {
+
+  ProjectOutput write(
+      Path projectRoot,
+      String artifactId,
+      ArchiveFormat format,
+      ProjectWriteMode writeMode,
+      Iterable<? extends GeneratedResource> resources);
+}
@@ -0,0 +1,24 @@
+package io.github.blueprintplatform.codegen.application.port.shared.listener;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Receives timings while a project is generated. Every callback defaults to a no-op.
+ *
+ * <p>Artifacts and templates may be rendered on worker threads, so implementations must be
+ * thread-safe. Callbacks run inline with generation and should return quickly.
+ */
+public interface GenerationListener {
+
+  GenerationListener NONE = new GenerationListener() {};
+
+  default void stageCompleted(GenerationStage stage, Duration duration) {}
+
+  /** Reports an artifact by its key, e.g. {@code build-config}. */
+  default void artifactCompleted(String artifactKey, Duration duration) {}
+
+  /** {@code bytes} is the rendered size, or {@code -1} when it is not known up front. */
+  default void templateRendered(
+      String templatePath, Path outputPath, long bytes, Duration duration) {}
+}
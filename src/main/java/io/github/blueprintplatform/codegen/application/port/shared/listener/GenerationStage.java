@@ -0,0 +1,14 @@
+package io.github.blueprintplatform.codegen.application.port.shared.listener;
+
+/** The stages {@code CreateProjectHandler} reports to a {@link GenerationListener}, in order. */
+public enum GenerationStage {
+  /** Mapping the command to a blueprint and selecting the pipeline of its profile. */
+  BLUEPRINT_MAPPING,
+  ROOT_PREPARATION,
+  ARTIFACT_GENERATION,
+  /**
+   * Writing, archiving and listing the generated resources. These run as a single pass over the
+   * resources; with a streaming pipeline, template rendering overlaps this stage.
+   */
+  OUTPUT
+}
@@ -0,0 +1,34 @@
+package io.github.blueprintplatform.codegen.application.usecase.project;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(BlueprintValidationEvent.NAME)
+@Label("Blueprint Validation")
+@Category({"Codegen Blueprint", "Generation"})
+@Description("Mapping and validation of a create-project command into a project blueprint")
+@StackTrace(false)
+final class BlueprintValidationEvent extends Event {
+
+  static final String NAME = "io.github.blueprintplatform.codegen.BlueprintValidation";
+
+  @Label("Artifact Id")
+  String artifactId;
+
+  @Label("Layout")
+  String layout;
+
+  @Label("Guardrails")
+  String guardrails;
+
+  @Label("Sample Code")
+  String sampleCode;
+
+  @Label("Failure")
+  @Description("Message key of the rejected command, or null when the blueprint is valid")
+  String failure;
+}
@@ -0,0 +1,143 @@
+package io.github.blueprintplatform.codegen.application.usecase.project;
+
+import io.github.blueprintplatform.codegen.application.error.exception.BatchInterruptedException;
+import io.github.blueprintplatform.codegen.application.error.exception.BatchTargetConflictException;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectBatchPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult.Outcome;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget.ArchiveFile;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget.ArchiveStream;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget.Directory;
+import io.github.blueprintplatform.codegen.application.usecase.project.mapper.ProjectBlueprintMapper;
+import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates many projects in one process. Every command is mapped to a blueprint before anything is
+ * written, so invalid requests and projects that would overwrite each other are reported without
+ * generating; the remaining projects then run on at most {@code jobs} threads. A failing project
+ * becomes a failed {@link Outcome} and never stops the others.
+ */
+public class CreateProjectBatchHandler implements CreateProjectBatchPort {
+
+  private static final String WORKER_NAME_PREFIX = "codegen-batch-";
+
+  private final ProjectBlueprintMapper blueprintMapper;
+  private final CreateProjectPort createProjectPort;
+
+  public CreateProjectBatchHandler(
+      ProjectBlueprintMapper blueprintMapper, CreateProjectPort createProjectPort) {
+    this.blueprintMapper = blueprintMapper;
+    this.createProjectPort = createProjectPort;
+  }
+
+  @Override
+  public CreateProjectBatchResult handle(CreateProjectBatchCommand createProjectBatchCommand) {
+    List<CreateProjectCommand> projects = createProjectBatchCommand.projects();
+    Outcome[] outcomes = new Outcome[projects.size()];
+
+    List<Integer> runnable = validate(projects, outcomes);
+    generate(projects, runnable, createProjectBatchCommand.jobs(), outcomes);
+
+    return new CreateProjectBatchResult(Arrays.asList(outcomes));
+  }
+
+  private List<Integer> validate(List<CreateProjectCommand> projects, Outcome[] outcomes) {
+    Map<Object, Integer> claimedTargets = new HashMap<>();
+    List<Integer> runnable = new ArrayList<>(projects.size());
+
+    for (int i = 0; i < projects.size(); i++) {
+      CreateProjectCommand command = projects.get(i);
+      try {
+        ProjectBlueprint blueprint = blueprintMapper.from(command);
+        Object target = target(command, blueprint.getMetadata().identity().artifactId().value());
+        Integer claimedBy = claimedTargets.putIfAbsent(target, i);
+        if (claimedBy != null) {
+          throw new BatchTargetConflictException(target, claimedBy + 1);
+        }
+        runnable.add(i);
+      } catch (RuntimeException e) {
+        outcomes[i] = Outcome.failure(command.artifactId(), e);
+      }
+    }
+    return runnable;
+  }
+
+  private static Object target(CreateProjectCommand command, String artifactId) {
+    return switch (command.outputTarget()) {
+      case Directory directory ->
+          command.targetDirectory().resolve(artifactId).toAbsolutePath().normalize();
+      case ArchiveFile archiveFile -> archiveFile.file().toAbsolutePath().normalize();
+      case ArchiveStream(OutputStream out, ArchiveFormat format) -> out;
+    };
+  }
+
+  private void generate(
+      List<CreateProjectCommand> projects, List<Integer> runnable, int jobs, Outcome[] outcomes) {
+    int workers = Math.min(jobs, runnable.size());
+    if (workers < 2) {
+      for (int i : runnable) {
+        outcomes[i] = generate(projects.get(i));
+      }
+      return;
+    }
+
+    List<Callable<Outcome>> tasks = new ArrayList<>(runnable.size());
+    for (int i : runnable) {
+      CreateProjectCommand command = projects.get(i);
+      tasks.add(() -> generate(command));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(workers, workerThreads());
+    try {
+      List<Future<Outcome>> futures = executor.invokeAll(tasks);
+      for (int k = 0; k < futures.size(); k++) {
+        outcomes[runnable.get(k)] = futures.get(k).get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BatchInterruptedException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Outcome generate(CreateProjectCommand command) {
+    try {
+      return Outcome.success(command.artifactId(), createProjectPort.handle(command));
+    } catch (RuntimeException e) {
+      return Outcome.failure(command.artifactId(), e);
+    }
+  }
+
+  private static ThreadFactory workerThreads() {
+    AtomicInteger workerIndex = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, WORKER_NAME_PREFIX + workerIndex.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -1,18 +1,31 @@
 package io.github.blueprintplatform.codegen.application.usecase.project;
 
-import static io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectRootExistencePolicy.FAIL_IF_EXISTS;
-
 import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget.ArchiveFile;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget.ArchiveStream;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget.Directory;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectWriteMode;
 import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsPort;
+import io.github.blueprintplatform.codegen.application.port.out.StreamedResources;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutput;
 import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationStage;
 import io.github.blueprintplatform.codegen.application.usecase.project.context.CreateProjectExecutionContext;
 import io.github.blueprintplatform.codegen.application.usecase.project.mapper.CreateProjectResultMapper;
 import io.github.blueprintplatform.codegen.application.usecase.project.mapper.ProjectBlueprintMapper;
+import io.github.blueprintplatform.codegen.domain.error.exception.DomainException;
 import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectRootExistencePolicy;
+import java.io.OutputStream;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Function;
 
 public class CreateProjectHandler implements CreateProjectPort {
 
@@ -31,27 +44,136 @@ public class CreateProjectHandler implements CreateProjectPort {
 
   @Override
   public CreateProjectResult handle(CreateProjectCommand createProjectCommand) {
-    ProjectBlueprint blueprint = blueprintMapper.from(createProjectCommand);
+    GenerationListener listener = createProjectCommand.listener();
+    long start = System.nanoTime();
 
-    String artifactId = blueprint.getMetadata().identity().artifactId().value();
+    ProjectBlueprint blueprint = validate(createProjectCommand);
 
-    Path projectRoot =
-        executionContext
-            .rootPort()
-            .prepareRoot(createProjectCommand.targetDirectory(), artifactId, FAIL_IF_EXISTS);
+    String artifactId = blueprint.getMetadata().identity().artifactId().value();
 
     ProjectArtifactsPort artifactsPort =
         executionContext.artifactsSelector().select(blueprint.getPlatform().techStack());
 
-    var resources = artifactsPort.generate(blueprint);
+    completed(listener, GenerationStage.BLUEPRINT_MAPPING, start);
 
-    executionContext.writerPort().write(projectRoot, resources);
+    return switch (createProjectCommand.outputTarget()) {
+      case Directory(ArchiveFormat format, ProjectWriteMode writeMode) ->
+          generateDirectory(
+              blueprint,
+              artifactId,
+              artifactsPort,
+              listener,
+              createProjectCommand.targetDirectory(),
+              format,
+              writeMode);
+      case ArchiveFile(Path file, ArchiveFormat format, boolean overwrite) ->
+          generateArchive(
+              blueprint,
+              artifactsPort,
+              listener,
+              resources ->
+                  executionContext
+                      .archiveWriterPort()
+                      .write(artifactId, format, resources, file, overwrite),
+              file);
+      case ArchiveStream(OutputStream out, ArchiveFormat format) ->
+          generateArchive(
+              blueprint,
+              artifactsPort,
+              listener,
+              resources ->
+                  executionContext.archiveWriterPort().write(artifactId, format, resources, out),
+              null);
+    };
+  }
+
+  /** Maps the command to a blueprint, recorded as a {@link BlueprintValidationEvent}. */
+  private ProjectBlueprint validate(CreateProjectCommand command) {
+    BlueprintValidationEvent event = new BlueprintValidationEvent();
+    event.begin();
+    try {
+      return blueprintMapper.from(command);
+    } catch (RuntimeException e) {
+      event.failure =
+          e instanceof DomainException domain ? domain.getMessageKey() : e.getClass().getName();
+      throw e;
+    } finally {
+      if (event.shouldCommit()) {
+        event.artifactId = command.artifactId();
+        event.layout = command.layout() == null ? null : command.layout().key();
+        event.guardrails = command.guardrailsMode() == null ? null : command.guardrailsMode().key();
+        event.sampleCode =
+            command.sampleCodeOptions() == null ? null : command.sampleCodeOptions().level().key();
+        event.commit();
+      }
+    }
+  }
+
+  private CreateProjectResult generateDirectory(
+      ProjectBlueprint blueprint,
+      String artifactId,
+      ProjectArtifactsPort artifactsPort,
+      GenerationListener listener,
+      Path targetDirectory,
+      ArchiveFormat format,
+      ProjectWriteMode writeMode) {
+    ProjectRootExistencePolicy existencePolicy =
+        writeMode == ProjectWriteMode.INCREMENTAL
+            ? ProjectRootExistencePolicy.OVERWRITE
+            : ProjectRootExistencePolicy.FAIL_IF_EXISTS;
+    long start = System.nanoTime();
+    Path projectRoot =
+        executionContext.rootPort().prepareRoot(targetDirectory, artifactId, existencePolicy);
+    start = completed(listener, GenerationStage.ROOT_PREPARATION, start);
 
-    Path archive = executionContext.archiverPort().archive(projectRoot, artifactId);
+    var resources = artifactsPort.generate(blueprint, listener);
+    start = completed(listener, GenerationStage.ARTIFACT_GENERATION, start);
 
-    List<ProjectOutputItem> projectOutputItems =
-        executionContext.projectOutputPort().list(projectRoot);
+    ProjectOutput output;
+    try {
+      output =
+          executionContext
+              .outputSinkPort()
+              .write(projectRoot, artifactId, format, writeMode, resources);
+    } finally {
+      closeIfStreamed(resources);
+    }
+    completed(listener, GenerationStage.OUTPUT, start);
+
+    return responseMapper.from(blueprint, projectRoot, output.items(), output.archivePath());
+  }
+
+  private CreateProjectResult generateArchive(
+      ProjectBlueprint blueprint,
+      ProjectArtifactsPort artifactsPort,
+      GenerationListener listener,
+      Function<Iterable<? extends GeneratedResource>, List<ProjectOutputItem>> archiveWriter,
+      Path archivePath) {
+    long start = System.nanoTime();
+    var resources = artifactsPort.generate(blueprint, listener);
+    start = completed(listener, GenerationStage.ARTIFACT_GENERATION, start);
+
+    List<ProjectOutputItem> projectOutputItems;
+    try {
+      projectOutputItems = archiveWriter.apply(resources);
+    } finally {
+      closeIfStreamed(resources);
+    }
+    completed(listener, GenerationStage.OUTPUT, start);
+
+    return responseMapper.from(blueprint, null, projectOutputItems, archivePath);
+  }
+
+  /** Reports {@code stage} as completed since {@code start} and returns the current time. */
+  private static long completed(GenerationListener listener, GenerationStage stage, long start) {
+    long now = System.nanoTime();
+    listener.stageCompleted(stage, Duration.ofNanos(now - start));
+    return now;
+  }
 
-    return responseMapper.from(blueprint, projectRoot, projectOutputItems, archive);
+  private static void closeIfStreamed(Iterable<? extends GeneratedResource> resources) {
+    if (resources instanceof StreamedResources streamed) {
+      streamed.close();
+    }
   }
 }
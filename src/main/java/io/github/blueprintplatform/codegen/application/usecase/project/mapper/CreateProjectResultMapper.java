@@ -116,7 +116,8 @@ public class CreateProjectResultMapper {
   }
 
   private ProjectFileSummary toProjectFileSummary(ProjectOutputItem item) {
-    return new ProjectFileSummary(item.relativePath(), item.binary(), item.executable());
+    return new ProjectFileSummary(
+        item.relativePath(), item.binary(), item.executable(), item.size(), item.sha256());
   }
 
   private ProjectDependencySummary toProjectDependencySummary(Dependency dependency) {
@@ -0,0 +1,189 @@
+package io.github.blueprintplatform.codegen.bootstrap.config.catalog;
+
+import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactKey;
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.ArtifactDefinition;
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.CodegenProfilesProperties;
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.ProfileProperties;
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.TemplateDefinition;
+import io.github.blueprintplatform.codegen.bootstrap.error.exception.ProfileConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The profile catalog in its compiled form ({@value #RESOURCE_PATH}), already validated by {@link
+ * ProfileCatalogCompiler} at build time. Reading it is a line scan: no YAML parsing, no property
+ * binding and no Bean Validation.
+ *
+ * <p>File format: comment lines start with {@code #}, a {@code [profile]} line opens a profile, and
+ * tab-separated records follow it: one {@code order} record with the artifact keys in generation
+ * order, then an {@code artifact} record (key, template base path) per artifact, each followed by a
+ * {@code template} record (template, output path) per template.
+ */
+public final class ProfileCatalog {
+
+  public static final String RESOURCE_PATH = "META-INF/codegen/profiles.catalog";
+  public static final String SOURCE_PATH = "codegen/profiles.yml";
+
+  private static final String HEADER =
+      "# Generated at build time by ProfileCatalogCompiler. Do not edit.";
+  private static final char COMMENT = '#';
+  private static final char GROUP_START = '[';
+  private static final char GROUP_END = ']';
+  private static final String SEPARATOR = "\t";
+  private static final String ORDER = "order";
+  private static final String ARTIFACT = "artifact";
+  private static final String TEMPLATE = "template";
+
+  private final Map<String, ProfileProperties> profiles;
+
+  ProfileCatalog(Map<String, ProfileProperties> profiles) {
+    this.profiles = Map.copyOf(profiles);
+  }
+
+  /**
+   * Loads the compiled catalog from the classpath. When it is absent, for example when running from
+   * an IDE without a Maven build, the YAML source is compiled in memory instead.
+   */
+  public static ProfileCatalog load(ClassLoader classLoader) {
+    String resource = RESOURCE_PATH;
+    try (InputStream compiled = classLoader.getResourceAsStream(RESOURCE_PATH)) {
+      if (compiled != null) {
+        return read(new InputStreamReader(compiled, StandardCharsets.UTF_8));
+      }
+      resource = SOURCE_PATH;
+      try (InputStream source = classLoader.getResourceAsStream(SOURCE_PATH)) {
+        if (source == null) {
+          throw new ProfileConfigurationException(
+              ProfileConfigurationException.KEY_CATALOG_UNREADABLE, RESOURCE_PATH);
+        }
+        return ProfileCatalogCompiler.compile(
+            new InputStreamReader(source, StandardCharsets.UTF_8), template -> true);
+      }
+    } catch (IOException e) {
+      throw new ProfileConfigurationException(
+          ProfileConfigurationException.KEY_CATALOG_UNREADABLE, e, resource);
+    }
+  }
+
+  public static ProfileCatalog read(Reader source) throws IOException {
+    Map<String, ProfileProperties> profiles = new LinkedHashMap<>();
+    ProfileReader profile = null;
+
+    BufferedReader reader = new BufferedReader(source);
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.isBlank() || line.charAt(0) == COMMENT) {
+        continue;
+      }
+      if (line.charAt(0) == GROUP_START && line.charAt(line.length() - 1) == GROUP_END) {
+        if (profile != null) {
+          profiles.put(profile.name, profile.build());
+        }
+        profile = new ProfileReader(line.substring(1, line.length() - 1));
+        continue;
+      }
+      if (profile == null) {
+        throw new IOException("Profile catalog record outside of a profile: " + line);
+      }
+      profile.accept(line.split(SEPARATOR, -1));
+    }
+    if (profile != null) {
+      profiles.put(profile.name, profile.build());
+    }
+    return new ProfileCatalog(profiles);
+  }
+
+  /** Writes profiles and artifacts sorted by key, so the same catalog always compiles the same. */
+  public void write(Writer target) {
+    try {
+      target.write(HEADER);
+      target.write('\n');
+      for (Map.Entry<String, ProfileProperties> profile : new TreeMap<>(profiles).entrySet()) {
+        target.write(GROUP_START + profile.getKey() + GROUP_END);
+        target.write('\n');
+        target.write(ORDER);
+        for (ArtifactKey key : profile.getValue().orderedArtifactKeys()) {
+          target.write(SEPARATOR + key.key());
+        }
+        target.write('\n');
+        for (Map.Entry<String, ArtifactDefinition> artifact :
+            new TreeMap<>(profile.getValue().artifacts()).entrySet()) {
+          String basePath = artifact.getValue().templateBasePath();
+          target.write(
+              ARTIFACT
+                  + SEPARATOR
+                  + artifact.getKey()
+                  + SEPARATOR
+                  + (basePath == null ? "" : basePath));
+          target.write('\n');
+          for (TemplateDefinition template : artifact.getValue().templates()) {
+            target.write(
+                TEMPLATE + SEPARATOR + template.template() + SEPARATOR + template.outputPath());
+            target.write('\n');
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public CodegenProfilesProperties toProperties() {
+    return new CodegenProfilesProperties(profiles);
+  }
+
+  private static final class ProfileReader {
+    private final String name;
+    private final Map<String, ArtifactDefinition> artifacts = new LinkedHashMap<>();
+    private List<ArtifactKey> order = List.of();
+    private String artifactKey;
+    private String basePath;
+    private final List<TemplateDefinition> templates = new ArrayList<>();
+
+    private ProfileReader(String name) {
+      this.name = name;
+    }
+
+    private void accept(String[] fields) throws IOException {
+      switch (fields[0]) {
+        case ORDER -> {
+          List<ArtifactKey> keys = new ArrayList<>(fields.length - 1);
+          for (int i = 1; i < fields.length; i++) {
+            keys.add(ArtifactKey.fromKey(fields[i]));
+          }
+          order = List.copyOf(keys);
+        }
+        case ARTIFACT -> {
+          closeArtifact();
+          artifactKey = fields[1];
+          basePath = fields[2].isEmpty() ? null : fields[2];
+        }
+        case TEMPLATE -> templates.add(new TemplateDefinition(fields[1], fields[2]));
+        default -> throw new IOException("Unexpected profile catalog record: " + fields[0]);
+      }
+    }
+
+    private void closeArtifact() {
+      if (artifactKey != null) {
+        artifacts.put(artifactKey, new ArtifactDefinition(basePath, List.copyOf(templates)));
+      }
+      templates.clear();
+    }
+
+    private ProfileProperties build() {
+      closeArtifact();
+      return new ProfileProperties(order, Map.copyOf(artifacts));
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package io.github.blueprintplatform.codegen.bootstrap.config.catalog;
+
+import io.github.blueprintplatform.codegen.application.error.exception.InvalidArtifactKeyException;
+import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactKey;
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.ArtifactDefinition;
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.ProfileProperties;
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.TemplateDefinition;
+import io.github.blueprintplatform.codegen.bootstrap.error.exception.ProfileConfigurationException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+/**
+ * Build-time entry point that validates {@value ProfileCatalog#SOURCE_PATH} and writes {@value
+ * ProfileCatalog#RESOURCE_PATH}. Invoked by the {@code compile-profile-catalog} execution in {@code
+ * pom.xml} with the catalog source, the compiled templates directory and the catalog file as
+ * arguments. An invalid catalog fails the build.
+ */
+public final class ProfileCatalogCompiler {
+
+  private static final String MESSAGES_BUNDLE = "messages";
+
+  private ProfileCatalogCompiler() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      throw new IllegalArgumentException(
+          "Usage: ProfileCatalogCompiler <catalog-source> <templates-dir> <catalog-file>");
+    }
+    try {
+      compile(Path.of(args[0]), Path.of(args[1]), Path.of(args[2]));
+    } catch (ProfileConfigurationException e) {
+      throw new IllegalStateException(describe(e), e);
+    }
+  }
+
+  public static ProfileCatalog compile(Path source, Path templatesDir, Path catalogFile)
+      throws IOException {
+    ProfileCatalog catalog;
+    try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+      catalog = compile(reader, template -> Files.isRegularFile(templatesDir.resolve(template)));
+    }
+
+    Files.createDirectories(catalogFile.toAbsolutePath().getParent());
+    try (Writer writer = Files.newBufferedWriter(catalogFile, StandardCharsets.UTF_8)) {
+      catalog.write(writer);
+    }
+    return catalog;
+  }
+
+  /**
+   * Parses and validates a catalog source. {@code templateExists} is asked about every template
+   * path, relative to the templates root.
+   */
+  static ProfileCatalog compile(Reader source, Predicate<String> templateExists) {
+    Object document;
+    try {
+      document = new Yaml(new SafeConstructor(new LoaderOptions())).load(source);
+    } catch (YAMLException e) {
+      throw new ProfileConfigurationException(
+          ProfileConfigurationException.KEY_CATALOG_UNREADABLE, e, ProfileCatalog.SOURCE_PATH);
+    }
+
+    Map<String, ProfileProperties> profiles = new LinkedHashMap<>();
+    for (Map.Entry<?, ?> profile : asMap(asMap(document).get("profiles")).entrySet()) {
+      String profileKey = String.valueOf(profile.getKey());
+      profiles.put(
+          profileKey, compileProfile(profileKey, asMap(profile.getValue()), templateExists));
+    }
+    if (profiles.isEmpty()) {
+      throw new ProfileConfigurationException(
+          ProfileConfigurationException.KEY_CATALOG_EMPTY, ProfileCatalog.SOURCE_PATH);
+    }
+    return new ProfileCatalog(profiles);
+  }
+
+  private static ProfileProperties compileProfile(
+      String profileKey, Map<?, ?> values, Predicate<String> templateExists) {
+    Map<String, ArtifactDefinition> artifacts = new LinkedHashMap<>();
+    for (Map.Entry<?, ?> artifact : asMap(values.get("artifacts")).entrySet()) {
+      String artifactKey = artifactKey(artifact.getKey(), profileKey).key();
+      artifacts.put(
+          artifactKey,
+          compileArtifact(profileKey, artifactKey, asMap(artifact.getValue()), templateExists));
+    }
+
+    List<ArtifactKey> order = new ArrayList<>();
+    Set<ArtifactKey> seen = EnumSet.noneOf(ArtifactKey.class);
+    for (Object key : asList(values.get("ordered-artifact-keys"))) {
+      ArtifactKey artifactKey = artifactKey(key, profileKey);
+      if (!seen.add(artifactKey)) {
+        throw new ProfileConfigurationException(
+            ProfileConfigurationException.KEY_CATALOG_ARTIFACT_DUPLICATE,
+            artifactKey.key(),
+            profileKey);
+      }
+      if (!artifacts.containsKey(artifactKey.key())) {
+        throw new ProfileConfigurationException(
+            ProfileConfigurationException.KEY_ARTIFACT_NOT_FOUND, artifactKey.key(), profileKey);
+      }
+      order.add(artifactKey);
+    }
+    return new ProfileProperties(List.copyOf(order), Map.copyOf(artifacts));
+  }
+
+  private static ArtifactDefinition compileArtifact(
+      String profileKey, String artifactKey, Map<?, ?> values, Predicate<String> templateExists) {
+    String basePath = text(values.get("template-base-path"));
+    List<TemplateDefinition> templates = new ArrayList<>();
+    for (Object entry : asList(values.get("templates"))) {
+      Map<?, ?> template = asMap(entry);
+      String name = text(template.get("template"));
+      String outputPath = text(template.get("output-path"));
+      if (isBlank(name) || isBlank(outputPath)) {
+        throw new ProfileConfigurationException(
+            ProfileConfigurationException.KEY_CATALOG_TEMPLATE_INCOMPLETE, artifactKey, profileKey);
+      }
+      templates.add(new TemplateDefinition(name, outputPath));
+    }
+
+    if (!templates.isEmpty() && isBlank(basePath)) {
+      throw new ProfileConfigurationException(
+          ProfileConfigurationException.KEY_TEMPLATE_BASE_MISSING, artifactKey, profileKey);
+    }
+    for (TemplateDefinition template : templates) {
+      String path = basePath + template.template();
+      if (!templateExists.test(path)) {
+        throw new ProfileConfigurationException(
+            ProfileConfigurationException.KEY_CATALOG_TEMPLATE_MISSING,
+            path,
+            artifactKey,
+            profileKey);
+      }
+    }
+    return new ArtifactDefinition(basePath, List.copyOf(templates));
+  }
+
+  private static ArtifactKey artifactKey(Object key, String profileKey) {
+    try {
+      return ArtifactKey.fromKey(String.valueOf(key));
+    } catch (InvalidArtifactKeyException e) {
+      throw new ProfileConfigurationException(
+          ProfileConfigurationException.KEY_CATALOG_ARTIFACT_UNKNOWN, e, key, profileKey);
+    }
+  }
+
+  private static String describe(ProfileConfigurationException e) {
+    String pattern =
+        ResourceBundle.getBundle(MESSAGES_BUNDLE, Locale.ROOT).getString(e.getMessageKey());
+    return new MessageFormat(pattern, Locale.ROOT).format(e.getArgs());
+  }
+
+  private static Map<?, ?> asMap(Object value) {
+    return value instanceof Map<?, ?> map ? map : Map.of();
+  }
+
+  private static List<?> asList(Object value) {
+    return value instanceof List<?> list ? list : List.of();
+  }
+
+  private static String text(Object value) {
+    return value == null ? null : String.valueOf(value);
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+}
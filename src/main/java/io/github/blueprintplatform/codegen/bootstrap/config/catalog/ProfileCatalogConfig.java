@@ -0,0 +1,14 @@
+package io.github.blueprintplatform.codegen.bootstrap.config.catalog;
+
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.CodegenProfilesProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProfileCatalogConfig {
+
+  @Bean
+  public CodegenProfilesProperties codegenProfilesProperties() {
+    return ProfileCatalog.load(ProfileCatalog.class.getClassLoader()).toProperties();
+  }
+}
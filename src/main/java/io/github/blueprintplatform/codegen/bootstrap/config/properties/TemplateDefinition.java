@@ -1,5 +1,3 @@
 package io.github.blueprintplatform.codegen.bootstrap.config.properties;
 
-import jakarta.validation.constraints.NotBlank;
-
-public record TemplateDefinition(@NotBlank String template, @NotBlank String outputPath) {}
+public record TemplateDefinition(String template, String outputPath) {}
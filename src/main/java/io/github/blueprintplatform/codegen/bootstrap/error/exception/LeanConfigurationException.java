@@ -0,0 +1,16 @@
+package io.github.blueprintplatform.codegen.bootstrap.error.exception;
+
+public final class LeanConfigurationException extends BootstrapException {
+  public static final String KEY_CONFIG_UNREADABLE = "bootstrap.lean.config.unreadable";
+  public static final String KEY_PROPERTY_INVALID = "bootstrap.lean.property.invalid";
+  public static final String KEY_PROPERTY_MISSING = "bootstrap.lean.property.missing";
+  public static final String KEY_PROPERTY_CONSTRAINT = "bootstrap.lean.property.constraint";
+
+  public LeanConfigurationException(String key, Object... args) {
+    super(key, args);
+  }
+
+  public LeanConfigurationException(String key, Throwable cause, Object... args) {
+    super(key, cause, args);
+  }
+}
@@ -4,6 +4,14 @@ public final class ProfileConfigurationException extends BootstrapException {
   public static final String KEY_PROFILE_NOT_FOUND = "bootstrap.profile.not.found";
   public static final String KEY_ARTIFACT_NOT_FOUND = "bootstrap.artifact.not.found";
   public static final String KEY_TEMPLATE_BASE_MISSING = "bootstrap.template.base.missing";
+  public static final String KEY_CATALOG_UNREADABLE = "bootstrap.catalog.unreadable";
+  public static final String KEY_CATALOG_EMPTY = "bootstrap.catalog.empty";
+  public static final String KEY_CATALOG_ARTIFACT_UNKNOWN = "bootstrap.catalog.artifact.unknown";
+  public static final String KEY_CATALOG_ARTIFACT_DUPLICATE =
+      "bootstrap.catalog.artifact.duplicate";
+  public static final String KEY_CATALOG_TEMPLATE_INCOMPLETE =
+      "bootstrap.catalog.template.incomplete";
+  public static final String KEY_CATALOG_TEMPLATE_MISSING = "bootstrap.catalog.template.missing";
 
   public ProfileConfigurationException(String key, Object... args) {
     super(key, args);
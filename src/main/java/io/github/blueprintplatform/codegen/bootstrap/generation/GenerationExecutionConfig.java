@@ -0,0 +1,40 @@
+package io.github.blueprintplatform.codegen.bootstrap.generation;
+
+import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ArtifactPipelineExecutor;
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(GenerationProperties.class)
+public class GenerationExecutionConfig {
+
+  private final GenerationProperties props;
+
+  public GenerationExecutionConfig(GenerationProperties props) {
+    this.props = props;
+  }
+
+  @Bean(destroyMethod = "close")
+  public OrderedTaskExecutor generationTaskExecutor() {
+    return switch (props.mode()) {
+      case SEQUENTIAL, STREAMING -> OrderedTaskExecutor.sequential();
+      case PARALLEL -> OrderedTaskExecutor.forkJoin(resolveParallelism());
+    };
+  }
+
+  @Bean
+  public ArtifactPipelineExecutor artifactPipelineExecutor(
+      OrderedTaskExecutor generationTaskExecutor) {
+    return switch (props.mode()) {
+      case SEQUENTIAL, PARALLEL -> new ArtifactPipelineExecutor(generationTaskExecutor);
+      case STREAMING -> ArtifactPipelineExecutor.streaming(props.streamBufferSize());
+    };
+  }
+
+  private int resolveParallelism() {
+    int configured = props.parallelism();
+    return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+  }
+}
@@ -0,0 +1,33 @@
+package io.github.blueprintplatform.codegen.bootstrap.generation;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "generation")
+public record GenerationProperties(
+    @NotNull Mode mode,
+    @PositiveOrZero int parallelism,
+    @Positive int streamBufferSize,
+    @NotNull OutputSink outputSink,
+    @PositiveOrZero int writerThreads,
+    @NotNull @Valid Archive archive) {
+  public enum Mode {
+    SEQUENTIAL,
+    PARALLEL,
+    STREAMING
+  }
+
+  public enum OutputSink {
+    FAN_OUT,
+    STAGED
+  }
+
+  public record Archive(@PositiveOrZero int threads, @Min(-1) @Max(9) int compressionLevel) {}
+}
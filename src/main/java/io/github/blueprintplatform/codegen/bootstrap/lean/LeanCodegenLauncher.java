@@ -0,0 +1,53 @@
+package io.github.blueprintplatform.codegen.bootstrap.lean;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.CliArguments;
+import io.github.blueprintplatform.codegen.bootstrap.error.exception.BootstrapException;
+import java.util.Locale;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CLI entry point that runs the generator without booting Spring. It takes the same arguments as
+ * {@code --cli} on the Spring application, minus the flag, and serves the {@code
+ * spring-boot-maven-java} profile only.
+ *
+ * <p>Properties come from the bundled {@code application.yml} and can be overridden with {@code
+ * -D<property>=<value>}; see {@link LeanProperties}.
+ */
+public final class LeanCodegenLauncher {
+
+  private static final String LOG_LEVEL_PROPERTY = "logging.level.root";
+  private static final int BOOTSTRAP_FAILURE_EXIT_CODE = 3;
+
+  private LeanCodegenLauncher() {}
+
+  public static void main(String[] args) {
+    configureLogging(CliArguments.writesToStandardOutput(args));
+    System.exit(run(args));
+  }
+
+  static int run(String[] args) {
+    try (LeanCodegenWiring wiring = LeanCodegenWiring.create()) {
+      return wiring.cliExecutor().execute(args);
+    } catch (BootstrapException e) {
+      String message =
+          LeanCodegenWiring.messageSource()
+              .getMessage(e.getMessageKey(), e.getArgs(), Locale.getDefault());
+      System.err.println("codegen: error: " + message);
+      return BOOTSTRAP_FAILURE_EXIT_CODE;
+    }
+  }
+
+  /**
+   * Without Spring Boot's logging system Logback falls back to DEBUG on the console, so the root
+   * level is set here; writing the archive to stdout silences logging entirely.
+   */
+  private static void configureLogging(boolean quiet) {
+    if (!(LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME) instanceof Logger root)) {
+      return;
+    }
+    root.setLevel(
+        quiet ? Level.OFF : Level.toLevel(System.getProperty(LOG_LEVEL_PROPERTY), Level.INFO));
+  }
+}
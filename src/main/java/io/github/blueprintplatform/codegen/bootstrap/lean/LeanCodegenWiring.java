@@ -0,0 +1,240 @@
+package io.github.blueprintplatform.codegen.bootstrap.lean;
+
+import io.github.blueprintplatform.codegen.adapter.in.cli.CodegenCommand;
+import io.github.blueprintplatform.codegen.adapter.in.cli.batch.BatchGenerateCommand;
+import io.github.blueprintplatform.codegen.adapter.in.cli.batch.BatchManifestReader;
+import io.github.blueprintplatform.codegen.adapter.in.cli.mapper.CreateProjectCommandMapper;
+import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.SpringBootGenerateCommand;
+import io.github.blueprintplatform.codegen.adapter.out.build.shared.BuildDependencyMapper;
+import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ArtifactPipelineExecutor;
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
+import io.github.blueprintplatform.codegen.adapter.out.shared.templating.FtlClasspathTemplateScanner;
+import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateRenderer;
+import io.github.blueprintplatform.codegen.adapter.shared.naming.StringCaseFormatter;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectBatchPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsPort;
+import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsSelector;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiveWriterPort;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiverPort;
+import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactKey;
+import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputSinkPort;
+import io.github.blueprintplatform.codegen.application.usecase.project.mapper.ProjectBlueprintMapper;
+import io.github.blueprintplatform.codegen.bootstrap.config.catalog.ProfileCatalogConfig;
+import io.github.blueprintplatform.codegen.bootstrap.config.keys.ProfileKeys;
+import io.github.blueprintplatform.codegen.bootstrap.config.registry.CodegenProfilesRegistry;
+import io.github.blueprintplatform.codegen.bootstrap.generation.GenerationExecutionConfig;
+import io.github.blueprintplatform.codegen.bootstrap.generation.GenerationProperties;
+import io.github.blueprintplatform.codegen.bootstrap.mapper.ArtifactSpecMapper;
+import io.github.blueprintplatform.codegen.bootstrap.templating.FreeMarkerTemplatingConfig;
+import io.github.blueprintplatform.codegen.bootstrap.templating.FreeMarkerTemplatingProperties;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.application.project.ProjectUseCaseConfig;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.in.cli.CliCommonConfig;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.in.cli.CodegenCliExceptionHandler;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.in.cli.CodegenCliExecutor;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.in.cli.SpringBootCliConfig;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.out.filesystem.ProjectFilesystemConfig;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.out.profile.ProjectArtifactsSelectorConfig;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.out.profile.SpringBootMavenJavaConfig;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.shared.CodegenCommonConfig;
+import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectRootPort;
+import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectWriterPort;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+/**
+ * The CLI object graph for the {@code spring-boot-maven-java} profile, wired by hand.
+ *
+ * <p>Every component comes from the same {@code @Configuration} factory methods the Spring context
+ * calls, invoked directly on plain instances, so both paths make identical wiring decisions. No
+ * {@code ApplicationContext} is created: no component scanning, no property binding and no bean
+ * post-processing. Components that own threads are closed by {@link #close()}.
+ */
+public final class LeanCodegenWiring implements AutoCloseable {
+
+  private static final String MESSAGES_BASENAME = "messages";
+
+  private final CodegenCliExecutor cliExecutor;
+  private final List<AutoCloseable> closeables;
+
+  private LeanCodegenWiring(CodegenCliExecutor cliExecutor, List<AutoCloseable> closeables) {
+    this.cliExecutor = cliExecutor;
+    this.closeables = closeables;
+  }
+
+  public static LeanCodegenWiring create() {
+    return create(LeanProperties.load());
+  }
+
+  static LeanCodegenWiring create(LeanProperties properties) {
+    List<AutoCloseable> closeables = new ArrayList<>();
+    try {
+      return new LeanCodegenWiring(wire(properties, closeables), closeables);
+    } catch (RuntimeException e) {
+      closeAll(closeables);
+      throw e;
+    }
+  }
+
+  /** Same message bundle and defaults as Spring Boot's auto-configured {@code MessageSource}. */
+  public static MessageSource messageSource() {
+    ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+    messageSource.setBasename(MESSAGES_BASENAME);
+    messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+    return messageSource;
+  }
+
+  public CodegenCliExecutor cliExecutor() {
+    return cliExecutor;
+  }
+
+  @Override
+  public void close() {
+    closeAll(closeables);
+  }
+
+  private static CodegenCliExecutor wire(
+      LeanProperties properties, List<AutoCloseable> closeables) {
+    GenerationProperties generation = properties.generation();
+    FreeMarkerTemplatingProperties templating = properties.templating();
+    CodegenProfilesRegistry profiles =
+        new CodegenProfilesRegistry(new ProfileCatalogConfig().codegenProfilesProperties());
+
+    CodegenCommonConfig common = new CodegenCommonConfig();
+    StringCaseFormatter stringCaseFormatter = common.stringCaseFormatter();
+    BuildDependencyMapper buildDependencyMapper = common.pomDependencyMapper();
+    FtlClasspathTemplateScanner templateScanner =
+        common.ftlClasspathTemplateScanner(
+            common.ftlClasspathTemplateResourcePatternResolver(), templating);
+
+    FreeMarkerTemplatingConfig templatingConfig = new FreeMarkerTemplatingConfig(templating);
+    TemplateRenderer renderer =
+        templatingConfig.templateRenderer(
+            templatingConfig.freemarkerConfiguration(), templateScanner, Optional.empty());
+
+    GenerationExecutionConfig executionConfig = new GenerationExecutionConfig(generation);
+    OrderedTaskExecutor taskExecutor = track(closeables, executionConfig.generationTaskExecutor());
+    ArtifactPipelineExecutor pipelineExecutor =
+        executionConfig.artifactPipelineExecutor(taskExecutor);
+
+    ProjectArtifactsSelector artifactsSelector =
+        new ProjectArtifactsSelectorConfig()
+            .projectArtifactsSelector(
+                Map.of(
+                    ProfileKeys.SPRING_BOOT_MAVEN_JAVA,
+                    () ->
+                        springBootMavenJavaArtifacts(
+                            profiles,
+                            renderer,
+                            templateScanner,
+                            stringCaseFormatter,
+                            buildDependencyMapper,
+                            taskExecutor,
+                            pipelineExecutor)));
+
+    ProjectFilesystemConfig filesystem = new ProjectFilesystemConfig();
+    ProjectRootPort rootPort = filesystem.fileSystemProjectRootAdapter();
+    ProjectWriterPort writerPort =
+        track(closeables, filesystem.fileSystemProjectWriterAdapter(generation, Optional.empty()));
+    ProjectArchiverPort archiverPort =
+        track(
+            closeables, filesystem.fileSystemProjectArchiverAdapter(generation, Optional.empty()));
+    ProjectArchiveWriterPort archiveWriterPort =
+        filesystem.zipProjectArchiveWriterAdapter(generation);
+    ProjectOutputPort outputPort = filesystem.fileSystemProjectOutputAdapter();
+    ProjectOutputSinkPort outputSink =
+        filesystem.projectOutputSink(
+            generation, writerPort, archiverPort, archiveWriterPort, outputPort);
+
+    ProjectUseCaseConfig useCases = new ProjectUseCaseConfig();
+    ProjectBlueprintMapper blueprintMapper = useCases.projectBlueprintMapper();
+    CreateProjectPort createProjectPort =
+        useCases.createProjectHandler(
+            blueprintMapper,
+            useCases.createProjectResultMapper(),
+            useCases.createProjectExecutionContext(
+                rootPort, artifactsSelector, outputSink, archiveWriterPort),
+            Optional.empty());
+    CreateProjectBatchPort createProjectBatchPort =
+        useCases.createProjectBatchHandler(blueprintMapper, createProjectPort);
+
+    CliCommonConfig cliCommon = new CliCommonConfig();
+    CodegenCliExceptionHandler exceptionHandler =
+        cliCommon.codegenCliExceptionHandler(messageSource());
+    SpringBootCliConfig cli = new SpringBootCliConfig();
+    CreateProjectCommandMapper commandMapper = cli.createProjectCommandMapper();
+    BatchManifestReader manifestReader = cli.batchManifestReader();
+
+    LeanPicocliFactory factory =
+        new LeanPicocliFactory(
+            Map.of(
+                SpringBootGenerateCommand.class,
+                () -> cli.springBootGenerateCommand(commandMapper, createProjectPort),
+                BatchGenerateCommand.class,
+                () ->
+                    cli.batchGenerateCommand(
+                        manifestReader, commandMapper, createProjectBatchPort, exceptionHandler)));
+
+    CodegenCommand rootCommand = cliCommon.codegenCommand();
+    return new CodegenCliExecutor(rootCommand, factory, exceptionHandler);
+  }
+
+  private static ProjectArtifactsPort springBootMavenJavaArtifacts(
+      CodegenProfilesRegistry profiles,
+      TemplateRenderer renderer,
+      FtlClasspathTemplateScanner templateScanner,
+      StringCaseFormatter stringCaseFormatter,
+      BuildDependencyMapper buildDependencyMapper,
+      OrderedTaskExecutor taskExecutor,
+      ArtifactPipelineExecutor pipelineExecutor) {
+    SpringBootMavenJavaConfig config = new SpringBootMavenJavaConfig();
+    ArtifactSpecMapper specMapper = new ArtifactSpecMapper();
+
+    Map<ArtifactKey, ArtifactPort> artifacts =
+        config.springBootMavenJavaArtifactRegistry(
+            config.springBootMavenJavaMavenPomBuildConfigurationAdapter(
+                renderer, profiles, specMapper, buildDependencyMapper),
+            config.springBootMavenJavaMavenWrapperBuildToolFilesAdapter(
+                renderer, profiles, specMapper, taskExecutor),
+            config.springBootMavenJavaGitIgnoreAdapter(renderer, profiles, specMapper),
+            config.springBootMavenJavaSourceLayoutAdapter(),
+            config.springBootMavenJavaApplicationYamlAdapter(renderer, profiles, specMapper),
+            config.springBootMavenJavaMainSourceEntrypointAdapter(
+                renderer, profiles, specMapper, stringCaseFormatter),
+            config.springBootMavenJavaTestSourceEntrypointAdapter(
+                renderer, profiles, specMapper, stringCaseFormatter),
+            config.springBootMavenJavaArchitectureGovernanceAdapter(
+                renderer, profiles, specMapper, templateScanner, taskExecutor),
+            config.springBootMavenJavaSampleCodeAdapter(
+                renderer, profiles, specMapper, templateScanner, taskExecutor),
+            config.springBootMavenJavaProjectDocumentationAdapter(
+                renderer, profiles, specMapper, buildDependencyMapper));
+
+    return config.springBootMavenJavaArtifactsAdapter(pipelineExecutor, profiles, artifacts);
+  }
+
+  private static <T> T track(List<AutoCloseable> closeables, T component) {
+    if (component instanceof AutoCloseable closeable) {
+      closeables.add(closeable);
+    }
+    return component;
+  }
+
+  private static void closeAll(List<AutoCloseable> closeables) {
+    for (int i = closeables.size() - 1; i >= 0; i--) {
+      try {
+        closeables.get(i).close();
+      } catch (Exception e) {
+        // shutting down; nothing useful left to do with the failure
+      }
+    }
+    closeables.clear();
+  }
+}
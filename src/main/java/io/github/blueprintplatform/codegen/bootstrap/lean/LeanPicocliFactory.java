@@ -0,0 +1,25 @@
+package io.github.blueprintplatform.codegen.bootstrap.lean;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import picocli.CommandLine;
+
+/** Creates CLI commands from hand-wired suppliers, the lean counterpart of the Spring factory. */
+final class LeanPicocliFactory implements CommandLine.IFactory {
+
+  private final Map<Class<?>, Supplier<?>> commands;
+  private final CommandLine.IFactory defaultFactory = CommandLine.defaultFactory();
+
+  LeanPicocliFactory(Map<Class<?>, Supplier<?>> commands) {
+    this.commands = Map.copyOf(commands);
+  }
+
+  @Override
+  public <K> K create(Class<K> cls) throws Exception {
+    Supplier<?> command = commands.get(cls);
+    if (command != null) {
+      return cls.cast(command.get());
+    }
+    return defaultFactory.create(cls);
+  }
+}
@@ -0,0 +1,191 @@
+package io.github.blueprintplatform.codegen.bootstrap.lean;
+
+import io.github.blueprintplatform.codegen.bootstrap.error.exception.LeanConfigurationException;
+import io.github.blueprintplatform.codegen.bootstrap.generation.GenerationProperties;
+import io.github.blueprintplatform.codegen.bootstrap.templating.FreeMarkerTemplatingProperties;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+/**
+ * Builds the property records from the bundled {@code application.yml} without the Spring binder. A
+ * scalar is taken from a system property of the same kebab-case name first (for example {@code
+ * -Dgeneration.mode=parallel}), then from the file. Every property must be set in one of the two;
+ * unlike the binder, a missing one is not defaulted. The built records are checked against their
+ * Bean Validation constraints, as {@code @Validated} does in the Spring application.
+ */
+final class LeanProperties {
+
+  static final String APPLICATION_YAML = "application.yml";
+
+  private final Map<?, ?> yaml;
+  private final Properties overrides;
+
+  LeanProperties(Map<?, ?> yaml, Properties overrides) {
+    this.yaml = yaml;
+    this.overrides = overrides;
+  }
+
+  static LeanProperties load() {
+    return new LeanProperties(loadYaml(), System.getProperties());
+  }
+
+  /** The bundled {@code application.yml} as nested maps. */
+  static Map<?, ?> loadYaml() {
+    ClassLoader classLoader = LeanProperties.class.getClassLoader();
+    try (InputStream in = classLoader.getResourceAsStream(APPLICATION_YAML)) {
+      if (in == null) {
+        throw new LeanConfigurationException(
+            LeanConfigurationException.KEY_CONFIG_UNREADABLE, APPLICATION_YAML);
+      }
+      Object document = new Yaml(new SafeConstructor(new LoaderOptions())).load(in);
+      return document instanceof Map<?, ?> map ? map : Map.of();
+    } catch (IOException | YAMLException e) {
+      throw new LeanConfigurationException(
+          LeanConfigurationException.KEY_CONFIG_UNREADABLE, e, APPLICATION_YAML);
+    }
+  }
+
+  GenerationProperties generation() {
+    return validated(
+        "generation",
+        new GenerationProperties(
+            enumValue("generation.mode", GenerationProperties.Mode.class),
+            intValue("generation.parallelism"),
+            intValue("generation.stream-buffer-size"),
+            enumValue("generation.output-sink", GenerationProperties.OutputSink.class),
+            intValue("generation.writer-threads"),
+            new GenerationProperties.Archive(
+                intValue("generation.archive.threads"),
+                intValue("generation.archive.compression-level"))));
+  }
+
+  FreeMarkerTemplatingProperties templating() {
+    return validated(
+        "templating",
+        new FreeMarkerTemplatingProperties(
+            string("templating.encoding"),
+            enumValue("templating.handler", FreeMarkerTemplatingProperties.Handler.class),
+            string("templating.template-path"),
+            booleanValue("templating.cache-enabled"),
+            longValue("templating.cache-update-delay-ms"),
+            new FreeMarkerTemplatingProperties.Registry(
+                booleanValue("templating.registry.enabled"),
+                booleanValue("templating.registry.warm-up")),
+            new FreeMarkerTemplatingProperties.Index(booleanValue("templating.index.enabled")),
+            new FreeMarkerTemplatingProperties.Output(
+                enumValue(
+                    "templating.output.form", FreeMarkerTemplatingProperties.OutputForm.class),
+                intValue("templating.output.initial-buffer-size"))));
+  }
+
+  private String string(String name) {
+    return required(name);
+  }
+
+  private int intValue(String name) {
+    String value = required(name);
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      throw invalid(name, value, e);
+    }
+  }
+
+  private long longValue(String name) {
+    String value = required(name);
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      throw invalid(name, value, e);
+    }
+  }
+
+  private boolean booleanValue(String name) {
+    String value = required(name);
+    return switch (value.trim().toLowerCase(Locale.ROOT)) {
+      case "true" -> true;
+      case "false" -> false;
+      default -> throw invalid(name, value, null);
+    };
+  }
+
+  private <E extends Enum<E>> E enumValue(String name, Class<E> type) {
+    String value = required(name);
+    try {
+      return Enum.valueOf(type, value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw invalid(name, value, e);
+    }
+  }
+
+  private String required(String name) {
+    String value = raw(name);
+    if (value == null) {
+      throw new LeanConfigurationException(LeanConfigurationException.KEY_PROPERTY_MISSING, name);
+    }
+    return value;
+  }
+
+  private String raw(String name) {
+    String override = overrides.getProperty(name);
+    if (override != null) {
+      return override;
+    }
+    Object current = yaml;
+    for (String segment : name.split("\\.")) {
+      if (!(current instanceof Map<?, ?> map)) {
+        return null;
+      }
+      current = map.get(segment);
+    }
+    return current instanceof Map<?, ?> || current instanceof List<?> ? null : text(current);
+  }
+
+  private static String text(Object value) {
+    return value == null ? null : String.valueOf(value);
+  }
+
+  private static <T> T validated(String prefix, T properties) {
+    Set<ConstraintViolation<T>> violations = Validators.VALIDATOR.validate(properties);
+    violations.stream()
+        .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+        .ifPresent(
+            violation -> {
+              throw new LeanConfigurationException(
+                  LeanConfigurationException.KEY_PROPERTY_CONSTRAINT,
+                  prefix + "." + kebabCase(violation.getPropertyPath().toString()),
+                  violation.getInvalidValue(),
+                  violation.getMessage());
+            });
+    return properties;
+  }
+
+  /** {@code archive.compressionLevel} to {@code archive.compression-level}. */
+  private static String kebabCase(String path) {
+    return path.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase(Locale.ROOT);
+  }
+
+  private static LeanConfigurationException invalid(String name, String value, Throwable cause) {
+    return new LeanConfigurationException(
+        LeanConfigurationException.KEY_PROPERTY_INVALID, cause, name, value);
+  }
+
+  /** Built on first use; validation is the only part of the lean launcher that needs it. */
+  private static final class Validators {
+    private static final Validator VALIDATOR =
+        Validation.buildDefaultValidatorFactory().getValidator();
+  }
+}
@@ -0,0 +1,147 @@
+package io.github.blueprintplatform.codegen.bootstrap.metrics;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.base.AdapterException;
+import io.github.blueprintplatform.codegen.application.error.exception.ApplicationException;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.ProjectFileSummary;
+import io.github.blueprintplatform.codegen.bootstrap.error.exception.BootstrapException;
+import io.github.blueprintplatform.codegen.domain.error.exception.DomainException;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Meters every generation that goes through the use case, whichever inbound adapter started it.
+ *
+ * <ul>
+ *   <li>{@value #GENERATION_TIMER}: one timing per generation, tagged by profile and outcome.
+ *   <li>{@value #FAILURE_COUNTER}: failed generations, tagged by profile and exception family
+ *       ({@code domain}, {@code application}, {@code adapter}, {@code bootstrap}, {@code
+ *       unexpected}).
+ *   <li>{@value #PROJECT_SIZE}: total bytes of the generated files, whatever the output target.
+ *       Left out when the output step did not measure every file, as with the staged sink.
+ *   <li>{@value #ARCHIVE_SIZE}: size of the archive, when one was written to a file.
+ * </ul>
+ */
+public final class MeteredCreateProjectHandler implements CreateProjectPort {
+
+  public static final String GENERATION_TIMER = "codegen.generation";
+  public static final String FAILURE_COUNTER = "codegen.generation.failures";
+  public static final String PROJECT_SIZE = "codegen.generation.project.size";
+  public static final String ARCHIVE_SIZE = "codegen.generation.archive.size";
+
+  private static final String PROFILE_TAG = "profile";
+  private static final String OUTCOME_TAG = "outcome";
+  private static final String FAMILY_TAG = "family";
+  private static final String UNKNOWN_PROFILE = "unknown";
+
+  private final CreateProjectPort delegate;
+  private final MeterRegistry registry;
+
+  public MeteredCreateProjectHandler(CreateProjectPort delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.registry = registry;
+  }
+
+  @Override
+  public CreateProjectResult handle(CreateProjectCommand createProjectCommand) {
+    String profile = profile(createProjectCommand.techStack());
+    Timer.Sample sample = Timer.start(registry);
+
+    CreateProjectResult result;
+    try {
+      result = delegate.handle(createProjectCommand);
+    } catch (RuntimeException e) {
+      sample.stop(generationTimer(profile, "failure"));
+      Counter.builder(FAILURE_COUNTER)
+          .description("Failed project generations")
+          .tag(PROFILE_TAG, profile)
+          .tag(FAMILY_TAG, family(e))
+          .register(registry)
+          .increment();
+      throw e;
+    }
+
+    sample.stop(generationTimer(profile, "success"));
+    recordSizes(profile, result);
+    return result;
+  }
+
+  private Timer generationTimer(String profile, String outcome) {
+    return Timer.builder(GENERATION_TIMER)
+        .description("Time to generate one project, from command to written output")
+        .tag(PROFILE_TAG, profile)
+        .tag(OUTCOME_TAG, outcome)
+        .register(registry);
+  }
+
+  private void recordSizes(String profile, CreateProjectResult result) {
+    if (result.project() != null) {
+      long bytes = projectSize(result.project().files());
+      if (bytes != ProjectFileSummary.UNKNOWN_SIZE) {
+        sizeSummary(PROJECT_SIZE, "Total size of the files of each generated project", profile)
+            .record(bytes);
+      }
+    }
+
+    Path archive = result.archivePath();
+    if (archive != null) {
+      try {
+        sizeSummary(ARCHIVE_SIZE, "Size of each project archive written to a file", profile)
+            .record(Files.size(archive));
+      } catch (IOException e) {
+        // The archive was written; one that can no longer be measured is left out of the summary.
+      }
+    }
+  }
+
+  private static long projectSize(List<ProjectFileSummary> files) {
+    long bytes = 0;
+    for (ProjectFileSummary file : files) {
+      if (file.size() == ProjectFileSummary.UNKNOWN_SIZE) {
+        return ProjectFileSummary.UNKNOWN_SIZE;
+      }
+      bytes += file.size();
+    }
+    return bytes;
+  }
+
+  private DistributionSummary sizeSummary(String name, String description, String profile) {
+    return DistributionSummary.builder(name)
+        .description(description)
+        .baseUnit(BaseUnits.BYTES)
+        .tag(PROFILE_TAG, profile)
+        .register(registry);
+  }
+
+  /** Same key as the profile catalog uses, for example {@code spring-boot-maven-java}. */
+  private static String profile(TechStack techStack) {
+    if (techStack == null) {
+      return UNKNOWN_PROFILE;
+    }
+    return techStack.framework().key()
+        + "-"
+        + techStack.buildTool().key()
+        + "-"
+        + techStack.language().key();
+  }
+
+  private static String family(RuntimeException failure) {
+    return switch (failure) {
+      case DomainException ignored -> "domain";
+      case ApplicationException ignored -> "application";
+      case AdapterException ignored -> "adapter";
+      case BootstrapException ignored -> "bootstrap";
+      default -> "unexpected";
+    };
+  }
+}
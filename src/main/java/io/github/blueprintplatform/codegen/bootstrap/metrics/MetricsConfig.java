@@ -0,0 +1,51 @@
+package io.github.blueprintplatform.codegen.bootstrap.metrics;
+
+import io.github.blueprintplatform.codegen.adapter.in.http.MetricsHttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import java.net.InetSocketAddress;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Metrics for long-running deployments (HTTP API, daemon). The generation ports are metered against
+ * the primary {@link MeterRegistry}: a composite of every other {@code MeterRegistry} bean. The
+ * local Prometheus registry is always one of them and is served on {@link MetricsHttpServer#PATH};
+ * declaring another registry bean plugs in a further backend.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "metrics", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(MetricsProperties.class)
+public class MetricsConfig {
+
+  private final MetricsProperties props;
+
+  public MetricsConfig(MetricsProperties props) {
+    this.props = props;
+  }
+
+  @Bean
+  public PrometheusMeterRegistry prometheusMeterRegistry() {
+    return new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+  }
+
+  @Bean
+  @Primary
+  public CompositeMeterRegistry codegenMeterRegistry(List<MeterRegistry> registries) {
+    CompositeMeterRegistry composite = new CompositeMeterRegistry();
+    registries.forEach(composite::add);
+    return composite;
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  public MetricsHttpServer metricsHttpServer(PrometheusMeterRegistry prometheusMeterRegistry) {
+    return new MetricsHttpServer(
+        new InetSocketAddress(props.bindAddress(), props.port()), prometheusMeterRegistry::scrape);
+  }
+}
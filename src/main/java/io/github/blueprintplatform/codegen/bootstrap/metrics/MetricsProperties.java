@@ -0,0 +1,12 @@
+package io.github.blueprintplatform.codegen.bootstrap.metrics;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "metrics")
+public record MetricsProperties(
+    boolean enabled, @NotBlank String bindAddress, @Min(0) @Max(65535) int port) {}
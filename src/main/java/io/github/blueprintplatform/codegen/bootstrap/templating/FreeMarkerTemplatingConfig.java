@@ -5,8 +5,15 @@ import static freemarker.template.Configuration.VERSION_2_3_34;
 import freemarker.template.Configuration;
 import freemarker.template.TemplateExceptionHandler;
 import freemarker.template.Version;
+import io.github.blueprintplatform.codegen.adapter.out.shared.templating.FtlClasspathTemplateScanner;
+import io.github.blueprintplatform.codegen.adapter.out.templating.FreeMarkerTemplateRegistry;
 import io.github.blueprintplatform.codegen.adapter.out.templating.FreeMarkerTemplateRenderer;
+import io.github.blueprintplatform.codegen.adapter.out.templating.MeteredTemplateRenderer;
+import io.github.blueprintplatform.codegen.adapter.out.templating.ObservedTemplateRenderer;
+import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateOutput;
 import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateRenderer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
@@ -25,7 +32,7 @@ public class FreeMarkerTemplatingConfig {
   }
 
   @Bean
-  Configuration freemarkerConfiguration() {
+  public Configuration freemarkerConfiguration() {
     Configuration cfg = new Configuration(FM_VER);
     cfg.setDefaultEncoding(props.encoding());
     cfg.setOutputEncoding(props.encoding());
@@ -37,14 +44,53 @@ public class FreeMarkerTemplatingConfig {
     cfg.setNumberFormat(NUMBER_FORMAT_COMPUTER);
     cfg.setFallbackOnNullLoopVariable(false);
 
-    cfg.setTemplateUpdateDelayMilliseconds(props.cacheEnabled() ? props.cacheUpdateDelayMs() : 0L);
+    cfg.setTemplateUpdateDelayMilliseconds(resolveTemplateUpdateDelay());
 
     return cfg;
   }
 
   @Bean
-  TemplateRenderer templateRenderer(Configuration freemarkerConfiguration) {
-    return new FreeMarkerTemplateRenderer(freemarkerConfiguration);
+  public TemplateRenderer templateRenderer(
+      Configuration freemarkerConfiguration,
+      FtlClasspathTemplateScanner templateScanner,
+      Optional<MeterRegistry> meterRegistry) {
+    TemplateOutput output = toTemplateOutput(props.output());
+    if (!props.registry().enabled()) {
+      return metered(
+          new ObservedTemplateRenderer(
+              new FreeMarkerTemplateRenderer(freemarkerConfiguration, output)),
+          meterRegistry);
+    }
+
+    FreeMarkerTemplateRegistry registry = new FreeMarkerTemplateRegistry(freemarkerConfiguration);
+    if (props.registry().warmUp()) {
+      registry.warmUp(templateScanner.scanAll());
+    }
+    return metered(
+        new ObservedTemplateRenderer(new FreeMarkerTemplateRenderer(registry, output)),
+        meterRegistry);
+  }
+
+  private static TemplateRenderer metered(
+      TemplateRenderer renderer, Optional<MeterRegistry> meterRegistry) {
+    return meterRegistry.isPresent()
+        ? new MeteredTemplateRenderer(renderer, meterRegistry.get())
+        : renderer;
+  }
+
+  private TemplateOutput toTemplateOutput(FreeMarkerTemplatingProperties.Output o) {
+    return switch (o.form()) {
+      case STRING -> TemplateOutput.string();
+      case UTF8_BYTES -> TemplateOutput.utf8Bytes(o.initialBufferSize());
+    };
+  }
+
+  private long resolveTemplateUpdateDelay() {
+    if (props.registry().enabled()) {
+      // Parsed templates never go stale; this only affects #import/#include lookups.
+      return Long.MAX_VALUE;
+    }
+    return props.cacheEnabled() ? props.cacheUpdateDelayMs() : 0L;
   }
 
   private TemplateExceptionHandler toHandler(FreeMarkerTemplatingProperties.Handler h) {
@@ -1,7 +1,9 @@
 package io.github.blueprintplatform.codegen.bootstrap.templating;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -12,11 +14,39 @@ public record FreeMarkerTemplatingProperties(
     @NotNull Handler handler,
     @NotBlank String templatePath,
     boolean cacheEnabled,
-    long cacheUpdateDelayMs) {
+    long cacheUpdateDelayMs,
+    @Valid @NotNull Registry registry,
+    @Valid @NotNull Index index,
+    @Valid @NotNull Output output) {
+
+  /**
+   * When enabled, each template is parsed once and reused for the lifetime of the application;
+   * {@code cacheEnabled} and {@code cacheUpdateDelayMs} no longer apply. Disable it while editing
+   * templates to pick up changes without a restart.
+   */
+  public record Registry(boolean enabled, boolean warmUp) {}
+
+  /**
+   * When enabled, template lookups use the build-time template index if it is on the classpath.
+   * Disable it to always scan the classpath, for example when adding templates without rebuilding.
+   */
+  public record Index(boolean enabled) {}
+
+  /**
+   * {@code UTF8_BYTES} encodes template output directly into a reusable per-thread buffer of {@code
+   * initialBufferSize} bytes; {@code STRING} keeps the output as a {@code String}.
+   */
+  public record Output(@NotNull OutputForm form, @Positive int initialBufferSize) {}
+
   public enum Handler {
     RETHROW,
     DEBUG,
     HTML_DEBUG,
     IGNORE
   }
+
+  public enum OutputForm {
+    STRING,
+    UTF8_BYTES
+  }
 }
@@ -1,15 +1,18 @@
 package io.github.blueprintplatform.codegen.bootstrap.wiring.application.project;
 
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectBatchPort;
 import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
 import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsSelector;
-import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiverPort;
-import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputPort;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiveWriterPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputSinkPort;
 import io.github.blueprintplatform.codegen.application.usecase.project.*;
 import io.github.blueprintplatform.codegen.application.usecase.project.context.CreateProjectExecutionContext;
 import io.github.blueprintplatform.codegen.application.usecase.project.mapper.CreateProjectResultMapper;
 import io.github.blueprintplatform.codegen.application.usecase.project.mapper.ProjectBlueprintMapper;
+import io.github.blueprintplatform.codegen.bootstrap.metrics.MeteredCreateProjectHandler;
 import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectRootPort;
-import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectWriterPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,20 +33,31 @@ public class ProjectUseCaseConfig {
   public CreateProjectExecutionContext createProjectExecutionContext(
       ProjectRootPort rootPort,
       ProjectArtifactsSelector artifactsSelector,
-      ProjectWriterPort writerPort,
-      ProjectOutputPort projectOutputPort,
-      ProjectArchiverPort archiverPort) {
+      ProjectOutputSinkPort outputSinkPort,
+      ProjectArchiveWriterPort archiveWriterPort) {
     return new CreateProjectExecutionContext(
-        rootPort, artifactsSelector, writerPort, projectOutputPort, archiverPort);
+        rootPort, artifactsSelector, outputSinkPort, archiveWriterPort);
   }
 
   @Bean
   public CreateProjectPort createProjectHandler(
       ProjectBlueprintMapper projectBlueprintMapper,
       CreateProjectResultMapper createProjectResultMapper,
-      CreateProjectExecutionContext createProjectExecutionContext) {
+      CreateProjectExecutionContext createProjectExecutionContext,
+      Optional<MeterRegistry> meterRegistry) {
 
-    return new CreateProjectHandler(
-        projectBlueprintMapper, createProjectResultMapper, createProjectExecutionContext);
+    CreateProjectPort handler =
+        new CreateProjectHandler(
+            projectBlueprintMapper, createProjectResultMapper, createProjectExecutionContext);
+    return meterRegistry.isPresent()
+        ? new MeteredCreateProjectHandler(handler, meterRegistry.get())
+        : handler;
+  }
+
+  @Bean
+  public CreateProjectBatchPort createProjectBatchHandler(
+      ProjectBlueprintMapper projectBlueprintMapper, CreateProjectPort createProjectPort) {
+
+    return new CreateProjectBatchHandler(projectBlueprintMapper, createProjectPort);
   }
 }
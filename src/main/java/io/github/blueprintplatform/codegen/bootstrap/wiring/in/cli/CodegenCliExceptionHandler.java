@@ -67,9 +67,26 @@ public class CodegenCliExceptionHandler implements IExecutionExceptionHandler {
     };
   }
 
+  /** One-line, localized description of a failure, for reports that carry on after it. */
+  public String describe(Throwable failure) {
+    return switch (failure) {
+      case DomainException e -> resolve(e.getMessageKey(), e.getArgs());
+      case ApplicationException e -> resolve(e.getMessageKey(), e.getArgs());
+      case AdapterException e -> resolve(e.getMessageKey(), e.getArgs());
+      case BootstrapException e -> resolve(e.getMessageKey(), e.getArgs());
+      default -> {
+        log.error("Unexpected failure", failure);
+        yield "Unexpected failure: " + failure;
+      }
+    };
+  }
+
   private void printLocalizedError(CommandLine cmd, String key, Object[] args) {
-    String resolved = messageSource.getMessage(key, args, key, Locale.getDefault());
-    cmd.getErr().println("codegen: error: " + resolved);
+    cmd.getErr().println("codegen: error: " + resolve(key, args));
     cmd.getErr().println("(code: " + key + ")");
   }
+
+  private String resolve(String key, Object[] args) {
+    return messageSource.getMessage(key, args, key, Locale.getDefault());
+  }
 }
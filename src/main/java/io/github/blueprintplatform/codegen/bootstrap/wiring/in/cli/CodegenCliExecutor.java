@@ -1,9 +1,12 @@
 package io.github.blueprintplatform.codegen.bootstrap.wiring.in.cli;
 
 import io.github.blueprintplatform.codegen.adapter.in.cli.CodegenCommand;
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.CliInvocationContext;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.*;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDependencyOption;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.file.Path;
 import org.springframework.stereotype.Component;
 import picocli.CommandLine;
 
@@ -38,6 +41,20 @@ public class CodegenCliExecutor {
     return cmd.execute(args);
   }
 
+  /**
+   * Runs one invocation on behalf of a client whose working directory and stdout differ from the
+   * process's own, such as a daemon client. Relative paths resolve against {@code workingDirectory}
+   * and {@code --output -} writes to {@code out}.
+   */
+  public int execute(String[] args, Path workingDirectory, PrintStream out, PrintStream err) {
+    try (CliInvocationContext.Scope ignored = CliInvocationContext.bind(workingDirectory, out)) {
+      int exitCode = execute(args, out, err);
+      out.flush();
+      err.flush();
+      return exitCode;
+    }
+  }
+
   private CommandLine getCommandLine() {
     CommandLine commandLine =
         new CommandLine(codegenCommand, factory)
@@ -53,7 +70,9 @@ public class CodegenCliExecutor {
             .registerConverter(
                 SpringBootSampleCodeOption.class, SpringBootSampleCodeOption::fromKey)
             .registerConverter(
-                SpringBootDependencyOption.class, SpringBootDependencyOption::fromKey);
+                SpringBootDependencyOption.class, SpringBootDependencyOption::fromKey)
+            .registerConverter(
+                SpringBootArchiveFormatOption.class, SpringBootArchiveFormatOption::fromKey);
 
     commandLine.setExecutionExceptionHandler(exceptionHandler);
     return commandLine;
@@ -1,11 +1,20 @@
 package io.github.blueprintplatform.codegen.bootstrap.wiring.in.cli;
 
+import io.github.blueprintplatform.codegen.adapter.in.cli.batch.BatchGenerateCommand;
+import io.github.blueprintplatform.codegen.adapter.in.cli.batch.BatchManifestReader;
 import io.github.blueprintplatform.codegen.adapter.in.cli.mapper.CreateProjectCommandMapper;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.SpringBootGenerateCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectBatchPort;
 import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
 
+/**
+ * Picocli binds parsed options onto the command instances, so commands are prototypes: every {@code
+ * CommandLine} gets its own, and concurrent invocations (daemon clients) never share state.
+ */
 @Configuration
 public class SpringBootCliConfig {
 
@@ -15,9 +24,27 @@ public class SpringBootCliConfig {
   }
 
   @Bean
+  @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
   public SpringBootGenerateCommand springBootGenerateCommand(
       CreateProjectCommandMapper mapper, CreateProjectPort createProjectPort) {
 
     return new SpringBootGenerateCommand(mapper, createProjectPort);
   }
+
+  @Bean
+  public BatchManifestReader batchManifestReader() {
+    return new BatchManifestReader();
+  }
+
+  @Bean
+  @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+  public BatchGenerateCommand batchGenerateCommand(
+      BatchManifestReader batchManifestReader,
+      CreateProjectCommandMapper mapper,
+      CreateProjectBatchPort createProjectBatchPort,
+      CodegenCliExceptionHandler codegenCliExceptionHandler) {
+
+    return new BatchGenerateCommand(
+        batchManifestReader, mapper, createProjectBatchPort, codegenCliExceptionHandler::describe);
+  }
 }
@@ -0,0 +1,47 @@
+package io.github.blueprintplatform.codegen.bootstrap.wiring.in.daemon;
+
+import io.github.blueprintplatform.codegen.adapter.in.daemon.CodegenDaemonServer;
+import io.github.blueprintplatform.codegen.adapter.in.daemon.DaemonProtocol;
+import io.github.blueprintplatform.codegen.bootstrap.wiring.in.cli.CodegenCliExecutor;
+import java.nio.file.Path;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "daemon", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DaemonProperties.class)
+public class DaemonConfig {
+
+  private final DaemonProperties props;
+
+  public DaemonConfig(DaemonProperties props) {
+    this.props = props;
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  public CodegenDaemonServer codegenDaemonServer(
+      CodegenCliExecutor codegenCliExecutor, ConfigurableApplicationContext context) {
+    return new CodegenDaemonServer(
+        resolveSocketPath(),
+        resolveThreads(),
+        props.idleTimeout(),
+        codegenCliExecutor::execute,
+        () -> System.exit(SpringApplication.exit(context)));
+  }
+
+  private Path resolveSocketPath() {
+    String configured = props.socketPath();
+    return configured != null && !configured.isBlank()
+        ? Path.of(configured)
+        : DaemonProtocol.defaultSocketPath();
+  }
+
+  private int resolveThreads() {
+    int configured = props.threads();
+    return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+  }
+}
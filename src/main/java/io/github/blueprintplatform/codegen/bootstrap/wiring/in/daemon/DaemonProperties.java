@@ -0,0 +1,15 @@
+package io.github.blueprintplatform.codegen.bootstrap.wiring.in.daemon;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "daemon")
+public record DaemonProperties(
+    boolean enabled,
+    String socketPath,
+    @PositiveOrZero int threads,
+    @NotNull Duration idleTimeout) {}
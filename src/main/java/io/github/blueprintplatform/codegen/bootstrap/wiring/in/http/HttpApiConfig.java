@@ -0,0 +1,60 @@
+package io.github.blueprintplatform.codegen.bootstrap.wiring.in.http;
+
+import io.github.blueprintplatform.codegen.adapter.in.http.CodegenHttpServer;
+import io.github.blueprintplatform.codegen.adapter.in.http.SpringBootProjectHttpHandler;
+import io.github.blueprintplatform.codegen.adapter.in.http.mapper.SpringBootProjectHttpRequestMapper;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import java.net.InetSocketAddress;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "http", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(HttpApiProperties.class)
+public class HttpApiConfig {
+
+  private final HttpApiProperties props;
+
+  public HttpApiConfig(HttpApiProperties props) {
+    this.props = props;
+  }
+
+  @Bean
+  public HttpErrorTranslator httpErrorTranslator(MessageSource messageSource) {
+    return new HttpErrorTranslator(messageSource);
+  }
+
+  @Bean
+  public SpringBootProjectHttpRequestMapper springBootProjectHttpRequestMapper() {
+    return new SpringBootProjectHttpRequestMapper();
+  }
+
+  @Bean
+  public SpringBootProjectHttpHandler springBootProjectHttpHandler(
+      SpringBootProjectHttpRequestMapper springBootProjectHttpRequestMapper,
+      CreateProjectPort createProjectPort,
+      HttpErrorTranslator httpErrorTranslator) {
+    return new SpringBootProjectHttpHandler(
+        springBootProjectHttpRequestMapper,
+        createProjectPort,
+        httpErrorTranslator,
+        props.maxRequestBytes());
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  public CodegenHttpServer codegenHttpServer(
+      SpringBootProjectHttpHandler springBootProjectHttpHandler) {
+    return new CodegenHttpServer(
+        new InetSocketAddress(props.bindAddress(), props.port()),
+        resolveThreads(),
+        springBootProjectHttpHandler);
+  }
+
+  private int resolveThreads() {
+    int configured = props.threads();
+    return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+  }
+}
@@ -0,0 +1,18 @@
+package io.github.blueprintplatform.codegen.bootstrap.wiring.in.http;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "http")
+public record HttpApiProperties(
+    boolean enabled,
+    @NotBlank String bindAddress,
+    @Min(0) @Max(65535) int port,
+    @PositiveOrZero int threads,
+    @Positive int maxRequestBytes) {}
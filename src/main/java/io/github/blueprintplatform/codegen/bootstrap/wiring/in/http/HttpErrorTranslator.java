@@ -0,0 +1,62 @@
+package io.github.blueprintplatform.codegen.bootstrap.wiring.in.http;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.base.AdapterException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidCliOptionException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidDependencyAliasException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.http.InvalidHttpRequestException;
+import io.github.blueprintplatform.codegen.adapter.in.http.HttpError;
+import io.github.blueprintplatform.codegen.application.error.exception.ApplicationException;
+import io.github.blueprintplatform.codegen.bootstrap.error.exception.BootstrapException;
+import io.github.blueprintplatform.codegen.domain.error.exception.DomainException;
+import java.util.Locale;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSource;
+
+/**
+ * Maps failures to HTTP errors the way {@link
+ * io.github.blueprintplatform.codegen.bootstrap.wiring.in.cli.CodegenCliExceptionHandler} maps them
+ * to exit codes: invalid requests are {@code 400}, application rule violations {@code 422}, and
+ * everything else {@code 500}.
+ */
+public class HttpErrorTranslator implements Function<Throwable, HttpError> {
+
+  private static final Logger log = LoggerFactory.getLogger(HttpErrorTranslator.class);
+
+  private static final String UNEXPECTED_CODE = "unexpected";
+
+  private final MessageSource messageSource;
+
+  public HttpErrorTranslator(MessageSource messageSource) {
+    this.messageSource = messageSource;
+  }
+
+  @Override
+  public HttpError apply(Throwable failure) {
+    return switch (failure) {
+      case DomainException e -> error(400, e.getMessageKey(), e.getArgs());
+      case InvalidCliOptionException e -> error(400, e.getMessageKey(), e.getArgs());
+      case InvalidDependencyAliasException e -> error(400, e.getMessageKey(), e.getArgs());
+      case InvalidHttpRequestException e -> error(400, e.getMessageKey(), e.getArgs());
+      case ApplicationException e -> error(422, e.getMessageKey(), e.getArgs());
+      case AdapterException e -> serverError(e, e.getMessageKey(), e.getArgs());
+      case BootstrapException e -> serverError(e, e.getMessageKey(), e.getArgs());
+      default -> {
+        log.error("Unexpected HTTP API error", failure);
+        yield new HttpError(
+            500, UNEXPECTED_CODE, "Unexpected failure. Please try again or open an issue.");
+      }
+    };
+  }
+
+  private HttpError serverError(Throwable failure, String key, Object[] args) {
+    log.error("HTTP API request failed", failure);
+    return error(500, key, args);
+  }
+
+  private HttpError error(int status, String key, Object[] args) {
+    return new HttpError(
+        status, key, messageSource.getMessage(key, args, key, Locale.getDefault()));
+  }
+}
@@ -1,13 +1,25 @@
 package io.github.blueprintplatform.codegen.bootstrap.wiring.out.filesystem;
 
+import io.github.blueprintplatform.codegen.adapter.out.archive.StreamingProjectArchiveWriterAdapter;
+import io.github.blueprintplatform.codegen.adapter.out.filesystem.FileSystemFanOutOutputSinkAdapter;
 import io.github.blueprintplatform.codegen.adapter.out.filesystem.FileSystemProjectArchiverAdapter;
 import io.github.blueprintplatform.codegen.adapter.out.filesystem.FileSystemProjectOutputAdapter;
 import io.github.blueprintplatform.codegen.adapter.out.filesystem.FileSystemProjectRootAdapter;
 import io.github.blueprintplatform.codegen.adapter.out.filesystem.FileSystemProjectWriterAdapter;
+import io.github.blueprintplatform.codegen.adapter.out.filesystem.MeteredProjectArchiverAdapter;
+import io.github.blueprintplatform.codegen.adapter.out.filesystem.MeteredProjectWriterAdapter;
+import io.github.blueprintplatform.codegen.adapter.out.filesystem.ParallelFileSystemProjectWriterAdapter;
+import io.github.blueprintplatform.codegen.adapter.out.filesystem.ParallelZipProjectArchiverAdapter;
+import io.github.blueprintplatform.codegen.adapter.out.filesystem.StagedProjectOutputSinkAdapter;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiveWriterPort;
 import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiverPort;
 import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputSinkPort;
+import io.github.blueprintplatform.codegen.bootstrap.generation.GenerationProperties;
 import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectRootPort;
 import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectWriterPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,17 +32,56 @@ public class ProjectFilesystemConfig {
   }
 
   @Bean
-  public ProjectWriterPort fileSystemProjectWriterAdapter() {
-    return new FileSystemProjectWriterAdapter();
+  public ProjectWriterPort fileSystemProjectWriterAdapter(
+      GenerationProperties generationProperties, Optional<MeterRegistry> meterRegistry) {
+    int writerThreads = generationProperties.writerThreads();
+    ProjectWriterPort writer =
+        writerThreads > 0
+            ? new ParallelFileSystemProjectWriterAdapter(writerThreads)
+            : new FileSystemProjectWriterAdapter();
+    return meterRegistry.isPresent()
+        ? new MeteredProjectWriterAdapter(writer, meterRegistry.get())
+        : writer;
   }
 
   @Bean
-  public ProjectArchiverPort fileSystemProjectArchiverAdapter() {
-    return new FileSystemProjectArchiverAdapter();
+  public ProjectArchiverPort fileSystemProjectArchiverAdapter(
+      GenerationProperties generationProperties, Optional<MeterRegistry> meterRegistry) {
+    GenerationProperties.Archive archive = generationProperties.archive();
+    ProjectArchiverPort archiver =
+        archive.threads() > 0
+            ? new ParallelZipProjectArchiverAdapter(archive.threads(), archive.compressionLevel())
+            : new FileSystemProjectArchiverAdapter(archive.compressionLevel());
+    return meterRegistry.isPresent()
+        ? new MeteredProjectArchiverAdapter(archiver, meterRegistry.get())
+        : archiver;
+  }
+
+  @Bean
+  public ProjectArchiveWriterPort zipProjectArchiveWriterAdapter(
+      GenerationProperties generationProperties) {
+    return new StreamingProjectArchiveWriterAdapter(
+        generationProperties.archive().compressionLevel());
   }
 
   @Bean
   public ProjectOutputPort fileSystemProjectOutputAdapter() {
     return new FileSystemProjectOutputAdapter();
   }
+
+  @Bean
+  public ProjectOutputSinkPort projectOutputSink(
+      GenerationProperties generationProperties,
+      ProjectWriterPort writerPort,
+      ProjectArchiverPort archiverPort,
+      ProjectArchiveWriterPort archiveWriterPort,
+      ProjectOutputPort outputPort) {
+    return switch (generationProperties.outputSink()) {
+      case FAN_OUT ->
+          new FileSystemFanOutOutputSinkAdapter(generationProperties.archive().compressionLevel());
+      case STAGED ->
+          new StagedProjectOutputSinkAdapter(
+              writerPort, archiverPort, archiveWriterPort, outputPort);
+    };
+  }
 }
@@ -7,23 +7,31 @@ import io.github.blueprintplatform.codegen.bootstrap.config.keys.ProfileKeys;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Registers each profile's artifacts pipeline by its profile key. Profile configurations are
+ * {@code @Lazy}; the registry holds providers, so a pipeline is only built when a request first
+ * selects its profile.
+ */
 @Configuration
 public class ProjectArtifactsSelectorConfig {
 
   @Bean
-  public Map<String, ProjectArtifactsPort> projectArtifactsPortRegistry(
-      ProjectArtifactsPort springBootMavenJavaArtifactsAdapter) {
-    Map<String, ProjectArtifactsPort> registry = new HashMap<>();
-    registry.put(ProfileKeys.SPRING_BOOT_MAVEN_JAVA, springBootMavenJavaArtifactsAdapter);
+  public Map<String, Supplier<ProjectArtifactsPort>> projectArtifactsPortRegistry(
+      ObjectProvider<ProjectArtifactsPort> springBootMavenJavaArtifactsAdapter) {
+    Map<String, Supplier<ProjectArtifactsPort>> registry = new HashMap<>();
+    registry.put(
+        ProfileKeys.SPRING_BOOT_MAVEN_JAVA, springBootMavenJavaArtifactsAdapter::getObject);
     return Collections.unmodifiableMap(registry);
   }
 
   @Bean
   public ProjectArtifactsSelector projectArtifactsSelector(
-      Map<String, ProjectArtifactsPort> projectArtifactsPortRegistry) {
+      Map<String, Supplier<ProjectArtifactsPort>> projectArtifactsPortRegistry) {
     return new ProfileBasedArtifactsSelector(projectArtifactsPortRegistry);
   }
 }
@@ -15,6 +15,7 @@ import io.github.blueprintplatform.codegen.adapter.out.profile.springboot.maven.
 import io.github.blueprintplatform.codegen.adapter.out.profile.springboot.maven.java.wrapper.MavenWrapperBuildToolFilesAdapter;
 import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ArtifactPipelineExecutor;
 import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ArtifactSpec;
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
 import io.github.blueprintplatform.codegen.adapter.out.shared.templating.FtlClasspathTemplateScanner;
 import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateRenderer;
 import io.github.blueprintplatform.codegen.adapter.shared.naming.StringCaseFormatter;
@@ -30,14 +31,17 @@ import java.util.List;
 import java.util.Map;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
+/** Built on first use through {@link ProjectArtifactsSelectorConfig}, not at startup. */
+@Lazy
 @Configuration
 public class SpringBootMavenJavaConfig {
 
   private static final String PROFILE_KEY = ProfileKeys.SPRING_BOOT_MAVEN_JAVA;
 
   @Bean
-  BuildConfigurationPort springBootMavenJavaMavenPomBuildConfigurationAdapter(
+  public BuildConfigurationPort springBootMavenJavaMavenPomBuildConfigurationAdapter(
       TemplateRenderer renderer,
       CodegenProfilesRegistry registry,
       ArtifactSpecMapper artifactSpecMapper,
@@ -50,17 +54,20 @@ public class SpringBootMavenJavaConfig {
   }
 
   @Bean
-  BuildToolFilesPort springBootMavenJavaMavenWrapperBuildToolFilesAdapter(
-      TemplateRenderer renderer, CodegenProfilesRegistry registry, ArtifactSpecMapper mapper) {
+  public BuildToolFilesPort springBootMavenJavaMavenWrapperBuildToolFilesAdapter(
+      TemplateRenderer renderer,
+      CodegenProfilesRegistry registry,
+      ArtifactSpecMapper mapper,
+      OrderedTaskExecutor generationTaskExecutor) {
 
     ArtifactSpec spec =
         mapper.from(registry.requireArtifact(PROFILE_KEY, ArtifactKey.BUILD_TOOL_FILES));
 
-    return new MavenWrapperBuildToolFilesAdapter(renderer, spec);
+    return new MavenWrapperBuildToolFilesAdapter(renderer, spec, generationTaskExecutor);
   }
 
   @Bean
-  IgnoreRulesPort springBootMavenJavaGitIgnoreAdapter(
+  public IgnoreRulesPort springBootMavenJavaGitIgnoreAdapter(
       TemplateRenderer renderer, CodegenProfilesRegistry registry, ArtifactSpecMapper mapper) {
 
     ArtifactSpec spec =
@@ -69,12 +76,12 @@ public class SpringBootMavenJavaConfig {
   }
 
   @Bean
-  SourceLayoutPort springBootMavenJavaSourceLayoutAdapter() {
+  public SourceLayoutPort springBootMavenJavaSourceLayoutAdapter() {
     return new SourceLayoutAdapter();
   }
 
   @Bean
-  ApplicationConfigurationPort springBootMavenJavaApplicationYamlAdapter(
+  public ApplicationConfigurationPort springBootMavenJavaApplicationYamlAdapter(
       TemplateRenderer renderer, CodegenProfilesRegistry registry, ArtifactSpecMapper mapper) {
 
     ArtifactSpec spec = mapper.from(registry.requireArtifact(PROFILE_KEY, ArtifactKey.APP_CONFIG));
@@ -82,7 +89,7 @@ public class SpringBootMavenJavaConfig {
   }
 
   @Bean
-  MainSourceEntrypointPort springBootMavenJavaMainSourceEntrypointAdapter(
+  public MainSourceEntrypointPort springBootMavenJavaMainSourceEntrypointAdapter(
       TemplateRenderer renderer,
       CodegenProfilesRegistry registry,
       ArtifactSpecMapper mapper,
@@ -95,7 +102,7 @@ public class SpringBootMavenJavaConfig {
   }
 
   @Bean
-  TestSourceEntrypointPort springBootMavenJavaTestSourceEntrypointAdapter(
+  public TestSourceEntrypointPort springBootMavenJavaTestSourceEntrypointAdapter(
       TemplateRenderer renderer,
       CodegenProfilesRegistry registry,
       ArtifactSpecMapper mapper,
@@ -108,34 +115,38 @@ public class SpringBootMavenJavaConfig {
   }
 
   @Bean
-  ArchitectureGovernancePort springBootMavenJavaArchitectureGovernanceAdapter(
+  public ArchitectureGovernancePort springBootMavenJavaArchitectureGovernanceAdapter(
       TemplateRenderer renderer,
       CodegenProfilesRegistry registry,
       ArtifactSpecMapper artifactSpecMapper,
-      FtlClasspathTemplateScanner classpathTemplateScanner) {
+      FtlClasspathTemplateScanner classpathTemplateScanner,
+      OrderedTaskExecutor generationTaskExecutor) {
 
     ArtifactSpec artifactSpec =
         artifactSpecMapper.from(
             registry.requireArtifact(PROFILE_KEY, ArtifactKey.ARCHITECTURE_GOVERNANCE));
 
-    return new ArchitectureGovernanceAdapter(renderer, artifactSpec, classpathTemplateScanner);
+    return new ArchitectureGovernanceAdapter(
+        renderer, artifactSpec, classpathTemplateScanner, generationTaskExecutor);
   }
 
   @Bean
-  SampleCodePort springBootMavenJavaSampleCodeAdapter(
+  public SampleCodePort springBootMavenJavaSampleCodeAdapter(
       TemplateRenderer renderer,
       CodegenProfilesRegistry registry,
       ArtifactSpecMapper artifactSpecMapper,
-      FtlClasspathTemplateScanner classpathTemplateScanner) {
+      FtlClasspathTemplateScanner classpathTemplateScanner,
+      OrderedTaskExecutor generationTaskExecutor) {
 
     ArtifactSpec artifactSpec =
         artifactSpecMapper.from(registry.requireArtifact(PROFILE_KEY, ArtifactKey.SAMPLE_CODE));
 
-    return new SampleCodeAdapter(renderer, artifactSpec, classpathTemplateScanner);
+    return new SampleCodeAdapter(
+        renderer, artifactSpec, classpathTemplateScanner, generationTaskExecutor);
   }
 
   @Bean
-  ProjectDocumentationPort springBootMavenJavaProjectDocumentationAdapter(
+  public ProjectDocumentationPort springBootMavenJavaProjectDocumentationAdapter(
       TemplateRenderer renderer,
       CodegenProfilesRegistry registry,
       ArtifactSpecMapper mapper,
@@ -148,7 +159,7 @@ public class SpringBootMavenJavaConfig {
   }
 
   @Bean
-  Map<ArtifactKey, ArtifactPort> springBootMavenJavaArtifactRegistry(
+  public Map<ArtifactKey, ArtifactPort> springBootMavenJavaArtifactRegistry(
       BuildConfigurationPort springBootMavenJavaMavenPomBuildConfigurationAdapter,
       BuildToolFilesPort springBootMavenJavaMavenWrapperBuildToolFilesAdapter,
       IgnoreRulesPort springBootMavenJavaGitIgnoreAdapter,
@@ -179,7 +190,7 @@ public class SpringBootMavenJavaConfig {
   }
 
   @Bean
-  ProjectArtifactsPort springBootMavenJavaArtifactsAdapter(
+  public ProjectArtifactsPort springBootMavenJavaArtifactsAdapter(
       ArtifactPipelineExecutor artifactPipelineExecutor,
       CodegenProfilesRegistry codegenProfilesProperties,
       Map<ArtifactKey, ArtifactPort> springBootMavenJavaArtifactRegistry) {
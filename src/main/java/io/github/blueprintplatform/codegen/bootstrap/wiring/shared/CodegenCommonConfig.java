@@ -1,9 +1,9 @@
 package io.github.blueprintplatform.codegen.bootstrap.wiring.shared;
 
 import io.github.blueprintplatform.codegen.adapter.out.build.shared.BuildDependencyMapper;
-import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ArtifactPipelineExecutor;
 import io.github.blueprintplatform.codegen.adapter.out.shared.templating.FtlClasspathTemplateScanner;
 import io.github.blueprintplatform.codegen.adapter.shared.naming.StringCaseFormatter;
+import io.github.blueprintplatform.codegen.bootstrap.templating.FreeMarkerTemplatingProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
@@ -24,13 +24,12 @@ public class CodegenCommonConfig {
 
   @Bean
   public FtlClasspathTemplateScanner ftlClasspathTemplateScanner(
-      ResourcePatternResolver ftlClasspathTemplateResourcePatternResolver) {
-    return new FtlClasspathTemplateScanner(ftlClasspathTemplateResourcePatternResolver);
-  }
-
-  @Bean
-  public ArtifactPipelineExecutor artifactPipelineExecutor() {
-    return new ArtifactPipelineExecutor();
+      ResourcePatternResolver ftlClasspathTemplateResourcePatternResolver,
+      FreeMarkerTemplatingProperties templatingProperties) {
+    if (!templatingProperties.index().enabled()) {
+      return new FtlClasspathTemplateScanner(ftlClasspathTemplateResourcePatternResolver);
+    }
+    return FtlClasspathTemplateScanner.indexed(ftlClasspathTemplateResourcePatternResolver);
   }
 
   @Bean
@@ -3,6 +3,8 @@ package io.github.blueprintplatform.codegen.domain.policy.file;
 import io.github.blueprintplatform.codegen.domain.error.code.ErrorCode;
 import io.github.blueprintplatform.codegen.domain.error.exception.DomainViolationException;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.ContentSource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.EncodedTextContent;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 
@@ -41,17 +43,33 @@ public final class GeneratedFilePolicy {
     if (content == null) {
       throw new DomainViolationException(FILE_CONTENT_NOT_BLANK);
     }
+    requireCharset(charset);
+  }
+
+  public static void requireCharset(Charset charset) {
     if (charset == null) {
       throw new DomainViolationException(FILE_CHARSET_NOT_BLANK);
     }
   }
 
+  public static void requireTextContent(EncodedTextContent content) {
+    if (content == null) {
+      throw new DomainViolationException(FILE_CONTENT_NOT_BLANK);
+    }
+  }
+
   public static void requireBinaryContent(byte[] bytes) {
     if (bytes == null) {
       throw new DomainViolationException(FILE_CONTENT_NOT_BLANK);
     }
   }
 
+  public static void requireContentSource(ContentSource source) {
+    if (source == null) {
+      throw new DomainViolationException(FILE_CONTENT_NOT_BLANK);
+    }
+  }
+
   public static void requireBinaryContent(BinaryContent content) {
     if (content == null) {
       throw new DomainViolationException(FILE_CONTENT_NOT_BLANK);
@@ -2,6 +2,7 @@ package io.github.blueprintplatform.codegen.domain.port.out.artifact;
 
 import static io.github.blueprintplatform.codegen.domain.policy.file.GeneratedFilePolicy.requireBinaryContent;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 @SuppressWarnings("java:S6206")
@@ -18,6 +19,15 @@ public final class BinaryContent {
     return Arrays.copyOf(bytes, bytes.length);
   }
 
+  /** Read-only view over the content, without copying it. */
+  public ByteBuffer asByteBuffer() {
+    return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+  }
+
+  public int size() {
+    return bytes.length;
+  }
+
   @Override
   public boolean equals(Object o) {
     return (this == o)
@@ -0,0 +1,22 @@
+package io.github.blueprintplatform.codegen.domain.port.out.artifact;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Lazily opened content of a generated file. The content is read only when the file is written, so
+ * large assets are streamed to their target instead of being held on the heap.
+ */
+@FunctionalInterface
+public interface ContentSource {
+
+  /** Opens a new stream over the content; the caller closes it. */
+  InputStream open() throws IOException;
+
+  /** The file backing this source, if any. Writers may use it for channel-to-channel copies. */
+  default Optional<Path> file() {
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,80 @@
+package io.github.blueprintplatform.codegen.domain.port.out.artifact;
+
+import static io.github.blueprintplatform.codegen.domain.policy.file.GeneratedFilePolicy.requireBinaryContent;
+import static io.github.blueprintplatform.codegen.domain.policy.file.GeneratedFilePolicy.requireCharset;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Text content that is already encoded with {@link #charset()}. Writers can copy the bytes to their
+ * target as-is, without decoding to or encoding from an intermediate {@link String}.
+ */
+@SuppressWarnings("java:S6206")
+public final class EncodedTextContent {
+
+  private final byte[] bytes;
+  private final Charset charset;
+
+  public EncodedTextContent(byte[] bytes, Charset charset) {
+    requireBinaryContent(bytes);
+    requireCharset(charset);
+    this.bytes = Arrays.copyOf(bytes, bytes.length);
+    this.charset = charset;
+  }
+
+  private EncodedTextContent(Charset charset, byte[] ownedBytes) {
+    requireBinaryContent(ownedBytes);
+    requireCharset(charset);
+    this.bytes = ownedBytes;
+    this.charset = charset;
+  }
+
+  /**
+   * Takes ownership of {@code bytes} without copying. The caller must not modify the array
+   * afterwards.
+   */
+  public static EncodedTextContent adopt(byte[] bytes, Charset charset) {
+    return new EncodedTextContent(charset, bytes);
+  }
+
+  public Charset charset() {
+    return charset;
+  }
+
+  public int size() {
+    return bytes.length;
+  }
+
+  public byte[] bytes() {
+    return Arrays.copyOf(bytes, bytes.length);
+  }
+
+  public void writeTo(OutputStream out) throws IOException {
+    out.write(bytes);
+  }
+
+  public String asText() {
+    return new String(bytes, charset);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return (this == o)
+        || (o instanceof EncodedTextContent other
+            && charset.equals(other.charset)
+            && Arrays.equals(this.bytes, other.bytes));
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(bytes) + charset.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "EncodedTextContent[size=" + bytes.length + ", charset=" + charset + "]";
+  }
+}
@@ -0,0 +1,26 @@
+package io.github.blueprintplatform.codegen.domain.port.out.artifact;
+
+import static io.github.blueprintplatform.codegen.domain.policy.file.GeneratedFilePolicy.requireRelativePath;
+import static io.github.blueprintplatform.codegen.domain.policy.file.GeneratedFilePolicy.requireTextContent;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+public record GeneratedEncodedTextResource(Path relativePath, EncodedTextContent content)
+    implements GeneratedResource {
+
+  public GeneratedEncodedTextResource {
+    requireRelativePath(relativePath);
+    requireTextContent(content);
+  }
+
+  public Charset charset() {
+    return content.charset();
+  }
+
+  @SuppressWarnings("NullableProblems")
+  @Override
+  public String toString() {
+    return "GeneratedEncodedTextResource[" + relativePath + ", " + content + "]";
+  }
+}
@@ -3,7 +3,11 @@ package io.github.blueprintplatform.codegen.domain.port.out.artifact;
 import java.nio.file.Path;
 
 public sealed interface GeneratedResource
-    permits GeneratedTextResource, GeneratedBinaryResource, GeneratedDirectory {
+    permits GeneratedTextResource,
+        GeneratedEncodedTextResource,
+        GeneratedBinaryResource,
+        GeneratedStreamedResource,
+        GeneratedDirectory {
 
   Path relativePath();
 }
@@ -0,0 +1,21 @@
+package io.github.blueprintplatform.codegen.domain.port.out.artifact;
+
+import static io.github.blueprintplatform.codegen.domain.policy.file.GeneratedFilePolicy.requireContentSource;
+import static io.github.blueprintplatform.codegen.domain.policy.file.GeneratedFilePolicy.requireRelativePath;
+
+import java.nio.file.Path;
+
+public record GeneratedStreamedResource(Path relativePath, ContentSource source)
+    implements GeneratedResource {
+
+  public GeneratedStreamedResource {
+    requireRelativePath(relativePath);
+    requireContentSource(source);
+  }
+
+  @SuppressWarnings("NullableProblems")
+  @Override
+  public String toString() {
+    return "GeneratedStreamedResource[" + relativePath + ", " + source + "]";
+  }
+}
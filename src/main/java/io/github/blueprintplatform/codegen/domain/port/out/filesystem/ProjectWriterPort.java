@@ -14,6 +14,17 @@ public interface ProjectWriterPort {
 
   void createDirectories(Path projectRoot, Path relativeDir);
 
+  default void writeBinary(Path projectRoot, Path relativePath, BinaryContent content) {
+    writeBytes(projectRoot, relativePath, content.bytes());
+  }
+
+  /** Copies the source to the file without holding its whole content on the heap. */
+  void writeStreamed(Path projectRoot, Path relativePath, ContentSource source);
+
+  default void writeEncodedText(Path projectRoot, Path relativePath, EncodedTextContent content) {
+    writeBytes(projectRoot, relativePath, content.bytes());
+  }
+
   default void writeText(Path projectRoot, Path relativePath, String content) {
     writeText(projectRoot, relativePath, content, StandardCharsets.UTF_8);
   }
@@ -23,8 +34,14 @@ public interface ProjectWriterPort {
       case GeneratedTextResource(Path relativePath, String content, Charset charset) ->
           writeText(projectRoot, relativePath, content, charset);
 
+      case GeneratedEncodedTextResource(Path relativePath, EncodedTextContent content) ->
+          writeEncodedText(projectRoot, relativePath, content);
+
       case GeneratedBinaryResource(Path relativePath, BinaryContent content) ->
-          writeBytes(projectRoot, relativePath, content.bytes());
+          writeBinary(projectRoot, relativePath, content);
+
+      case GeneratedStreamedResource(Path relativePath, ContentSource source) ->
+          writeStreamed(projectRoot, relativePath, source);
 
       case GeneratedDirectory(Path relativePath) -> createDirectories(projectRoot, relativePath);
     }
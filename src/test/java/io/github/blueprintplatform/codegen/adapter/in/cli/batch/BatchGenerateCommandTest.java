@@ -0,0 +1,150 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.blueprintplatform.codegen.adapter.in.cli.mapper.CreateProjectCommandMapper;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectBatchPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult.Outcome;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+@Tag("unit")
+@Tag("adapter")
+class BatchGenerateCommandTest {
+
+  @TempDir Path tempDir;
+
+  private static final String MANIFEST =
+      """
+      defaults:
+        group-id: com.acme
+        description: A generated service
+      projects:
+        - artifact-id: orders
+          name: Orders
+          package-name: com.acme.orders
+        - artifact-id: billing
+          name: Billing
+          package-name: com.acme.billing
+          layout: layered
+        - artifact-id: shipping
+          name: Shipping
+          package-name: com.acme.shipping
+      """;
+
+  @Test
+  @DisplayName("call() should generate the valid projects and report every project in order")
+  void call_shouldReportEveryProject() throws IOException {
+    Path manifest = Files.writeString(tempDir.resolve("batch.yml"), MANIFEST);
+    var batchPort = new RecordingBatchPort(null);
+    StringWriter out = new StringWriter();
+
+    int exitCode = execute(batchPort, out, manifest.toString(), "--jobs", "3");
+
+    assertThat(exitCode).isEqualTo(BatchGenerateCommand.EXIT_PROJECTS_FAILED);
+    assertThat(batchPort.lastCommand.jobs()).isEqualTo(3);
+    assertThat(batchPort.lastCommand.projects())
+        .extracting(CreateProjectCommand::artifactId)
+        .containsExactly("orders", "shipping");
+    assertThat(batchPort.lastCommand.projects())
+        .extracting(CreateProjectCommand::targetDirectory)
+        .containsOnly(Path.of("."));
+
+    assertThat(out.toString().lines())
+        .hasSize(4)
+        .startsWith(
+            "OK    orders  " + Path.of(".", "orders"),
+            "FAIL  billing  adapter.cli.springboot.layout.unknown",
+            "OK    shipping  " + Path.of(".", "shipping"));
+    assertThat(out.toString()).contains("3 projects: 2 succeeded, 1 failed (jobs: 3,");
+  }
+
+  @Test
+  @DisplayName("call() should exit with 0 and default --jobs to the processor count")
+  void call_shouldSucceedWhenAllProjectsSucceed() throws IOException {
+    Path manifest =
+        Files.writeString(
+            tempDir.resolve("batch.yml"), MANIFEST.replace("layout: layered", "layout: standard"));
+    var batchPort = new RecordingBatchPort(null);
+    StringWriter out = new StringWriter();
+
+    int exitCode = execute(batchPort, out, manifest.toString(), "--target-dir", tempDir.toString());
+
+    assertThat(exitCode).isZero();
+    assertThat(batchPort.lastCommand.jobs()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    assertThat(batchPort.lastCommand.projects())
+        .extracting(CreateProjectCommand::targetDirectory)
+        .containsOnly(tempDir);
+    assertThat(out.toString()).contains("3 projects: 3 succeeded, 0 failed");
+  }
+
+  @Test
+  @DisplayName("call() should report projects that fail during generation")
+  void call_shouldReportGenerationFailures() throws IOException {
+    Path manifest =
+        Files.writeString(
+            tempDir.resolve("batch.yml"), MANIFEST.replace("layout: layered", "layout: standard"));
+    var batchPort = new RecordingBatchPort("shipping");
+    StringWriter out = new StringWriter();
+
+    int exitCode = execute(batchPort, out, manifest.toString());
+
+    assertThat(exitCode).isEqualTo(BatchGenerateCommand.EXIT_PROJECTS_FAILED);
+    assertThat(out.toString())
+        .contains("FAIL  shipping  target exists")
+        .contains("3 projects: 2 succeeded, 1 failed");
+  }
+
+  private static int execute(CreateProjectBatchPort batchPort, StringWriter out, String... args) {
+    var command =
+        new BatchGenerateCommand(
+            new BatchManifestReader(),
+            new CreateProjectCommandMapper(),
+            batchPort,
+            Throwable::getMessage);
+    CommandLine commandLine = new CommandLine(command);
+    commandLine.setOut(new PrintWriter(out, true));
+    return commandLine.execute(args);
+  }
+
+  static class RecordingBatchPort implements CreateProjectBatchPort {
+
+    private final String failingArtifactId;
+    CreateProjectBatchCommand lastCommand;
+
+    RecordingBatchPort(String failingArtifactId) {
+      this.failingArtifactId = failingArtifactId;
+    }
+
+    @Override
+    public CreateProjectBatchResult handle(CreateProjectBatchCommand createProjectBatchCommand) {
+      this.lastCommand = createProjectBatchCommand;
+      List<Outcome> outcomes = new ArrayList<>();
+      for (CreateProjectCommand project : createProjectBatchCommand.projects()) {
+        String artifactId = project.artifactId();
+        outcomes.add(
+            artifactId.equals(failingArtifactId)
+                ? Outcome.failure(artifactId, new IllegalStateException("target exists"))
+                : Outcome.success(
+                    artifactId,
+                    new CreateProjectResult(
+                        null, project.targetDirectory().resolve(artifactId), null)));
+      }
+      return new CreateProjectBatchResult(outcomes);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidCliOptionException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidDependencyAliasException;
+import io.github.blueprintplatform.codegen.adapter.in.cli.request.CliProjectRequest;
+import io.github.blueprintplatform.codegen.adapter.in.cli.request.model.CliDependency;
+import io.github.blueprintplatform.codegen.adapter.in.cli.request.model.CliRuntimeTargetKeys;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class BatchManifestReaderTest {
+
+  private final BatchManifestReader reader = new BatchManifestReader();
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("read() should apply defaults and CLI defaults to every YAML project")
+  void read_yaml_shouldMergeDefaults() throws IOException {
+    Path manifest =
+        write(
+            "batch.yml",
+            """
+            defaults:
+              group-id: com.acme
+              layout: hexagonal
+              dependencies: [web, actuator]
+            projects:
+              - artifact-id: orders
+                name: Orders
+                description: Order management service
+                package-name: com.acme.orders
+                java: 21
+                boot: 3.5
+              - artifact-id: billing
+                name: Billing
+                description: Billing and invoicing service
+                package-name: com.acme.billing
+                layout: standard
+                dependencies: web
+                archive-format: tar.gz
+                target-dir: services
+                incremental: true
+            """);
+
+    List<BatchManifestEntry> entries = reader.read(manifest, tempDir);
+
+    assertThat(entries).extracting(BatchManifestEntry::failure).containsOnlyNulls();
+    assertThat(entries)
+        .extracting(BatchManifestEntry::artifactId)
+        .containsExactly("orders", "billing");
+
+    CliProjectRequest orders = entries.get(0).request();
+    assertThat(orders.metadata().groupId()).isEqualTo("com.acme");
+    assertThat(orders.architecture().layout()).isEqualTo("hexagonal");
+    assertThat(orders.architecture().guardrailsMode()).isEqualTo("basic");
+    assertThat(orders.runtimeTarget().params())
+        .containsEntry(CliRuntimeTargetKeys.PARAM_JAVA_VERSION, "21")
+        .containsEntry(CliRuntimeTargetKeys.PARAM_SPRING_BOOT_VERSION, "3.5");
+    assertThat(orders.dependencies())
+        .extracting(CliDependency::artifactId)
+        .containsExactly("spring-boot-starter-web", "spring-boot-starter-actuator");
+    assertThat(orders.targetDirectory()).isEqualTo(tempDir);
+    assertThat(orders.archiveFormat()).isEqualTo("zip");
+    assertThat(orders.incremental()).isFalse();
+
+    CliProjectRequest billing = entries.get(1).request();
+    assertThat(billing.architecture().layout()).isEqualTo("standard");
+    assertThat(billing.dependencies()).hasSize(1);
+    assertThat(billing.archiveFormat()).isEqualTo("tar.gz");
+    assertThat(billing.targetDirectory()).isEqualTo(Path.of("services"));
+    assertThat(billing.incremental()).isTrue();
+  }
+
+  @Test
+  @DisplayName("read() should accept a JSON array of projects")
+  void read_jsonList_shouldReadProjects() throws IOException {
+    Path manifest =
+        write(
+            "batch.json",
+            """
+            [{"group-id": "com.acme", "artifact-id": "orders", "name": "Orders",
+              "description": "Order management service", "package-name": "com.acme.orders"}]
+            """);
+
+    List<BatchManifestEntry> entries = reader.read(manifest, tempDir);
+
+    assertThat(entries).singleElement().satisfies(e -> assertThat(e.request()).isNotNull());
+  }
+
+  @Test
+  @DisplayName("read() should fail only the entries with unknown, missing or invalid options")
+  void read_shouldFailBadEntriesOnly() throws IOException {
+    Path manifest =
+        write(
+            "batch.yml",
+            """
+            defaults:
+              group-id: com.acme
+              description: A generated service
+              package-name: com.acme.svc
+            projects:
+              - artifact-id: orders
+                name: Orders
+              - artifact-id: billing
+              - artifact-id: shipping
+                name: Shipping
+                colour: blue
+              - artifact-id: search
+                name: Search
+                dependencies: [web, kafka]
+              - artifact-id: stream
+                name: Stream
+                output: "-"
+              - just-a-string
+            """);
+
+    List<BatchManifestEntry> entries = reader.read(manifest, tempDir);
+
+    assertThat(entries).hasSize(6);
+    assertThat(entries.get(0).failure()).isNull();
+    assertThat(entries.get(1).failure())
+        .isInstanceOfSatisfying(
+            InvalidCliOptionException.class, e -> assertThat(e.getArgs()).containsExactly("name"));
+    assertThat(entries.get(2).failure())
+        .isInstanceOfSatisfying(
+            InvalidCliOptionException.class,
+            e -> assertThat(e.getArgs()).containsExactly("colour"));
+    assertThat(entries.get(3).failure()).isInstanceOf(InvalidDependencyAliasException.class);
+    assertThat(entries.get(4).failure()).isInstanceOf(InvalidCliOptionException.class);
+    assertThat(entries.get(5).artifactId()).isNull();
+    assertThat(entries.get(5).failure()).isInstanceOf(InvalidCliOptionException.class);
+  }
+
+  @Test
+  @DisplayName("read() should reject a manifest without projects or with malformed syntax")
+  void read_shouldRejectInvalidManifest() throws IOException {
+    Path empty = write("empty.yml", "defaults:\n  group-id: com.acme\n");
+    Path malformed = write("malformed.json", "{\"projects\": [");
+    Path missing = tempDir.resolve("missing.yml");
+
+    assertThatThrownBy(() -> reader.read(empty, tempDir))
+        .isInstanceOfSatisfying(
+            InvalidCliOptionException.class,
+            e -> assertThat(e.getMessageKey()).endsWith("projects-required"));
+    assertThatThrownBy(() -> reader.read(malformed, tempDir))
+        .isInstanceOfSatisfying(
+            InvalidCliOptionException.class,
+            e -> assertThat(e.getMessageKey()).endsWith("malformed"));
+    assertThatThrownBy(() -> reader.read(missing, tempDir))
+        .isInstanceOfSatisfying(
+            InvalidCliOptionException.class,
+            e -> assertThat(e.getMessageKey()).endsWith("read-failed"));
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.writeString(tempDir.resolve(name), content);
+  }
+}
@@ -0,0 +1,31 @@
+package io.github.blueprintplatform.codegen.adapter.in.cli.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("adapter")
+class CliArgumentsTest {
+
+  @Test
+  @DisplayName("writesToStandardOutput() should detect --output - in both spellings")
+  void writesToStandardOutput_shouldDetectBothSpellings() {
+    assertThat(CliArguments.writesToStandardOutput(new String[] {"springboot", "--output", "-"}))
+        .isTrue();
+    assertThat(CliArguments.writesToStandardOutput(new String[] {"springboot", "--output=-"}))
+        .isTrue();
+  }
+
+  @Test
+  @DisplayName("writesToStandardOutput() should ignore file outputs and a trailing --output")
+  void writesToStandardOutput_shouldIgnoreOtherOutputs() {
+    assertThat(CliArguments.writesToStandardOutput(new String[] {"--output", "demo.zip"}))
+        .isFalse();
+    assertThat(CliArguments.writesToStandardOutput(new String[] {"--name", "-", "--output"}))
+        .isFalse();
+    assertThat(CliArguments.writesToStandardOutput(new String[0])).isFalse();
+  }
+}
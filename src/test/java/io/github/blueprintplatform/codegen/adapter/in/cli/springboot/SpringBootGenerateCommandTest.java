@@ -1,18 +1,21 @@
 package io.github.blueprintplatform.codegen.adapter.in.cli.springboot;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.blueprintplatform.codegen.adapter.in.cli.mapper.CreateProjectCommandMapper;
 import io.github.blueprintplatform.codegen.adapter.in.cli.request.CliProjectRequest;
 import io.github.blueprintplatform.codegen.adapter.in.cli.request.model.CliRuntimeTargetKeys;
+import io.github.blueprintplatform.codegen.adapter.in.cli.shared.CliInvocationContext;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.SpringBootArchitectureGuardrailsOption;
+import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.SpringBootArchiveFormatOption;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.SpringBootBuildToolOption;
-import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.SpringBootDependencyOption;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.SpringBootJavaVersionOption;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.SpringBootLanguageOption;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.SpringBootLayoutOption;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.SpringBootSampleCodeOption;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.option.SpringBootVersionOption;
+import io.github.blueprintplatform.codegen.adapter.in.shared.springboot.SpringBootDependencyOption;
 import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
@@ -21,17 +24,27 @@ import io.github.blueprintplatform.codegen.application.port.in.project.model.sum
 import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.ProjectMetadataSummary;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.RuntimeTargetSummary;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.TechStackSummary;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationStage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @Tag("unit")
 @Tag("adapter")
 class SpringBootGenerateCommandTest {
 
+  @TempDir Path tempDir;
+
   @Test
   @DisplayName("call() should build CliProjectRequest and invoke use case with mapped command")
   void call_shouldBuildRequestAndInvokeUseCase() {
@@ -56,6 +69,7 @@ class SpringBootGenerateCommandTest {
     cmd.guardrails = SpringBootArchitectureGuardrailsOption.NONE;
 
     cmd.dependencies = List.of(SpringBootDependencyOption.WEB);
+    cmd.archiveFormat = SpringBootArchiveFormatOption.TAR_GZ;
 
     Path expectedTargetDir = Path.of(".");
     cmd.targetDirectory = expectedTargetDir;
@@ -75,6 +89,9 @@ class SpringBootGenerateCommandTest {
     assertThat(r.metadata().packageName()).isEqualTo("com.acme.demo");
 
     assertThat(r.targetDirectory()).isEqualTo(expectedTargetDir);
+    assertThat(r.output()).isNull();
+    assertThat(r.archiveFormat()).isEqualTo("tar.gz");
+    assertThat(r.incremental()).isFalse();
 
     assertThat(r.techStack().framework()).isEqualTo("spring-boot");
     assertThat(r.techStack().buildTool()).isEqualTo("maven");
@@ -98,16 +115,139 @@ class SpringBootGenerateCommandTest {
     assertThat(useCase.lastCommand).isSameAs(mapper.returnedCommand);
   }
 
+  @Test
+  @DisplayName("call() with --timings FILE should write the reported timings to the file as JSON")
+  void call_withTimingsFile_shouldWriteJsonReport() throws IOException {
+    var mapper = new RecordingMapper();
+    var useCase =
+        new StubCreateProjectPort() {
+          @Override
+          public CreateProjectResult handle(CreateProjectCommand command) {
+            mapper.lastListener.stageCompleted(
+                GenerationStage.BLUEPRINT_MAPPING, Duration.ofMillis(2));
+            mapper.lastListener.artifactCompleted("build-config", Duration.ofMillis(3));
+            mapper.lastListener.templateRendered(
+                "springboot/maven/build/pom.xml.ftl", Path.of("pom.xml"), 42, Duration.ofMillis(1));
+            return super.handle(command);
+          }
+        };
+
+    var cmd = new SpringBootGenerateCommand(mapper, useCase);
+    cmd.groupId = "com.acme";
+    cmd.artifactId = "demo-app";
+    cmd.name = "Demo App";
+    cmd.description = "Demo application for Acme";
+    cmd.packageName = "com.acme.demo";
+    cmd.buildTool = SpringBootBuildToolOption.MAVEN;
+    cmd.language = SpringBootLanguageOption.JAVA;
+    cmd.javaVersion = SpringBootJavaVersionOption.JAVA_21;
+    cmd.bootVersion = SpringBootVersionOption.V3_5;
+    cmd.layout = SpringBootLayoutOption.STANDARD;
+    cmd.sampleCode = SpringBootSampleCodeOption.NONE;
+    cmd.guardrails = SpringBootArchitectureGuardrailsOption.NONE;
+    cmd.archiveFormat = SpringBootArchiveFormatOption.ZIP;
+    cmd.targetDirectory = tempDir;
+    Path timingsFile = tempDir.resolve("timings.json");
+    cmd.timings = timingsFile.toString();
+
+    assertThat(cmd.call()).isZero();
+
+    assertThat(Files.readString(timingsFile))
+        .contains("\"totalMillis\": 2.000")
+        .contains("{\"stage\": \"blueprint-mapping\", \"millis\": 2.000}")
+        .contains("{\"artifact\": \"build-config\", \"millis\": 3.000}")
+        .contains(
+            "{\"template\": \"springboot/maven/build/pom.xml.ftl\", \"output\": \"pom.xml\","
+                + " \"bytes\": 42, \"millis\": 1.000}");
+  }
+
+  @Test
+  @DisplayName("call() with --timings FILE should still write the report when generation fails")
+  void call_withTimingsFile_whenGenerationFails_shouldWriteReport() throws IOException {
+    var mapper = new RecordingMapper();
+    var useCase =
+        new StubCreateProjectPort() {
+          @Override
+          public CreateProjectResult handle(CreateProjectCommand command) {
+            mapper.lastListener.stageCompleted(
+                GenerationStage.BLUEPRINT_MAPPING, Duration.ofMillis(2));
+            throw new IllegalStateException("render failed");
+          }
+        };
+
+    var cmd = new SpringBootGenerateCommand(mapper, useCase);
+    cmd.groupId = "com.acme";
+    cmd.artifactId = "demo-app";
+    cmd.name = "Demo App";
+    cmd.description = "Demo application for Acme";
+    cmd.packageName = "com.acme.demo";
+    cmd.buildTool = SpringBootBuildToolOption.MAVEN;
+    cmd.language = SpringBootLanguageOption.JAVA;
+    cmd.javaVersion = SpringBootJavaVersionOption.JAVA_21;
+    cmd.bootVersion = SpringBootVersionOption.V3_5;
+    cmd.layout = SpringBootLayoutOption.STANDARD;
+    cmd.sampleCode = SpringBootSampleCodeOption.NONE;
+    cmd.guardrails = SpringBootArchitectureGuardrailsOption.NONE;
+    cmd.archiveFormat = SpringBootArchiveFormatOption.ZIP;
+    cmd.targetDirectory = tempDir;
+    Path timingsFile = tempDir.resolve("timings.json");
+    cmd.timings = timingsFile.toString();
+
+    assertThatThrownBy(cmd::call)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("render failed");
+
+    assertThat(Files.readString(timingsFile))
+        .contains("{\"stage\": \"blueprint-mapping\", \"millis\": 2.000}");
+  }
+
+  @Test
+  @DisplayName("call() with a bare --jfr should record the run to <artifact-id>.jfr")
+  void call_withJfr_shouldWriteFlightRecording() throws IOException {
+    var cmd = new SpringBootGenerateCommand(new RecordingMapper(), new StubCreateProjectPort());
+    cmd.groupId = "com.acme";
+    cmd.artifactId = "demo-app";
+    cmd.name = "Demo App";
+    cmd.description = "Demo application for Acme";
+    cmd.packageName = "com.acme.demo";
+    cmd.buildTool = SpringBootBuildToolOption.MAVEN;
+    cmd.language = SpringBootLanguageOption.JAVA;
+    cmd.javaVersion = SpringBootJavaVersionOption.JAVA_21;
+    cmd.bootVersion = SpringBootVersionOption.V3_5;
+    cmd.layout = SpringBootLayoutOption.STANDARD;
+    cmd.sampleCode = SpringBootSampleCodeOption.NONE;
+    cmd.guardrails = SpringBootArchitectureGuardrailsOption.NONE;
+    cmd.archiveFormat = SpringBootArchiveFormatOption.ZIP;
+    cmd.targetDirectory = tempDir;
+    cmd.jfr = "";
+
+    try (CliInvocationContext.Scope ignored =
+        CliInvocationContext.bind(tempDir, OutputStream.nullOutputStream())) {
+      assertThat(cmd.call()).isZero();
+    }
+
+    Path recording = tempDir.resolve("demo-app.jfr");
+    assertThat(recording).isNotEmptyFile();
+    assertThat(RecordingFile.readAllEvents(recording)).isNotEmpty();
+  }
+
   static class RecordingMapper extends CreateProjectCommandMapper {
 
     final CreateProjectCommand returnedCommand = null;
     CliProjectRequest lastRequest;
+    GenerationListener lastListener;
 
     @Override
     public CreateProjectCommand from(CliProjectRequest request) {
       this.lastRequest = request;
       return returnedCommand;
     }
+
+    @Override
+    public CreateProjectCommand from(CliProjectRequest request, GenerationListener listener) {
+      this.lastListener = listener;
+      return from(request);
+    }
   }
 
   static class StubCreateProjectPort implements CreateProjectPort {
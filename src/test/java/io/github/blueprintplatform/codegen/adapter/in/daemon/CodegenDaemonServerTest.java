@@ -0,0 +1,255 @@
+package io.github.blueprintplatform.codegen.adapter.in.daemon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.daemon.DaemonAlreadyRunningException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.daemon.DaemonSocketDirectoryUnsafeException;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.InputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class CodegenDaemonServerTest {
+
+  @TempDir Path tempDir;
+
+  private final List<CodegenDaemonServer> servers = new ArrayList<>();
+  private final CountDownLatch shutdownRequested = new CountDownLatch(1);
+
+  @AfterEach
+  void stopServers() {
+    servers.forEach(CodegenDaemonServer::stop);
+  }
+
+  @Test
+  @DisplayName("run() should forward argv and working directory and relay stdout, stderr and exit")
+  void run_shouldRelayStreamsAndExitCode() throws Exception {
+    AtomicReference<Path> seenWorkingDirectory = new AtomicReference<>();
+    CodegenDaemonServer server =
+        start(
+            (args, workingDirectory, out, err) -> {
+              seenWorkingDirectory.set(workingDirectory);
+              out.print(String.join(" ", args));
+              err.print("warn");
+              return 7;
+            });
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    OptionalInt exitCode =
+        new CodegenDaemonClient(server.socketPath())
+            .run(new String[] {"springboot", "--name", "Demo App"}, tempDir, out, err);
+
+    assertThat(exitCode).hasValue(7);
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("springboot --name Demo App");
+    assertThat(err.toString(StandardCharsets.UTF_8)).isEqualTo("warn");
+    assertThat(seenWorkingDirectory.get()).isEqualTo(tempDir.toAbsolutePath());
+  }
+
+  @Test
+  @DisplayName("run() should relay binary stdout larger than a single frame unchanged")
+  void run_shouldRelayBinaryOutput() throws Exception {
+    byte[] payload = new byte[300_000];
+    for (int i = 0; i < payload.length; i++) {
+      payload[i] = (byte) (i * 31);
+    }
+    CodegenDaemonServer server =
+        start(
+            (args, workingDirectory, out, err) -> {
+              out.write(payload, 0, payload.length);
+              return 0;
+            });
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    new CodegenDaemonClient(server.socketPath())
+        .run(new String[0], tempDir, out, new ByteArrayOutputStream());
+
+    assertThat(out.toByteArray()).isEqualTo(payload);
+  }
+
+  @Test
+  @DisplayName("run() should report 99 and the message when the handler throws")
+  void run_shouldReportUnexpectedFailure() throws Exception {
+    CodegenDaemonServer server =
+        start(
+            (args, workingDirectory, out, err) -> {
+              throw new IllegalStateException("boom");
+            });
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    OptionalInt exitCode =
+        new CodegenDaemonClient(server.socketPath())
+            .run(new String[0], tempDir, new ByteArrayOutputStream(), err);
+
+    assertThat(exitCode).hasValue(99);
+    assertThat(err.toString(StandardCharsets.UTF_8)).contains("boom");
+  }
+
+  @Test
+  @DisplayName("run() should return empty when no daemon listens on the socket")
+  void run_withoutDaemon_shouldReturnEmpty() throws Exception {
+    CodegenDaemonClient client = new CodegenDaemonClient(tempDir.resolve("missing.sock"));
+
+    assertThat(
+            client.run(
+                new String[0], tempDir, new ByteArrayOutputStream(), new ByteArrayOutputStream()))
+        .isEmpty();
+    assertThat(client.stop()).isFalse();
+  }
+
+  @Test
+  @DisplayName("start() should restrict the socket to its owner and delete it on stop()")
+  void start_shouldCreateOwnerOnlySocket() throws Exception {
+    CodegenDaemonServer server = start((args, workingDirectory, out, err) -> 0);
+
+    assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(server.socketPath())))
+        .isEqualTo("rw-------");
+
+    server.stop();
+
+    assertThat(server.socketPath()).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("start() should create a missing socket directory for its owner only")
+  void start_shouldCreateOwnerOnlySocketDirectory() throws Exception {
+    Path socket = tempDir.resolve("run/codegen/daemon.sock");
+
+    start(socket, Duration.ZERO, (args, workingDirectory, out, err) -> 0);
+
+    assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(socket.getParent())))
+        .isEqualTo("rwx------");
+  }
+
+  @Test
+  @DisplayName("start() should refuse a socket directory that other users can enter")
+  void start_shouldRefuseSharedSocketDirectory() throws Exception {
+    Path shared = Files.createDirectory(tempDir.resolve("shared"));
+    Files.setPosixFilePermissions(shared, PosixFilePermissions.fromString("rwxrwxrwx"));
+    CodegenDaemonServer server =
+        new CodegenDaemonServer(
+            shared.resolve("codegen.sock"),
+            1,
+            Duration.ZERO,
+            (args, workingDirectory, out, err) -> 0,
+            () -> {});
+
+    assertThatThrownBy(server::start)
+        .isInstanceOfSatisfying(
+            DaemonSocketDirectoryUnsafeException.class,
+            e -> assertThat(e.getArgs()).containsExactly(shared));
+    assertThat(shared.resolve("codegen.sock")).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("a frame with an oversized argument count should be dropped without running")
+  void run_withOversizedArgumentCount_shouldDropConnection() throws Exception {
+    AtomicInteger runs = new AtomicInteger();
+    CodegenDaemonServer server =
+        start(
+            (args, workingDirectory, out, err) -> {
+              runs.incrementAndGet();
+              return 0;
+            });
+
+    try (SocketChannel channel =
+            SocketChannel.open(UnixDomainSocketAddress.of(server.socketPath()));
+        DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+        InputStream in = Channels.newInputStream(channel)) {
+      out.writeInt(DaemonProtocol.MAGIC);
+      out.writeByte(DaemonProtocol.RUN);
+      out.writeUTF(tempDir.toString());
+      out.writeInt(Integer.MAX_VALUE);
+      out.flush();
+
+      assertThat(in.read()).isEqualTo(-1);
+    }
+
+    assertThat(runs).hasValue(0);
+    assertThat(
+            new CodegenDaemonClient(server.socketPath())
+                .run(
+                    new String[0],
+                    tempDir,
+                    new ByteArrayOutputStream(),
+                    new ByteArrayOutputStream()))
+        .hasValue(0);
+  }
+
+  @Test
+  @DisplayName("start() should refuse a socket another daemon listens on but replace a stale one")
+  void start_shouldDetectRunningAndStaleSockets() throws Exception {
+    Path socket = tempDir.resolve("codegen.sock");
+    start(socket, Duration.ZERO, (args, workingDirectory, out, err) -> 0);
+    CodegenDaemonServer second =
+        new CodegenDaemonServer(
+            socket, 1, Duration.ZERO, (args, workingDirectory, out, err) -> 0, () -> {});
+
+    assertThatThrownBy(second::start).isInstanceOf(DaemonAlreadyRunningException.class);
+
+    Path stale = Files.createFile(tempDir.resolve("stale.sock"));
+    CodegenDaemonServer replacing = start(stale, Duration.ZERO, (args, wd, out, err) -> 3);
+
+    assertThat(
+            new CodegenDaemonClient(replacing.socketPath())
+                .run(
+                    new String[0],
+                    tempDir,
+                    new ByteArrayOutputStream(),
+                    new ByteArrayOutputStream()))
+        .hasValue(3);
+  }
+
+  @Test
+  @DisplayName("stop() from a client should invoke the shutdown callback")
+  void clientStop_shouldInvokeShutdown() throws Exception {
+    CodegenDaemonServer server = start((args, workingDirectory, out, err) -> 0);
+
+    assertThat(new CodegenDaemonClient(server.socketPath()).stop()).isTrue();
+
+    assertThat(shutdownRequested.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("an idle daemon should invoke the shutdown callback after the idle timeout")
+  void idleTimeout_shouldInvokeShutdown() throws Exception {
+    start(tempDir.resolve("idle.sock"), Duration.ofMillis(50), (args, wd, out, err) -> 0);
+
+    assertThat(shutdownRequested.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private CodegenDaemonServer start(DaemonCommandHandler handler) {
+    return start(tempDir.resolve("codegen.sock"), Duration.ZERO, handler);
+  }
+
+  private CodegenDaemonServer start(
+      Path socket, Duration idleTimeout, DaemonCommandHandler handler) {
+    CodegenDaemonServer server =
+        new CodegenDaemonServer(socket, 2, idleTimeout, handler, shutdownRequested::countDown);
+    server.start();
+    servers.add(server);
+    return server;
+  }
+}
@@ -0,0 +1,195 @@
+package io.github.blueprintplatform.codegen.adapter.in.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.base.AdapterException;
+import io.github.blueprintplatform.codegen.adapter.in.http.mapper.SpringBootProjectHttpRequestMapper;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget.ArchiveStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("adapter")
+class SpringBootProjectHttpHandlerTest {
+
+  private static final String REQUEST =
+      """
+      {"group-id": "com.acme", "artifact-id": "orders", "name": "Orders",
+       "description": "Order management service", "package-name": "com.acme.orders",
+       "layout": "hexagonal", "dependencies": ["web"]%s}
+      """;
+
+  private static final Function<Throwable, HttpError> TRANSLATOR =
+      e ->
+          e instanceof AdapterException a
+              ? new HttpError(400, a.getMessageKey(), "bad request")
+              : new HttpError(500, "unexpected", String.valueOf(e.getMessage()));
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  private CodegenHttpServer server;
+  private CreateProjectCommand lastCommand;
+
+  @AfterEach
+  void stopServer() {
+    if (server != null) {
+      server.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("POST should stream the generated archive with download headers")
+  void post_shouldStreamArchive() throws Exception {
+    start(writing("archive-bytes"));
+
+    HttpResponse<byte[]> response = post(REQUEST.formatted(""));
+
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.headers().firstValue("Content-Type")).hasValue("application/zip");
+    assertThat(response.headers().firstValue("Content-Disposition"))
+        .hasValue("attachment; filename=\"orders.zip\"");
+    assertThat(new String(response.body(), StandardCharsets.UTF_8)).isEqualTo("archive-bytes");
+
+    assertThat(lastCommand.artifactId()).isEqualTo("orders");
+    assertThat(lastCommand.layout().key()).isEqualTo("hexagonal");
+    assertThat(lastCommand.dependencies()).hasSize(1);
+    assertThat(lastCommand.outputTarget()).isInstanceOf(ArchiveStream.class);
+    assertThat(lastCommand.targetDirectory()).isNull();
+  }
+
+  @Test
+  @DisplayName("POST with tar.gz should answer with a gzip archive name and type")
+  void post_tarGz_shouldUseGzipHeaders() throws Exception {
+    start(writing("tar"));
+
+    HttpResponse<byte[]> response = post(REQUEST.formatted(", \"archive-format\": \"tar.gz\""));
+
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.headers().firstValue("Content-Type")).hasValue("application/gzip");
+    assertThat(response.headers().firstValue("Content-Disposition"))
+        .hasValue("attachment; filename=\"orders.tar.gz\"");
+    assertThat(lastCommand.outputTarget().archiveFormat()).isEqualTo(ArchiveFormat.TAR_GZ);
+  }
+
+  @Test
+  @DisplayName("POST should reject server-side file system options with a JSON error")
+  void post_shouldRejectFileSystemOptions() throws Exception {
+    start(writing("unused"));
+
+    HttpResponse<byte[]> response = post(REQUEST.formatted(", \"target-dir\": \"/tmp\""));
+
+    assertThat(response.statusCode()).isEqualTo(400);
+    assertThat(response.headers().firstValue("Content-Type"))
+        .hasValue("application/json; charset=utf-8");
+    assertThat(new String(response.body(), StandardCharsets.UTF_8))
+        .isEqualTo(
+            "{\"code\":\"adapter.http.request.option-unknown\",\"message\":\"bad request\"}");
+    assertThat(lastCommand).isNull();
+  }
+
+  @Test
+  @DisplayName("POST should reject malformed, archive-less and oversized requests")
+  void post_shouldRejectInvalidRequests() throws Exception {
+    start(writing("unused"));
+
+    assertThat(post("[1, 2").statusCode()).isEqualTo(400);
+    assertThat(post(REQUEST.formatted(", \"archive-format\": \"none\"")).statusCode())
+        .isEqualTo(400);
+    assertThat(post(REQUEST.formatted(", \"name\": \"" + "x".repeat(2048) + "\"")).statusCode())
+        .isEqualTo(413);
+    assertThat(lastCommand).isNull();
+  }
+
+  @Test
+  @DisplayName("Other methods and paths should get 405 and 404")
+  void otherRequests_shouldBeRejected() throws Exception {
+    start(writing("unused"));
+
+    HttpResponse<Void> get =
+        client.send(
+            HttpRequest.newBuilder(uri("")).GET().build(), HttpResponse.BodyHandlers.discarding());
+    HttpResponse<Void> unknown =
+        client.send(
+            HttpRequest.newBuilder(uri("/extra")).POST(HttpRequest.BodyPublishers.noBody()).build(),
+            HttpResponse.BodyHandlers.discarding());
+
+    assertThat(get.statusCode()).isEqualTo(405);
+    assertThat(get.headers().firstValue("Allow")).hasValue("POST");
+    assertThat(unknown.statusCode()).isEqualTo(404);
+  }
+
+  @Test
+  @DisplayName("A failure after the archive started should abort the response, not complete it")
+  void post_failureWhileStreaming_shouldAbortResponse() {
+    start(
+        command -> {
+          lastCommand = command;
+          OutputStream out = ((ArchiveStream) command.outputTarget()).out();
+          try {
+            out.write(new byte[8192]);
+            out.flush();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          throw new IllegalStateException("render failed");
+        });
+
+    assertThatThrownBy(() -> post(REQUEST.formatted(""))).isInstanceOf(IOException.class);
+  }
+
+  private CreateProjectPort writing(String content) {
+    return command -> {
+      lastCommand = command;
+      try {
+        ((ArchiveStream) command.outputTarget())
+            .out()
+            .write(content.getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return new CreateProjectResult(null, null, null);
+    };
+  }
+
+  private void start(CreateProjectPort port) {
+    var handler =
+        new SpringBootProjectHttpHandler(
+            new SpringBootProjectHttpRequestMapper(), port, TRANSLATOR, 1024);
+    server = new CodegenHttpServer(new InetSocketAddress("127.0.0.1", 0), 2, handler);
+    server.start();
+  }
+
+  private HttpResponse<byte[]> post(String body) throws IOException, InterruptedException {
+    HttpRequest request =
+        HttpRequest.newBuilder(uri(""))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+  }
+
+  private URI uri(String suffix) {
+    return URI.create(
+        "http://127.0.0.1:"
+            + server.address().getPort()
+            + SpringBootProjectHttpHandler.PATH
+            + suffix);
+  }
+}
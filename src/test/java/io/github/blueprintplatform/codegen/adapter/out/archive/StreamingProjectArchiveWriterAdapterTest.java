@@ -0,0 +1,310 @@
+package io.github.blueprintplatform.codegen.adapter.out.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveAlreadyExistsException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveIOException;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiveWriterPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.EncodedTextContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedBinaryResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedEncodedTextResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedStreamedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class StreamingProjectArchiveWriterAdapterTest {
+
+  private final ProjectArchiveWriterPort writer = new StreamingProjectArchiveWriterAdapter();
+
+  private static Map<String, byte[]> readZip(byte[] zip) throws IOException {
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+      ZipEntry entry;
+      while ((entry = in.getNextEntry()) != null) {
+        entries.put(entry.getName(), in.readAllBytes());
+      }
+    }
+    return entries;
+  }
+
+  private static List<GeneratedResource> sampleResources() {
+    return List.of(
+        new GeneratedTextResource(Path.of("pom.xml"), "<project/>", StandardCharsets.UTF_8),
+        new GeneratedEncodedTextResource(
+            Path.of("src/main/java/App.java"),
+            new EncodedTextContent(
+                "class App {}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)),
+        new GeneratedBinaryResource(
+            Path.of(".mvn/wrapper/maven-wrapper.jar"), new BinaryContent(new byte[] {1, 2, 3})),
+        new GeneratedStreamedResource(
+            Path.of("mvnw"), () -> new ByteArrayInputStream("#!/bin/sh".getBytes())),
+        new GeneratedDirectory(Path.of("src/test/java")));
+  }
+
+  @Test
+  @DisplayName("write() to a stream should place every resource under the root folder")
+  void write_toStream_shouldZipAllResourcesUnderRoot() throws Exception {
+    var out = new ByteArrayOutputStream();
+
+    List<ProjectOutputItem> items = writer.write("demo", ArchiveFormat.ZIP, sampleResources(), out);
+
+    Map<String, byte[]> entries = readZip(out.toByteArray());
+    assertThat(entries.keySet())
+        .containsExactly(
+            "demo/",
+            "demo/pom.xml",
+            "demo/src/",
+            "demo/src/main/",
+            "demo/src/main/java/",
+            "demo/src/main/java/App.java",
+            "demo/.mvn/",
+            "demo/.mvn/wrapper/",
+            "demo/.mvn/wrapper/maven-wrapper.jar",
+            "demo/mvnw",
+            "demo/src/test/",
+            "demo/src/test/java/");
+    assertThat(entries.get("demo/pom.xml")).asString().isEqualTo("<project/>");
+    assertThat(entries.get("demo/src/main/java/App.java")).asString().isEqualTo("class App {}");
+    assertThat(entries.get("demo/.mvn/wrapper/maven-wrapper.jar")).containsExactly(1, 2, 3);
+    assertThat(entries.get("demo/mvnw")).asString().isEqualTo("#!/bin/sh");
+
+    assertThat(items)
+        .extracting(
+            ProjectOutputItem::relativePath,
+            ProjectOutputItem::binary,
+            ProjectOutputItem::executable)
+        .containsExactly(
+            tuple(Path.of("pom.xml"), false, false),
+            tuple(Path.of("src/main/java/App.java"), false, false),
+            tuple(Path.of(".mvn/wrapper/maven-wrapper.jar"), true, false),
+            tuple(Path.of("mvnw"), false, true));
+    assertThat(items.getFirst().size()).isEqualTo(10);
+    assertThat(items.getFirst().sha256())
+        .isEqualTo(sha256("<project/>".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static String sha256(byte[] bytes) throws NoSuchAlgorithmException {
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+  }
+
+  @Test
+  @DisplayName("write() to a stream should leave the caller's stream open")
+  void write_toStream_shouldNotCloseTarget() {
+    var closed = new ArrayList<Boolean>();
+    var out =
+        new ByteArrayOutputStream() {
+          @Override
+          public void close() {
+            closed.add(true);
+          }
+        };
+
+    writer.write("demo", ArchiveFormat.ZIP, sampleResources(), out);
+
+    assertThat(closed).isEmpty();
+    assertThat(out.size()).isPositive();
+  }
+
+  @Test
+  @DisplayName("write() to a file should create parent directories and the archive")
+  void write_toFile_shouldCreateArchive(@TempDir Path tempDir) throws IOException {
+    Path archive = tempDir.resolve("dist/demo.zip");
+
+    writer.write("demo", ArchiveFormat.ZIP, sampleResources(), archive, false);
+
+    assertThat(readZip(Files.readAllBytes(archive)))
+        .containsKeys("demo/", "demo/pom.xml", "demo/mvnw");
+    try (var siblings = Files.list(archive.getParent())) {
+      assertThat(siblings).containsExactly(archive);
+    }
+  }
+
+  @Test
+  @DisplayName("write() to an existing file should fail unless overwrite is requested")
+  void write_toExistingFile_shouldRequireOverwrite(@TempDir Path tempDir) throws IOException {
+    Path archive = Files.writeString(tempDir.resolve("demo.zip"), "previous");
+
+    assertThatThrownBy(
+            () -> writer.write("demo", ArchiveFormat.ZIP, sampleResources(), archive, false))
+        .isInstanceOfSatisfying(
+            ProjectArchiveAlreadyExistsException.class,
+            e -> assertThat(e.getArgs()).containsExactly(archive));
+    assertThat(archive).hasContent("previous");
+
+    writer.write("demo", ArchiveFormat.ZIP, sampleResources(), archive, true);
+
+    assertThat(readZip(Files.readAllBytes(archive))).containsKey("demo/pom.xml");
+  }
+
+  @Test
+  @DisplayName("write() to a file should keep the previous archive and no temp file on failure")
+  void write_toFile_failure_shouldKeepPreviousArchive(@TempDir Path tempDir) throws IOException {
+    Path archive = Files.writeString(tempDir.resolve("demo.zip"), "previous");
+    var duplicate =
+        List.of(
+            new GeneratedTextResource(Path.of("pom.xml"), "a", StandardCharsets.UTF_8),
+            new GeneratedTextResource(Path.of("pom.xml"), "b", StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> writer.write("demo", ArchiveFormat.ZIP, duplicate, archive, true))
+        .isInstanceOf(ProjectArchiveIOException.class);
+
+    assertThat(archive).hasContent("previous");
+    try (var siblings = Files.list(tempDir)) {
+      assertThat(siblings).containsExactly(archive);
+    }
+  }
+
+  private static List<GeneratedResource> duplicateEntries() {
+    return List.of(
+        new GeneratedTextResource(Path.of("pom.xml"), "a", StandardCharsets.UTF_8),
+        new GeneratedTextResource(Path.of("pom.xml"), "b", StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("write() should wrap duplicate entries as ProjectArchiveIOException")
+  void write_shouldWrapZipFailures() {
+    var out = new ByteArrayOutputStream();
+    var duplicate =
+        List.of(
+            new GeneratedTextResource(Path.of("pom.xml"), "a", StandardCharsets.UTF_8),
+            new GeneratedTextResource(Path.of("pom.xml"), "b", StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> writer.write("demo", ArchiveFormat.ZIP, duplicate, out))
+        .isInstanceOf(ProjectArchiveIOException.class);
+  }
+
+  @Test
+  @DisplayName(
+      "write() to a stream should leave a truncated zip without central directory on failure")
+  void write_toStream_zipFailure_shouldNotFinishArchive(@TempDir Path tempDir) throws IOException {
+    var out = new ByteArrayOutputStream();
+
+    assertThatThrownBy(() -> writer.write("demo", ArchiveFormat.ZIP, duplicateEntries(), out))
+        .isInstanceOf(ProjectArchiveIOException.class);
+
+    Path received = Files.write(tempDir.resolve("received.zip"), out.toByteArray());
+    assertThatThrownBy(() -> new ZipFile(received.toFile()).close())
+        .isInstanceOf(ZipException.class);
+  }
+
+  @Test
+  @DisplayName("write() to a stream should leave a truncated tar.gz without trailer on failure")
+  void write_toStream_tarGzFailure_shouldNotFinishArchive() {
+    var out = new ByteArrayOutputStream();
+    List<GeneratedResource> failing =
+        List.of(
+            new GeneratedTextResource(
+                Path.of("pom.xml"), "<project/>\n".repeat(10_000), StandardCharsets.UTF_8),
+            new GeneratedStreamedResource(
+                Path.of("broken.bin"),
+                () -> {
+                  throw new IOException("source failed");
+                }));
+
+    assertThatThrownBy(() -> writer.write("demo", ArchiveFormat.TAR_GZ, failing, out))
+        .isInstanceOf(ProjectArchiveIOException.class);
+
+    assertThatThrownBy(
+            () -> new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes())
+        .isInstanceOf(EOFException.class);
+  }
+
+  @Test
+  @DisplayName("write() should deflate entries at the configured compression level")
+  void write_shouldApplyCompressionLevel() {
+    List<GeneratedResource> resources =
+        List.of(
+            new GeneratedTextResource(
+                Path.of("README.md"), "generated text\n".repeat(500), StandardCharsets.UTF_8));
+    var stored = new ByteArrayOutputStream();
+    var best = new ByteArrayOutputStream();
+
+    new StreamingProjectArchiveWriterAdapter(0).write("demo", ArchiveFormat.ZIP, resources, stored);
+    new StreamingProjectArchiveWriterAdapter(9).write("demo", ArchiveFormat.ZIP, resources, best);
+
+    assertThat(best.size()).isLessThan(stored.size());
+  }
+
+  @Test
+  @DisplayName("write() with ZIP_STORED should store every entry uncompressed")
+  void write_zipStored_shouldStoreEntries() throws IOException {
+    var out = new ByteArrayOutputStream();
+
+    writer.write("demo", ArchiveFormat.ZIP_STORED, sampleResources(), out);
+
+    Map<String, Integer> methods = new LinkedHashMap<>();
+    Map<String, byte[]> contents = new LinkedHashMap<>();
+    try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      ZipEntry entry;
+      while ((entry = in.getNextEntry()) != null) {
+        methods.put(entry.getName(), entry.getMethod());
+        contents.put(entry.getName(), in.readAllBytes());
+      }
+    }
+    assertThat(methods.values()).containsOnly(ZipEntry.STORED);
+    assertThat(methods.keySet()).startsWith("demo/", "demo/pom.xml");
+    assertThat(contents.get("demo/pom.xml")).asString().isEqualTo("<project/>");
+    assertThat(contents.get("demo/.mvn/wrapper/maven-wrapper.jar")).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  @DisplayName("write() with TAR_GZ should keep the layout and mark scripts executable")
+  void write_tarGz_shouldCarryPosixModes() throws IOException {
+    var out = new ByteArrayOutputStream();
+
+    writer.write("demo", ArchiveFormat.TAR_GZ, sampleResources(), out);
+
+    Map<String, Integer> modes = new LinkedHashMap<>();
+    Map<String, byte[]> contents = new LinkedHashMap<>();
+    try (TarArchiveInputStream in =
+        new TarArchiveInputStream(
+            new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())))) {
+      TarArchiveEntry entry;
+      while ((entry = in.getNextEntry()) != null) {
+        modes.put(entry.getName(), entry.getMode() & 0777);
+        contents.put(entry.getName(), in.readAllBytes());
+      }
+    }
+    assertThat(modes.keySet()).startsWith("demo/", "demo/pom.xml", "demo/src/");
+    assertThat(modes)
+        .containsEntry("demo/", 0755)
+        .containsEntry("demo/pom.xml", 0644)
+        .containsEntry("demo/mvnw", 0755)
+        .containsEntry("demo/src/test/java/", 0755);
+    assertThat(contents.get("demo/mvnw")).asString().isEqualTo("#!/bin/sh");
+    assertThat(contents.get("demo/.mvn/wrapper/maven-wrapper.jar")).containsExactly(1, 2, 3);
+  }
+}
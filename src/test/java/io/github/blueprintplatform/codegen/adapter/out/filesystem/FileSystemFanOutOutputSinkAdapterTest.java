@@ -0,0 +1,306 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveInvalidRootException;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.ArchiveEntryEvent;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.FileWriteEvent;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectWriteMode;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutput;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputSinkPort;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedBinaryResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import io.github.blueprintplatform.codegen.testsupport.jfr.RecordedEvents;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class FileSystemFanOutOutputSinkAdapterTest {
+
+  private final ProjectOutputSinkPort sink = new FileSystemFanOutOutputSinkAdapter();
+
+  private static List<GeneratedResource> resources() {
+    return List.of(
+        new GeneratedDirectory(Path.of("src/main/java/com/acme")),
+        new GeneratedTextResource(
+            Path.of("src/main/java/com/acme/App.java"), "class App {}", StandardCharsets.UTF_8),
+        new GeneratedTextResource(Path.of("mvnw"), "#!/bin/sh", StandardCharsets.UTF_8),
+        new GeneratedBinaryResource(
+            Path.of(".mvn/wrapper/maven-wrapper.jar"), new BinaryContent(new byte[] {1, 2, 3})));
+  }
+
+  @Test
+  @DisplayName("write() should write files, the archive and the listing in one pass")
+  void write_shouldProduceFilesArchiveAndListing(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+
+    ProjectOutput output =
+        sink.write(projectRoot, "demo", ArchiveFormat.ZIP, ProjectWriteMode.FULL, resources());
+
+    assertThat(projectRoot.resolve("src/main/java/com/acme/App.java")).hasContent("class App {}");
+    assertThat(projectRoot.resolve(".mvn/wrapper/maven-wrapper.jar"))
+        .hasBinaryContent(new byte[] {1, 2, 3});
+
+    assertThat(output.archivePath()).isEqualTo(tempDir.resolve("demo.zip"));
+    try (ZipFile zip = new ZipFile(output.archivePath().toFile())) {
+      assertThat(zip.stream().map(e -> e.getName()))
+          .containsExactly(
+              "demo/",
+              "demo/src/",
+              "demo/src/main/",
+              "demo/src/main/java/",
+              "demo/src/main/java/com/",
+              "demo/src/main/java/com/acme/",
+              "demo/src/main/java/com/acme/App.java",
+              "demo/mvnw",
+              "demo/.mvn/",
+              "demo/.mvn/wrapper/",
+              "demo/.mvn/wrapper/maven-wrapper.jar");
+      assertThat(zip.getInputStream(zip.getEntry("demo/mvnw")).readAllBytes())
+          .asString()
+          .isEqualTo("#!/bin/sh");
+    }
+
+    assertThat(output.items())
+        .extracting(ProjectOutputItem::relativePath)
+        .containsExactly(
+            Path.of("src/main/java/com/acme/App.java"),
+            Path.of("mvnw"),
+            Path.of(".mvn/wrapper/maven-wrapper.jar"));
+    assertThat(output.items().get(1).executable()).isTrue();
+    assertThat(output.items().get(2).binary()).isTrue();
+
+    for (ProjectOutputItem item : output.items()) {
+      byte[] written = Files.readAllBytes(projectRoot.resolve(item.relativePath()));
+      assertThat(item.size()).isEqualTo(written.length);
+      assertThat(item.sha256()).isEqualTo(sha256(written));
+    }
+  }
+
+  @Test
+  @DisplayName("write() with NONE should write files and listing but no archive")
+  void write_withoutArchive_shouldSkipArchive(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+
+    ProjectOutput output =
+        sink.write(projectRoot, "demo", ArchiveFormat.NONE, ProjectWriteMode.FULL, resources());
+
+    assertThat(output.archivePath()).isNull();
+    assertThat(tempDir.resolve("demo.zip")).doesNotExist();
+    assertThat(projectRoot.resolve("mvnw")).hasContent("#!/bin/sh");
+    assertThat(output.items()).hasSize(3);
+    assertThat(output.items().getFirst().sha256())
+        .isEqualTo(sha256("class App {}".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  @DisplayName("write() should deflate archive entries at the configured compression level")
+  void write_shouldApplyCompressionLevel(@TempDir Path tempDir) throws Exception {
+    List<GeneratedResource> resources =
+        List.of(
+            new GeneratedTextResource(
+                Path.of("README.md"), "generated text\n".repeat(500), StandardCharsets.UTF_8));
+
+    Path storedRoot = Files.createDirectory(tempDir.resolve("stored"));
+    Path bestRoot = Files.createDirectory(tempDir.resolve("best"));
+    Path stored =
+        new FileSystemFanOutOutputSinkAdapter(0)
+            .write(storedRoot, "stored", ArchiveFormat.ZIP, ProjectWriteMode.FULL, resources)
+            .archivePath();
+    Path best =
+        new FileSystemFanOutOutputSinkAdapter(9)
+            .write(bestRoot, "best", ArchiveFormat.ZIP, ProjectWriteMode.FULL, resources)
+            .archivePath();
+
+    assertThat(Files.size(best)).isLessThan(Files.size(stored));
+  }
+
+  @Test
+  @DisplayName("write() with TAR_GZ should place the archive next to the project root")
+  void write_tarGz_shouldUseTarGzExtension(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+
+    ProjectOutput output =
+        sink.write(projectRoot, "demo", ArchiveFormat.TAR_GZ, ProjectWriteMode.FULL, resources());
+
+    assertThat(output.archivePath()).isEqualTo(tempDir.resolve("demo.tar.gz"));
+    assertThat(output.archivePath()).isNotEmptyFile();
+  }
+
+  @Test
+  @DisplayName("write() in incremental mode should rewrite only files whose content changed")
+  void write_incremental_shouldRewriteOnlyChangedFiles(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    sink.write(projectRoot, "demo", ArchiveFormat.ZIP, ProjectWriteMode.INCREMENTAL, resources());
+
+    Path app = projectRoot.resolve("src/main/java/com/acme/App.java");
+    Path mvnw = projectRoot.resolve("mvnw");
+    FileTime past = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+    Files.setLastModifiedTime(app, past);
+    Files.setLastModifiedTime(mvnw, past);
+
+    List<GeneratedResource> regenerated = new ArrayList<>(resources());
+    regenerated.set(
+        2, new GeneratedTextResource(Path.of("mvnw"), "#!/bin/bash", StandardCharsets.UTF_8));
+    ProjectOutput output =
+        sink.write(
+            projectRoot, "demo", ArchiveFormat.ZIP, ProjectWriteMode.INCREMENTAL, regenerated);
+
+    assertThat(Files.getLastModifiedTime(app)).isEqualTo(past);
+    assertThat(Files.getLastModifiedTime(mvnw)).isNotEqualTo(past);
+    assertThat(mvnw).hasContent("#!/bin/bash");
+
+    assertThat(output.items())
+        .extracting(ProjectOutputItem::relativePath)
+        .doesNotContain(Path.of(".codegen/manifest"));
+    assertThat(Files.readString(projectRoot.resolve(".codegen/manifest")))
+        .isEqualTo(
+            sha256("class App {}".getBytes(StandardCharsets.UTF_8))
+                + "  src/main/java/com/acme/App.java\n"
+                + sha256("#!/bin/bash".getBytes(StandardCharsets.UTF_8))
+                + "  mvnw\n"
+                + sha256(new byte[] {1, 2, 3})
+                + "  .mvn/wrapper/maven-wrapper.jar\n");
+    try (ZipFile zip = new ZipFile(output.archivePath().toFile())) {
+      assertThat(zip.getInputStream(zip.getEntry("demo/src/main/java/com/acme/App.java")))
+          .hasContent("class App {}");
+      assertThat(zip.getEntry("demo/.codegen/manifest")).isNull();
+    }
+  }
+
+  @Test
+  @DisplayName("write() in incremental mode should restore a generated file that was deleted")
+  void write_incremental_shouldRestoreDeletedFile(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    sink.write(projectRoot, "demo", ArchiveFormat.NONE, ProjectWriteMode.INCREMENTAL, resources());
+    Path mvnw = projectRoot.resolve("mvnw");
+    Files.delete(mvnw);
+
+    sink.write(projectRoot, "demo", ArchiveFormat.NONE, ProjectWriteMode.INCREMENTAL, resources());
+
+    assertThat(mvnw).hasContent("#!/bin/sh");
+  }
+
+  @Test
+  @DisplayName("write() in incremental mode should restore a hand-edited file of any length")
+  void write_incremental_shouldRestoreEditedFile(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    sink.write(projectRoot, "demo", ArchiveFormat.NONE, ProjectWriteMode.INCREMENTAL, resources());
+    Path mvnw = projectRoot.resolve("mvnw");
+
+    for (String edit : List.of("#!/bin/zz", "#!/usr/bin/env bash")) {
+      Files.writeString(mvnw, edit);
+
+      sink.write(
+          projectRoot, "demo", ArchiveFormat.NONE, ProjectWriteMode.INCREMENTAL, resources());
+
+      assertThat(mvnw).as(edit).hasContent("#!/bin/sh");
+    }
+  }
+
+  @Test
+  @DisplayName("write() should record file write and archive entry events during a recording")
+  void write_shouldRecordFlightRecorderEvents(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    sink.write(projectRoot, "demo", ArchiveFormat.NONE, ProjectWriteMode.INCREMENTAL, resources());
+
+    List<RecordedEvent> events =
+        RecordedEvents.record(
+            () ->
+                sink.write(
+                    projectRoot,
+                    "demo",
+                    ArchiveFormat.ZIP,
+                    ProjectWriteMode.INCREMENTAL,
+                    resources()),
+            FileWriteEvent.NAME,
+            ArchiveEntryEvent.NAME);
+
+    assertThat(events)
+        .filteredOn(e -> e.getEventType().getName().equals(FileWriteEvent.NAME))
+        .extracting(
+            e -> e.getString("path"), e -> e.getLong("bytes"), e -> e.getBoolean("unchanged"))
+        .contains(
+            tuple("mvnw", 9L, true),
+            tuple(".mvn/wrapper/maven-wrapper.jar", 3L, true),
+            tuple("src/main/java/com/acme/App.java", 12L, true));
+    assertThat(events)
+        .filteredOn(e -> e.getEventType().getName().equals(ArchiveEntryEvent.NAME))
+        .extracting(e -> e.getString("entry"), e -> e.getLong("bytes"))
+        .contains(tuple("demo/mvnw", 9L), tuple("demo/src/main/java/com/acme/App.java", 12L));
+  }
+
+  @Test
+  @DisplayName("write() should leave no archive behind when generation fails midway")
+  void write_shouldLeaveNoArchiveOnFailure(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    Iterable<GeneratedResource> failing =
+        () ->
+            new Iterator<>() {
+              private final Iterator<GeneratedResource> delegate = resources().iterator();
+              private int served;
+
+              @Override
+              public boolean hasNext() {
+                return true;
+              }
+
+              @Override
+              public GeneratedResource next() {
+                if (served++ == 2) {
+                  throw new IllegalStateException("template failed");
+                }
+                return delegate.next();
+              }
+            };
+
+    assertThatThrownBy(
+            () ->
+                sink.write(projectRoot, "demo", ArchiveFormat.ZIP, ProjectWriteMode.FULL, failing))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(projectRoot.resolve("src/main/java/com/acme/App.java")).exists();
+    try (Stream<Path> siblings = Files.list(tempDir)) {
+      assertThat(siblings).containsExactly(projectRoot);
+    }
+  }
+
+  @Test
+  @DisplayName("write() should reject a project root without a parent directory")
+  void write_shouldRejectRootWithoutParent() {
+    Path root = Path.of("demo");
+    List<GeneratedResource> resources = resources();
+
+    assertThatThrownBy(
+            () -> sink.write(root, "demo", ArchiveFormat.ZIP, ProjectWriteMode.FULL, resources))
+        .isInstanceOf(ProjectArchiveInvalidRootException.class);
+  }
+
+  private static String sha256(byte[] bytes) throws NoSuchAlgorithmException {
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+  }
+}
@@ -4,15 +4,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveInvalidRootException;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
 import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiverPort;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -61,6 +67,43 @@ class FileSystemProjectArchiverAdapterTest {
     }
   }
 
+  @Test
+  @DisplayName("archive() with TAR_GZ should keep the layout and the executable bit of scripts")
+  void archive_tarGz_shouldCarryPosixModes(@TempDir Path tempDir) throws IOException {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo-app"));
+    Files.createDirectories(projectRoot.resolve("src/main/java"));
+    Files.writeString(projectRoot.resolve("src/main/java/App.java"), "class App {}");
+    Files.writeString(projectRoot.resolve("mvnw"), "#!/bin/sh");
+
+    Path archivePath = archiver.archive(projectRoot, "my-artifact", ArchiveFormat.TAR_GZ);
+
+    assertThat(archivePath).isEqualTo(tempDir.resolve("my-artifact.tar.gz"));
+    Map<String, Integer> modes = new LinkedHashMap<>();
+    try (TarArchiveInputStream in =
+        new TarArchiveInputStream(new GZIPInputStream(Files.newInputStream(archivePath)))) {
+      TarArchiveEntry entry;
+      while ((entry = in.getNextEntry()) != null) {
+        modes.put(entry.getName(), entry.getMode() & 0777);
+      }
+    }
+    assertThat(modes)
+        .containsEntry("my-artifact/", 0755)
+        .containsEntry("my-artifact/src/main/java/", 0755)
+        .containsEntry("my-artifact/src/main/java/App.java", 0644)
+        .containsEntry("my-artifact/mvnw", 0755);
+  }
+
+  @Test
+  @DisplayName("archive() with NONE should validate the root but write nothing")
+  void archive_none_shouldReturnNull(@TempDir Path tempDir) throws IOException {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo-app"));
+
+    assertThat(archiver.archive(projectRoot, "my-artifact", ArchiveFormat.NONE)).isNull();
+    try (var files = Files.list(tempDir)) {
+      assertThat(files).containsExactly(projectRoot);
+    }
+  }
+
   @Test
   @DisplayName("archive() should fall back to directory name when artifactId is null")
   void archive_shouldUseDirectoryNameWhenArtifactIdNull(@TempDir Path tempDir) throws IOException {
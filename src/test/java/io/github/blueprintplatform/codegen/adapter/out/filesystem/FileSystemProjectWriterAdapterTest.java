@@ -4,9 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectWriteException;
+import io.github.blueprintplatform.codegen.adapter.out.shared.artifact.ContentSources;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.ContentSource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.EncodedTextContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedBinaryResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedEncodedTextResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedStreamedResource;
 import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectWriterPort;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -60,6 +68,76 @@ class FileSystemProjectWriterAdapterTest {
         .isEqualTo("Hello World");
   }
 
+  @Test
+  @DisplayName("write() should write encoded text resources byte for byte")
+  void write_shouldWriteEncodedTextResource() throws IOException {
+    Path temp = Files.createTempDirectory("writer-test4");
+    Path relative = Path.of("x/y/encoded.txt");
+    byte[] bytes = "Grüße".getBytes(StandardCharsets.UTF_8);
+
+    writer.write(
+        temp,
+        new GeneratedEncodedTextResource(
+            relative, EncodedTextContent.adopt(bytes, StandardCharsets.UTF_8)));
+
+    assertThat(Files.readAllBytes(temp.resolve(relative))).isEqualTo(bytes);
+  }
+
+  @Test
+  @DisplayName("write() should write binary resources from their read-only buffer view")
+  void write_shouldWriteBinaryResource() throws IOException {
+    Path temp = Files.createTempDirectory("writer-test5");
+    Path relative = Path.of("bin/data.bin");
+
+    writer.write(
+        temp, new GeneratedBinaryResource(relative, new BinaryContent(new byte[] {1, 2, 3})));
+
+    assertThat(Files.readAllBytes(temp.resolve(relative))).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  @DisplayName("write() should copy streamed resources from file and classpath sources")
+  void write_shouldCopyStreamedResources() throws IOException {
+    Path temp = Files.createTempDirectory("writer-test6");
+    Path sourceFile = temp.resolve("source.bin");
+    byte[] payload = new byte[256 * 1024];
+    for (int i = 0; i < payload.length; i++) {
+      payload[i] = (byte) i;
+    }
+    Files.write(sourceFile, payload);
+
+    String classpathResource =
+        FileSystemProjectWriterAdapterTest.class.getName().replace('.', '/') + ".class";
+
+    writer.write(
+        temp,
+        new GeneratedStreamedResource(Path.of("out/file.bin"), ContentSources.ofFile(sourceFile)),
+        new GeneratedStreamedResource(
+            Path.of("out/cp.bin"),
+            ContentSources.ofClasspath(getClass().getClassLoader(), classpathResource)));
+
+    assertThat(Files.readAllBytes(temp.resolve("out/file.bin"))).isEqualTo(payload);
+    try (InputStream expected =
+        getClass().getClassLoader().getResourceAsStream(classpathResource)) {
+      assertThat(Files.readAllBytes(temp.resolve("out/cp.bin"))).isEqualTo(expected.readAllBytes());
+    }
+  }
+
+  @Test
+  @DisplayName("writeStreamed() should wrap source IOExceptions in ProjectWriteException")
+  void writeStreamed_shouldWrapSourceIOException() throws IOException {
+    Path temp = Files.createTempDirectory("writer-test7");
+    ContentSource failing =
+        () -> {
+          throw new IOException("boom");
+        };
+
+    Path relative = Path.of("x.bin");
+    assertThatThrownBy(() -> writer.writeStreamed(temp, relative, failing))
+        .isInstanceOf(ProjectWriteException.class)
+        .hasCauseInstanceOf(IOException.class);
+  }
+
   @Test
   @DisplayName("writeBytes() should wrap IOExceptions in ProjectWriteException")
   void writeBytes_shouldWrapIOException() throws IOException {
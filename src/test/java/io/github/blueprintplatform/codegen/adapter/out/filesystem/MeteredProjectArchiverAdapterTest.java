@@ -0,0 +1,54 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class MeteredProjectArchiverAdapterTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("archive() should time the archive and record its size, tagged by format")
+  void archive_shouldRecordTimingAndSizePerFormat() throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    Files.writeString(projectRoot.resolve("README.md"), "# demo\n".repeat(100));
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    MeteredProjectArchiverAdapter archiver =
+        new MeteredProjectArchiverAdapter(new FileSystemProjectArchiverAdapter(), registry);
+
+    Path archive = archiver.archive(projectRoot, "demo", ArchiveFormat.ZIP_STORED);
+    Path none = archiver.archive(projectRoot, "demo", ArchiveFormat.NONE);
+
+    assertThat(none).isNull();
+    assertThat(
+            registry
+                .get(MeteredProjectArchiverAdapter.ARCHIVE_TIMER)
+                .tag("format", "zip-stored")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            registry
+                .get(MeteredProjectArchiverAdapter.ARCHIVE_SIZE)
+                .tag("format", "zip-stored")
+                .summary()
+                .totalAmount())
+        .isEqualTo(Files.size(archive));
+    assertThat(
+            registry
+                .find(MeteredProjectArchiverAdapter.ARCHIVE_SIZE)
+                .tag("format", "none")
+                .summary())
+        .isNull();
+  }
+}
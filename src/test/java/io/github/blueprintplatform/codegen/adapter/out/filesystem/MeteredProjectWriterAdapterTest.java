@@ -0,0 +1,65 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.BinaryContent;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedBinaryResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class MeteredProjectWriterAdapterTest {
+
+  @TempDir Path tempDir;
+
+  private static List<GeneratedResource> resources() {
+    return List.of(
+        new GeneratedDirectory(Path.of("src/main/resources")),
+        new GeneratedTextResource(Path.of("README.md"), "Grüße", StandardCharsets.UTF_8),
+        new GeneratedBinaryResource(Path.of("lib/a.bin"), new BinaryContent(new byte[] {1, 2, 3})));
+  }
+
+  @Test
+  @DisplayName("write() should record the size of every written file but not directories")
+  void write_shouldRecordWrittenFileSizes() throws Exception {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    try (MeteredProjectWriterAdapter writer =
+        new MeteredProjectWriterAdapter(new ParallelFileSystemProjectWriterAdapter(2), registry)) {
+      writer.write(tempDir, resources());
+    }
+
+    DistributionSummary fileSize = registry.get(MeteredProjectWriterAdapter.FILE_SIZE).summary();
+    assertThat(fileSize.count()).isEqualTo(2);
+    assertThat(fileSize.totalAmount()).isEqualTo(7 + 3);
+    assertThat(tempDir.resolve("src/main/resources")).isDirectory();
+  }
+
+  @Test
+  @DisplayName("single-file writes should each be recorded once")
+  void singleFileWrites_shouldBeRecordedOnce() throws Exception {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    MeteredProjectWriterAdapter writer =
+        new MeteredProjectWriterAdapter(new FileSystemProjectWriterAdapter(), registry);
+
+    writer.writeBytes(tempDir, Path.of("a.txt"), new byte[] {1, 2});
+    writer.writeText(tempDir, Path.of("b.txt"), "abc");
+    for (GeneratedResource resource : resources()) {
+      writer.write(tempDir, resource);
+    }
+
+    DistributionSummary fileSize = registry.get(MeteredProjectWriterAdapter.FILE_SIZE).summary();
+    assertThat(fileSize.count()).isEqualTo(4);
+    assertThat(fileSize.totalAmount()).isEqualTo(2 + 3 + 7 + 3);
+  }
+}
@@ -0,0 +1,208 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectWriteException;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedStreamedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class ParallelFileSystemProjectWriterAdapterTest {
+
+  private final ParallelFileSystemProjectWriterAdapter writer =
+      new ParallelFileSystemProjectWriterAdapter(4);
+
+  @TempDir Path projectRoot;
+
+  @AfterEach
+  void tearDown() {
+    writer.close();
+  }
+
+  private static GeneratedResource text(String path, String content) {
+    return new GeneratedTextResource(Path.of(path), content, StandardCharsets.UTF_8);
+  }
+
+  /** A file whose content only becomes readable once {@code release} is counted down. */
+  private static GeneratedResource blocked(String name, CountDownLatch release) {
+    return new GeneratedStreamedResource(
+        Path.of(name + ".txt"),
+        () -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+          }
+          return new ByteArrayInputStream("blocked".getBytes(StandardCharsets.UTF_8));
+        });
+  }
+
+  private static void awaitPulled(CountingResources resources, int expected)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (resources.pulled() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  /** Produces resources on demand and counts how many the writer has pulled. */
+  private static final class CountingResources implements Iterable<GeneratedResource> {
+
+    private final int size;
+    private final IntFunction<GeneratedResource> factory;
+    private final AtomicInteger pulled = new AtomicInteger();
+
+    private CountingResources(int size, IntFunction<GeneratedResource> factory) {
+      this.size = size;
+      this.factory = factory;
+    }
+
+    int pulled() {
+      return pulled.get();
+    }
+
+    @Override
+    public Iterator<GeneratedResource> iterator() {
+      return new Iterator<>() {
+        @Override
+        public boolean hasNext() {
+          return pulled.get() < size;
+        }
+
+        @Override
+        public GeneratedResource next() {
+          return factory.apply(pulled.getAndIncrement());
+        }
+      };
+    }
+  }
+
+  @Test
+  @DisplayName("write() should write every file of a deep tree and the declared directories")
+  void write_shouldWriteAllFilesAndDirectories() throws IOException {
+    List<GeneratedResource> resources = new ArrayList<>();
+    resources.add(new GeneratedDirectory(Path.of("src/main/java/com/acme/domain")));
+    resources.add(new GeneratedDirectory(Path.of("src/test/resources")));
+    for (int i = 0; i < 50; i++) {
+      resources.add(
+          text("src/main/java/com/acme/domain/pkg" + (i % 5) + "/F" + i + ".java", "" + i));
+    }
+
+    writer.write(projectRoot, resources);
+
+    for (int i = 0; i < 50; i++) {
+      Path file =
+          projectRoot.resolve("src/main/java/com/acme/domain/pkg" + (i % 5) + "/F" + i + ".java");
+      assertThat(Files.readString(file)).isEqualTo("" + i);
+    }
+    assertThat(projectRoot.resolve("src/test/resources")).isDirectory();
+  }
+
+  @Test
+  @DisplayName("write() should report the first failing resource in input order")
+  void write_shouldReportFirstFailureInInputOrder() throws IOException {
+    Files.writeString(projectRoot.resolve("first"), "not a directory");
+    Files.writeString(projectRoot.resolve("second"), "not a directory");
+
+    List<GeneratedResource> resources =
+        List.of(text("ok.txt", "ok"), text("first/a.txt", "a"), text("second/b.txt", "b"));
+
+    assertThatThrownBy(() -> writer.write(projectRoot, resources))
+        .isInstanceOfSatisfying(
+            ProjectWriteException.class,
+            e -> assertThat(e.getArgs()).containsExactly(projectRoot.resolve("first/a.txt")));
+    assertThat(projectRoot.resolve("ok.txt")).hasContent("ok");
+  }
+
+  @Test
+  @DisplayName("write() should pull no more resources than it has writes in flight")
+  void write_shouldBoundWritesInFlight() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountingResources resources = new CountingResources(100, i -> blocked("f" + i, release));
+
+    CompletableFuture<Void> writing =
+        CompletableFuture.runAsync(() -> writer.write(projectRoot, resources));
+    try {
+      awaitPulled(resources, 9);
+      Thread.sleep(100);
+      assertThat(resources.pulled()).isEqualTo(9);
+    } finally {
+      release.countDown();
+    }
+
+    writing.get(10, TimeUnit.SECONDS);
+    assertThat(resources.pulled()).isEqualTo(100);
+    assertThat(projectRoot.resolve("f99.txt")).hasContent("blocked");
+  }
+
+  @Test
+  @DisplayName("write() should stop pulling resources once a write has failed")
+  void write_shouldStopConsumingAfterFailure() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch failed = new CountDownLatch(1);
+    CountingResources resources =
+        new CountingResources(
+            100,
+            i ->
+                i == 0
+                    ? new GeneratedStreamedResource(
+                        Path.of("broken.txt"),
+                        () -> {
+                          failed.countDown();
+                          throw new IOException("broken");
+                        })
+                    : blocked("f" + i, release));
+
+    CompletableFuture<Void> writing =
+        CompletableFuture.runAsync(() -> writer.write(projectRoot, resources));
+    try {
+      assertThat(failed.await(10, TimeUnit.SECONDS)).isTrue();
+      Thread.sleep(100);
+      assertThat(resources.pulled()).isLessThanOrEqualTo(9);
+    } finally {
+      release.countDown();
+    }
+
+    assertThatThrownBy(() -> writing.get(10, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(ProjectWriteException.class);
+    assertThat(resources.pulled()).isLessThanOrEqualTo(9);
+  }
+
+  @Test
+  @DisplayName("write() should allow repeated batches into the same project root")
+  void write_shouldNotReuseDirectoryCacheAcrossBatches() throws IOException {
+    writer.write(projectRoot, List.of(text("a/b/one.txt", "1")));
+
+    Path nested = projectRoot.resolve("a/b");
+    Files.delete(nested.resolve("one.txt"));
+    Files.delete(nested);
+
+    writer.write(projectRoot, List.of(text("a/b/two.txt", "2")));
+
+    assertThat(nested.resolve("two.txt")).hasContent("2");
+  }
+}
@@ -0,0 +1,101 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectArchiveInvalidRootException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class ParallelZipProjectArchiverAdapterTest {
+
+  @TempDir Path tempDir;
+
+  private static Map<String, String> readZip(Path archive) throws IOException {
+    Map<String, String> entries = new LinkedHashMap<>();
+    try (ZipFile zip = new ZipFile(archive.toFile())) {
+      for (ZipEntry entry : zip.stream().toList()) {
+        entries.put(
+            entry.getName(),
+            new String(zip.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+    return entries;
+  }
+
+  private Path createProject() throws IOException {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    for (int i = 0; i < 40; i++) {
+      Path file = projectRoot.resolve("src/main/java/pkg" + (i % 4) + "/F" + i + ".java");
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, ("class F" + i + " {}\n").repeat(i + 1));
+    }
+    Files.createDirectories(projectRoot.resolve("src/test/resources"));
+    return projectRoot;
+  }
+
+  @Test
+  @DisplayName("archive() should match the sequential archiver entry for entry")
+  void archive_shouldMatchSequentialArchiver() throws IOException {
+    Path projectRoot = createProject();
+
+    Path sequential = new FileSystemProjectArchiverAdapter().archive(projectRoot, "sequential");
+    Map<String, String> expected = new LinkedHashMap<>();
+    readZip(sequential)
+        .forEach(
+            (name, content) -> expected.put(name.replaceFirst("^sequential/", "demo/"), content));
+
+    Path parallel;
+    try (var archiver = new ParallelZipProjectArchiverAdapter(4, 6)) {
+      parallel = archiver.archive(projectRoot, "demo");
+    }
+
+    assertThat(parallel).isEqualTo(tempDir.resolve("demo.zip"));
+    assertThat(readZip(parallel)).containsExactlyEntriesOf(expected);
+  }
+
+  @Test
+  @DisplayName("archive() should honour the configured compression level")
+  void archive_shouldApplyCompressionLevel() throws IOException {
+    Path projectRoot = createProject();
+
+    long stored;
+    long best;
+    try (var storeOnly = new ParallelZipProjectArchiverAdapter(2, 0);
+        var bestCompression = new ParallelZipProjectArchiverAdapter(2, 9)) {
+      stored = Files.size(storeOnly.archive(projectRoot, "stored"));
+      best = Files.size(bestCompression.archive(projectRoot, "best"));
+    }
+
+    assertThat(best).isLessThan(stored);
+  }
+
+  @Test
+  @DisplayName("archive() should reject a missing project root")
+  void archive_shouldRejectMissingRoot() {
+    Path missing = tempDir.resolve("missing");
+    try (var archiver = new ParallelZipProjectArchiverAdapter(2, -1)) {
+      assertThatThrownBy(() -> archiver.archive(missing, "demo"))
+          .isInstanceOf(ProjectArchiveInvalidRootException.class);
+    }
+  }
+
+  @Test
+  @DisplayName("constructor should reject compression levels outside -1..9")
+  void constructor_shouldRejectInvalidLevel() {
+    assertThatThrownBy(() -> new ParallelZipProjectArchiverAdapter(2, 10))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,137 @@
+package io.github.blueprintplatform.codegen.adapter.out.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.blueprintplatform.codegen.adapter.out.archive.StreamingProjectArchiveWriterAdapter;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectWriteMode;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutput;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputSinkPort;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedDirectory;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class StagedProjectOutputSinkAdapterTest {
+
+  private final ProjectOutputSinkPort sink =
+      new StagedProjectOutputSinkAdapter(
+          new FileSystemProjectWriterAdapter(),
+          new FileSystemProjectArchiverAdapter(),
+          new StreamingProjectArchiveWriterAdapter(),
+          new FileSystemProjectOutputAdapter());
+
+  private static List<GeneratedResource> resources(String readme) {
+    return List.of(
+        new GeneratedDirectory(Path.of("src/test/java")),
+        new GeneratedTextResource(Path.of("pom.xml"), "<project/>", StandardCharsets.UTF_8),
+        new GeneratedTextResource(Path.of("README.md"), readme, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("write() should write, archive and list the project tree")
+  void write_shouldWriteArchiveAndList(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+
+    ProjectOutput output =
+        sink.write(projectRoot, "demo", ArchiveFormat.ZIP, ProjectWriteMode.FULL, resources("v1"));
+
+    assertThat(projectRoot.resolve("src/test/java")).isDirectory();
+    assertThat(projectRoot.resolve(".codegen")).doesNotExist();
+    assertThat(output.archivePath()).isEqualTo(tempDir.resolve("demo.zip"));
+    assertThat(output.items())
+        .extracting(ProjectOutputItem::relativePath)
+        .containsExactlyInAnyOrder(Path.of("pom.xml"), Path.of("README.md"));
+  }
+
+  @Test
+  @DisplayName("write() in incremental mode should hand only changed files and the manifest over")
+  void write_incremental_shouldRewriteOnlyChangedFiles(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    sink.write(
+        projectRoot, "demo", ArchiveFormat.ZIP, ProjectWriteMode.INCREMENTAL, resources("v1"));
+
+    Path pom = projectRoot.resolve("pom.xml");
+    Path readme = projectRoot.resolve("README.md");
+    FileTime past = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+    Files.setLastModifiedTime(pom, past);
+    Files.setLastModifiedTime(readme, past);
+
+    ProjectOutput output =
+        sink.write(
+            projectRoot, "demo", ArchiveFormat.ZIP, ProjectWriteMode.INCREMENTAL, resources("v2"));
+
+    assertThat(Files.getLastModifiedTime(pom)).isEqualTo(past);
+    assertThat(readme).hasContent("v2");
+    assertThat(Files.readString(projectRoot.resolve(".codegen/manifest")))
+        .contains("  pom.xml\n")
+        .contains("  README.md\n");
+    assertThat(output.items())
+        .extracting(ProjectOutputItem::relativePath)
+        .containsExactly(Path.of("pom.xml"), Path.of("README.md"));
+    try (ZipFile zip = new ZipFile(output.archivePath().toFile())) {
+      assertThat(zip.getInputStream(zip.getEntry("demo/README.md"))).hasContent("v2");
+      assertThat(zip.getEntry("demo/.codegen/manifest")).isNull();
+    }
+  }
+
+  @Test
+  @DisplayName("write() in incremental mode should archive and list only generated files")
+  void write_incremental_shouldIgnoreForeignFiles(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    sink.write(
+        projectRoot, "demo", ArchiveFormat.ZIP, ProjectWriteMode.INCREMENTAL, resources("v1"));
+    Files.createDirectories(projectRoot.resolve("target/classes"));
+    Files.writeString(projectRoot.resolve("target/classes/App.class"), "compiled");
+
+    ProjectOutput output =
+        sink.write(
+            projectRoot, "demo", ArchiveFormat.ZIP, ProjectWriteMode.INCREMENTAL, resources("v1"));
+
+    assertThat(output.items())
+        .extracting(ProjectOutputItem::relativePath)
+        .containsExactly(Path.of("pom.xml"), Path.of("README.md"));
+    try (ZipFile zip = new ZipFile(output.archivePath().toFile())) {
+      assertThat(zip.stream().map(ZipEntry::getName))
+          .containsExactlyInAnyOrder(
+              "demo/",
+              "demo/src/",
+              "demo/src/test/",
+              "demo/src/test/java/",
+              "demo/pom.xml",
+              "demo/README.md");
+    }
+  }
+
+  @Test
+  @DisplayName("write() in incremental mode should restore a hand-edited file of any length")
+  void write_incremental_shouldRestoreEditedFile(@TempDir Path tempDir) throws Exception {
+    Path projectRoot = Files.createDirectory(tempDir.resolve("demo"));
+    sink.write(
+        projectRoot, "demo", ArchiveFormat.NONE, ProjectWriteMode.INCREMENTAL, resources("v1"));
+    Path readme = projectRoot.resolve("README.md");
+
+    for (String edit : List.of("v9", "v1, edited by hand")) {
+      Files.writeString(readme, edit);
+
+      sink.write(
+          projectRoot, "demo", ArchiveFormat.NONE, ProjectWriteMode.INCREMENTAL, resources("v1"));
+
+      assertThat(readme).as(edit).hasContent("v1");
+    }
+  }
+}
@@ -11,6 +11,7 @@ import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Framewo
 import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Language;
 import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -20,7 +21,8 @@ class ProfileBasedArtifactsSelectorTest {
 
   @Test
   @DisplayName(
-      "select() should throw ArtifactsPortNotFoundException when no port registered for computed key")
+      "select() should throw ArtifactsPortNotFoundException when no port registered for computed"
+          + " key")
   void select_shouldThrowWhenPortMissing() {
     TechStack opts = new TechStack(Framework.SPRING_BOOT, BuildTool.MAVEN, Language.JAVA);
 
@@ -43,10 +45,42 @@ class ProfileBasedArtifactsSelectorTest {
 
     ProjectArtifactsPort port = mock(ProjectArtifactsPort.class);
 
-    ProfileBasedArtifactsSelector selector = new ProfileBasedArtifactsSelector(Map.of(key, port));
+    ProfileBasedArtifactsSelector selector =
+        new ProfileBasedArtifactsSelector(Map.of(key, () -> port));
 
     ProjectArtifactsPort result = selector.select(opts);
 
     assertThat(result).isSameAs(port);
   }
+
+  @Test
+  @DisplayName("select() should build a profile's port on first selection only and reuse it")
+  void select_shouldBuildPortLazilyOnce() {
+    TechStack opts = new TechStack(Framework.SPRING_BOOT, BuildTool.MAVEN, Language.JAVA);
+    AtomicInteger builds = new AtomicInteger();
+    AtomicInteger otherBuilds = new AtomicInteger();
+
+    ProfileBasedArtifactsSelector selector =
+        new ProfileBasedArtifactsSelector(
+            Map.of(
+                TechStackProfileKey.from(opts),
+                () -> {
+                  builds.incrementAndGet();
+                  return mock(ProjectArtifactsPort.class);
+                },
+                "other-profile",
+                () -> {
+                  otherBuilds.incrementAndGet();
+                  return mock(ProjectArtifactsPort.class);
+                }));
+
+    assertThat(builds).hasValue(0);
+
+    ProjectArtifactsPort first = selector.select(opts);
+    ProjectArtifactsPort second = selector.select(opts);
+
+    assertThat(second).isSameAs(first);
+    assertThat(builds).hasValue(1);
+    assertThat(otherBuilds).hasValue(0);
+  }
 }
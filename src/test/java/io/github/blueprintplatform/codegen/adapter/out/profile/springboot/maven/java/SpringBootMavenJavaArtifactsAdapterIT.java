@@ -2,6 +2,8 @@ package io.github.blueprintplatform.codegen.adapter.out.profile.springboot.maven
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsPort;
+import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsSelector;
 import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
 import io.github.blueprintplatform.codegen.domain.model.value.architecture.ArchitectureGovernance;
 import io.github.blueprintplatform.codegen.domain.model.value.architecture.ArchitectureSpec;
@@ -40,13 +42,20 @@ import org.springframework.boot.test.context.SpringBootTest;
 @Tag("integration")
 class SpringBootMavenJavaArtifactsAdapterIT {
 
-  @Autowired private SpringBootMavenJavaArtifactsAdapter adapter;
+  @Autowired private ProjectArtifactsSelector selector;
 
   @Test
   @DisplayName(
       "generate() should produce artifacts for a valid Spring Boot + Maven + Java blueprint")
   void generate_shouldProduceArtifactsForValidBlueprint() {
     ProjectBlueprint blueprint = blueprint();
+    TechStack techStack = blueprint.getPlatform().techStack();
+
+    ProjectArtifactsPort adapter = selector.select(techStack);
+
+    assertThat(adapter)
+        .isInstanceOf(SpringBootMavenJavaArtifactsAdapter.class)
+        .isSameAs(selector.select(techStack));
 
     Iterable<? extends GeneratedResource> files = adapter.generate(blueprint);
 
@@ -2,6 +2,7 @@ package io.github.blueprintplatform.codegen.adapter.out.shared.artifact;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
 import io.github.blueprintplatform.codegen.adapter.out.templating.TemplateRenderer;
 import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactKey;
 import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
@@ -27,11 +28,14 @@ import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Languag
 import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import io.github.blueprintplatform.codegen.testsupport.templating.NoopTemplateRenderer;
 import io.github.blueprintplatform.codegen.testsupport.templating.RecordingTemplateRenderer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -122,12 +126,68 @@ class AbstractMultiTemplateArtifactAdapterTest {
         .satisfies(model -> assertThat(model).isEmpty());
   }
 
+  @Test
+  @DisplayName("generate() should keep template order when rendering on a fork-join pool")
+  void generate_shouldKeepTemplateOrderWhenRenderingInParallel() {
+    List<TemplateSpec> templates =
+        IntStream.range(0, 32)
+            .mapToObj(i -> new TemplateSpec("t" + i + ".ftl", "out/t" + i + ".txt"))
+            .toList();
+
+    ArtifactSpec artifactSpec = new ArtifactSpec(BASE_PATH, templates);
+
+    try (OrderedTaskExecutor executor = OrderedTaskExecutor.forkJoin(4)) {
+      TestMultiTemplateAdapter adapter =
+          new TestMultiTemplateAdapter(new NoopTemplateRenderer(), artifactSpec, executor);
+
+      Iterable<? extends GeneratedResource> result = adapter.generate(projectBlueprint());
+
+      assertThat(result)
+          .extracting(GeneratedResource::relativePath)
+          .containsExactlyElementsOf(templates.stream().map(t -> Path.of(t.outputPath())).toList());
+    }
+  }
+
+  @Test
+  @DisplayName("generate(sink) should emit each rendered template to the sink in order")
+  void generateWithSink_shouldEmitRenderedTemplatesInOrder() {
+    GeneratedResource file1 =
+        new GeneratedTextResource(Path.of("out/one.txt"), "1", StandardCharsets.UTF_8);
+    GeneratedResource file2 =
+        new GeneratedTextResource(Path.of("out/two.txt"), "2", StandardCharsets.UTF_8);
+
+    RecordingTemplateRenderer renderer = new RecordingTemplateRenderer(List.of(file1, file2));
+
+    ArtifactSpec artifactSpec =
+        new ArtifactSpec(
+            BASE_PATH,
+            List.of(
+                new TemplateSpec("one.ftl", "out/one.txt"),
+                new TemplateSpec("two.ftl", "out/two.txt")));
+
+    TestMultiTemplateAdapter adapter = new TestMultiTemplateAdapter(renderer, artifactSpec);
+
+    List<GeneratedResource> emitted = new ArrayList<>();
+    adapter.generate(projectBlueprint(), emitted::add);
+
+    assertThat(emitted)
+        .extracting(GeneratedResource::relativePath)
+        .containsExactly(Path.of("out/one.txt"), Path.of("out/two.txt"));
+    assertThat(renderer.capturedModels)
+        .allSatisfy(model -> assertThat(model).isEqualTo(Map.of("key", "value")));
+  }
+
   private static final class TestMultiTemplateAdapter extends AbstractMultiTemplateArtifactAdapter {
 
     TestMultiTemplateAdapter(TemplateRenderer renderer, ArtifactSpec artifactSpec) {
       super(renderer, artifactSpec);
     }
 
+    TestMultiTemplateAdapter(
+        TemplateRenderer renderer, ArtifactSpec artifactSpec, OrderedTaskExecutor executor) {
+      super(renderer, artifactSpec, executor);
+    }
+
     @Override
     protected Map<String, Object> buildModel(ProjectBlueprint blueprint) {
       return Map.of("key", "value");
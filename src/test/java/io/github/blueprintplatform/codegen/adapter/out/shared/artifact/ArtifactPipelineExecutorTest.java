@@ -0,0 +1,300 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.artifact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.github.blueprintplatform.codegen.adapter.out.shared.concurrent.OrderedTaskExecutor;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.ArtifactGenerationEvent;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.GenerationObservation;
+import io.github.blueprintplatform.codegen.application.port.out.StreamedResources;
+import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactKey;
+import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactPort;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import io.github.blueprintplatform.codegen.testsupport.jfr.RecordedEvents;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("adapter")
+class ArtifactPipelineExecutorTest {
+
+  private static final ProjectBlueprint BLUEPRINT = null;
+
+  private static GeneratedResource text(String path) {
+    return new GeneratedTextResource(Path.of(path), path, StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("execute() should materialize resources of all artifacts in order by default")
+  void execute_shouldMaterializeInOrder() {
+    ArtifactPipelineExecutor executor = new ArtifactPipelineExecutor();
+
+    Iterable<? extends GeneratedResource> result =
+        executor.execute(List.of(new FixedArtifact("a", "b"), new FixedArtifact("c")), BLUEPRINT);
+
+    assertThat(executor.isStreaming()).isFalse();
+    assertThat(result).isInstanceOf(List.class);
+    assertThat(result)
+        .extracting(GeneratedResource::relativePath)
+        .containsExactly(Path.of("a"), Path.of("b"), Path.of("c"));
+  }
+
+  @Test
+  @DisplayName("streaming execute() should emit resources of all artifacts in order")
+  void streaming_shouldEmitInOrder() {
+    ArtifactPipelineExecutor executor = ArtifactPipelineExecutor.streaming(2);
+
+    Iterable<? extends GeneratedResource> result =
+        executor.execute(
+            List.of(new FixedArtifact("a", "b", "c"), new FixedArtifact("d", "e")), BLUEPRINT);
+
+    assertThat(executor.isStreaming()).isTrue();
+    assertThat(result).isInstanceOf(StreamedResources.class);
+    try (StreamedResources streamed = (StreamedResources) result) {
+      assertThat(streamed)
+          .extracting(GeneratedResource::relativePath)
+          .containsExactly(Path.of("a"), Path.of("b"), Path.of("c"), Path.of("d"), Path.of("e"));
+    }
+  }
+
+  @Test
+  @DisplayName("streaming execute() should hold at most buffer size resources ahead of consumer")
+  void streaming_shouldBoundProducerLead() throws InterruptedException {
+    AtomicInteger produced = new AtomicInteger();
+    String[] paths = IntStream.range(0, 20).mapToObj(i -> "f" + i).toArray(String[]::new);
+    ArtifactPort artifact = new CountingArtifact(produced, paths);
+
+    try (StreamedResources streamed =
+        (StreamedResources)
+            ArtifactPipelineExecutor.streaming(3).execute(List.of(artifact), BLUEPRINT)) {
+      Iterator<GeneratedResource> iterator = streamed.iterator();
+      iterator.next();
+
+      TimeUnit.MILLISECONDS.sleep(100);
+
+      // one consumed, three queued, one blocked in put()
+      assertThat(produced.get()).isLessThanOrEqualTo(5);
+    }
+  }
+
+  @Test
+  @DisplayName("streaming execute() should rethrow producer failure on the consumer thread")
+  void streaming_shouldRethrowProducerFailure() {
+    IllegalStateException failure = new IllegalStateException("render failed");
+    ArtifactPort failing =
+        new FixedArtifact() {
+          @Override
+          public void generate(
+              ProjectBlueprint blueprint, Consumer<? super GeneratedResource> sink) {
+            sink.accept(text("ok"));
+            throw failure;
+          }
+        };
+
+    try (StreamedResources streamed =
+        (StreamedResources)
+            ArtifactPipelineExecutor.streaming(4).execute(List.of(failing), BLUEPRINT)) {
+      Iterator<GeneratedResource> iterator = streamed.iterator();
+
+      assertThat(iterator.next().relativePath()).isEqualTo(Path.of("ok"));
+      assertThatThrownBy(iterator::hasNext).isSameAs(failure);
+    }
+  }
+
+  @Test
+  @DisplayName("streaming execute() should be iterable only once")
+  void streaming_shouldRejectSecondIteration() {
+    try (StreamedResources streamed =
+        (StreamedResources)
+            ArtifactPipelineExecutor.streaming(1)
+                .execute(List.of(new FixedArtifact("a")), BLUEPRINT)) {
+      streamed.iterator();
+
+      assertThatThrownBy(streamed::iterator).isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Test
+  @DisplayName("close() should release a producer blocked on a full buffer")
+  void close_shouldReleaseBlockedProducer() throws InterruptedException {
+    CountDownLatch finished = new CountDownLatch(1);
+    ArtifactPort artifact =
+        new FixedArtifact("a", "b", "c", "d") {
+          @Override
+          public void generate(
+              ProjectBlueprint blueprint, Consumer<? super GeneratedResource> sink) {
+            try {
+              super.generate(blueprint, sink);
+            } finally {
+              finished.countDown();
+            }
+          }
+        };
+
+    StreamedResources streamed =
+        (StreamedResources)
+            ArtifactPipelineExecutor.streaming(1).execute(List.of(artifact), BLUEPRINT);
+    streamed.iterator().next();
+    streamed.close();
+
+    assertThat(finished.await(Duration.ofSeconds(5).toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("execute() should report each artifact with the listener bound on worker threads")
+  void execute_shouldReportArtifactsToListener() {
+    RecordingListener listener = new RecordingListener();
+    Queue<GenerationListener> observed = new ConcurrentLinkedQueue<>();
+
+    try (OrderedTaskExecutor taskExecutor = OrderedTaskExecutor.forkJoin(2)) {
+      new ArtifactPipelineExecutor(taskExecutor)
+          .execute(
+              List.of(new ObservingArtifact(observed, "a"), new ObservingArtifact(observed, "b")),
+              BLUEPRINT,
+              listener);
+    }
+
+    assertThat(listener.artifacts).containsExactly("source-layout", "source-layout");
+    assertThat(observed).hasSize(2).containsOnly(listener);
+    assertThat(GenerationObservation.current()).isSameAs(GenerationListener.NONE);
+  }
+
+  @Test
+  @DisplayName("streaming execute() should report each artifact from the producer thread")
+  void streaming_shouldReportArtifactsToListener() {
+    RecordingListener listener = new RecordingListener();
+    Queue<GenerationListener> observed = new ConcurrentLinkedQueue<>();
+
+    try (StreamedResources streamed =
+        (StreamedResources)
+            ArtifactPipelineExecutor.streaming(1)
+                .execute(
+                    List.of(
+                        new ObservingArtifact(observed, "a", "b"),
+                        new ObservingArtifact(observed, "c")),
+                    BLUEPRINT,
+                    listener)) {
+      assertThat(streamed).hasSize(3);
+    }
+
+    assertThat(listener.artifacts).containsExactly("source-layout", "source-layout");
+    assertThat(observed).hasSize(2).containsOnly(listener);
+  }
+
+  @Test
+  @DisplayName("execute() should record an artifact generation event per artifact")
+  void execute_shouldRecordFlightRecorderEvents() throws Exception {
+    List<ArtifactPort> artifacts = List.of(new FixedArtifact("a", "b"), new FixedArtifact("c"));
+
+    List<RecordedEvent> events =
+        RecordedEvents.record(
+            () -> {
+              new ArtifactPipelineExecutor().execute(artifacts, BLUEPRINT);
+              try (StreamedResources streamed =
+                  (StreamedResources)
+                      ArtifactPipelineExecutor.streaming(1).execute(artifacts, BLUEPRINT)) {
+                assertThat(streamed).hasSize(3);
+              }
+            },
+            ArtifactGenerationEvent.NAME);
+
+    assertThat(events)
+        .extracting(e -> e.getString("artifactKey"), e -> e.getInt("resources"))
+        .containsExactly(
+            tuple("source-layout", 2),
+            tuple("source-layout", 1),
+            tuple("source-layout", 2),
+            tuple("source-layout", 1));
+  }
+
+  @Test
+  @DisplayName("streaming() should reject non-positive buffer size")
+  void streaming_shouldRejectInvalidBufferSize() {
+    assertThatThrownBy(() -> ArtifactPipelineExecutor.streaming(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static class FixedArtifact implements ArtifactPort {
+
+    private final List<GeneratedResource> resources;
+
+    FixedArtifact(String... paths) {
+      this.resources = Arrays.stream(paths).map(ArtifactPipelineExecutorTest::text).toList();
+    }
+
+    @Override
+    public ArtifactKey artifactKey() {
+      return ArtifactKey.SOURCE_LAYOUT;
+    }
+
+    @Override
+    public Iterable<? extends GeneratedResource> generate(ProjectBlueprint blueprint) {
+      return resources;
+    }
+  }
+
+  private static final class CountingArtifact extends FixedArtifact {
+
+    private final AtomicInteger produced;
+
+    CountingArtifact(AtomicInteger produced, String... paths) {
+      super(paths);
+      this.produced = produced;
+    }
+
+    @Override
+    public void generate(ProjectBlueprint blueprint, Consumer<? super GeneratedResource> sink) {
+      super.generate(
+          blueprint,
+          resource -> {
+            produced.incrementAndGet();
+            sink.accept(resource);
+          });
+    }
+  }
+
+  private static final class ObservingArtifact extends FixedArtifact {
+
+    private final Queue<GenerationListener> observed;
+
+    ObservingArtifact(Queue<GenerationListener> observed, String... paths) {
+      super(paths);
+      this.observed = observed;
+    }
+
+    @Override
+    public Iterable<? extends GeneratedResource> generate(ProjectBlueprint blueprint) {
+      observed.add(GenerationObservation.current());
+      return super.generate(blueprint);
+    }
+  }
+
+  private static final class RecordingListener implements GenerationListener {
+
+    private final Queue<String> artifacts = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void artifactCompleted(String artifactKey, Duration duration) {
+      artifacts.add(artifactKey);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.artifact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.ContentSource;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class ContentSourcesTest {
+
+  @TempDir Path temp;
+
+  @Test
+  @DisplayName("ofFile() should expose the backing file and open it on demand")
+  void ofFile_shouldExposeFileAndOpenLazily() throws IOException {
+    Path file = temp.resolve("a.bin");
+    ContentSource source = ContentSources.ofFile(file);
+
+    assertThat(source.file()).contains(file);
+    assertThat(source).hasToString("file:" + file);
+
+    Files.write(file, new byte[] {4, 5});
+    try (InputStream in = source.open()) {
+      assertThat(in.readAllBytes()).containsExactly(4, 5);
+    }
+  }
+
+  @Test
+  @DisplayName("ofClasspath() should fail with FileNotFoundException when the resource is missing")
+  void ofClasspath_missingResource_shouldFailOnOpen() {
+    ContentSource source =
+        ContentSources.ofClasspath(getClass().getClassLoader(), "does/not/exist.bin");
+
+    assertThat(source.file()).isEmpty();
+    assertThat(source).hasToString("classpath:does/not/exist.bin");
+    assertThatThrownBy(source::open)
+        .isInstanceOf(FileNotFoundException.class)
+        .hasMessage("classpath:does/not/exist.bin");
+  }
+}
@@ -0,0 +1,103 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("adapter")
+class OrderedTaskExecutorTest {
+
+  @Test
+  @DisplayName("sequential() should run tasks inline on the caller thread")
+  void sequential_shouldRunInlineOnCallerThread() {
+    OrderedTaskExecutor executor = OrderedTaskExecutor.sequential();
+    Thread caller = Thread.currentThread();
+
+    List<Thread> threads = executor.map(List.of(1, 2, 3), i -> Thread.currentThread());
+
+    assertThat(executor.isParallel()).isFalse();
+    assertThat(executor.parallelism()).isEqualTo(1);
+    assertThat(threads).containsOnly(caller);
+  }
+
+  @Test
+  @DisplayName("forkJoin() should keep input order regardless of completion order")
+  void forkJoin_shouldKeepInputOrder() {
+    try (OrderedTaskExecutor executor = OrderedTaskExecutor.forkJoin(4)) {
+      List<Integer> input = IntStream.range(0, 64).boxed().toList();
+      Set<String> workers = ConcurrentHashMap.newKeySet();
+
+      List<Integer> result =
+          executor.map(
+              input,
+              i -> {
+                workers.add(Thread.currentThread().getName());
+                sleepQuietly((64 - i) % 5);
+                return i * 2;
+              });
+
+      assertThat(result).containsExactlyElementsOf(input.stream().map(i -> i * 2).toList());
+      assertThat(workers).allSatisfy(name -> assertThat(name).startsWith("codegen-render-"));
+    }
+  }
+
+  @Test
+  @DisplayName("forkJoin() should support nested map calls on the same pool")
+  void forkJoin_shouldSupportNestedCalls() {
+    try (OrderedTaskExecutor executor = OrderedTaskExecutor.forkJoin(2)) {
+      List<List<String>> result =
+          executor.map(
+              List.of("a", "b", "c", "d"),
+              outer -> executor.map(List.of(1, 2, 3), inner -> outer + inner));
+
+      assertThat(result)
+          .containsExactly(
+              List.of("a1", "a2", "a3"),
+              List.of("b1", "b2", "b3"),
+              List.of("c1", "c2", "c3"),
+              List.of("d1", "d2", "d3"));
+    }
+  }
+
+  @Test
+  @DisplayName("forkJoin() should rethrow the failure of the first failing input in order")
+  void forkJoin_shouldRethrowFirstFailureInInputOrder() {
+    try (OrderedTaskExecutor executor = OrderedTaskExecutor.forkJoin(4)) {
+      assertThatThrownBy(
+              () ->
+                  executor.map(
+                      List.of(1, 2, 3, 4),
+                      i -> {
+                        if (i >= 2) {
+                          throw new IllegalStateException("failed-" + i);
+                        }
+                        return i;
+                      }))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("failed-2");
+    }
+  }
+
+  @Test
+  @DisplayName("forkJoin() should reject a parallelism below one")
+  void forkJoin_shouldRejectInvalidParallelism() {
+    assertThatThrownBy(() -> OrderedTaskExecutor.forkJoin(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
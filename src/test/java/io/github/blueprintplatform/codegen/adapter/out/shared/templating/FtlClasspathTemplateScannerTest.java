@@ -0,0 +1,64 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.templating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+@Tag("unit")
+@Tag("adapter")
+class FtlClasspathTemplateScannerTest {
+
+  private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "springboot/java/sample/standard/basic",
+        "springboot/java/sample/hexagonal/basic",
+        "springboot/java/governance/hexagonal/strict",
+        "/springboot/java/governance/standard/basic/",
+        "springboot/java/unknown"
+      })
+  @DisplayName("scan() should return the same templates from the index as from the classpath")
+  void scan_shouldMatchClasspathScanning(String templateRoot) {
+    FtlClasspathTemplateScanner scanning = new FtlClasspathTemplateScanner(resolver);
+    FtlClasspathTemplateScanner indexed =
+        new FtlClasspathTemplateScanner(resolver, TemplateIndex.of(scanning.scanAll()));
+
+    List<String> expected = scanning.scan(templateRoot);
+
+    assertThat(indexed.isIndexed()).isTrue();
+    assertThat(indexed.scan(templateRoot)).isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("scan() should return empty list for blank root")
+  void scan_shouldReturnEmptyForBlankRoot() {
+    FtlClasspathTemplateScanner indexed =
+        new FtlClasspathTemplateScanner(resolver, TemplateIndex.of(List.of("a/b.ftl")));
+
+    assertThat(indexed.scan(" ")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("indexed() should load the build-time index when it is on the classpath")
+  void indexed_shouldLoadBuildTimeIndex() {
+    FtlClasspathTemplateScanner scanner = FtlClasspathTemplateScanner.indexed(resolver);
+
+    if (resolver.getResource("classpath:" + TemplateIndex.RESOURCE_PATH).exists()) {
+      assertThat(scanner.isIndexed()).isTrue();
+      assertThat(scanner.scanAll())
+          .isEqualTo(new FtlClasspathTemplateScanner(resolver).scanAll())
+          .isNotEmpty();
+    } else {
+      assertThat(scanner.isIndexed()).isFalse();
+    }
+  }
+}
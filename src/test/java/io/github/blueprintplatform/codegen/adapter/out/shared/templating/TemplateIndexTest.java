@@ -0,0 +1,80 @@
+package io.github.blueprintplatform.codegen.adapter.out.shared.templating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("adapter")
+class TemplateIndexTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("templatesUnder() should return sorted templates for every directory prefix")
+  void templatesUnder_shouldResolveEveryPrefix() {
+    TemplateIndex index =
+        TemplateIndex.of(
+            List.of(
+                "springboot/java/sample/standard/basic/main/B.java.ftl",
+                "springboot/java/sample/standard/basic/main/A.java.ftl",
+                "springboot/java/sample/standard/basic/test/ATest.java.ftl",
+                "springboot/java/gitignore.ftl"));
+
+    assertThat(index.templatesUnder("springboot/java/sample/standard/basic"))
+        .containsExactly(
+            "springboot/java/sample/standard/basic/main/A.java.ftl",
+            "springboot/java/sample/standard/basic/main/B.java.ftl",
+            "springboot/java/sample/standard/basic/test/ATest.java.ftl");
+    assertThat(index.templatesUnder("springboot/java")).hasSize(4);
+    assertThat(index.templatesUnder("springboot/java/sample/hexagonal")).isEmpty();
+    assertThat(index.templatesUnder("springboot/java/gitignore.ftl")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("write() and read() should round-trip the index grouped by directory")
+  void writeAndRead_shouldRoundTrip() throws IOException {
+    TemplateIndex index =
+        TemplateIndex.of(List.of("a/b/one.ftl", "a/b/two.ftl", "a/three.ftl", "root.ftl"));
+
+    StringWriter out = new StringWriter();
+    index.write(out);
+
+    assertThat(out.toString())
+        .startsWith("#")
+        .contains("[a/b]\none.ftl\ntwo.ftl\n")
+        .contains("[a]\nthree.ftl\n")
+        .contains("[]\nroot.ftl\n");
+
+    TemplateIndex read = TemplateIndex.read(new StringReader(out.toString()));
+
+    assertThat(read.all()).isEqualTo(index.all());
+    assertThat(read.templatesUnder("a"))
+        .containsExactly("a/b/one.ftl", "a/b/two.ftl", "a/three.ftl");
+  }
+
+  @Test
+  @DisplayName("generator should index only .ftl files below the templates directory")
+  void generator_shouldIndexFtlFiles() throws IOException {
+    Path templates = tempDir.resolve("templates");
+    Files.createDirectories(templates.resolve("x/y"));
+    Files.writeString(templates.resolve("x/y/a.java.ftl"), "a");
+    Files.writeString(templates.resolve("x/readme.txt"), "not a template");
+    Path indexFile = tempDir.resolve("META-INF/codegen/templates.idx");
+
+    TemplateIndex index = TemplateIndexGenerator.generate(templates, indexFile);
+
+    assertThat(index.all()).containsExactly("x/y/a.java.ftl");
+    assertThat(Files.readString(indexFile, StandardCharsets.UTF_8)).contains("[x/y]\na.java.ftl\n");
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.blueprintplatform.codegen.adapter.out.templating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import freemarker.cache.NullCacheStorage;
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import io.github.blueprintplatform.codegen.adapter.error.exception.templating.TemplateRenderingException;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("adapter")
+class FreeMarkerTemplateRegistryTest {
+
+  private static Configuration configuration(CountingTemplateLoader loader) {
+    Configuration cfg = new Configuration(Configuration.VERSION_2_3_34);
+    cfg.setTemplateLoader(loader);
+    cfg.setCacheStorage(new NullCacheStorage());
+    cfg.setLocalizedLookup(false);
+    return cfg;
+  }
+
+  @Test
+  @DisplayName("get() should parse a template once and return the same instance afterwards")
+  void get_shouldParseOnceAndReuse() {
+    CountingTemplateLoader loader = new CountingTemplateLoader();
+    loader.putTemplate("a.ftl", "Hello ${name}");
+    FreeMarkerTemplateRegistry registry = new FreeMarkerTemplateRegistry(configuration(loader));
+
+    Template first = registry.get("a.ftl");
+    Template second = registry.get("a.ftl");
+
+    assertThat(second).isSameAs(first);
+    assertThat(loader.loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("warmUp() should parse all given templates up front")
+  void warmUp_shouldParseAllTemplates() {
+    CountingTemplateLoader loader = new CountingTemplateLoader();
+    loader.putTemplate("a.ftl", "a");
+    loader.putTemplate("b.ftl", "b");
+    FreeMarkerTemplateRegistry registry = new FreeMarkerTemplateRegistry(configuration(loader));
+
+    registry.warmUp(List.of("a.ftl", "b.ftl"));
+    registry.get("b.ftl");
+
+    assertThat(registry.size()).isEqualTo(2);
+    assertThat(loader.loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("get() should throw TemplateRenderingException and not cache missing templates")
+  void get_shouldThrowForMissingTemplate() {
+    CountingTemplateLoader loader = new CountingTemplateLoader();
+    FreeMarkerTemplateRegistry registry = new FreeMarkerTemplateRegistry(configuration(loader));
+
+    assertThatThrownBy(() -> registry.get("missing.ftl"))
+        .isInstanceOfSatisfying(
+            TemplateRenderingException.class,
+            e -> assertThat(e.getTemplateName()).isEqualTo("missing.ftl"));
+    assertThat(registry.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("renderer backed by registry should render and keep rendering exceptions as-is")
+  void renderer_shouldRenderFromRegistry() {
+    CountingTemplateLoader loader = new CountingTemplateLoader();
+    loader.putTemplate("a.ftl", "Hello ${name}");
+    FreeMarkerTemplateRenderer renderer =
+        new FreeMarkerTemplateRenderer(new FreeMarkerTemplateRegistry(configuration(loader)));
+
+    var first = renderer.renderUtf8(Path.of("a.txt"), "a.ftl", Map.of("name", "A"));
+    var second = renderer.renderUtf8(Path.of("b.txt"), "a.ftl", Map.of("name", "B"));
+
+    assertThat(((GeneratedTextResource) first).content()).isEqualTo("Hello A");
+    assertThat(((GeneratedTextResource) second).content()).isEqualTo("Hello B");
+    assertThat(loader.loads.get()).isEqualTo(1);
+
+    assertThatThrownBy(() -> renderer.renderUtf8(Path.of("x.txt"), "missing.ftl", Map.of()))
+        .isInstanceOf(TemplateRenderingException.class)
+        .hasCauseInstanceOf(IOException.class);
+  }
+
+  private static final class CountingTemplateLoader extends StringTemplateLoader {
+
+    final AtomicInteger loads = new AtomicInteger();
+
+    @Override
+    public Reader getReader(Object templateSource, String encoding) {
+      loads.incrementAndGet();
+      return super.getReader(templateSource, encoding);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.blueprintplatform.codegen.adapter.out.templating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import io.github.blueprintplatform.codegen.adapter.error.exception.templating.TemplateRenderingException;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedEncodedTextResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedResource;
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("adapter")
+class FreeMarkerTemplateRendererTest {
+
+  private static Configuration configuration() {
+    StringTemplateLoader loader = new StringTemplateLoader();
+    loader.putTemplate("greeting.ftl", "Grüße, ${name}!");
+    loader.putTemplate("repeat.ftl", "<#list 1..count as i>${text}</#list>");
+    loader.putTemplate("broken.ftl", "${missing}");
+
+    Configuration cfg = new Configuration(Configuration.VERSION_2_3_34);
+    cfg.setTemplateLoader(loader);
+    cfg.setLocalizedLookup(false);
+    cfg.setLogTemplateExceptions(false);
+    return cfg;
+  }
+
+  @Test
+  @DisplayName("renderUtf8() should return text resource in STRING output mode")
+  void renderUtf8_stringOutput_shouldReturnTextResource() {
+    FreeMarkerTemplateRenderer renderer = new FreeMarkerTemplateRenderer(configuration());
+
+    GeneratedResource resource =
+        renderer.renderUtf8(Path.of("out.txt"), "greeting.ftl", Map.of("name", "Ada"));
+
+    assertThat(resource).isInstanceOf(GeneratedTextResource.class);
+    assertThat(((GeneratedTextResource) resource).content()).isEqualTo("Grüße, Ada!");
+  }
+
+  @Test
+  @DisplayName("renderUtf8() should return UTF-8 encoded resources that do not share the buffer")
+  void renderUtf8_bytesOutput_shouldReturnIndependentEncodedResources() {
+    FreeMarkerTemplateRenderer renderer =
+        new FreeMarkerTemplateRenderer(configuration(), TemplateOutput.utf8Bytes(4));
+
+    GeneratedResource first =
+        renderer.renderUtf8(Path.of("a.txt"), "greeting.ftl", Map.of("name", "Ada"));
+    GeneratedResource second =
+        renderer.renderUtf8(Path.of("b.txt"), "repeat.ftl", Map.of("count", 1000, "text", "é"));
+
+    assertThat(first).isInstanceOf(GeneratedEncodedTextResource.class);
+    GeneratedEncodedTextResource a = (GeneratedEncodedTextResource) first;
+    GeneratedEncodedTextResource b = (GeneratedEncodedTextResource) second;
+
+    assertThat(a.relativePath()).isEqualTo(Path.of("a.txt"));
+    assertThat(a.charset()).isEqualTo(StandardCharsets.UTF_8);
+    assertThat(a.content().bytes()).isEqualTo("Grüße, Ada!".getBytes(StandardCharsets.UTF_8));
+    assertThat(b.content().asText()).isEqualTo("é".repeat(1000));
+    assertThat(b.content().size()).isEqualTo(2000);
+  }
+
+  @Test
+  @DisplayName("renderUtf8() should recover the buffer after a failed render")
+  void renderUtf8_bytesOutput_shouldRecoverAfterFailure() {
+    FreeMarkerTemplateRenderer renderer =
+        new FreeMarkerTemplateRenderer(configuration(), TemplateOutput.utf8Bytes(16));
+
+    Map<String, Object> noModel = Map.of();
+    assertThatThrownBy(() -> renderer.renderUtf8(Path.of("x.txt"), "broken.ftl", noModel))
+        .isInstanceOfSatisfying(
+            TemplateRenderingException.class,
+            e -> assertThat(e.getTemplateName()).isEqualTo("broken.ftl"));
+
+    GeneratedResource resource =
+        renderer.renderUtf8(Path.of("a.txt"), "greeting.ftl", Map.of("name", "Bo"));
+
+    assertThat(((GeneratedEncodedTextResource) resource).content().asText())
+        .isEqualTo("Grüße, Bo!");
+  }
+
+  @Test
+  @DisplayName("renderUtf8(OutputStream) and renderUtf8(channel) should write encoded output")
+  void renderUtf8_shouldWriteToCallerSuppliedTargets() {
+    FreeMarkerTemplateRenderer renderer = new FreeMarkerTemplateRenderer(configuration());
+    byte[] expected = "Grüße, Cy!".getBytes(StandardCharsets.UTF_8);
+
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    renderer.renderUtf8("greeting.ftl", Map.of("name", "Cy"), stream);
+
+    ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+    renderer.renderUtf8("greeting.ftl", Map.of("name", "Cy"), Channels.newChannel(channelTarget));
+
+    assertThat(stream.toByteArray()).isEqualTo(expected);
+    assertThat(channelTarget.toByteArray()).isEqualTo(expected);
+  }
+}
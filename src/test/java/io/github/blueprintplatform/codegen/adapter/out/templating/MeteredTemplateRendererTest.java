@@ -0,0 +1,47 @@
+package io.github.blueprintplatform.codegen.adapter.out.templating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
+import io.github.blueprintplatform.codegen.testsupport.templating.CapturingTemplateRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("adapter")
+class MeteredTemplateRendererTest {
+
+  @Test
+  @DisplayName("renderUtf8() should time each render under a timer tagged by template")
+  void renderUtf8_shouldTimeRendersPerTemplate() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    CapturingTemplateRenderer delegate = new CapturingTemplateRenderer();
+    delegate.nextFile =
+        new GeneratedTextResource(Path.of("pom.xml"), "<project/>", StandardCharsets.UTF_8);
+    TemplateRenderer renderer = new MeteredTemplateRenderer(delegate, registry);
+
+    renderer.renderUtf8(Path.of("pom.xml"), "build/pom.xml.ftl", Map.of());
+    renderer.renderUtf8(Path.of("pom.xml"), "build/pom.xml.ftl", Map.of());
+    renderer.renderUtf8(Path.of("README.md"), "doc/README.md.ftl", Map.of());
+
+    assertThat(
+            registry
+                .get(MeteredTemplateRenderer.RENDER_TIMER)
+                .tag("template", "build/pom.xml.ftl")
+                .timer()
+                .count())
+        .isEqualTo(2);
+    assertThat(
+            registry
+                .get(MeteredTemplateRenderer.RENDER_TIMER)
+                .tag("template", "doc/README.md.ftl")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+}
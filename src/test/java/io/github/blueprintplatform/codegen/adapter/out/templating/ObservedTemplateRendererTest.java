@@ -0,0 +1,119 @@
+package io.github.blueprintplatform.codegen.adapter.out.templating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.GenerationObservation;
+import io.github.blueprintplatform.codegen.adapter.out.shared.observation.TemplateRenderEvent;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+import io.github.blueprintplatform.codegen.testsupport.jfr.RecordedEvents;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("adapter")
+class ObservedTemplateRendererTest {
+
+  private static final int GREETING_UTF8_BYTES =
+      "Grüße, Ada!".getBytes(StandardCharsets.UTF_8).length;
+
+  private static Configuration configuration() {
+    StringTemplateLoader loader = new StringTemplateLoader();
+    loader.putTemplate("greeting.ftl", "Grüße, ${name}!");
+
+    Configuration cfg = new Configuration(Configuration.VERSION_2_3_34);
+    cfg.setTemplateLoader(loader);
+    cfg.setLocalizedLookup(false);
+    return cfg;
+  }
+
+  @Test
+  @DisplayName("renderUtf8() should report template, output path and UTF-8 size to the listener")
+  void renderUtf8_shouldReportRenderedTemplate() {
+    RecordingListener listener = new RecordingListener();
+
+    for (TemplateOutput output : List.of(TemplateOutput.string(), TemplateOutput.utf8Bytes(4))) {
+      TemplateRenderer renderer =
+          new ObservedTemplateRenderer(new FreeMarkerTemplateRenderer(configuration(), output));
+      try (GenerationObservation.Scope ignored = GenerationObservation.bind(listener)) {
+        renderer.renderUtf8(Path.of("out.txt"), "greeting.ftl", Map.of("name", "Ada"));
+      }
+    }
+
+    assertThat(listener.rendered)
+        .hasSize(2)
+        .allSatisfy(
+            r -> {
+              assertThat(r.templatePath()).isEqualTo("greeting.ftl");
+              assertThat(r.outputPath()).isEqualTo(Path.of("out.txt"));
+              assertThat(r.bytes()).isEqualTo(GREETING_UTF8_BYTES);
+              assertThat(r.duration()).isPositive();
+            });
+  }
+
+  @Test
+  @DisplayName("renderUtf8() should render without reporting when no listener is bound")
+  void renderUtf8_withoutListener_shouldOnlyRender() {
+    TemplateRenderer renderer =
+        new ObservedTemplateRenderer(new FreeMarkerTemplateRenderer(configuration()));
+
+    var resource = renderer.renderUtf8(Path.of("out.txt"), "greeting.ftl", Map.of("name", "Ada"));
+
+    assertThat(GenerationObservation.current()).isSameAs(GenerationListener.NONE);
+    assertThat(resource.relativePath()).isEqualTo(Path.of("out.txt"));
+  }
+
+  @Test
+  @DisplayName("renderUtf8() should record a template render event during a recording")
+  void renderUtf8_shouldRecordFlightRecorderEvent() throws Exception {
+    TemplateRenderer renderer =
+        new ObservedTemplateRenderer(new FreeMarkerTemplateRenderer(configuration()));
+
+    List<RecordedEvent> events =
+        RecordedEvents.record(
+            () -> renderer.renderUtf8(Path.of("out.txt"), "greeting.ftl", Map.of("name", "Ada")),
+            TemplateRenderEvent.NAME);
+
+    assertThat(events)
+        .singleElement()
+        .satisfies(
+            e -> {
+              assertThat(e.getString("templatePath")).isEqualTo("greeting.ftl");
+              assertThat(e.getString("outputPath")).isEqualTo("out.txt");
+              assertThat(e.getLong("bytes")).isEqualTo(GREETING_UTF8_BYTES);
+            });
+  }
+
+  @Test
+  @DisplayName("utf8Length() should match the encoded length without encoding")
+  void utf8Length_shouldMatchEncodedLength() {
+    for (String text :
+        List.of("", "plain ascii", "Grüße", "€ 10", "emoji \uD83D\uDE00 end", "lone \uD800 x")) {
+      assertThat(ObservedTemplateRenderer.utf8Length(text))
+          .as(text)
+          .isEqualTo(text.getBytes(StandardCharsets.UTF_8).length);
+    }
+  }
+
+  private record Rendered(String templatePath, Path outputPath, long bytes, Duration duration) {}
+
+  private static final class RecordingListener implements GenerationListener {
+
+    private final List<Rendered> rendered = new ArrayList<>();
+
+    @Override
+    public void templateRendered(
+        String templatePath, Path outputPath, long bytes, Duration duration) {
+      rendered.add(new Rendered(templatePath, outputPath, bytes, duration));
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package io.github.blueprintplatform.codegen.application.usecase.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.application.error.exception.BatchTargetConflictException;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult.Outcome;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget;
+import io.github.blueprintplatform.codegen.application.usecase.project.mapper.ProjectBlueprintMapper;
+import io.github.blueprintplatform.codegen.domain.error.exception.DomainException;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeOptions;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.JavaVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootJvmTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.BuildTool;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Framework;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Language;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("application")
+class CreateProjectBatchHandlerTest {
+
+  @TempDir Path tempDir;
+
+  private final Set<String> generated = ConcurrentHashMap.newKeySet();
+
+  @Test
+  @DisplayName("handle() should report invalid and conflicting projects without generating them")
+  void handle_shouldValidateAllProjectsBeforeGenerating() {
+    CreateProjectPort port = recordingPort();
+    var handler = new CreateProjectBatchHandler(new ProjectBlueprintMapper(), port);
+
+    CreateProjectBatchResult result =
+        handler.handle(
+            new CreateProjectBatchCommand(
+                List.of(
+                    command("orders", tempDir),
+                    command("9lives", tempDir),
+                    command("Orders", tempDir),
+                    command("billing", tempDir)),
+                1));
+
+    assertThat(result.outcomes())
+        .extracting(Outcome::artifactId)
+        .containsExactly("orders", "9lives", "Orders", "billing");
+    assertThat(result.outcomes())
+        .extracting(Outcome::succeeded)
+        .containsExactly(true, false, false, true);
+    assertThat(result.outcomes().get(1).failure()).isInstanceOf(DomainException.class);
+    assertThat(result.outcomes().get(2).failure()).isInstanceOf(BatchTargetConflictException.class);
+    assertThat(result.failureCount()).isEqualTo(2);
+    assertThat(generated).containsExactlyInAnyOrder("orders", "billing");
+  }
+
+  @Test
+  @DisplayName("handle() should keep generating the other projects when one of them fails")
+  void handle_shouldIsolateFailures() {
+    CreateProjectPort port =
+        command -> {
+          if (command.artifactId().equals("billing")) {
+            throw new IllegalStateException("disk full");
+          }
+          generated.add(command.artifactId());
+          return new CreateProjectResult(null, tempDir.resolve(command.artifactId()), null);
+        };
+    var handler = new CreateProjectBatchHandler(new ProjectBlueprintMapper(), port);
+
+    CreateProjectBatchResult result =
+        handler.handle(
+            new CreateProjectBatchCommand(
+                List.of(
+                    command("orders", tempDir),
+                    command("billing", tempDir),
+                    command("shipping", tempDir)),
+                3));
+
+    assertThat(result.outcomes()).extracting(Outcome::succeeded).containsExactly(true, false, true);
+    assertThat(result.outcomes().get(1).failure()).hasMessage("disk full");
+    assertThat(result.outcomes().get(2).result().projectRoot())
+        .isEqualTo(tempDir.resolve("shipping"));
+    assertThat(generated).containsExactlyInAnyOrder("orders", "shipping");
+  }
+
+  @Test
+  @DisplayName("handle() should generate up to 'jobs' projects at the same time on batch workers")
+  void handle_shouldRunProjectsConcurrently() {
+    CyclicBarrier bothStarted = new CyclicBarrier(2);
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    CreateProjectPort port =
+        command -> {
+          threads.add(Thread.currentThread().getName());
+          try {
+            bothStarted.await(10, TimeUnit.SECONDS);
+          } catch (Exception e) {
+            throw new IllegalStateException(e);
+          }
+          return new CreateProjectResult(null, tempDir.resolve(command.artifactId()), null);
+        };
+    var handler = new CreateProjectBatchHandler(new ProjectBlueprintMapper(), port);
+
+    CreateProjectBatchResult result =
+        handler.handle(
+            new CreateProjectBatchCommand(
+                List.of(command("orders", tempDir), command("billing", tempDir)), 2));
+
+    assertThat(result.failureCount()).isZero();
+    assertThat(threads).hasSize(2).allMatch(name -> name.startsWith("codegen-batch-"));
+  }
+
+  @Test
+  @DisplayName("CreateProjectBatchCommand should reject a non-positive job count")
+  void batchCommand_shouldRejectNonPositiveJobs() {
+    List<CreateProjectCommand> projects = List.of(command("orders", tempDir));
+
+    assertThatThrownBy(() -> new CreateProjectBatchCommand(projects, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private CreateProjectPort recordingPort() {
+    return command -> {
+      generated.add(command.artifactId());
+      return new CreateProjectResult(null, tempDir.resolve(command.artifactId()), null);
+    };
+  }
+
+  private static CreateProjectCommand command(String artifactId, Path targetDirectory) {
+    var techStack = new TechStack(Framework.SPRING_BOOT, BuildTool.MAVEN, Language.JAVA);
+    var platformTarget = new SpringBootJvmTarget(JavaVersion.JAVA_21, SpringBootVersion.V3_5);
+
+    return new CreateProjectCommand(
+        "com.acme",
+        artifactId,
+        "Demo App",
+        "Demo project",
+        "com.acme.demo",
+        techStack,
+        ProjectLayout.STANDARD,
+        GuardrailsMode.NONE,
+        platformTarget,
+        List.of(),
+        SampleCodeOptions.none(),
+        targetDirectory,
+        ProjectOutputTarget.directory());
+  }
+}
@@ -2,17 +2,27 @@ package io.github.blueprintplatform.codegen.application.usecase.project;
 
 import static io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectRootExistencePolicy.FAIL_IF_EXISTS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectWriteMode;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.ProjectFileSummary;
 import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsPort;
 import io.github.blueprintplatform.codegen.application.port.out.ProjectArtifactsSelector;
-import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiverPort;
+import io.github.blueprintplatform.codegen.application.port.out.StreamedResources;
+import io.github.blueprintplatform.codegen.application.port.out.archive.ProjectArchiveWriterPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutput;
 import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputItem;
-import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputPort;
+import io.github.blueprintplatform.codegen.application.port.out.output.ProjectOutputSinkPort;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationListener;
+import io.github.blueprintplatform.codegen.application.port.shared.listener.GenerationStage;
 import io.github.blueprintplatform.codegen.application.usecase.project.context.CreateProjectExecutionContext;
 import io.github.blueprintplatform.codegen.application.usecase.project.mapper.CreateProjectResultMapper;
 import io.github.blueprintplatform.codegen.application.usecase.project.mapper.ProjectBlueprintMapper;
+import io.github.blueprintplatform.codegen.domain.error.exception.DomainException;
 import io.github.blueprintplatform.codegen.domain.model.ProjectBlueprint;
 import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
 import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
@@ -28,12 +38,16 @@ import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedRes
 import io.github.blueprintplatform.codegen.domain.port.out.artifact.GeneratedTextResource;
 import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectRootExistencePolicy;
 import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectRootPort;
-import io.github.blueprintplatform.codegen.domain.port.out.filesystem.ProjectWriterPort;
-import java.nio.charset.Charset;
+import io.github.blueprintplatform.codegen.testsupport.jfr.RecordedEvents;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -47,21 +61,20 @@ class CreateProjectHandlerTest {
 
   @Test
   @DisplayName(
-      "handle() prepares project root, writes artifacts, lists files, and returns archive + summary")
-  void handle_prepares_root_writes_artifacts_lists_files_and_archives() {
+      "handle() prepares project root, hands artifacts to the output sink, and returns archive +"
+          + " summary")
+  void handle_prepares_root_and_writes_artifacts_through_output_sink() {
     var blueprintMapper = new ProjectBlueprintMapper();
     var resultMapper = new CreateProjectResultMapper();
 
     var fakeRootPort = new FakeRootPort();
     var fakeArtifacts = new FakeArtifactsPort();
     var fakeSelector = new FakeSelector(fakeArtifacts);
-    var fakeWriter = new FakeWriterPort();
-    var fakeOutput = new FakeProjectOutputPort(fakeArtifacts);
-    var fakeArchiver = new FakeArchiverPort();
+    var fakeSink = new FakeOutputSinkPort();
 
     var executionContext =
         new CreateProjectExecutionContext(
-            fakeRootPort, fakeSelector, fakeWriter, fakeOutput, fakeArchiver);
+            fakeRootPort, fakeSelector, fakeSink, new FakeArchiveWriterPort());
 
     var handler = new CreateProjectHandler(blueprintMapper, resultMapper, executionContext);
 
@@ -72,17 +85,13 @@ class CreateProjectHandlerTest {
     assertThat(result.archivePath()).hasFileName("demo-app.zip");
     assertThat(result.projectRoot()).isEqualTo(tempDir.resolve("demo-app"));
 
-    assertThat(fakeArchiver.lastProjectRoot).isEqualTo(fakeRootPort.lastPreparedRoot);
-    assertThat(fakeArchiver.lastArtifactId).isEqualTo("demo-app");
-
     assertThat(fakeRootPort.lastPreparedRoot).isEqualTo(tempDir.resolve("demo-app"));
     assertThat(fakeRootPort.lastPolicy).isEqualTo(FAIL_IF_EXISTS);
 
-    assertThat(fakeOutput.lastProjectRoot).isEqualTo(fakeRootPort.lastPreparedRoot);
-
-    assertThat(fakeWriter.writtenFiles)
-        .containsExactlyInAnyOrderElementsOf(fakeArtifacts.lastEmittedRelativePaths)
-        .hasSize(fakeArtifacts.lastEmittedRelativePaths.size());
+    assertThat(fakeSink.lastProjectRoot).isEqualTo(fakeRootPort.lastPreparedRoot);
+    assertThat(fakeSink.lastArtifactId).isEqualTo("demo-app");
+    assertThat(fakeSink.writtenFiles)
+        .containsExactlyElementsOf(fakeArtifacts.lastEmittedRelativePaths);
 
     assertThat(result.project().metadata().groupId()).isEqualTo("com.acme");
     assertThat(result.project().metadata().artifactId()).isEqualTo("demo-app");
@@ -101,6 +110,270 @@ class CreateProjectHandlerTest {
 
     assertThat(result.project().files()).allSatisfy(f -> assertThat(f.executable()).isFalse());
     assertThat(result.project().files()).allSatisfy(f -> assertThat(f.binary()).isFalse());
+    assertThat(result.project().files()).allSatisfy(f -> assertThat(f.size()).isPositive());
+    assertThat(result.project().files()).allSatisfy(f -> assertThat(f.sha256()).isNotNull());
+  }
+
+  @Test
+  @DisplayName("handle() closes streamed resources even when writing fails")
+  void handle_closes_streamed_resources_when_writer_fails() {
+    var streamed = new FakeStreamedResources();
+    ProjectArtifactsPort streamingArtifacts = bp -> streamed;
+    ProjectOutputSinkPort failingSink =
+        (projectRoot, artifactId, format, writeMode, resources) -> {
+          throw new IllegalStateException("disk full");
+        };
+
+    var executionContext =
+        new CreateProjectExecutionContext(
+            new FakeRootPort(),
+            new FakeSelector(streamingArtifacts),
+            failingSink,
+            new FakeArchiveWriterPort());
+
+    var handler =
+        new CreateProjectHandler(
+            new ProjectBlueprintMapper(), new CreateProjectResultMapper(), executionContext);
+
+    var command = getCreateProjectCommand();
+
+    assertThatThrownBy(() -> handler.handle(command)).hasMessage("disk full");
+    assertThat(streamed.closed).isTrue();
+  }
+
+  @Test
+  @DisplayName("handle() passes the directory target's archive format to the output sink")
+  void handle_directory_target_passes_archive_format_to_sink() {
+    var fakeSink = new FakeOutputSinkPort();
+    var executionContext =
+        new CreateProjectExecutionContext(
+            new FakeRootPort(),
+            new FakeSelector(new FakeArtifactsPort()),
+            fakeSink,
+            new FakeArchiveWriterPort());
+
+    var handler =
+        new CreateProjectHandler(
+            new ProjectBlueprintMapper(), new CreateProjectResultMapper(), executionContext);
+
+    var command =
+        withOutputTarget(
+            getCreateProjectCommand(), ProjectOutputTarget.directory(ArchiveFormat.NONE));
+
+    handler.handle(command);
+
+    assertThat(fakeSink.lastFormat).isEqualTo(ArchiveFormat.NONE);
+    assertThat(fakeSink.lastWriteMode).isEqualTo(ProjectWriteMode.FULL);
+  }
+
+  @Test
+  @DisplayName("handle() in incremental mode reuses an existing project root")
+  void handle_incremental_directory_target_allows_existing_root() {
+    var fakeRootPort = new FakeRootPort();
+    var fakeSink = new FakeOutputSinkPort();
+    var executionContext =
+        new CreateProjectExecutionContext(
+            fakeRootPort,
+            new FakeSelector(new FakeArtifactsPort()),
+            fakeSink,
+            new FakeArchiveWriterPort());
+
+    var handler =
+        new CreateProjectHandler(
+            new ProjectBlueprintMapper(), new CreateProjectResultMapper(), executionContext);
+
+    var command =
+        withOutputTarget(
+            getCreateProjectCommand(),
+            ProjectOutputTarget.directory(ArchiveFormat.ZIP, ProjectWriteMode.INCREMENTAL));
+
+    handler.handle(command);
+
+    assertThat(fakeRootPort.lastPolicy).isEqualTo(ProjectRootExistencePolicy.OVERWRITE);
+    assertThat(fakeSink.lastWriteMode).isEqualTo(ProjectWriteMode.INCREMENTAL);
+  }
+
+  @Test
+  @DisplayName("handle() with an archive file target skips the project directory entirely")
+  void handle_archive_file_target_writes_archive_without_directory() {
+    var fakeRootPort = new FakeRootPort();
+    var fakeArtifacts = new FakeArtifactsPort();
+    var fakeSink = new FakeOutputSinkPort();
+    var fakeArchiveWriter = new FakeArchiveWriterPort();
+
+    var executionContext =
+        new CreateProjectExecutionContext(
+            fakeRootPort, new FakeSelector(fakeArtifacts), fakeSink, fakeArchiveWriter);
+
+    var handler =
+        new CreateProjectHandler(
+            new ProjectBlueprintMapper(), new CreateProjectResultMapper(), executionContext);
+
+    Path archiveFile = tempDir.resolve("out/demo.zip");
+    var command =
+        withOutputTarget(getCreateProjectCommand(), ProjectOutputTarget.archiveFile(archiveFile));
+
+    var result = handler.handle(command);
+
+    assertThat(result.projectRoot()).isNull();
+    assertThat(result.archivePath()).isEqualTo(archiveFile);
+
+    assertThat(fakeRootPort.lastPreparedRoot).isNull();
+    assertThat(fakeSink.lastProjectRoot).isNull();
+
+    assertThat(fakeArchiveWriter.lastRootName).isEqualTo("demo-app");
+    assertThat(fakeArchiveWriter.lastArchiveFile).isEqualTo(archiveFile);
+    assertThat(fakeArchiveWriter.lastOverwrite).isFalse();
+    assertThat(fakeArchiveWriter.lastFormat).isEqualTo(ArchiveFormat.ZIP);
+    assertThat(result.project().files())
+        .extracting(ProjectFileSummary::relativePath)
+        .containsExactlyElementsOf(fakeArtifacts.lastEmittedRelativePaths);
+  }
+
+  @Test
+  @DisplayName("handle() with an archive stream target closes streamed resources and has no path")
+  void handle_archive_stream_target_closes_streamed_resources() {
+    var streamed = new FakeStreamedResources();
+    ProjectArtifactsPort streamingArtifacts = bp -> streamed;
+    var fakeArchiveWriter = new FakeArchiveWriterPort();
+
+    var executionContext =
+        new CreateProjectExecutionContext(
+            new FakeRootPort(),
+            new FakeSelector(streamingArtifacts),
+            new FakeOutputSinkPort(),
+            fakeArchiveWriter);
+
+    var handler =
+        new CreateProjectHandler(
+            new ProjectBlueprintMapper(), new CreateProjectResultMapper(), executionContext);
+
+    var out = new ByteArrayOutputStream();
+    var command =
+        withOutputTarget(
+            getCreateProjectCommand(),
+            ProjectOutputTarget.archiveStream(out, ArchiveFormat.TAR_GZ));
+
+    var result = handler.handle(command);
+
+    assertThat(result.projectRoot()).isNull();
+    assertThat(result.archivePath()).isNull();
+    assertThat(fakeArchiveWriter.lastStream).isSameAs(out);
+    assertThat(fakeArchiveWriter.lastFormat).isEqualTo(ArchiveFormat.TAR_GZ);
+    assertThat(result.project().files())
+        .extracting(ProjectFileSummary::relativePath)
+        .containsExactly(Path.of("pom.xml"));
+    assertThat(streamed.closed).isTrue();
+  }
+
+  @Test
+  @DisplayName("handle() reports each stage to the command's listener and hands it to the pipeline")
+  void handle_reports_stages_to_listener() {
+    var fakeArtifacts = new FakeArtifactsPort();
+    var executionContext =
+        new CreateProjectExecutionContext(
+            new FakeRootPort(),
+            new FakeSelector(fakeArtifacts),
+            new FakeOutputSinkPort(),
+            new FakeArchiveWriterPort());
+
+    var handler =
+        new CreateProjectHandler(
+            new ProjectBlueprintMapper(), new CreateProjectResultMapper(), executionContext);
+
+    var listener = new RecordingListener();
+    var directory = getCreateProjectCommand();
+    handler.handle(withOutputTarget(directory, directory.outputTarget(), listener));
+
+    assertThat(listener.stages)
+        .containsExactly(
+            GenerationStage.BLUEPRINT_MAPPING,
+            GenerationStage.ROOT_PREPARATION,
+            GenerationStage.ARTIFACT_GENERATION,
+            GenerationStage.OUTPUT);
+    assertThat(fakeArtifacts.lastListener).isSameAs(listener);
+
+    listener.stages.clear();
+    handler.handle(
+        withOutputTarget(
+            directory,
+            ProjectOutputTarget.archiveFile(tempDir.resolve("demo.zip"), ArchiveFormat.ZIP),
+            listener));
+
+    assertThat(listener.stages)
+        .containsExactly(
+            GenerationStage.BLUEPRINT_MAPPING,
+            GenerationStage.ARTIFACT_GENERATION,
+            GenerationStage.OUTPUT);
+  }
+
+  @Test
+  @DisplayName("handle() records a blueprint validation event for valid and rejected commands")
+  void handle_records_blueprint_validation_events() throws Exception {
+    var executionContext =
+        new CreateProjectExecutionContext(
+            new FakeRootPort(),
+            new FakeSelector(new FakeArtifactsPort()),
+            new FakeOutputSinkPort(),
+            new FakeArchiveWriterPort());
+    var handler =
+        new CreateProjectHandler(
+            new ProjectBlueprintMapper(), new CreateProjectResultMapper(), executionContext);
+    var valid = getCreateProjectCommand();
+    var rejected =
+        new CreateProjectCommand(
+            valid.groupId(),
+            "demo.app",
+            valid.projectName(),
+            valid.projectDescription(),
+            valid.packageName(),
+            valid.techStack(),
+            valid.layout(),
+            valid.guardrailsMode(),
+            valid.platformTarget(),
+            valid.dependencies(),
+            valid.sampleCodeOptions(),
+            valid.targetDirectory(),
+            valid.outputTarget());
+
+    List<RecordedEvent> events =
+        RecordedEvents.record(
+            () -> {
+              handler.handle(valid);
+              assertThatThrownBy(() -> handler.handle(rejected))
+                  .isInstanceOf(DomainException.class);
+            },
+            BlueprintValidationEvent.NAME);
+
+    assertThat(events)
+        .extracting(e -> e.getString("artifactId"), e -> e.getString("failure"))
+        .containsExactly(
+            tuple("demo-app", null), tuple("demo.app", "project.artifact-id.invalid.chars"));
+    assertThat(events.getFirst().getString("layout")).isEqualTo(ProjectLayout.STANDARD.key());
+  }
+
+  private static CreateProjectCommand withOutputTarget(
+      CreateProjectCommand command, ProjectOutputTarget outputTarget) {
+    return withOutputTarget(command, outputTarget, command.listener());
+  }
+
+  private static CreateProjectCommand withOutputTarget(
+      CreateProjectCommand command, ProjectOutputTarget outputTarget, GenerationListener listener) {
+    return new CreateProjectCommand(
+        command.groupId(),
+        command.artifactId(),
+        command.projectName(),
+        command.projectDescription(),
+        command.packageName(),
+        command.techStack(),
+        command.layout(),
+        command.guardrailsMode(),
+        command.platformTarget(),
+        command.dependencies(),
+        command.sampleCodeOptions(),
+        command.targetDirectory(),
+        outputTarget,
+        listener);
   }
 
   private CreateProjectCommand getCreateProjectCommand() {
@@ -149,6 +422,14 @@ class CreateProjectHandlerTest {
 
   static class FakeArtifactsPort implements ProjectArtifactsPort {
     final List<Path> lastEmittedRelativePaths = new ArrayList<>();
+    GenerationListener lastListener;
+
+    @Override
+    public Iterable<? extends GeneratedResource> generate(
+        ProjectBlueprint bp, GenerationListener listener) {
+      this.lastListener = listener;
+      return generate(bp);
+    }
 
     @Override
     public Iterable<? extends GeneratedResource> generate(ProjectBlueprint bp) {
@@ -181,51 +462,96 @@ class CreateProjectHandlerTest {
     }
   }
 
-  static class FakeWriterPort implements ProjectWriterPort {
-    final List<Path> writtenFiles = new ArrayList<>();
+  static class RecordingListener implements GenerationListener {
+    final List<GenerationStage> stages = new ArrayList<>();
 
     @Override
-    public void writeBytes(Path projectRoot, Path relativePath, byte[] content) {
-      writtenFiles.add(relativePath);
+    public void stageCompleted(GenerationStage stage, Duration duration) {
+      stages.add(stage);
     }
+  }
+
+  static class FakeStreamedResources implements StreamedResources {
+    boolean closed;
 
     @Override
-    public void writeText(Path projectRoot, Path relativePath, String content, Charset charset) {
-      writtenFiles.add(relativePath);
+    public Iterator<GeneratedResource> iterator() {
+      GeneratedResource resource =
+          new GeneratedTextResource(Path.of("pom.xml"), "<project/>", StandardCharsets.UTF_8);
+      return List.of(resource).iterator();
     }
 
     @Override
-    public void createDirectories(Path projectRoot, Path relativeDir) {
-      // noop
+    public void close() {
+      closed = true;
     }
   }
 
-  static class FakeProjectOutputPort implements ProjectOutputPort {
-    private final FakeArtifactsPort artifactsPort;
+  static class FakeOutputSinkPort implements ProjectOutputSinkPort {
+    final List<Path> writtenFiles = new ArrayList<>();
     Path lastProjectRoot;
-
-    FakeProjectOutputPort(FakeArtifactsPort artifactsPort) {
-      this.artifactsPort = artifactsPort;
-    }
+    String lastArtifactId;
+    ArchiveFormat lastFormat;
+    ProjectWriteMode lastWriteMode;
 
     @Override
-    public List<ProjectOutputItem> list(Path projectRoot) {
+    public ProjectOutput write(
+        Path projectRoot,
+        String artifactId,
+        ArchiveFormat format,
+        ProjectWriteMode writeMode,
+        Iterable<? extends GeneratedResource> resources) {
       this.lastProjectRoot = projectRoot;
-      return artifactsPort.lastEmittedRelativePaths.stream()
-          .map(p -> new ProjectOutputItem(p, false, false))
-          .toList();
+      this.lastWriteMode = writeMode;
+      this.lastArtifactId = artifactId;
+      this.lastFormat = format;
+      var items = new ArrayList<ProjectOutputItem>();
+      for (GeneratedResource resource : resources) {
+        writtenFiles.add(resource.relativePath());
+        items.add(new ProjectOutputItem(resource.relativePath(), false, false, 1L, "00"));
+      }
+      return new ProjectOutput(items, projectRoot.getParent().resolve(artifactId + ".zip"));
     }
   }
 
-  static class FakeArchiverPort implements ProjectArchiverPort {
-    Path lastProjectRoot;
-    String lastArtifactId;
+  static class FakeArchiveWriterPort implements ProjectArchiveWriterPort {
+    String lastRootName;
+    ArchiveFormat lastFormat;
+    Path lastArchiveFile;
+    boolean lastOverwrite;
+    OutputStream lastStream;
 
     @Override
-    public Path archive(Path projectRoot, String artifactId) {
-      this.lastProjectRoot = projectRoot;
-      this.lastArtifactId = artifactId;
-      return projectRoot.getParent().resolve(artifactId + ".zip");
+    public List<ProjectOutputItem> write(
+        String rootName,
+        ArchiveFormat format,
+        Iterable<? extends GeneratedResource> resources,
+        Path archiveFile,
+        boolean overwrite) {
+      this.lastArchiveFile = archiveFile;
+      this.lastOverwrite = overwrite;
+      return collect(rootName, format, resources);
+    }
+
+    @Override
+    public List<ProjectOutputItem> write(
+        String rootName,
+        ArchiveFormat format,
+        Iterable<? extends GeneratedResource> resources,
+        OutputStream out) {
+      this.lastStream = out;
+      return collect(rootName, format, resources);
+    }
+
+    private List<ProjectOutputItem> collect(
+        String rootName, ArchiveFormat format, Iterable<? extends GeneratedResource> resources) {
+      this.lastRootName = rootName;
+      this.lastFormat = format;
+      var items = new ArrayList<ProjectOutputItem>();
+      for (GeneratedResource resource : resources) {
+        items.add(new ProjectOutputItem(resource.relativePath(), false, false));
+      }
+      return items;
     }
   }
 }
@@ -0,0 +1,220 @@
+package io.github.blueprintplatform.codegen.application.usecase.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.DependencyInput;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget;
+import io.github.blueprintplatform.codegen.bootstrap.lean.LeanCodegenLauncher;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeLevel;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeOptions;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.JavaVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootJvmTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.BuildTool;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Framework;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Language;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Memory budgets for one full generation, checked against {@value #BUDGET_RESOURCE}.
+ *
+ * <p>Allocation is read from the calling thread's allocation counter, so the engine is pinned to
+ * its thread-confined settings. Every combination is generated a few times first, so class
+ * initialization and template parsing are not counted. When a change legitimately moves a number,
+ * update the budget file with the measured value from the failure message plus headroom.
+ */
+@SpringBootTest(
+    properties = {
+      "generation.mode=SEQUENTIAL",
+      "generation.output-sink=FAN_OUT",
+      "generation.writer-threads=0",
+      "generation.archive.threads=0"
+    })
+@Tag("integration")
+@Tag("memory-budget")
+class CreateProjectMemoryBudgetIT {
+
+  private static final String BUDGET_RESOURCE = "budget/create-project-memory-budget.properties";
+  private static final int WARMUP_RUNS = 3;
+  private static final int MEASURED_RUNS = 3;
+  private static final long CHILD_TIMEOUT_SECONDS = 120;
+
+  private static final String GROUP_ID = "io.github.blueprintplatform.budget";
+  private static final TechStack TECH_STACK =
+      new TechStack(Framework.SPRING_BOOT, BuildTool.MAVEN, Language.JAVA);
+
+  private static Properties budget;
+
+  @TempDir Path tempDir;
+  @Autowired private CreateProjectPort createProjectPort;
+
+  @BeforeAll
+  static void loadBudget() throws IOException {
+    budget = new Properties();
+    try (InputStream in =
+        CreateProjectMemoryBudgetIT.class.getClassLoader().getResourceAsStream(BUDGET_RESOURCE)) {
+      assertThat(in).as(BUDGET_RESOURCE).isNotNull();
+      budget.load(in);
+    }
+  }
+
+  static Stream<Arguments> combinations() {
+    List<Arguments> combinations = new ArrayList<>();
+    for (ProjectLayout layout : ProjectLayout.values()) {
+      for (GuardrailsMode guardrails : GuardrailsMode.values()) {
+        for (SampleCodeLevel sample : List.of(SampleCodeLevel.NONE, SampleCodeLevel.BASIC)) {
+          combinations.add(Arguments.of(layout, guardrails, sample));
+        }
+      }
+    }
+    return combinations.stream();
+  }
+
+  @ParameterizedTest(name = "layout={0}, guardrails={1}, sample={2}")
+  @MethodSource("combinations")
+  @DisplayName("handle() should stay within the allocation budget of its combination")
+  void handle_shouldStayWithinAllocationBudget(
+      ProjectLayout layout, GuardrailsMode guardrails, SampleCodeLevel sample) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assertThat(threads.isThreadAllocatedMemorySupported()).isTrue();
+    threads.setThreadAllocatedMemoryEnabled(true);
+    long threadId = Thread.currentThread().threadId();
+
+    String key = "allocated." + layout.key() + "." + guardrails.key() + "." + sample.key();
+    long limit = Long.parseLong(budget.getProperty(key));
+
+    for (int run = 0; run < WARMUP_RUNS; run++) {
+      generate(layout, guardrails, sample, "warmup-" + run);
+    }
+
+    long measured = Long.MAX_VALUE;
+    for (int run = 0; run < MEASURED_RUNS; run++) {
+      Path target = prepareTarget("run-" + run);
+      long before = threads.getThreadAllocatedBytes(threadId);
+      CreateProjectResult result =
+          createProjectPort.handle(command(layout, guardrails, sample, target));
+      long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+      assertThat(result.archivePath()).isRegularFile();
+      measured = Math.min(measured, allocated);
+    }
+
+    assertThat(measured)
+        .as("bytes allocated by one generation (%s = %d in %s)", key, limit, BUDGET_RESOURCE)
+        .isLessThanOrEqualTo(limit);
+  }
+
+  @Test
+  @DisplayName("the largest combination should generate within the heap budget")
+  void largestCombination_shouldGenerateWithinHeapBudget() throws Exception {
+    String maxHeap = budget.getProperty("heap.max");
+    Path log = tempDir.resolve("small-heap.log");
+
+    List<String> command =
+        List.of(
+            Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-Xmx" + maxHeap,
+            "-XX:+ExitOnOutOfMemoryError",
+            "-Dlogging.level.root=WARN",
+            "-cp",
+            System.getProperty("java.class.path"),
+            LeanCodegenLauncher.class.getName(),
+            "springboot",
+            "--group-id",
+            GROUP_ID,
+            "--artifact-id",
+            "small-heap",
+            "--name",
+            "Small heap",
+            "--description",
+            "Generated under the heap budget",
+            "--package-name",
+            GROUP_ID + ".smallheap",
+            "--layout",
+            ProjectLayout.HEXAGONAL.key(),
+            "--guardrails",
+            GuardrailsMode.STRICT.key(),
+            "--sample-code",
+            SampleCodeLevel.BASIC.key(),
+            "--dependency",
+            "web",
+            "--target-dir",
+            tempDir.toString());
+
+    Process process =
+        new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+    boolean exited = process.waitFor(CHILD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    if (!exited) {
+      process.destroyForcibly();
+    }
+
+    assertThat(exited).as("generation under -Xmx%s finished in time", maxHeap).isTrue();
+    assertThat(process.exitValue())
+        .as(
+            "exit code of a generation under -Xmx%s (heap.max in %s); output:%n%s",
+            maxHeap, BUDGET_RESOURCE, Files.readString(log, StandardCharsets.UTF_8))
+        .isZero();
+    assertThat(tempDir.resolve("small-heap.zip")).isRegularFile();
+  }
+
+  private void generate(
+      ProjectLayout layout, GuardrailsMode guardrails, SampleCodeLevel sample, String name) {
+    createProjectPort.handle(command(layout, guardrails, sample, prepareTarget(name)));
+  }
+
+  private Path prepareTarget(String name) {
+    try {
+      return Files.createDirectories(tempDir.resolve(name));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static CreateProjectCommand command(
+      ProjectLayout layout, GuardrailsMode guardrails, SampleCodeLevel sample, Path target) {
+    String artifactId = layout.key() + "-" + guardrails.key() + "-" + sample.key();
+    return new CreateProjectCommand(
+        GROUP_ID,
+        artifactId,
+        "Budget",
+        "Memory budget project",
+        GROUP_ID + "." + artifactId.replace("-", ""),
+        TECH_STACK,
+        layout,
+        guardrails,
+        new SpringBootJvmTarget(JavaVersion.JAVA_21, SpringBootVersion.V3_5),
+        List.of(
+            new DependencyInput("org.springframework.boot", "spring-boot-starter-web", null, null)),
+        new SampleCodeOptions(sample),
+        target,
+        ProjectOutputTarget.directory(ArchiveFormat.ZIP));
+  }
+}
@@ -16,6 +16,8 @@ class PortsAndAdapterIsolationArchitectureTest {
 
   private static final String INBOUND_ADAPTERS = BASE_PACKAGE + ".adapter.in..";
   private static final String OUTBOUND_ADAPTERS = BASE_PACKAGE + ".adapter.out..";
+  private static final String CLI_ADAPTER = BASE_PACKAGE + ".adapter.in.cli..";
+  private static final String HTTP_ADAPTER = BASE_PACKAGE + ".adapter.in.http..";
 
   @ArchTest
   static final ArchRule inbound_adapters_must_not_depend_on_outbound_adapters =
@@ -36,4 +38,14 @@ class PortsAndAdapterIsolationArchitectureTest {
           .dependOnClassesThat()
           .resideInAnyPackage(INBOUND_ADAPTERS)
           .allowEmptyShould(true);
+
+  @ArchTest
+  static final ArchRule http_adapter_must_not_depend_on_cli_adapter =
+      noClasses()
+          .that()
+          .resideInAnyPackage(HTTP_ADAPTER)
+          .should()
+          .dependOnClassesThat()
+          .resideInAnyPackage(CLI_ADAPTER)
+          .allowEmptyShould(true);
 }
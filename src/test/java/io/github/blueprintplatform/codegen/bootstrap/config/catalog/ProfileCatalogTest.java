@@ -0,0 +1,174 @@
+package io.github.blueprintplatform.codegen.bootstrap.config.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.application.port.out.artifact.ArtifactKey;
+import io.github.blueprintplatform.codegen.bootstrap.config.keys.ProfileKeys;
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.CodegenProfilesProperties;
+import io.github.blueprintplatform.codegen.bootstrap.config.properties.ProfileProperties;
+import io.github.blueprintplatform.codegen.bootstrap.error.exception.ProfileConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("bootstrap")
+class ProfileCatalogTest {
+
+  private static final String PROFILE = "demo-profile";
+
+  @Test
+  @DisplayName("load() should read the compiled catalog, equal to compiling the bundled source")
+  void load_shouldMatchBundledSource() throws IOException {
+    ClassLoader classLoader = getClass().getClassLoader();
+    assertThat(classLoader.getResource(ProfileCatalog.RESOURCE_PATH)).isNotNull();
+
+    CodegenProfilesProperties loaded = ProfileCatalog.load(classLoader).toProperties();
+
+    CodegenProfilesProperties compiled;
+    try (InputStream in = classLoader.getResourceAsStream(ProfileCatalog.SOURCE_PATH)) {
+      compiled =
+          ProfileCatalogCompiler.compile(
+                  new InputStreamReader(in, StandardCharsets.UTF_8), template -> true)
+              .toProperties();
+    }
+
+    assertThat(loaded).isEqualTo(compiled);
+    ProfileProperties profile = loaded.profiles().get(ProfileKeys.SPRING_BOOT_MAVEN_JAVA);
+    assertThat(profile.orderedArtifactKeys())
+        .startsWith(ArtifactKey.BUILD_CONFIG)
+        .endsWith(ArtifactKey.PROJECT_DOCUMENTATION);
+    assertThat(profile.artifacts().get("source-layout").templateBasePath()).isNull();
+    assertThat(profile.artifacts().get("build-config").templates())
+        .singleElement()
+        .satisfies(t -> assertThat(t.outputPath()).isEqualTo("pom.xml"));
+  }
+
+  @Test
+  @DisplayName("write() and read() should round-trip a compiled catalog")
+  void writeAndRead_shouldRoundTrip() throws IOException {
+    ProfileCatalog catalog =
+        compile(
+            """
+            profiles:
+              demo-profile:
+                ordered-artifact-keys: [ source-layout, build-config ]
+                artifacts:
+                  build-config:
+                    template-base-path: demo/
+                    templates:
+                      - template: pom.xml.ftl
+                        output-path: pom.xml
+                      - template: settings.xml.ftl
+                        output-path: .mvn/settings.xml
+                  source-layout:
+                    templates: [ ]
+            """);
+    StringWriter out = new StringWriter();
+
+    catalog.write(out);
+    ProfileCatalog read = ProfileCatalog.read(new StringReader(out.toString()));
+
+    assertThat(read.toProperties()).isEqualTo(catalog.toProperties());
+    assertThat(read.toProperties().profiles().get(PROFILE).orderedArtifactKeys())
+        .containsExactly(ArtifactKey.SOURCE_LAYOUT, ArtifactKey.BUILD_CONFIG);
+  }
+
+  @Test
+  @DisplayName("compile() should reject unknown, duplicate and undefined artifact keys")
+  void compile_shouldRejectInvalidArtifactKeys() {
+    assertRejected(
+        """
+        profiles:
+          demo-profile:
+            ordered-artifact-keys: [ build-cfg ]
+        """,
+        ProfileConfigurationException.KEY_CATALOG_ARTIFACT_UNKNOWN);
+    assertRejected(
+        """
+        profiles:
+          demo-profile:
+            ordered-artifact-keys: [ source-layout, source-layout ]
+            artifacts:
+              source-layout:
+                templates: [ ]
+        """,
+        ProfileConfigurationException.KEY_CATALOG_ARTIFACT_DUPLICATE);
+    assertRejected(
+        """
+        profiles:
+          demo-profile:
+            ordered-artifact-keys: [ source-layout ]
+        """,
+        ProfileConfigurationException.KEY_ARTIFACT_NOT_FOUND);
+    assertRejected("profiles: { }", ProfileConfigurationException.KEY_CATALOG_EMPTY);
+  }
+
+  @Test
+  @DisplayName("compile() should reject incomplete templates and templates that do not exist")
+  void compile_shouldRejectInvalidTemplates() {
+    assertRejected(
+        """
+        profiles:
+          demo-profile:
+            artifacts:
+              build-config:
+                templates:
+                  - template: pom.xml.ftl
+                    output-path: pom.xml
+        """,
+        ProfileConfigurationException.KEY_TEMPLATE_BASE_MISSING);
+    assertRejected(
+        """
+        profiles:
+          demo-profile:
+            artifacts:
+              build-config:
+                template-base-path: demo/
+                templates:
+                  - template: pom.xml.ftl
+        """,
+        ProfileConfigurationException.KEY_CATALOG_TEMPLATE_INCOMPLETE);
+
+    assertThatThrownBy(
+            () ->
+                ProfileCatalogCompiler.compile(
+                    new StringReader(
+                        """
+                        profiles:
+                          demo-profile:
+                            artifacts:
+                              build-config:
+                                template-base-path: demo/
+                                templates:
+                                  - template: pom.xml.ftl
+                                    output-path: pom.xml
+                        """),
+                    template -> false))
+        .isInstanceOfSatisfying(
+            ProfileConfigurationException.class,
+            ex -> {
+              assertThat(ex.getMessageKey())
+                  .isEqualTo(ProfileConfigurationException.KEY_CATALOG_TEMPLATE_MISSING);
+              assertThat(ex.getArgs()).containsExactly("demo/pom.xml.ftl", "build-config", PROFILE);
+            });
+  }
+
+  private static ProfileCatalog compile(String yaml) {
+    return ProfileCatalogCompiler.compile(new StringReader(yaml), template -> true);
+  }
+
+  private static void assertRejected(String yaml, String messageKey) {
+    assertThatThrownBy(() -> compile(yaml))
+        .isInstanceOfSatisfying(
+            ProfileConfigurationException.class,
+            ex -> assertThat(ex.getMessageKey()).isEqualTo(messageKey));
+  }
+}
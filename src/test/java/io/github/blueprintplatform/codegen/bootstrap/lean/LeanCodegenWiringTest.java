@@ -0,0 +1,142 @@
+package io.github.blueprintplatform.codegen.bootstrap.lean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.bootstrap.error.exception.LeanConfigurationException;
+import io.github.blueprintplatform.codegen.bootstrap.generation.GenerationProperties;
+import io.github.blueprintplatform.codegen.bootstrap.templating.FreeMarkerTemplatingProperties;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("bootstrap")
+class LeanCodegenWiringTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("LeanProperties should read the bundled application.yml like the Spring binder")
+  void properties_shouldReadBundledDefaults() {
+    LeanProperties properties = LeanProperties.load();
+
+    GenerationProperties generation = properties.generation();
+    FreeMarkerTemplatingProperties templating = properties.templating();
+
+    assertThat(generation.mode()).isEqualTo(GenerationProperties.Mode.SEQUENTIAL);
+    assertThat(generation.streamBufferSize()).isEqualTo(16);
+    assertThat(generation.archive().compressionLevel()).isEqualTo(-1);
+    assertThat(templating.encoding()).isEqualTo("UTF-8");
+    assertThat(templating.registry().enabled()).isTrue();
+    assertThat(templating.output().initialBufferSize()).isEqualTo(8192);
+  }
+
+  @Test
+  @DisplayName("LeanProperties should prefer overrides and reject values of the wrong type")
+  void properties_shouldApplyOverridesAndRejectInvalidValues() {
+    Properties overrides = new Properties();
+    overrides.setProperty("generation.mode", "parallel");
+    overrides.setProperty("generation.output-sink", "staged");
+    overrides.setProperty("generation.parallelism", "many");
+
+    assertThatThrownBy(() -> new LeanProperties(bundledYaml(), overrides).generation())
+        .isInstanceOfSatisfying(
+            LeanConfigurationException.class,
+            e -> {
+              assertThat(e.getMessageKey())
+                  .isEqualTo(LeanConfigurationException.KEY_PROPERTY_INVALID);
+              assertThat(e.getArgs()).containsExactly("generation.parallelism", "many");
+            });
+
+    overrides.setProperty("generation.parallelism", "3");
+    GenerationProperties generation = new LeanProperties(bundledYaml(), overrides).generation();
+
+    assertThat(generation.mode()).isEqualTo(GenerationProperties.Mode.PARALLEL);
+    assertThat(generation.outputSink()).isEqualTo(GenerationProperties.OutputSink.STAGED);
+    assertThat(generation.parallelism()).isEqualTo(3);
+
+    overrides.setProperty("templating.output.form", "string");
+    assertThat(new LeanProperties(bundledYaml(), overrides).templating().output().form())
+        .isEqualTo(FreeMarkerTemplatingProperties.OutputForm.STRING);
+  }
+
+  @Test
+  @DisplayName("LeanProperties should fail on a missing property instead of defaulting it")
+  void properties_missingProperty_shouldFail() {
+    assertThatThrownBy(() -> new LeanProperties(Map.of(), new Properties()).generation())
+        .isInstanceOfSatisfying(
+            LeanConfigurationException.class,
+            e -> {
+              assertThat(e.getMessageKey())
+                  .isEqualTo(LeanConfigurationException.KEY_PROPERTY_MISSING);
+              assertThat(e.getArgs()).containsExactly("generation.mode");
+            });
+  }
+
+  @Test
+  @DisplayName("LeanProperties should apply the Bean Validation constraints of the records")
+  void properties_constraintViolation_shouldFail() {
+    Properties overrides = new Properties();
+    overrides.setProperty("generation.archive.compression-level", "12");
+    overrides.setProperty("templating.output.initial-buffer-size", "0");
+
+    assertThatThrownBy(() -> new LeanProperties(bundledYaml(), overrides).generation())
+        .isInstanceOfSatisfying(
+            LeanConfigurationException.class,
+            e -> {
+              assertThat(e.getMessageKey())
+                  .isEqualTo(LeanConfigurationException.KEY_PROPERTY_CONSTRAINT);
+              assertThat(e.getArgs())
+                  .startsWith("generation.archive.compression-level", 12)
+                  .hasSize(3);
+            });
+    assertThatThrownBy(() -> new LeanProperties(bundledYaml(), overrides).templating())
+        .isInstanceOfSatisfying(
+            LeanConfigurationException.class,
+            e -> assertThat(e.getArgs()).startsWith("templating.output.initial-buffer-size", 0));
+  }
+
+  private static Map<?, ?> bundledYaml() {
+    return LeanProperties.loadYaml();
+  }
+
+  @Test
+  @DisplayName("the hand-wired CLI should generate a project without a Spring context")
+  void cliExecutor_shouldGenerateProject() {
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    int exitCode;
+    try (LeanCodegenWiring wiring = LeanCodegenWiring.create()) {
+      exitCode =
+          wiring
+              .cliExecutor()
+              .execute(
+                  new String[] {
+                    "springboot",
+                    "--group-id=com.acme",
+                    "--artifact-id=demo-app",
+                    "--name=Demo App",
+                    "--description=Demo application for Acme",
+                    "--package-name=com.acme.demo",
+                    "--layout=hexagonal",
+                    "--archive-format=none",
+                    "--target-dir=" + tempDir
+                  },
+                  new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8),
+                  new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    assertThat(exitCode).as(err.toString(StandardCharsets.UTF_8)).isZero();
+    assertThat(tempDir.resolve("demo-app/pom.xml")).isRegularFile();
+    assertThat(tempDir.resolve("demo-app/src/main/java/com/acme/demo/DemoAppApplication.java"))
+        .isRegularFile();
+  }
+}
@@ -0,0 +1,161 @@
+package io.github.blueprintplatform.codegen.bootstrap.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.http.HttpServerStartException;
+import io.github.blueprintplatform.codegen.application.error.exception.BatchTargetConflictException;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectSummary;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.ProjectFileSummary;
+import io.github.blueprintplatform.codegen.domain.error.exception.DomainViolationException;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeOptions;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.JavaVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootJvmTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.BuildTool;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Framework;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Language;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("unit")
+@Tag("bootstrap")
+class MeteredCreateProjectHandlerTest {
+
+  private static final String PROFILE = "spring-boot-maven-java";
+
+  @TempDir Path tempDir;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("handle() should time a successful generation and record project and archive size")
+  void handle_success_shouldRecordGenerationAndSizes() throws Exception {
+    Path archive = Files.write(tempDir.resolve("demo-app.zip"), new byte[42]);
+    CreateProjectPort handler =
+        new MeteredCreateProjectHandler(
+            command -> new CreateProjectResult(summary(100, 20), null, archive), registry);
+
+    handler.handle(command());
+    handler.handle(command());
+
+    assertThat(
+            registry
+                .get(MeteredCreateProjectHandler.GENERATION_TIMER)
+                .tags("profile", PROFILE, "outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(2);
+    assertThat(
+            registry
+                .get(MeteredCreateProjectHandler.PROJECT_SIZE)
+                .tag("profile", PROFILE)
+                .summary()
+                .totalAmount())
+        .isEqualTo(2 * 120);
+    assertThat(
+            registry
+                .get(MeteredCreateProjectHandler.ARCHIVE_SIZE)
+                .tag("profile", PROFILE)
+                .summary()
+                .max())
+        .isEqualTo(42);
+    assertThat(registry.find(MeteredCreateProjectHandler.FAILURE_COUNTER).counter()).isNull();
+  }
+
+  @Test
+  @DisplayName("handle() should not record a project size when any file size is unknown")
+  void handle_unknownFileSize_shouldSkipProjectSize() {
+    CreateProjectPort handler =
+        new MeteredCreateProjectHandler(
+            command ->
+                new CreateProjectResult(summary(100, ProjectFileSummary.UNKNOWN_SIZE), null, null),
+            registry);
+
+    handler.handle(command());
+
+    assertThat(registry.find(MeteredCreateProjectHandler.PROJECT_SIZE).summary()).isNull();
+    assertThat(registry.get(MeteredCreateProjectHandler.GENERATION_TIMER).timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("handle() should count failures per exception family and rethrow them")
+  void handle_failure_shouldCountPerFamily() {
+    List<RuntimeException> failures =
+        List.of(
+            new DomainViolationException(() -> "project.artifact-id.invalid.chars"),
+            new BatchTargetConflictException(Path.of("demo"), 1),
+            new HttpServerStartException(new InetSocketAddress(0), null),
+            new IllegalStateException("boom"),
+            new IllegalStateException("boom again"));
+
+    for (RuntimeException failure : failures) {
+      CreateProjectPort handler =
+          new MeteredCreateProjectHandler(
+              command -> {
+                throw failure;
+              },
+              registry);
+      assertThatThrownBy(() -> handler.handle(command())).isSameAs(failure);
+    }
+
+    assertThat(failureCount("domain")).isEqualTo(1);
+    assertThat(failureCount("application")).isEqualTo(1);
+    assertThat(failureCount("adapter")).isEqualTo(1);
+    assertThat(failureCount("unexpected")).isEqualTo(2);
+    assertThat(
+            registry
+                .get(MeteredCreateProjectHandler.GENERATION_TIMER)
+                .tags("profile", PROFILE, "outcome", "failure")
+                .timer()
+                .count())
+        .isEqualTo(5);
+  }
+
+  private double failureCount(String family) {
+    return registry
+        .get(MeteredCreateProjectHandler.FAILURE_COUNTER)
+        .tags("profile", PROFILE, "family", family)
+        .counter()
+        .count();
+  }
+
+  private static ProjectSummary summary(long... fileSizes) {
+    List<ProjectFileSummary> files =
+        Arrays.stream(fileSizes)
+            .mapToObj(size -> new ProjectFileSummary(Path.of("f" + size), false, false, size, ""))
+            .toList();
+    return new ProjectSummary(null, null, null, null, List.of(), files);
+  }
+
+  private CreateProjectCommand command() {
+    return new CreateProjectCommand(
+        "com.acme",
+        "demo-app",
+        "Demo App",
+        "Demo project",
+        "com.acme.demo",
+        new TechStack(Framework.SPRING_BOOT, BuildTool.MAVEN, Language.JAVA),
+        ProjectLayout.STANDARD,
+        GuardrailsMode.NONE,
+        new SpringBootJvmTarget(JavaVersion.JAVA_21, SpringBootVersion.V3_5),
+        List.of(),
+        SampleCodeOptions.none(),
+        tempDir);
+  }
+}
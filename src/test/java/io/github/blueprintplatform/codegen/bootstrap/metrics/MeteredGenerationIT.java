@@ -0,0 +1,84 @@
+package io.github.blueprintplatform.codegen.bootstrap.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.blueprintplatform.codegen.adapter.out.filesystem.MeteredProjectWriterAdapter;
+import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.architecture.GuardrailsMode;
+import io.github.blueprintplatform.codegen.domain.model.value.layout.ProjectLayout;
+import io.github.blueprintplatform.codegen.domain.model.value.sample.SampleCodeOptions;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.JavaVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootJvmTarget;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.platform.SpringBootVersion;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.BuildTool;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Framework;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.Language;
+import io.github.blueprintplatform.codegen.domain.model.value.tech.stack.TechStack;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+    properties = {
+      "metrics.enabled=true",
+      "metrics.bind-address=127.0.0.1",
+      "metrics.port=0",
+      "generation.output-sink=STAGED"
+    })
+@Tag("integration")
+@Tag("bootstrap")
+class MeteredGenerationIT {
+
+  @TempDir Path tempDir;
+
+  @Autowired private CreateProjectPort createProjectPort;
+  @Autowired private MeterRegistry registry;
+
+  @Test
+  @DisplayName("the staged sink should leave unmeasured files out of the project size")
+  void stagedSink_shouldNotRecordUnknownProjectSize() {
+    CreateProjectResult result = createProjectPort.handle(command());
+
+    assertThat(result.project().files()).isNotEmpty();
+    assertThat(
+            registry
+                .get(MeteredCreateProjectHandler.GENERATION_TIMER)
+                .tags("profile", "spring-boot-maven-java", "outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(registry.find(MeteredCreateProjectHandler.PROJECT_SIZE).summary()).isNull();
+
+    DistributionSummary written = registry.get(MeteredProjectWriterAdapter.FILE_SIZE).summary();
+    assertThat(written.count()).isEqualTo(result.project().files().size());
+    assertThat(written.totalAmount()).isPositive();
+  }
+
+  private CreateProjectCommand command() {
+    return new CreateProjectCommand(
+        "com.acme",
+        "demo-app",
+        "Demo App",
+        "Demo project",
+        "com.acme.demo",
+        new TechStack(Framework.SPRING_BOOT, BuildTool.MAVEN, Language.JAVA),
+        ProjectLayout.STANDARD,
+        GuardrailsMode.NONE,
+        new SpringBootJvmTarget(JavaVersion.JAVA_21, SpringBootVersion.V3_5),
+        List.of(),
+        SampleCodeOptions.none(),
+        tempDir,
+        ProjectOutputTarget.directory(ArchiveFormat.ZIP));
+  }
+}
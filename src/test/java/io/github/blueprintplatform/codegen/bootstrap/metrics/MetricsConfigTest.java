@@ -0,0 +1,98 @@
+package io.github.blueprintplatform.codegen.bootstrap.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.blueprintplatform.codegen.adapter.in.http.MetricsHttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Tag("unit")
+@Tag("bootstrap")
+class MetricsConfigTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(MetricsConfig.class)
+          .withPropertyValues("metrics.bind-address=127.0.0.1", "metrics.port=0");
+
+  @Test
+  @DisplayName("metrics should be off unless metrics.enabled is true")
+  void metrics_shouldBeDisabledByDefault() {
+    contextRunner.run(context -> assertThat(context).doesNotHaveBean(MeterRegistry.class));
+  }
+
+  @Test
+  @DisplayName("the primary registry should feed Prometheus and every other registry bean")
+  void primaryRegistry_shouldCompositeAllRegistries() {
+    contextRunner
+        .withPropertyValues("metrics.enabled=true")
+        .withUserConfiguration(ExtraRegistryConfig.class)
+        .run(
+            context -> {
+              MeterRegistry primary = context.getBean(MeterRegistry.class);
+              assertThat(primary).isInstanceOf(CompositeMeterRegistry.class);
+
+              primary.counter("codegen.test.events").increment();
+
+              assertThat(context.getBean(SimpleMeterRegistry.class).get("codegen.test.events"))
+                  .isNotNull();
+              assertThat(context.getBean(PrometheusMeterRegistry.class).scrape())
+                  .contains("codegen_test_events_total 1.0");
+            });
+  }
+
+  @Test
+  @DisplayName("GET /metrics should serve the Prometheus scrape")
+  void metricsEndpoint_shouldServeScrape() {
+    contextRunner
+        .withPropertyValues("metrics.enabled=true")
+        .run(
+            context -> {
+              context.getBean(MeterRegistry.class).counter("codegen.test.events").increment();
+              MetricsHttpServer server = context.getBean(MetricsHttpServer.class);
+              URI uri =
+                  URI.create(
+                      "http://127.0.0.1:" + server.address().getPort() + MetricsHttpServer.PATH);
+
+              try (HttpClient client = HttpClient.newHttpClient()) {
+                HttpResponse<String> response =
+                    client.send(
+                        HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                assertThat(response.statusCode()).isEqualTo(200);
+                assertThat(response.headers().firstValue("Content-Type"))
+                    .hasValueSatisfying(type -> assertThat(type).startsWith("text/plain"));
+                assertThat(response.body()).contains("codegen_test_events_total 1.0");
+
+                HttpResponse<Void> post =
+                    client.send(
+                        HttpRequest.newBuilder(uri)
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build(),
+                        HttpResponse.BodyHandlers.discarding());
+                assertThat(post.statusCode()).isEqualTo(405);
+              }
+            });
+  }
+
+  @Configuration
+  static class ExtraRegistryConfig {
+
+    @Bean
+    SimpleMeterRegistry simpleMeterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+}
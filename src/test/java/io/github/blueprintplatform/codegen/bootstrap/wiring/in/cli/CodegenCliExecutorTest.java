@@ -3,17 +3,25 @@ package io.github.blueprintplatform.codegen.bootstrap.wiring.in.cli;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.github.blueprintplatform.codegen.adapter.in.cli.CodegenCommand;
+import io.github.blueprintplatform.codegen.adapter.in.cli.batch.BatchGenerateCommand;
+import io.github.blueprintplatform.codegen.adapter.in.cli.batch.BatchManifestReader;
 import io.github.blueprintplatform.codegen.adapter.in.cli.mapper.CreateProjectCommandMapper;
 import io.github.blueprintplatform.codegen.adapter.in.cli.springboot.SpringBootGenerateCommand;
 import io.github.blueprintplatform.codegen.application.port.in.project.CreateProjectPort;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ArchiveFormat;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectBatchResult;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectCommand;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.CreateProjectResult;
+import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectOutputTarget;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.ProjectSummary;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.ArchitectureSpecSummary;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.ProjectMetadataSummary;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.RuntimeTargetSummary;
 import io.github.blueprintplatform.codegen.application.port.in.project.model.summary.TechStackSummary;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -52,6 +60,7 @@ class CodegenCliExecutorTest {
     assertThat(cmd.layout().key()).isEqualTo("hexagonal");
     assertThat(cmd.sampleCodeOptions().level().key()).isEqualTo("basic");
     assertThat(cmd.targetDirectory()).isEqualTo(tempDir);
+    assertThat(cmd.outputTarget()).isEqualTo(ProjectOutputTarget.directory(ArchiveFormat.TAR_GZ));
 
     assertThat(cmd.dependencies()).hasSize(1);
     var dep = cmd.dependencies().getFirst();
@@ -59,7 +68,58 @@ class CodegenCliExecutorTest {
     assertThat(dep.artifactId()).isEqualTo("spring-boot-starter-web");
   }
 
-  private int getExitCode(RecordingCreateProjectPort useCase) {
+  @Test
+  @DisplayName(
+      "execute() with a working directory should resolve relative paths and stream to its stdout")
+  void execute_withWorkingDirectory_shouldResolveAgainstClientContext() {
+    RecordingCreateProjectPort useCase = new RecordingCreateProjectPort();
+    ByteArrayOutputStream clientOut = new ByteArrayOutputStream();
+    PrintStream out = new PrintStream(clientOut);
+    PrintStream err = new PrintStream(new ByteArrayOutputStream());
+
+    String[] args = {
+      "springboot",
+      "--group-id",
+      "com.acme",
+      "--artifact-id",
+      "demo-app",
+      "--name",
+      "Demo App",
+      "--description",
+      "Demo application for Acme",
+      "--package-name",
+      "com.acme.demo",
+      "--target-dir",
+      "projects"
+    };
+    int directoryExit = executor(useCase).execute(args, tempDir, out, err);
+
+    assertThat(directoryExit).isZero();
+    assertThat(useCase.lastCreateProjectCommand.targetDirectory())
+        .isEqualTo(tempDir.resolve("projects"));
+
+    String[] streamArgs = Arrays.copyOf(args, args.length + 2);
+    streamArgs[args.length] = "--output";
+    streamArgs[args.length + 1] = "-";
+    executor(useCase).execute(streamArgs, tempDir, out, err);
+
+    assertThat(useCase.lastCreateProjectCommand.outputTarget())
+        .isInstanceOfSatisfying(
+            ProjectOutputTarget.ArchiveStream.class,
+            target -> assertThat(target.out()).isSameAs(out));
+
+    String[] fileArgs = Arrays.copyOf(args, args.length + 3);
+    fileArgs[args.length] = "--output";
+    fileArgs[args.length + 1] = "demo.zip";
+    fileArgs[args.length + 2] = "--overwrite";
+    executor(useCase).execute(fileArgs, tempDir, out, err);
+
+    assertThat(useCase.lastCreateProjectCommand.outputTarget())
+        .isEqualTo(
+            ProjectOutputTarget.archiveFile(tempDir.resolve("demo.zip"), ArchiveFormat.ZIP, true));
+  }
+
+  private CodegenCliExecutor executor(RecordingCreateProjectPort useCase) {
     CreateProjectCommandMapper mapper = new CreateProjectCommandMapper();
     SpringBootGenerateCommand springBootCmd = new SpringBootGenerateCommand(mapper, useCase);
 
@@ -67,7 +127,11 @@ class CodegenCliExecutorTest {
     CommandLine.IFactory factory = new TestPicocliFactory(springBootCmd);
 
     CodegenCliExceptionHandler handler = new CodegenCliExceptionHandler(new DummyMessageSource());
-    CodegenCliExecutor executor = new CodegenCliExecutor(rootCommand, factory, handler);
+    return new CodegenCliExecutor(rootCommand, factory, handler);
+  }
+
+  private int getExitCode(RecordingCreateProjectPort useCase) {
+    CodegenCliExecutor executor = executor(useCase);
 
     String[] args = {
       "springboot",
@@ -87,6 +151,8 @@ class CodegenCliExecutorTest {
       "basic",
       "--dependency",
       "web",
+      "--archive-format",
+      "tar.gz",
       "--target-dir",
       tempDir.toString()
     };
@@ -149,6 +215,14 @@ class CodegenCliExecutorTest {
       if (cls == SpringBootGenerateCommand.class) {
         return (K) springBootCommand;
       }
+      if (cls == BatchGenerateCommand.class) {
+        return (K)
+            new BatchGenerateCommand(
+                new BatchManifestReader(),
+                new CreateProjectCommandMapper(),
+                batch -> new CreateProjectBatchResult(List.of()),
+                Throwable::getMessage);
+      }
       return delegate.create(cls);
     }
   }
@@ -0,0 +1,54 @@
+package io.github.blueprintplatform.codegen.bootstrap.wiring.in.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.blueprintplatform.codegen.adapter.error.exception.cli.InvalidCliOptionException;
+import io.github.blueprintplatform.codegen.adapter.error.exception.filesystem.ProjectRootIOException;
+import io.github.blueprintplatform.codegen.adapter.in.http.HttpError;
+import io.github.blueprintplatform.codegen.application.error.exception.InvalidArtifactKeyException;
+import io.github.blueprintplatform.codegen.domain.error.exception.DomainViolationException;
+import java.nio.file.Path;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+@Tag("unit")
+@Tag("bootstrap")
+class HttpErrorTranslatorTest {
+
+  private final HttpErrorTranslator translator = translator();
+
+  @Test
+  @DisplayName("apply() should map request errors to 400 with the localized message")
+  void apply_shouldMapRequestErrorsTo400() {
+    HttpError domain =
+        translator.apply(new DomainViolationException(() -> "project.artifact-id.length"));
+    HttpError option =
+        translator.apply(new InvalidCliOptionException("adapter.cli.options.unknown", "colour"));
+
+    assertThat(domain).isEqualTo(new HttpError(400, "project.artifact-id.length", "too long"));
+    assertThat(option)
+        .isEqualTo(new HttpError(400, "adapter.cli.options.unknown", "Unknown option 'colour'."));
+  }
+
+  @Test
+  @DisplayName("apply() should map application errors to 422 and the rest to 500")
+  void apply_shouldMapOtherErrors() {
+    assertThat(translator.apply(new InvalidArtifactKeyException("x")).status()).isEqualTo(422);
+    assertThat(translator.apply(new ProjectRootIOException(Path.of("x"), null)).status())
+        .isEqualTo(500);
+    assertThat(translator.apply(new IllegalStateException("boom")))
+        .extracting(HttpError::status, HttpError::code)
+        .containsExactly(500, "unexpected");
+  }
+
+  private static HttpErrorTranslator translator() {
+    StaticMessageSource messages = new StaticMessageSource();
+    messages.addMessage("project.artifact-id.length", Locale.getDefault(), "too long");
+    messages.addMessage(
+        "adapter.cli.options.unknown", Locale.getDefault(), "Unknown option ''{0}''.");
+    return new HttpErrorTranslator(messages);
+  }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.blueprintplatform.codegen.domain.error.exception.DomainViolationException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -56,4 +58,17 @@ class BinaryContentTest {
 
     assertThat(a.toString()).contains("BinaryContent").contains("size=3");
   }
+
+  @Test
+  @DisplayName("asByteBuffer() should expose a read-only view of the content")
+  void asByteBuffer_shouldBeReadOnlyView() {
+    BinaryContent content = new BinaryContent(new byte[] {1, 2, 3});
+
+    ByteBuffer view = content.asByteBuffer();
+
+    assertThat(view.isReadOnly()).isTrue();
+    assertThat(view.remaining()).isEqualTo(3).isEqualTo(content.size());
+    assertThat(view.get(2)).isEqualTo((byte) 3);
+    assertThatThrownBy(() -> view.put(0, (byte) 9)).isInstanceOf(ReadOnlyBufferException.class);
+  }
 }
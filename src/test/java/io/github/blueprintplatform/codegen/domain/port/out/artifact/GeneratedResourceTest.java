@@ -5,7 +5,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.blueprintplatform.codegen.domain.error.exception.DomainViolationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -145,4 +149,63 @@ class GeneratedResourceTest {
             DomainViolationException.class,
             dve -> assertThat(dve.getMessageKey()).isEqualTo("file.path.not.blank"));
   }
+
+  @Test
+  @DisplayName("EncodedTextContent constructor should copy, adopt() should take ownership")
+  void encodedTextContent_ctorCopies_adoptTakesOwnership() {
+    byte[] original = "héllo".getBytes(UTF_8);
+
+    EncodedTextContent copied = new EncodedTextContent(original, UTF_8);
+    EncodedTextContent adopted = EncodedTextContent.adopt(original, UTF_8);
+
+    assertThat(copied.asText()).isEqualTo("héllo");
+    assertThat(adopted).isEqualTo(copied).hasSameHashCodeAs(copied);
+    assertThat(adopted.size()).isEqualTo(original.length);
+
+    original[0] = 'j';
+
+    assertThat(copied.asText()).isEqualTo("héllo");
+    assertThat(adopted.asText()).isEqualTo("jéllo");
+    assertThat(copied.toString()).contains("size=6").contains("UTF-8");
+  }
+
+  @Test
+  @DisplayName("Encoded text with null content or charset should fail")
+  void encodedText_nullArgs_shouldFail() {
+    assertThatThrownBy(() -> new GeneratedEncodedTextResource(Path.of("a.txt"), null))
+        .isInstanceOfSatisfying(
+            DomainViolationException.class,
+            dve -> assertThat(dve.getMessageKey()).isEqualTo("file.content.not.blank"));
+    assertThatThrownBy(() -> EncodedTextContent.adopt(new byte[0], null))
+        .isInstanceOfSatisfying(
+            DomainViolationException.class,
+            dve -> assertThat(dve.getMessageKey()).isEqualTo("file.charset.not.blank"));
+  }
+
+  @Test
+  @DisplayName("Streamed resource should open its source lazily and fail on null source")
+  void streamed_shouldOpenSourceLazily() throws IOException {
+    AtomicInteger opened = new AtomicInteger();
+    ContentSource source =
+        () -> {
+          opened.incrementAndGet();
+          return new ByteArrayInputStream(new byte[] {4, 5});
+        };
+
+    GeneratedStreamedResource streamed =
+        new GeneratedStreamedResource(Path.of("lib/a.bin"), source);
+
+    assertThat(opened).hasValue(0);
+    assertThat(streamed.source().file()).isEmpty();
+    try (InputStream in = streamed.source().open()) {
+      assertThat(in.readAllBytes()).containsExactly(4, 5);
+    }
+    assertThat(opened).hasValue(1);
+    assertThat(streamed.toString()).contains("GeneratedStreamedResource").contains("lib");
+
+    assertThatThrownBy(() -> new GeneratedStreamedResource(Path.of("a.bin"), null))
+        .isInstanceOfSatisfying(
+            DomainViolationException.class,
+            dve -> assertThat(dve.getMessageKey()).isEqualTo("file.content.not.blank"));
+  }
 }
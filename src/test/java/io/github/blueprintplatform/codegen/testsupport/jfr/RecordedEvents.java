@@ -0,0 +1,37 @@
+package io.github.blueprintplatform.codegen.testsupport.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public final class RecordedEvents {
+
+  private RecordedEvents() {}
+
+  /** Runs {@code action} inside a flight recording and returns the named events it committed. */
+  public static List<RecordedEvent> record(Action action, String... eventNames) throws Exception {
+    Set<String> names = Set.of(eventNames);
+    Path file = Files.createTempFile("codegen-events", ".jfr");
+    try (Recording recording = new Recording()) {
+      names.forEach(recording::enable);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+          .filter(event -> names.contains(event.getEventType().getName()))
+          .toList();
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @FunctionalInterface
+  public interface Action {
+    void run() throws Exception;
+  }
+}